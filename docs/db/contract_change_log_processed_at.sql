@@ -0,0 +1,26 @@
+-- contract_change_log 의 delta 커서를 id 에서 행별 processed_at 으로 바꾼다.
+-- 배포 순서: 1) 이 스크립트  2) server  3) statistics (batch.job.layout=delta)
+-- server 는 ddl-auto 로 컬럼을 만들지만, 기존 행을 반영된 것으로 표시하지 않으면 statistics 가 전부 다시 더한다.
+
+-- 1. 컬럼과 인덱스 (MariaDB 10.3+ 는 ALGORITHM=INSTANT / NOCOPY 로 테이블을 막지 않는다)
+ALTER TABLE contract_change_log
+    ADD COLUMN IF NOT EXISTS processed_at DATETIME(6) NULL,
+    ALGORITHM = INSTANT;
+
+CREATE INDEX IF NOT EXISTS idx_contract_change_log_processed
+    ON contract_change_log (processed_at, id)
+    ALGORITHM = NOCOPY LOCK = NONE;
+
+-- 2. 지금까지의 checkpoint 이하 로그는 이미 반영된 것으로 표시한다.
+--    오래 잠그지 않도록 나눠서 실행한다 (영향받은 행이 0 이 될 때까지 반복).
+UPDATE contract_change_log
+SET processed_at = NOW(6)
+WHERE processed_at IS NULL
+  AND id <= (SELECT last_log_id FROM batch_delta_checkpoint WHERE name = 'contract_change_log')
+LIMIT 10000;
+
+-- 3. 확인: 아래 개수가 0 이어야 한다
+SELECT COUNT(*)
+FROM contract_change_log
+WHERE processed_at IS NULL
+  AND id <= (SELECT last_log_id FROM batch_delta_checkpoint WHERE name = 'contract_change_log');
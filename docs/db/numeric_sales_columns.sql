@@ -0,0 +1,136 @@
+-- 금액 / 건수 컬럼을 VARCHAR 에서 DECIMAL(19,0) / BIGINT 로 바꾼다 (server, statistics 엔티티의 BigDecimal / Long 매핑).
+-- API 응답은 그대로 문자열이다 (응답 DTO 의 @JsonFormat(shape = STRING)).
+--
+-- 배포 순서
+--   1) 1 ~ 4 : 이전 버전 애플리케이션이 도는 상태에서 실행한다 (테이블을 막지 않는다)
+--   2) 5     : 두 테이블에 쓰기 잠금을 잡고 트리거 삭제와 컬럼 맞바꾸기를 한 번에 한다 (잠금 동안 쓰기는 기다린다).
+--              이전 버전은 숫자 문자열을 그대로 INSERT 하므로 맞바꾼 뒤에도 계속 동작한다
+--   3) server, statistics 새 버전 배포
+--   4) 6     : 새 버전이 안정된 뒤 이전 컬럼을 지운다
+--   batch_* 는 배치가 다시 만들 수 있는 집계라 7 처럼 배치 시간대를 피해 바로 바꾼다.
+
+-- 1. 새 컬럼 (INSTANT: 테이블 복사 없음)
+ALTER TABLE contract
+    ADD COLUMN contract_total_price_num DECIMAL(19, 0) NULL,
+    ADD COLUMN contract_payment_amount_num DECIMAL(19, 0) NULL,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE contract_change_log
+    ADD COLUMN before_price_num DECIMAL(19, 0) NULL,
+    ADD COLUMN after_price_num DECIMAL(19, 0) NULL,
+    ALGORITHM = INSTANT;
+
+-- 2. 채우는 동안 들어오는 쓰기도 새 컬럼에 반영한다
+DELIMITER //
+CREATE TRIGGER trg_contract_price_num_ins BEFORE INSERT ON contract FOR EACH ROW
+BEGIN
+    SET NEW.contract_total_price_num = CAST(NEW.contract_total_price AS DECIMAL(19, 0)),
+        NEW.contract_payment_amount_num = CAST(NEW.contract_payment_amount AS DECIMAL(19, 0));
+END//
+CREATE TRIGGER trg_contract_price_num_upd BEFORE UPDATE ON contract FOR EACH ROW
+BEGIN
+    SET NEW.contract_total_price_num = CAST(NEW.contract_total_price AS DECIMAL(19, 0)),
+        NEW.contract_payment_amount_num = CAST(NEW.contract_payment_amount AS DECIMAL(19, 0));
+END//
+CREATE TRIGGER trg_contract_change_log_price_num_ins BEFORE INSERT ON contract_change_log FOR EACH ROW
+BEGIN
+    SET NEW.before_price_num = CAST(NEW.before_price AS DECIMAL(19, 0)),
+        NEW.after_price_num = CAST(NEW.after_price AS DECIMAL(19, 0));
+END//
+DELIMITER ;
+
+-- 3. 기존 행을 id 범위로 나눠 채운다 (:from, :to 를 10000 씩 올리며 MAX(id) 까지 반복)
+UPDATE contract
+SET contract_total_price_num = CAST(contract_total_price AS DECIMAL(19, 0)),
+    contract_payment_amount_num = CAST(contract_payment_amount AS DECIMAL(19, 0))
+WHERE contract_id BETWEEN :from AND :to
+  AND contract_total_price_num IS NULL;
+
+UPDATE contract_change_log
+SET before_price_num = CAST(before_price AS DECIMAL(19, 0)),
+    after_price_num = CAST(after_price AS DECIMAL(19, 0))
+WHERE id BETWEEN :from AND :to
+  AND after_price_num IS NULL;
+
+-- 4. 확인: 모두 0 이어야 한다 (숫자가 아닌 값이 있으면 CAST 가 0 으로 바꾸므로 먼저 고친다)
+SELECT COUNT(*) FROM contract WHERE contract_total_price_num IS NULL OR contract_payment_amount_num IS NULL;
+SELECT COUNT(*) FROM contract WHERE contract_total_price NOT REGEXP '^-?[0-9]+$' OR contract_payment_amount NOT REGEXP '^-?[0-9]+$';
+SELECT COUNT(*) FROM contract_change_log WHERE after_price IS NOT NULL AND after_price_num IS NULL;
+
+-- 5. 맞바꾸기
+-- 트리거를 먼저 지우고 잠금 없이 RENAME 하면 그 사이 이전 버전이 쓴 행은 새 컬럼이 NULL 로 남는다.
+-- 그래서 트리거 삭제와 RENAME 을 같은 쓰기 잠금 안에서 한다.
+LOCK TABLES contract WRITE, contract_change_log WRITE;
+
+DROP TRIGGER trg_contract_price_num_ins;
+DROP TRIGGER trg_contract_price_num_upd;
+DROP TRIGGER trg_contract_change_log_price_num_ins;
+
+ALTER TABLE contract
+    RENAME COLUMN contract_total_price TO contract_total_price_old,
+    RENAME COLUMN contract_payment_amount TO contract_payment_amount_old,
+    RENAME COLUMN contract_total_price_num TO contract_total_price,
+    RENAME COLUMN contract_payment_amount_num TO contract_payment_amount,
+    MODIFY contract_total_price_old VARCHAR(255) NULL,
+    MODIFY contract_payment_amount_old VARCHAR(255) NULL;
+
+ALTER TABLE contract_change_log
+    RENAME COLUMN before_price TO before_price_old,
+    RENAME COLUMN after_price TO after_price_old,
+    RENAME COLUMN before_price_num TO before_price,
+    RENAME COLUMN after_price_num TO after_price;
+
+UNLOCK TABLES;
+
+-- 5-1. 보정: 잠금이 중간에 풀렸거나 트리거가 빠진 행이 있으면 이전 컬럼에서 다시 채운다 (정상이면 0 건)
+UPDATE contract
+SET contract_total_price = CAST(contract_total_price_old AS DECIMAL(19, 0)),
+    contract_payment_amount = CAST(contract_payment_amount_old AS DECIMAL(19, 0))
+WHERE contract_total_price IS NULL OR contract_payment_amount IS NULL;
+
+UPDATE contract_change_log
+SET before_price = CAST(before_price_old AS DECIMAL(19, 0)),
+    after_price = CAST(after_price_old AS DECIMAL(19, 0))
+WHERE (before_price IS NULL AND before_price_old IS NOT NULL)
+   OR (after_price IS NULL AND after_price_old IS NOT NULL);
+
+-- 5-2. 확인: 모두 0 이어야 6 으로 넘어간다
+SELECT COUNT(*) FROM contract WHERE contract_total_price IS NULL OR contract_payment_amount IS NULL;
+SELECT COUNT(*) FROM contract_change_log
+WHERE (before_price IS NULL AND before_price_old IS NOT NULL)
+   OR (after_price IS NULL AND after_price_old IS NOT NULL);
+
+-- 6. 새 버전 배포 후 (5-2 가 모두 0 일 때만)
+ALTER TABLE contract
+    MODIFY contract_total_price DECIMAL(19, 0) NOT NULL,
+    MODIFY contract_payment_amount DECIMAL(19, 0) NOT NULL,
+    DROP COLUMN contract_total_price_old,
+    DROP COLUMN contract_payment_amount_old;
+
+ALTER TABLE contract_change_log
+    DROP COLUMN before_price_old,
+    DROP COLUMN after_price_old;
+
+-- 7. batch_* 집계 테이블 (배치만 쓰므로 배치 시간대를 피해 바로 바꾼다. LOCK = SHARED 라 조회는 계속된다)
+ALTER TABLE batch_member_sales
+    MODIFY contract_price DECIMAL(19, 0) NOT NULL, MODIFY contract_count BIGINT,
+    MODIFY cancel_price DECIMAL(19, 0) NOT NULL, MODIFY cancel_count BIGINT,
+    ALGORITHM = COPY, LOCK = SHARED;
+
+ALTER TABLE batch_team_sales
+    MODIFY contract_price DECIMAL(19, 0) NOT NULL, MODIFY contract_count BIGINT,
+    MODIFY cancel_price DECIMAL(19, 0) NOT NULL, MODIFY cancel_count BIGINT,
+    ALGORITHM = COPY, LOCK = SHARED;
+
+ALTER TABLE batch_hq_sales
+    MODIFY total_price DECIMAL(19, 0) NOT NULL, MODIFY total_count BIGINT,
+    MODIFY cancel_price DECIMAL(19, 0) NOT NULL, MODIFY cancel_count BIGINT,
+    ALGORITHM = COPY, LOCK = SHARED;
+
+ALTER TABLE batch_rank_member
+    MODIFY contract_price DECIMAL(19, 0), MODIFY contract_count BIGINT,
+    ALGORITHM = COPY, LOCK = SHARED;
+
+ALTER TABLE batch_rank_product
+    MODIFY contract_price DECIMAL(19, 0), MODIFY contract_count BIGINT,
+    ALGORITHM = COPY, LOCK = SHARED;
@@ -5,8 +5,10 @@ import io.netty.handler.codec.HeadersUtils;
 import org.apache.tomcat.util.http.HeaderUtil;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class AliothApplication {
 
 	public static void main(String[] args) {
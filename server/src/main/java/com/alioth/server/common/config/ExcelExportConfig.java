@@ -0,0 +1,29 @@
+package com.alioth.server.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExcelExportConfig {
+
+    @Value("${excel.export.pool-size:2}")
+    private int poolSize;
+
+    @Value("${excel.export.queue-capacity:20}")
+    private int queueCapacity;
+
+    /* 엑셀 내보내기 작업용. 큐가 차면 제출을 거절해서 DB 커넥션과 디스크를 한 번에 많이 쓰지 않게 한다 */
+    @Bean(name = "excelExportTaskExecutor")
+    public TaskExecutor excelExportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("excel-export-");
+        executor.initialize();
+        return executor;
+    }
+}
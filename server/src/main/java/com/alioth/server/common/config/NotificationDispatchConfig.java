@@ -0,0 +1,29 @@
+package com.alioth.server.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class NotificationDispatchConfig {
+
+    @Value("${notification.dispatch.pool-size:2}")
+    private int poolSize;
+
+    @Value("${notification.dispatch.queue-capacity:1000}")
+    private int queueCapacity;
+
+    /* 알림 발송용. 큐가 차면 제출을 거절하고 (요청 스레드가 대신 보내지 않는다) dead letter 로 남긴다 */
+    @Bean(name = "notificationTaskExecutor")
+    public TaskExecutor notificationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -2,6 +2,7 @@ package com.alioth.server.common.config;
 
 
 import com.alioth.server.common.jwt.JwtAuthFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,6 +39,8 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(
                         authorize -> authorize
+                                // SSE 등 비동기 응답이 끝날 때의 재디스패치 (원 요청에서 이미 인증됨)
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                 .requestMatchers("/").permitAll()
                                 .requestMatchers("/server/").permitAll()
                                 .requestMatchers(LoginApiUrl).permitAll()
@@ -167,6 +167,32 @@ public class TypeChange {
                 .build();
     }
 
+    // 엑셀 스트리밍용. ContractResDto(salesMemberResDto 포함)를 거치지 않고 바로 만든다
+    public ContractExcelResDto ContractToContractExcelResDto(Contract contract) {
+        SalesMembers salesMember = contract.getSalesMembers();
+        return ContractExcelResDto.builder()
+                .contractId(contract.getContractId())
+                .contractCode(contract.getContractCode())
+                .contractDate(contract.getContractDate())
+                .contractExpireDate(contract.getContractExpireDate())
+                .contractPeriod(contract.getContractPeriod())
+                .contractTotalPrice(contract.getContractTotalPrice())
+                .contractPaymentAmount(contract.getContractPaymentAmount())
+                .contractPaymentFrequency(contract.getContractPaymentFrequency())
+                .contractPaymentMaturityInstallment(contract.getContractPaymentMaturityInstallment())
+                .contractCount(contract.getContractCount())
+                .contractPaymentMethod(contract.getContractPaymentMethod())
+                .contractPayer(contract.getContractPayer())
+                .contractConsultation(contract.getContractConsultation())
+                .contractStatus(contract.getContractStatus())
+                .insuranceProductName(contract.getInsuranceProduct() != null ? contract.getInsuranceProduct().getInsuranceName() : null)
+                .customName(contract.getCustom() != null ? contract.getCustom().getCustomerName() : null)
+                .contractMemberName(contract.getContractMembers() != null ? contract.getContractMembers().getCM_name() : null)
+                .salesMemberName(salesMember != null ? salesMember.getName() : null)
+                .salesMemberCode(salesMember != null ? salesMember.getSalesMemberCode() : null)
+                .build();
+    }
+
     public ContractExcelResDto ContractResDtoTOcontractExcelResDto(ContractResDto contractResDto){
         return ContractExcelResDto.builder()
                 .contractId(contractResDto.contractId())
@@ -0,0 +1,97 @@
+package com.alioth.server.common.firebase.service;
+
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * FCM 호출용 OAuth access token.
+ * 서비스 계정 파일은 처음 한 번만 읽고, 같은 GoogleCredentials 의 토큰을 만료 전까지 재사용한다.
+ * 만료 refreshMargin 전부터는 주기적으로 미리 갱신하므로 메시지 발송 중에 토큰을 받으러 가는 일이 거의 없다.
+ */
+@Slf4j
+@Component
+public class FcmAccessTokenProvider {
+
+    private static final List<String> SCOPES = List.of("https://www.googleapis.com/auth/cloud-platform");
+
+    private final String configPath;
+    private final Duration refreshMargin;
+    private volatile GoogleCredentials credentials;
+
+    @Autowired
+    public FcmAccessTokenProvider(@Value("${firebase.config-path}") String configPath,
+                                  @Value("${fcm.token.refresh-margin-seconds:300}") long refreshMarginSeconds) {
+        this.configPath = configPath;
+        this.refreshMargin = Duration.ofSeconds(refreshMarginSeconds);
+    }
+
+    FcmAccessTokenProvider(GoogleCredentials credentials, Duration refreshMargin) {
+        this.configPath = null;
+        this.refreshMargin = refreshMargin;
+        this.credentials = credentials;
+    }
+
+    public String getAccessToken() throws IOException {
+        GoogleCredentials current = credentials();
+        AccessToken token = current.getAccessToken();
+        if (isExpiring(token)) {
+            synchronized (this) {
+                token = current.getAccessToken();
+                if (isExpiring(token)) {
+                    current.refresh();
+                    token = current.getAccessToken();
+                    log.info("[FcmAccessToken] refreshed, expires at {}", token.getExpirationTime());
+                }
+            }
+        }
+        return token.getTokenValue();
+    }
+
+    /* 아직 한 번도 발송하지 않았으면 건너뛴다 */
+    @Scheduled(fixedDelayString = "${fcm.token.check-interval-ms:60000}")
+    public void refreshIfExpiring() {
+        if (credentials == null) {
+            return;
+        }
+        try {
+            getAccessToken();
+        } catch (IOException e) {
+            log.warn("[FcmAccessToken] refresh failed: {}", e.getMessage());
+        }
+    }
+
+
+    private GoogleCredentials credentials() throws IOException {
+        GoogleCredentials current = credentials;
+        if (current == null) {
+            synchronized (this) {
+                if (credentials == null) {
+                    try (InputStream inputStream = new ClassPathResource(configPath).getInputStream()) {
+                        credentials = GoogleCredentials.fromStream(inputStream).createScoped(SCOPES);
+                    }
+                }
+                current = credentials;
+            }
+        }
+        return current;
+    }
+
+    private boolean isExpiring(AccessToken token) {
+        if (token == null || token.getExpirationTime() == null) {
+            return token == null;
+        }
+        return token.getExpirationTime().before(new Date(System.currentTimeMillis() + refreshMargin.toMillis()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.alioth.server.common.firebase.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * FCM HTTP v1 발송 클라이언트. 애플리케이션에서 하나만 만들어 쓴다.
+ * HttpClient 가 연결을 keep-alive 로 재사용하므로 (https 는 HTTP/2 로 한 연결에 여러 요청) 메시지마다 TLS 연결을 새로 맺지 않는다.
+ */
+@Slf4j
+@Component
+public class FcmClient {
+
+    private final RestTemplate restTemplate;
+    private final FcmAccessTokenProvider tokenProvider;
+    private final String apiUrl;
+
+    public FcmClient(FcmAccessTokenProvider tokenProvider,
+                     @Value("${firebase.api-url}") String apiUrl,
+                     @Value("${fcm.connect-timeout-ms:3000}") long connectTimeoutMs,
+                     @Value("${fcm.read-timeout-ms:5000}") long readTimeoutMs) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.tokenProvider = tokenProvider;
+        this.apiUrl = apiUrl;
+    }
+
+    /* 메시지(JSON) 하나를 보낸다. 200 이면 true */
+    public boolean send(String message) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(tokenProvider.getAccessToken());
+
+        ResponseEntity<String> response = restTemplate.exchange(apiUrl, HttpMethod.POST, new HttpEntity<>(message, headers), String.class);
+        return response.getStatusCode() == HttpStatus.OK;
+    }
+}
@@ -4,20 +4,13 @@ import com.alioth.server.common.firebase.domain.FcmMessageDto;
 import com.alioth.server.common.firebase.domain.FcmSendDto;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.auth.oauth2.GoogleCredentials;
 import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -25,43 +18,15 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class FcmServiceImpl implements FcmService {
 
-    @Value("${firebase.api-url}")
-    private String API_URL;
-
-    @Value("${firebase.config-path}")
-    private String firebaseConfigPath;
-
-    public FcmServiceImpl(String apiUrl, String firebaseConfigPath) {
-        this.API_URL = apiUrl;
-        this.firebaseConfigPath = firebaseConfigPath;
-    }
+    private final FcmClient fcmClient;
+    private final ObjectMapper objectMapper;
 
     @Override
     public int sendMessageTo(FcmSendDto fcmSendDto) throws IOException {
-        String message = makeMessage(fcmSendDto);
-        RestTemplate restTemplate = new RestTemplate();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(getAccessToken());
-        HttpEntity<String> entity = new HttpEntity<>(message, headers);
-
-        ResponseEntity<String> response = restTemplate.exchange(API_URL, HttpMethod.POST, entity, String.class);
-
-        return response.getStatusCode() == HttpStatus.OK ? 1 : 0;
-    }
-
-    private String getAccessToken() throws IOException {
-        GoogleCredentials googleCredentials = GoogleCredentials
-                .fromStream(new ClassPathResource(firebaseConfigPath).getInputStream())
-                .createScoped(List.of("https://www.googleapis.com/auth/cloud-platform"));
-        googleCredentials.refreshIfExpired();
-
-        return googleCredentials.getAccessToken().getTokenValue();
+        return fcmClient.send(makeMessage(fcmSendDto)) ? 1 : 0;
     }
 
     private String makeMessage(FcmSendDto fcmSendDto) throws JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
         Map<String, String> data = new HashMap<>();
         data.put("url", fcmSendDto.url());
         data.put("messageId", fcmSendDto.messageId());
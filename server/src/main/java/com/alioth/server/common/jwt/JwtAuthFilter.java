@@ -33,7 +33,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
     private final RedisService redisService;
     private final ObjectMapper objectMapper;
 
@@ -82,10 +85,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     }
 
     private String parseBearerToken(HttpServletRequest request) {
-        return Optional.ofNullable(request.getHeader(HttpHeaders.AUTHORIZATION))
-                .filter(token -> token.substring(0, 7).equalsIgnoreCase("Bearer "))
-                .map(token -> token.substring(7))
-                .orElse(null);
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        return authorization.substring(BEARER_PREFIX.length());
     }
 
     private String parseBearerTokenRefresh(HttpServletRequest request) {
@@ -95,14 +99,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 .orElse(null);
     }
 
+    /* 같은 토큰은 만료될 때까지 캐시된 User 를 쓴다. 처음 보는 토큰만 서명을 검증하고 subject(사원번호:직급)를 나눈다 */
     private User parseUserSpecification(String token) {
-        String[] split = Optional.ofNullable(token)
-                .filter(subject -> subject.length() >= 1)
-                .map(jwtTokenProvider::validateTokenAndGetSubject)
-                .orElse(null)
-                .split(":");
+        if (token.isEmpty()) {
+            return null;
+        }
 
-        return new User(split[0], "", List.of(new SimpleGrantedAuthority(split[1])));
+        return jwtAuthenticationCache.get(token, accessToken -> {
+            Claims claims = jwtTokenProvider.validateAccessToken(accessToken);
+            String subject = claims.getSubject();
+            int separator = subject.indexOf(':');
+            User user = new User(subject.substring(0, separator), "",
+                    List.of(new SimpleGrantedAuthority(subject.substring(separator + 1))));
+            return new JwtAuthenticationCache.CachedUser(user, claims.getExpiration().getTime());
+        });
     }
 
 
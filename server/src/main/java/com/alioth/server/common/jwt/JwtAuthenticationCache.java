@@ -0,0 +1,96 @@
+package com.alioth.server.common.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 검증을 마친 access token 의 사용자 정보를 토큰 만료 시각까지 들고 있는다.
+ * 같은 토큰으로 계속 요청하는 대시보드 화면에서 요청마다 서명 검증, JSON 파싱, User 생성을 반복하지 않는다.
+ * 키는 토큰 원문이 아니라 SHA-256 값이라 메모리에 토큰을 그대로 남기지 않는다.
+ * 만료된 항목은 읽을 때와 주기적으로 지우고, 가득 차면 새 토큰은 캐시하지 않고 그때그때 검증한다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    public record CachedUser(User user, long expiresAt) {}
+
+    private record TokenKey(long a, long b, long c, long d) {}
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Map<TokenKey, CachedUser> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    public JwtAuthenticationCache(@Value("${jwt.cache.max-entries:10000}") int maxEntries) {
+        this(maxEntries, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시간을 직접 넘긴다
+    JwtAuthenticationCache(int maxEntries, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /* 캐시에 있으면 그 사용자, 없으면 loader 로 검증해서 넣는다. loader 의 예외(만료, 서명 오류)는 그대로 던진다 */
+    public User get(String token, Function<String, CachedUser> loader) {
+        TokenKey key = keyOf(token);
+        long now = clock.getAsLong();
+
+        CachedUser cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                return cached.user();
+            }
+            entries.remove(key, cached);
+        }
+
+        CachedUser loaded = loader.apply(token);
+        if (loaded.expiresAt() > now && (entries.size() < maxEntries || evictExpired() < maxEntries)) {
+            entries.put(key, loaded);
+        }
+        return loaded.user();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.cache.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        evictExpired();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private int evictExpired() {
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        return entries.size();
+    }
+
+    private static TokenKey keyOf(String token) {
+        byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return new TokenKey((long) LONGS.get(digest, 0), (long) LONGS.get(digest, 8),
+                (long) LONGS.get(digest, 16), (long) LONGS.get(digest, 24));
+    }
+}
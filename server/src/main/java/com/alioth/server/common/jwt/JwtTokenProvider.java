@@ -23,25 +23,36 @@ import java.util.Map;
 
 @Component
 public class JwtTokenProvider {
-    @Value("${jwt.access-key}")
-    private String accessSecretKey;
-    @Value("${jwt.refresh-key}")
-    private String refreshSecretKey;
-    @Value("${jwt.access-expired}")
-    private long expirationMinutes;
-    @Value("${jwt.refresh-expired}")
-    private long refreshExpirationMinutes;
+    private final long expirationMinutes;
+    private final long refreshExpirationMinutes;
     private final RedisService redisService;
     private ObjectMapper objectMapper = new ObjectMapper();
 
-    public JwtTokenProvider(RedisService redisService) {
+    // 키와 parser 는 한 번만 만든다 (parser 는 thread-safe)
+    private final Key accessKey;
+    private final Key refreshKey;
+    private final JwtParser accessTokenParser;
+    private final JwtParser refreshTokenParser;
+
+    public JwtTokenProvider(RedisService redisService,
+                            @Value("${jwt.access-key}") String accessSecretKey,
+                            @Value("${jwt.refresh-key}") String refreshSecretKey,
+                            @Value("${jwt.access-expired}") long expirationMinutes,
+                            @Value("${jwt.refresh-expired}") long refreshExpirationMinutes) {
         this.redisService = redisService;
+        this.expirationMinutes = expirationMinutes;
+        this.refreshExpirationMinutes = refreshExpirationMinutes;
+
+        this.accessKey = Keys.hmacShaKeyFor(accessSecretKey.getBytes(StandardCharsets.UTF_8));
+        this.refreshKey = Keys.hmacShaKeyFor(refreshSecretKey.getBytes(StandardCharsets.UTF_8));
+        this.accessTokenParser = Jwts.parserBuilder().setSigningKey(accessKey).build();
+        this.refreshTokenParser = Jwts.parserBuilder().setSigningKey(refreshKey).build();
     }
 
     public String createAccessToken(String userSpecification) {
 
         return Jwts.builder()
-                .signWith(SignatureAlgorithm.HS256, accessSecretKey.getBytes())
+                .signWith(accessKey, SignatureAlgorithm.HS256)
                 .setSubject(userSpecification)
                 .setIssuedAt(Timestamp.valueOf(LocalDateTime.now()))
                 .setExpiration(Date.from(Instant.now().plus(expirationMinutes, ChronoUnit.MINUTES)))
@@ -51,7 +62,7 @@ public class JwtTokenProvider {
     public String createRefreshToken() {
 
         return Jwts.builder()
-                .signWith(SignatureAlgorithm.HS256, refreshSecretKey.getBytes())
+                .signWith(refreshKey, SignatureAlgorithm.HS256)
                 .setIssuedAt(Timestamp.valueOf(LocalDateTime.now()))
                 .setExpiration(Date.from(Instant.now().plus(refreshExpirationMinutes, ChronoUnit.MINUTES)))
                 .compact();
@@ -62,10 +73,7 @@ public class JwtTokenProvider {
         return createAccessToken(subject);
     }
     public Claims validateRefreshToken(String refreshToken) {
-        Key key = Keys.hmacShaKeyFor(refreshSecretKey.getBytes(StandardCharsets.UTF_8));
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return refreshTokenParser
                 .parseClaimsJws(refreshToken)
                 .getBody();
     }
@@ -78,13 +86,16 @@ public class JwtTokenProvider {
                 .get("sub").toString();
     }
 
-    private Jws<Claims> validateAndParseToken(String refreshToken) {
-        return Jwts.parser()
-                .setSigningKey(accessSecretKey.getBytes())
-                .parseClaimsJws(refreshToken);
+    private Jws<Claims> validateAndParseToken(String accessToken) {
+        return accessTokenParser.parseClaimsJws(accessToken);
+    }
+
+    /* 서명과 만료를 확인한 access token 의 claims (subject, 만료 시각) */
+    public Claims validateAccessToken(String token) {
+        return validateAndParseToken(token).getBody();
     }
 
     public String validateTokenAndGetSubject(String token) {
-        return validateAndParseToken(token).getBody().getSubject();
+        return validateAccessToken(token).getSubject();
     }
 }
@@ -0,0 +1,172 @@
+package com.alioth.server.common.redis;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 자주 읽고 거의 바뀌지 않는 Redis 키({code}:FcmToken 등)를 서버 메모리에 잠깐 들고 있는 캐시. 기본은 꺼져 있다.
+ * 이 서버에서 쓰거나 지운 키는 바로 비우고, 다른 서버에서 바뀐 키는 Redis keyspace notification 을 받아 비운다.
+ * 켜려면 Redis 에 notify-keyspace-events 가 "K$gx" 를 포함해야 한다. 알림을 놓쳐도 TTL 이 지나면 다시 읽는다.
+ * 키가 없다는 결과도 캐시한다 (토큰이 없는 사원을 매번 조회하지 않게).
+ */
+@Slf4j
+@Component
+public class RedisNearCache implements MessageListener {
+
+    private static final String KEYSPACE_PREFIX = "__keyspace@";
+    private static final String KEYSPACE_SEPARATOR = "__:";
+
+    private record Entry(String value, long expiresAt) {}
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // 읽는 동안 무효화가 있었으면 읽은 값을 넣지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean enabled;
+    private final List<String> suffixes;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    public RedisNearCache(RedisMessageListenerContainer listenerContainer,
+                          @Value("${redis.near-cache.enabled:false}") boolean enabled,
+                          @Value("${redis.near-cache.suffixes:FcmToken}") List<String> suffixes,
+                          @Value("${redis.near-cache.ttl-seconds:30}") long ttlSeconds,
+                          @Value("${redis.near-cache.max-entries:10000}") int maxEntries) {
+        this(listenerContainer, enabled, suffixes, Duration.ofSeconds(ttlSeconds), maxEntries, System::nanoTime);
+    }
+
+    // 테스트에서 시간을 직접 넘긴다
+    RedisNearCache(RedisMessageListenerContainer listenerContainer, boolean enabled, List<String> suffixes,
+                   Duration ttl, int maxEntries, LongSupplier clock) {
+        this.listenerContainer = listenerContainer;
+        this.enabled = enabled;
+        this.suffixes = suffixes.stream().map(suffix -> ":" + suffix).toList();
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (enabled && listenerContainer != null) {
+            listenerContainer.addMessageListener(this,
+                    suffixes.stream().map(suffix -> new PatternTopic(KEYSPACE_PREFIX + "*" + KEYSPACE_SEPARATOR + "*" + suffix)).toList());
+        }
+    }
+
+    public boolean isCacheable(String key) {
+        return enabled && suffixes.stream().anyMatch(key::endsWith);
+    }
+
+    /* 캐시에 있으면 그 값, 없으면 loader 로 읽어 넣는다. 캐시 대상이 아닌 키는 항상 loader 로 읽는다 */
+    public String get(String key, Function<String, String> loader) {
+        if (!isCacheable(key)) {
+            return loader.apply(key);
+        }
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() - clock.getAsLong() > 0) {
+            return entry.value();
+        }
+
+        long before = generation.get();
+        String value = loader.apply(key);
+        put(key, value, before);
+        return value;
+    }
+
+    /* 여러 키를 읽는다. 캐시에 없는 키만 모아 loader 한 번으로 읽는다. 값이 없는 키는 결과에 넣지 않는다 */
+    public Map<String, String> getAll(List<String> keys, Function<List<String>, Map<String, String>> loader) {
+        Map<String, String> result = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        long now = clock.getAsLong();
+
+        for (String key : keys) {
+            Entry entry = isCacheable(key) ? entries.get(key) : null;
+            if (entry != null && entry.expiresAt() - now > 0) {
+                if (entry.value() != null) {
+                    result.put(key, entry.value());
+                }
+            } else {
+                misses.add(key);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long before = generation.get();
+            Map<String, String> loaded = loader.apply(misses);
+            for (String key : misses) {
+                String value = loaded.get(key);
+                if (isCacheable(key)) {
+                    put(key, value, before);
+                }
+                if (value != null) {
+                    result.put(key, value);
+                }
+            }
+        }
+        return result;
+    }
+
+    /* 캐시 대상 키만 generation 을 올린다. 다른 키(미확인 수 등)를 자주 쓰는 동안에도 읽은 값이 버려지지 않게 */
+    public void invalidate(String key) {
+        if (isCacheable(key)) {
+            generation.incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /* keyspace notification: 채널 __keyspace@0__:{key}, 본문은 명령(set, del, expired ...) */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        int separator = channel.indexOf(KEYSPACE_SEPARATOR);
+        if (separator >= 0) {
+            invalidate(channel.substring(separator + KEYSPACE_SEPARATOR.length()));
+        }
+    }
+
+    private void put(String key, String value, long before) {
+        if (entries.size() >= maxEntries) {
+            long now = clock.getAsLong();
+            entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+
+        entries.put(key, new Entry(value, clock.getAsLong() + ttlNanos));
+        // 읽는 사이에 무효화가 있었으면 방금 넣은 값이 오래된 값일 수 있다
+        if (generation.get() != before) {
+            entries.remove(key);
+        }
+    }
+}
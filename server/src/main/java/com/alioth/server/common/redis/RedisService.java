@@ -2,45 +2,113 @@ package com.alioth.server.common.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RedisService {
 
+    // 키가 없어도 version 은 올린다 (setIfVersion 이 그 사이의 변경을 알아챈다)
+    private static final String INCREMENT_IF_EXISTS_SCRIPT =
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local count = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "if count < 0 then redis.call('SET', KEYS[1], 0) count = 0 end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return count";
+
+    private static final String SET_IF_VERSION_SCRIPT =
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "if redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3], 'NX') then return 1 end " +
+            "return 0";
+
+    private static final String VERSION_SUFFIX = ":version";
+
+    private static final String FCM_TOKEN_SUFFIX = ":FcmToken";
+    private static final long SCAN_COUNT = 500L;
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisNearCache nearCache;
 
     public void setValues(String key, String data) {
         ValueOperations<String, Object> values = redisTemplate.opsForValue();
         values.set(key, data);
+        nearCache.invalidate(key);
     }
 
     public void setValues(String key, String data, Duration duration) {
         ValueOperations<String, Object> values = redisTemplate.opsForValue();
         values.set(key, data, duration);
+        nearCache.invalidate(key);
     }
 
+    /* 값이 없으면 "false" (GET 한 번) */
     @Transactional(readOnly = true)
     public String getValues(String key) {
-        ValueOperations<String, Object> values = redisTemplate.opsForValue();
-        if (values.get(key) == null) {
-            return "false";
-        }
-        return (String) values.get(key);
+        String value = nearCache.get(key, this::get);
+        return value == null ? "false" : value;
     }
 
     public void deleteValues(String key) {
         redisTemplate.delete(key);
+        nearCache.invalidate(key);
+    }
+
+    /* 여러 키를 MGET 한 번으로 읽는다. 값이 없는 키는 결과에 넣지 않는다 */
+    public Map<String, String> multiGet(Collection<String> keys) {
+        List<String> distinctKeys = List.copyOf(new LinkedHashSet<>(keys));
+        if (distinctKeys.isEmpty()) {
+            return Map.of();
+        }
+        return nearCache.getAll(distinctKeys, this::mget);
+    }
+
+    /* 여러 키를 파이프라인 한 번으로 쓴다. ttl 이 null 이면 만료 없이 */
+    public void multiSet(Map<String, String> data, Duration ttl) {
+        if (data.isEmpty()) {
+            return;
+        }
+
+        Expiration expiration = ttl == null ? Expiration.persistent() : Expiration.from(ttl);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            data.forEach((key, value) -> connection.stringCommands().set(key.getBytes(StandardCharsets.UTF_8),
+                    value.getBytes(StandardCharsets.UTF_8), expiration, RedisStringCommands.SetOption.upsert()));
+            return null;
+        });
+        data.keySet().forEach(nearCache::invalidate);
+    }
+
+    /* 여러 키를 DEL 한 번으로 지운다 */
+    public void deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(keys);
+        keys.forEach(nearCache::invalidate);
     }
 
     public void expireValues(String key, int timeout) {
@@ -55,7 +123,8 @@ public class RedisService {
     @Transactional(readOnly = true)
     public String getHashOps(String key, String hashKey) {
         HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
-        return Boolean.TRUE.equals(values.hasKey(key, hashKey)) ? (String) redisTemplate.opsForHash().get(key, hashKey) : "";
+        Object value = values.get(key, hashKey);
+        return value == null ? "" : (String) value;
     }
 
     public void deleteHashOps(String key, String hashKey) {
@@ -70,21 +139,34 @@ public class RedisService {
     public void increment(String key) {
         ValueOperations<String, Object> values = redisTemplate.opsForValue();
         values.increment(key);
+        nearCache.invalidate(key);
     }
 
+    /* KEYS 대신 SCAN 으로 모은다 (Redis 를 막지 않는다). 키가 많으면 scan(pattern, action) 으로 나눠서 처리한다 */
     public Set<String> keys(String pattern) {
-        return redisTemplate.keys(pattern);
+        Set<String> keys = new HashSet<>();
+        scan(pattern, keys::add);
+        return keys;
+    }
+
+    /* 패턴에 맞는 키를 SCAN 커서로 하나씩 넘긴다 */
+    public void scan(String pattern, Consumer<String> action) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(action);
+        }
     }
 
     public void saveFcmToken(Long memberCode, String fcmToken) {
-        String key = memberCode + ":FcmToken";  // 키 포맷을 일치시킴
-        redisTemplate.opsForValue().set(key, fcmToken);
+        setValues(fcmTokenKey(memberCode), fcmToken);
     }
 
+    public void deleteFcmToken(Long memberCode) {
+        deleteValues(fcmTokenKey(memberCode));
+    }
 
     public String getFcmToken(Long memberCode) {
-        String key = memberCode + ":FcmToken";
-        String token = (String) redisTemplate.opsForValue().get(key);
+        String token = nearCache.get(fcmTokenKey(memberCode), this::get);
         if (token == null || token.isEmpty()) {
             log.error("FCM 토큰 조회 실패: memberCode={} 에 대한 토큰이 존재하지 않습니다.", memberCode);
             return null;
@@ -92,4 +174,96 @@ public class RedisService {
         return token;
     }
 
+    /* 여러 사원의 FCM 토큰을 MGET 한 번(왕복 한 번)으로 읽는다. 토큰이 없는 사원은 결과에 넣지 않는다 */
+    public Map<Long, String> getFcmTokens(Collection<Long> memberCodes) {
+        Map<String, String> tokens = multiGet(memberCodes.stream().map(RedisService::fcmTokenKey).toList());
+        Map<Long, String> result = new HashMap<>();
+        for (Long code : memberCodes) {
+            String token = tokens.get(fcmTokenKey(code));
+            if (token != null && !token.isEmpty()) {
+                result.put(code, token);
+            }
+        }
+        return result;
+    }
+
+    /*
+     * 키마다 delta 를 더하고 TTL 을 다시 건다. 키가 없으면 만들지 않고 -1, 결과가 음수면 0 으로 맞춘다.
+     * 키가 있든 없든 {key}:version 을 올린다. DB 에서 센 값으로 키를 채우는 쪽은 versionOf / setIfVersion 으로 그 사이의 변경을 확인한다.
+     * 키 수와 관계없이 파이프라인 한 번으로 보내며, 키마다 스크립트 하나라 더하고 확인하는 사이에 다른 요청이 끼지 않는다.
+     */
+    public List<Long> incrementAllIfExists(List<String> keys, long delta, Duration ttl) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        byte[] script = INCREMENT_IF_EXISTS_SCRIPT.getBytes(StandardCharsets.UTF_8);
+        byte[] deltaArg = String.valueOf(delta).getBytes(StandardCharsets.UTF_8);
+        byte[] ttlArg = String.valueOf(ttl.toSeconds()).getBytes(StandardCharsets.UTF_8);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2,
+                        key.getBytes(StandardCharsets.UTF_8), (key + VERSION_SUFFIX).getBytes(StandardCharsets.UTF_8), deltaArg, ttlArg);
+            }
+            return null;
+        });
+        keys.forEach(nearCache::invalidate);
+        return results.stream().map(result -> ((Number) result).longValue()).toList();
+    }
+
+    /* incrementAllIfExists 가 올리는 key 의 변경 번호. 아직 없으면 "0" */
+    public String versionOf(String key) {
+        String version = get(key + VERSION_SUFFIX);
+        return version == null ? "0" : version;
+    }
+
+    /*
+     * key 가 없고 versionOf 로 읽은 뒤 incrementAllIfExists 가 한 번도 없었을 때만 value 로 채운다.
+     * DB 에서 세는 동안 들어온 증감을 덮어쓰지 않는다 (그런 경우는 채우지 않고 다음 조회에서 다시 센다).
+     */
+    public boolean setIfVersion(String key, String value, String version, Duration ttl) {
+        Long set = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                SET_IF_VERSION_SCRIPT.getBytes(StandardCharsets.UTF_8), ReturnType.INTEGER, 2,
+                key.getBytes(StandardCharsets.UTF_8), (key + VERSION_SUFFIX).getBytes(StandardCharsets.UTF_8),
+                version.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8),
+                String.valueOf(ttl.toSeconds()).getBytes(StandardCharsets.UTF_8)));
+        nearCache.invalidate(key);
+        return set != null && set == 1L;
+    }
+
+    /* 같은 채널에 여러 메시지를 파이프라인 한 번으로 발행한다 */
+    public void publishAll(String channel, List<String> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        byte[] channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String message : messages) {
+                connection.publish(channelBytes, message.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    private static String fcmTokenKey(Long memberCode) {
+        return memberCode + FCM_TOKEN_SUFFIX;
+    }
+
+    private String get(String key) {
+        return (String) redisTemplate.opsForValue().get(key);
+    }
+
+    private Map<String, String> mget(List<String> keys) {
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            if (value != null) {
+                result.put(keys.get(i), (String) value);
+            }
+        }
+        return result;
+    }
 }
@@ -19,17 +19,17 @@ public class BatchHQSales {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long Id;
 
-    @Column(nullable = false)
-    private String totalPrice;
+    @Column(nullable = false, precision = 19)
+    private BigDecimal totalPrice;
 
     @Column(nullable = false)
-    private String totalCount;
+    private Long totalCount;
 
-    @Column(nullable = false)
-    private String cancelPrice;
+    @Column(nullable = false, precision = 19)
+    private BigDecimal cancelPrice;
 
     @Column(nullable = false)
-    private String cancelCount;
+    private Long cancelCount;
 
 
 
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 
@@ -26,17 +27,17 @@ public class BatchMemberSales {
     @Column(nullable = false)
     private String salesMemberName;
 
-    @Column(nullable = false)
-    private String contractPrice;
+    @Column(nullable = false, precision = 19)
+    private BigDecimal contractPrice;
 
     @Column(nullable = false)
-    private String contractCount;
+    private Long contractCount;
 
-    @Column(nullable = false)
-    private String cancelPrice;
+    @Column(nullable = false, precision = 19)
+    private BigDecimal cancelPrice;
 
     @Column(nullable = false)
-    private String cancelCount;
+    private Long cancelCount;
 
     @Column(nullable = false)
     private LocalDateTime createdTime;
@@ -1,12 +1,14 @@
 package com.alioth.server.domain.batch;
 
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import lombok.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -30,9 +32,10 @@ public class BatchRankMember {
 
     private LocalDateTime createdDate; // 날짜
 
-    private String contractPrice; // 계약 총금액
+    @Column(precision = 19)
+    private BigDecimal contractPrice; // 계약 총금액
 
-    private String contractCount; // 계약 건수
+    private Long contractCount; // 계약 건수
 
 
     public void updateMemberRank(Long rank) {
@@ -1,5 +1,6 @@
 package com.alioth.server.domain.batch;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -9,6 +10,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -30,9 +32,10 @@ public class BatchRankProduct {
 
     private LocalDateTime createdDate; // 날짜
 
-    private String contractPrice; // 상품별 가격
+    @Column(precision = 19)
+    private BigDecimal contractPrice; // 상품별 가격
 
-    private String contractCount; // 상품별 건수
+    private Long contractCount; // 상품별 건수
 
 
 }
@@ -1,9 +1,6 @@
 package com.alioth.server.domain.board.service;
 
 import com.alioth.server.common.domain.TypeChange;
-import com.alioth.server.common.firebase.domain.FcmSendDto;
-import com.alioth.server.common.firebase.service.FcmService;
-import com.alioth.server.common.redis.RedisService;
 import com.alioth.server.domain.board.domain.Board;
 import com.alioth.server.domain.board.domain.BoardType;
 import com.alioth.server.domain.board.dto.req.BoardCreateDto;
@@ -13,9 +10,7 @@ import com.alioth.server.domain.board.repository.BoardRepository;
 import com.alioth.server.domain.member.domain.SalesMemberType;
 import com.alioth.server.domain.member.domain.SalesMembers;
 import com.alioth.server.domain.member.service.SalesMemberService;
-import com.alioth.server.domain.notification.domain.Notification;
-import com.alioth.server.domain.notification.domain.ReadStatus;
-import com.alioth.server.domain.notification.repository.NotificationRepository;
+import com.alioth.server.domain.notification.service.NotificationDispatcher;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -24,11 +19,9 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,9 +33,7 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final TypeChange typeChange;
     private final SalesMemberService salesMemberService;
-    private final FcmService fcmService;
-    private final RedisService redisService;
-    private final NotificationRepository notificationRepository;
+    private final NotificationDispatcher notificationDispatcher;
 
 
     public Board findById(Long BoardId){
@@ -59,59 +50,30 @@ public class BoardService {
         }
     }
 
-    public BoardResDto save(BoardCreateDto boardCreateDto, Long sm_code) throws IOException {
+    public BoardResDto save(BoardCreateDto boardCreateDto, Long sm_code) {
         SalesMembers author = salesMemberService.findBySalesMemberCode(sm_code);
         Board board = typeChange.BoardCreateDtoToBoard(boardCreateDto, author);
 
         boardRepository.save(board);
 
-        String eventId = UUID.randomUUID().toString();
-
         if (board.getBoardType() == BoardType.SUGGESTION) {
+            List<SalesMembers> recipients = new ArrayList<>();
             if (author.getTeam() != null && author.getRank() != SalesMemberType.MANAGER) {
                 // 저자가 FP이고 매니저가 있다면 해당 팀 매니저에게 알림
-                SalesMembers teamManager = salesMemberService.findTeamManagerByTeamId(author.getTeam().getId());
-                sendNotification(eventId, teamManager, board);
+                recipients.add(salesMemberService.findTeamManagerByTeamId(author.getTeam().getId()));
             } else if (author.getRank() == SalesMemberType.HQ) {
                 // 저자가 HQ일 경우 다른 HQ 멤버들에게 알림
-                List<SalesMembers> allHQMembers = salesMemberService.findAllHQMembers();
-                for (SalesMembers hqMember : allHQMembers) {
-                    if (!hqMember.equals(author)) {
-                        sendNotification(eventId, hqMember, board);
-                    }
-                }
+                salesMemberService.findAllHQMembers().stream()
+                        .filter(hqMember -> !hqMember.equals(author))
+                        .forEach(recipients::add);
             }
+            // 알림은 같은 트랜잭션에서 한 번에 저장하고, FCM 발송은 커밋된 뒤 비동기로 한다
+            notificationDispatcher.notify(recipients, "새 건의사항", "새로운 건의사항이 등록되었습니다: " + board.getTitle(), "/BoardList");
         }
         return typeChange.BoardToBoardResDto(board);
     }
 
 
-    private void sendNotification(String eventId, SalesMembers recipient, Board board) throws IOException {
-        if (!notificationRepository.existsByMessageId(eventId)) {
-            Notification notification = Notification.builder()
-                    .salesMember(recipient)
-                    .title("새 건의사항")
-                    .message("새로운 건의사항이 등록되었습니다: " + board.getTitle())
-                    .readStatus(ReadStatus.Unread)
-                    .messageId(eventId)
-                    .build();
-            notificationRepository.save(notification);
-
-            // FCM 메시지 발송
-            String fcmToken = redisService.getFcmToken(recipient.getSalesMemberCode());
-            if (fcmToken != null) {
-                FcmSendDto fcmSendDto = FcmSendDto.builder()
-                        .token(fcmToken)
-                        .title("새 건의사항")
-                        .body("새로운 건의사항이 등록되었습니다: " + board.getTitle())
-                        .url("/BoardList")
-                        .build();
-                fcmService.sendMessageTo(fcmSendDto);
-            }
-        }
-    }
-
-
             // 각 팀 멤버에 대해 알림을 생성합니다.
 //            for (SalesMembers member : teamMembers) {
 //                if (!notificationRepository.existsByMessageId(eventId)) {
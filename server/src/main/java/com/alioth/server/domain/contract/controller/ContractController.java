@@ -4,8 +4,10 @@ import com.alioth.server.common.jwt.JwtTokenProvider;
 import com.alioth.server.common.response.CommonResponse;
 import com.alioth.server.domain.contract.dto.req.ContractCancellationDto;
 import com.alioth.server.domain.contract.dto.req.ContractCreateDto;
+import com.alioth.server.domain.contract.dto.req.ContractSearchReqDto;
 import com.alioth.server.domain.contract.dto.req.ContractUpdateDto;
 import com.alioth.server.domain.contract.dto.res.ContractResDto;
+import com.alioth.server.domain.contract.dto.res.ContractSliceResDto;
 import com.alioth.server.domain.contract.service.ContractService;
 import com.alioth.server.domain.dummy.domain.ContractStatus;
 import jakarta.validation.Valid;
@@ -57,6 +59,13 @@ public class ContractController {
         return CommonResponse.responseMessage(HttpStatus.OK, "계약 목록을 성공적으로 조회했습니다.", contracts);
     }
 
+    // 최신 계약일 순으로 size 건씩. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다
+    @GetMapping("/slice")
+    public ResponseEntity<CommonResponse> sliceContracts(@ModelAttribute ContractSearchReqDto contractSearchReqDto) {
+        ContractSliceResDto contracts = contractService.findContractSlice(contractSearchReqDto);
+        return CommonResponse.responseMessage(HttpStatus.OK, "계약 목록을 성공적으로 조회했습니다.", contracts);
+    }
+
 
     @GetMapping("/detail/{contractId}")
     public ResponseEntity<CommonResponse> getContractDetail(@PathVariable Long contractId) {
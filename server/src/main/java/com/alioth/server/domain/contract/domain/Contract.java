@@ -6,6 +6,7 @@ import com.alioth.server.domain.dummy.domain.*;
 import com.alioth.server.domain.member.domain.SalesMembers;
 import jakarta.persistence.*;
 import lombok.*;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -13,7 +14,23 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@NamedEntityGraph(name = Contract.WITH_ASSOCIATIONS,
+        attributeNodes = {
+                @NamedAttributeNode(value = "salesMembers", subgraph = "salesMembers"),
+                @NamedAttributeNode("insuranceProduct"),
+                @NamedAttributeNode("custom"),
+                @NamedAttributeNode("contractMembers")
+        },
+        subgraphs = @NamedSubgraph(name = "salesMembers", attributeNodes = @NamedAttributeNode("team")))
+@Table(indexes = {
+        @Index(name = "idx_contract_date", columnList = "contractDate, contractId"),
+        @Index(name = "idx_contract_status_date", columnList = "contractStatus, contractDate, contractId"),
+        @Index(name = "idx_contract_member_date", columnList = "SM_id, contractDate, contractId")
+})
 public class Contract extends BaseEntity {
+    // 연관 엔티티는 모두 LAZY. 목록 / 상세 / 엑셀 조회는 이 graph 로 한 번에 가져온다 (ContractRepository)
+    public static final String WITH_ASSOCIATIONS = "Contract.withAssociations";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long contractId;
@@ -25,10 +42,10 @@ public class Contract extends BaseEntity {
     private LocalDateTime contractExpireDate;
     @Column(nullable = false)
     private String contractPeriod;
-    @Column(nullable = false)
-    private String contractTotalPrice;
-    @Column(nullable = false)
-    private String contractPaymentAmount;
+    @Column(nullable = false, precision = 19)
+    private BigDecimal contractTotalPrice;
+    @Column(nullable = false, precision = 19)
+    private BigDecimal contractPaymentAmount;
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private PaymentFrequency contractPaymentFrequency;
@@ -46,21 +63,21 @@ public class Contract extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private ContractStatus contractStatus;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "insurance_id")
     @Enumerated(EnumType.STRING)
     private InsuranceProduct insuranceProduct;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id")
     private Custom custom;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CM_id")
     @Enumerated(EnumType.STRING)
     private ContractMembers contractMembers;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "SM_id")
     private SalesMembers salesMembers;
 
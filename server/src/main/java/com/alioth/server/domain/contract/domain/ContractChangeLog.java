@@ -0,0 +1,71 @@
+package com.alioth.server.domain.contract.domain;
+
+import com.alioth.server.domain.dummy.domain.ContractStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 계약 변경 outbox.
+ * 계약 변경과 같은 트랜잭션에서 기록되고, statistics 의 delta 집계가 아직 반영하지 않은(processedAt 이 null 인) 행을 id 순으로 읽어 간다.
+ * id 는 커밋 순서가 아니므로(늦게 커밋된 트랜잭션의 작은 id) "마지막 id 이후" 가 아니라 행마다 반영 여부를 남긴다.
+ * 변경 전/후 상태와 금액을 함께 남겨서 집계 쪽은 계약 테이블을 다시 읽지 않고 증감만 반영한다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_contract_change_log_contract", columnList = "contractId"),
+        @Index(name = "idx_contract_change_log_processed", columnList = "processedAt, id")
+})
+public class ContractChangeLog {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private Long contractId;
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ContractChangeType changeType;
+    private Long salesMemberId;
+    private Long insuranceId;
+
+    // 변경 전 (CREATE 는 null)
+    @Enumerated(EnumType.STRING)
+    private ContractStatus beforeStatus;
+    @Column(precision = 19)
+    private BigDecimal beforePrice;
+
+    // 변경 후
+    @Enumerated(EnumType.STRING)
+    private ContractStatus afterStatus;
+    @Column(precision = 19)
+    private BigDecimal afterPrice;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    // statistics 가 집계에 반영한 시각 (아직이면 null)
+    private LocalDateTime processedAt;
+
+    public static ContractChangeLog of(ContractChangeType changeType, ContractStatus beforeStatus, BigDecimal beforePrice, Contract contract) {
+        return ContractChangeLog.builder()
+                .contractId(contract.getContractId())
+                .changeType(changeType)
+                .salesMemberId(contract.getSalesMembers() != null ? contract.getSalesMembers().getId() : null)
+                .insuranceId(contract.getInsuranceProduct() != null ? contract.getInsuranceProduct().getInsuranceId() : null)
+                .beforeStatus(beforeStatus)
+                .beforePrice(beforePrice)
+                .afterStatus(contract.getContractStatus())
+                .afterPrice(contract.getContractTotalPrice())
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+}
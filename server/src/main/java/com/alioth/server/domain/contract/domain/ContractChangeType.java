@@ -0,0 +1,8 @@
+package com.alioth.server.domain.contract.domain;
+
+public enum ContractChangeType {
+    CREATE, // 계약 등록
+    UPDATE, // 계약 수정
+    CANCEL, // 계약 해지
+    DELETE, // 계약 삭제 (해지 처리)
+}
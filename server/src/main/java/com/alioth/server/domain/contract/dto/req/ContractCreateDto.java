@@ -7,6 +7,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 @Builder
 public record ContractCreateDto(
@@ -16,10 +17,10 @@ public record ContractCreateDto(
         LocalDateTime contractExpireDate,
         @NotBlank(message = "계약기간이 필요합니다.")
         String contractPeriod,
-        @NotBlank(message = "계약 총 금액이 필요합니다.")
-        String contractTotalPrice,
-        @NotBlank(message = "납입금액이 필요합니다.")
-        String contractPaymentAmount,
+        @NotNull(message = "계약 총 금액이 필요합니다.")
+        BigDecimal contractTotalPrice,
+        @NotNull(message = "납입금액이 필요합니다.")
+        BigDecimal contractPaymentAmount,
         @Valid
         PaymentFrequency contractPaymentFrequency,
         @NotNull(message = "납입 만기회차가 필요합니다.")
@@ -0,0 +1,31 @@
+package com.alioth.server.domain.contract.dto.req;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 계약 목록 keyset 페이지의 위치. 마지막으로 받은 행의 (contractDate, contractId) 를 base64 문자열로 주고받는다.
+ */
+public record ContractCursor(
+        LocalDateTime contractDate,
+        Long contractId
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = contractDate + SEPARATOR + contractId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ContractCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            return new ContractCursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.alioth.server.domain.contract.dto.req;
+
+import com.alioth.server.domain.dummy.domain.ContractStatus;
+import lombok.Builder;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계약 목록 조회 조건. 값이 없는 조건은 걸지 않는다.
+ * startDate 이상 endDate 미만의 계약일, cursor 는 이전 응답의 nextCursor.
+ */
+@Builder
+public record ContractSearchReqDto(
+        ContractStatus status,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+        Long memberId,
+        Long teamId,
+        String cursor,
+        Integer size
+) {}
@@ -4,9 +4,11 @@ import com.alioth.server.domain.dummy.domain.ContractStatus;
 import com.alioth.server.domain.dummy.domain.PaymentFrequency;
 import com.alioth.server.domain.excel.domain.ExcelHeaders;
 import com.alioth.server.domain.member.dto.res.SalesMemberResDto;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.Column;
 import lombok.Builder;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Builder
@@ -23,9 +25,11 @@ public record ContractExcelResDto(
         @Column(name = "계약 기간(월)")
         String contractPeriod,
         @Column(name = "계약 총 금액")
-        String contractTotalPrice,
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        BigDecimal contractTotalPrice,
         @Column(name = "납입 금액")
-        String contractPaymentAmount,
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        BigDecimal contractPaymentAmount,
         @Column(name = "납입 주기")
         PaymentFrequency contractPaymentFrequency,
         @Column(name = "납입 만기 회차")
@@ -4,8 +4,10 @@ import com.alioth.server.domain.dummy.domain.ContractStatus;
 import com.alioth.server.domain.dummy.domain.PaymentFrequency;
 import com.alioth.server.domain.excel.domain.ExcelHeaders;
 import com.alioth.server.domain.member.dto.res.SalesMemberResDto;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Builder
@@ -16,8 +18,10 @@ public record ContractResDto(
         LocalDateTime contractDate,
         LocalDateTime contractExpireDate,
         String contractPeriod,
-        String contractTotalPrice,
-        String contractPaymentAmount,
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        BigDecimal contractTotalPrice,
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        BigDecimal contractPaymentAmount,
         PaymentFrequency contractPaymentFrequency,
         Long contractPaymentMaturityInstallment,
         Long contractCount,
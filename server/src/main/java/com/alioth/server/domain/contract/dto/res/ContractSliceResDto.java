@@ -0,0 +1,12 @@
+package com.alioth.server.domain.contract.dto.res;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ContractSliceResDto(
+        List<ContractResDto> contracts,
+        String nextCursor,   // 다음 페이지 요청에 그대로 넘긴다, 마지막 페이지면 null
+        boolean hasNext
+) {}
@@ -0,0 +1,12 @@
+package com.alioth.server.domain.contract.repository;
+
+import com.alioth.server.domain.contract.domain.ContractChangeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ContractChangeLogRepository extends JpaRepository<ContractChangeLog, Long> {
+    List<ContractChangeLog> findAllByContractIdOrderByIdAsc(Long contractId);
+}
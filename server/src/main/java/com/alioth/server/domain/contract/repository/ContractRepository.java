@@ -5,30 +5,109 @@ import com.alioth.server.domain.contract.domain.Contract;
 import com.alioth.server.domain.dummy.domain.ContractStatus;
 import com.alioth.server.domain.dummy.domain.Custom;
 import com.alioth.server.domain.member.domain.SalesMembers;
-import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContractRepository extends JpaRepository<Contract, Long> {
+    // 목록 / 상세 / 엑셀 조회는 연관 엔티티를 같은 쿼리에서 가져온다 (행마다 추가 select 가 나가지 않도록)
+    @Override
+    @EntityGraph(Contract.WITH_ASSOCIATIONS)
+    List<Contract> findAll();
+
+    @EntityGraph(Contract.WITH_ASSOCIATIONS)
+    Optional<Contract> findWithAssociationsByContractId(Long contractId);
+
+    @EntityGraph(Contract.WITH_ASSOCIATIONS)
     List<Contract> findAllBySalesMembersId(Long memberId);
   
+    @EntityGraph(Contract.WITH_ASSOCIATIONS)
     @Query("SELECT c FROM Contract c WHERE c.contractDate BETWEEN :startDate AND :endDate")
     List<Contract> findAllByPeriod(LocalDateTime startDate, LocalDateTime endDate);
 
+    // 전체 엑셀 내보내기용. 결과를 한 번에 올리지 않고 fetch size 단위로 커서에서 읽는다 (트랜잭션 안에서 닫아야 한다)
+    @EntityGraph(Contract.WITH_ASSOCIATIONS)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Contract c " +
+            "WHERE (:startDate IS NULL OR c.contractDate >= :startDate) " +
+            "AND (:endDate IS NULL OR c.contractDate <= :endDate) " +
+            "ORDER BY c.contractId")
+    Stream<Contract> streamAllByPeriod(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    // 팀 엑셀 내보내기용. 팀원마다 조회하지 않고 팀의 계약을 한 번에 커서로 읽는다
+    @EntityGraph(Contract.WITH_ASSOCIATIONS)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Contract c " +
+            "WHERE c.salesMembers.team.teamCode = :teamCode " +
+            "AND (:startDate IS NULL OR c.contractDate >= :startDate) " +
+            "AND (:endDate IS NULL OR c.contractDate <= :endDate) " +
+            "ORDER BY c.contractId")
+    Stream<Contract> streamAllByTeamCodeAndPeriod(@Param("teamCode") String teamCode,
+                                                  @Param("startDate") LocalDateTime startDate,
+                                                  @Param("endDate") LocalDateTime endDate);
+
+    // 팀 계약의 고객 (중복 없이)
+    @Query("SELECT DISTINCT cu FROM Contract c JOIN c.custom cu " +
+            "WHERE c.salesMembers.team.teamCode = :teamCode " +
+            "AND (:startDate IS NULL OR c.contractDate >= :startDate) " +
+            "AND (:endDate IS NULL OR c.contractDate <= :endDate) " +
+            "ORDER BY cu.customerId")
+    List<Custom> findDistinctCustomsByTeamCodeAndPeriod(@Param("teamCode") String teamCode,
+                                                        @Param("startDate") LocalDateTime startDate,
+                                                        @Param("endDate") LocalDateTime endDate);
+
+    @EntityGraph(Contract.WITH_ASSOCIATIONS)
     @Query("SELECT c FROM Contract c WHERE c.salesMembers.Id = :id AND c.contractDate BETWEEN :startDate AND :endDate")
     List<Contract> findAllByPeriodAndSalesMembersId(@Param("id") Long id, LocalDateTime startDate, LocalDateTime endDate);
 
+    @EntityGraph(Contract.WITH_ASSOCIATIONS)
     @Query("SELECT c FROM Contract c WHERE c.salesMembers.team is null")
     List<Contract> findByAllNoTeamList();
 
+    @EntityGraph(Contract.WITH_ASSOCIATIONS)
     @Query("SELECT c FROM Contract c WHERE (c.salesMembers.team is null) AND c.contractDate BETWEEN :startDate AND :endDate")
     List<Contract> findByAllNoTeamNotDateList(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
+    @EntityGraph(Contract.WITH_ASSOCIATIONS)
     List<Contract> findAllByContractStatus(ContractStatus status);
 
+    // (contractDate, contractId) 내림차순 keyset 페이지. 화면에 쓰는 연관 엔티티는 같은 쿼리에서 가져온다
+    @Query("SELECT c FROM Contract c " +
+            "LEFT JOIN FETCH c.salesMembers sm LEFT JOIN FETCH sm.team t " +
+            "LEFT JOIN FETCH c.insuranceProduct LEFT JOIN FETCH c.custom LEFT JOIN FETCH c.contractMembers " +
+            "WHERE (:status IS NULL OR c.contractStatus = :status) " +
+            "AND (:startDate IS NULL OR c.contractDate >= :startDate) " +
+            "AND (:endDate IS NULL OR c.contractDate < :endDate) " +
+            "AND (:memberId IS NULL OR sm.Id = :memberId) " +
+            "AND (:teamId IS NULL OR t.id = :teamId) " +
+            "AND (:cursorDate IS NULL OR c.contractDate < :cursorDate " +
+            "     OR (c.contractDate = :cursorDate AND c.contractId < :cursorId)) " +
+            "ORDER BY c.contractDate DESC, c.contractId DESC")
+    List<Contract> findSlice(@Param("status") ContractStatus status,
+                             @Param("startDate") LocalDateTime startDate,
+                             @Param("endDate") LocalDateTime endDate,
+                             @Param("memberId") Long memberId,
+                             @Param("teamId") Long teamId,
+                             @Param("cursorDate") LocalDateTime cursorDate,
+                             @Param("cursorId") Long cursorId,
+                             Pageable pageable);
+
 }
@@ -2,10 +2,16 @@ package com.alioth.server.domain.contract.service;
 
 import com.alioth.server.common.domain.TypeChange;
 import com.alioth.server.domain.contract.domain.Contract;
+import com.alioth.server.domain.contract.domain.ContractChangeLog;
+import com.alioth.server.domain.contract.domain.ContractChangeType;
 import com.alioth.server.domain.contract.dto.req.ContractCancellationDto;
 import com.alioth.server.domain.contract.dto.req.ContractCreateDto;
+import com.alioth.server.domain.contract.dto.req.ContractCursor;
+import com.alioth.server.domain.contract.dto.req.ContractSearchReqDto;
 import com.alioth.server.domain.contract.dto.req.ContractUpdateDto;
 import com.alioth.server.domain.contract.dto.res.ContractResDto;
+import com.alioth.server.domain.contract.dto.res.ContractSliceResDto;
+import com.alioth.server.domain.contract.repository.ContractChangeLogRepository;
 import com.alioth.server.domain.contract.repository.ContractRepository;
 import com.alioth.server.domain.dummy.domain.ContractMembers;
 import com.alioth.server.domain.dummy.domain.ContractStatus;
@@ -18,10 +24,13 @@ import com.alioth.server.domain.member.service.SalesMemberService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -39,6 +48,13 @@ public class ContractService {
     private final DummyService dummyService;
     private final TypeChange typeChange;
     private final SalesMemberService salesMemberService;
+    private final ContractChangeLogRepository contractChangeLogRepository;
+
+    @Value("${contract.list.page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${contract.list.max-page-size:500}")
+    private int maxPageSize;
 
 
     public ContractResDto createContract(ContractCreateDto dto, UserDetails userDetails) {
@@ -54,6 +70,7 @@ public class ContractService {
         // Contract 객체 생성 및 저장
         Contract contract = typeChange.ContractCreateDtoToContract(contractCode, dto, contractMembers, custom, insuranceProduct, salesMember);
         contract = contractRepository.save(contract);
+        this.recordChange(ContractChangeType.CREATE, null, null, contract);
 
         // 결과 변환 및 반환
         return typeChange.ContractToContractResDto(contract);
@@ -75,8 +92,10 @@ public class ContractService {
     public ContractResDto updateContract(Long contractId, ContractUpdateDto dto) {
         Contract contract = contractRepository.findById(contractId)
                 .orElseThrow(() -> new EntityNotFoundException("계약을 찾을 수 없습니다."));
+        ContractStatus beforeStatus = contract.getContractStatus();
         contract.update(dto);
         contract = contractRepository.save(contract);
+        this.recordChange(ContractChangeType.UPDATE, beforeStatus, contract.getContractTotalPrice(), contract);
         return typeChange.ContractToContractResDto(contract);
     }
 
@@ -84,8 +103,15 @@ public class ContractService {
     public void deleteContract(Long contractId) {
         Contract contract = contractRepository.findById(contractId)
                 .orElseThrow(() -> new EntityNotFoundException("계약을 찾을 수 없습니다."));
+        ContractStatus beforeStatus = contract.getContractStatus();
         contract.cancel();  // 계약 상태를 Cancellation으로 변경
         contractRepository.save(contract);  // 변경된 상태를 저장
+        this.recordChange(ContractChangeType.DELETE, beforeStatus, contract.getContractTotalPrice(), contract);
+    }
+
+    // 계약 변경과 같은 트랜잭션에서 outbox 에 기록한다 (롤백되면 로그도 같이 롤백)
+    private void recordChange(ContractChangeType changeType, ContractStatus beforeStatus, BigDecimal beforePrice, Contract contract) {
+        contractChangeLogRepository.save(ContractChangeLog.of(changeType, beforeStatus, beforePrice, contract));
     }
 
     public List<ContractResDto> findAllContractsByStatus(ContractStatus status) {
@@ -101,6 +127,35 @@ public class ContractService {
     }
 
 
+    /* (contractDate, contractId) 기준 keyset 페이지. 페이지 번호 대신 마지막 행 위치로 이어서 읽으므로 뒤 페이지도 느려지지 않는다 */
+    @Transactional(readOnly = true)
+    public ContractSliceResDto findContractSlice(ContractSearchReqDto dto) {
+        int size = dto.size() == null ? defaultPageSize : Math.max(1, Math.min(dto.size(), maxPageSize));
+        ContractCursor cursor = dto.cursor() == null || dto.cursor().isBlank() ? null : ContractCursor.decode(dto.cursor());
+
+        // 한 건 더 읽어서 다음 페이지가 있는지 본다
+        List<Contract> contracts = contractRepository.findSlice(dto.status(), dto.startDate(), dto.endDate(),
+                dto.memberId(), dto.teamId(),
+                cursor == null ? null : cursor.contractDate(), cursor == null ? null : cursor.contractId(),
+                PageRequest.of(0, size + 1));
+
+        boolean hasNext = contracts.size() > size;
+        List<Contract> page = hasNext ? contracts.subList(0, size) : contracts;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Contract last = page.get(page.size() - 1);
+            nextCursor = new ContractCursor(last.getContractDate(), last.getContractId()).encode();
+        }
+
+        return ContractSliceResDto.builder()
+                .contracts(page.stream().map(typeChange::ContractToContractResDto).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+
     public List<ContractResDto> listAllContracts() {
         return contractRepository.findAll().stream()
                     .map(typeChange::ContractToContractResDto)
@@ -143,6 +198,10 @@ public class ContractService {
         }
     }
 
+    public List<Custom> customTeamList(String teamCode, ExcelReqDto dto) {
+        return contractRepository.findDistinctCustomsByTeamCodeAndPeriod(teamCode, dto.startDate(), dto.endDate());
+    }
+
     public List<Custom> customTotalList(ExcelReqDto dto) {
         if(dto.startDate() == null && dto.endDate() == null){
             return contractRepository.findAll().stream().map(Contract::getCustom).toList();
@@ -165,16 +224,19 @@ public class ContractService {
         return contractRepository.findAll().stream().map(Contract::getCustom).toList();
     }
 
+    @Transactional(readOnly = true)
     public ContractResDto getContractDetails(Long contractId) {
-        Contract contract = contractRepository.findById(contractId)
+        Contract contract = contractRepository.findWithAssociationsByContractId(contractId)
                 .orElseThrow(() -> new EntityNotFoundException("계약을 찾을 수 없습니다: " + contractId));
         return typeChange.ContractToContractResDto(contract);
     }
     public void cancelContract(Long contractId, String reason) {
         Contract contract = contractRepository.findById(contractId)
                 .orElseThrow(() -> new EntityNotFoundException("계약을 찾을 수 없습니다: " + contractId));
+        ContractStatus beforeStatus = contract.getContractStatus();
         contract.cancel(reason);
         contractRepository.save(contract);
+        this.recordChange(ContractChangeType.CANCEL, beforeStatus, contract.getContractTotalPrice(), contract);
     }
 
 
@@ -1,12 +1,24 @@
 package com.alioth.server.domain.excel.controller;
 
+import com.alioth.server.common.response.CommonResponse;
+import com.alioth.server.domain.excel.domain.ExcelExportJob;
+import com.alioth.server.domain.excel.domain.ExportFormat;
+import com.alioth.server.domain.excel.dto.ExcelExportJobResDto;
 import com.alioth.server.domain.excel.dto.ExcelReqDto;
+import com.alioth.server.domain.excel.service.ExcelExportJobService;
+import com.alioth.server.domain.excel.service.ExcelOutput;
 import com.alioth.server.domain.excel.service.ExcelService;
 import com.alioth.server.domain.member.domain.SalesMembers;
 import com.alioth.server.domain.member.service.SalesMemberService;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +39,7 @@ import java.io.IOException;
 public class ExcelController {
     private final SalesMemberService salesMemberService;
     private final ExcelService excelService;
+    private final ExcelExportJobService excelExportJobService;
 
 
     @PostMapping(value = {"/export/{type}", "/export/{type}/{code}"})
@@ -34,19 +47,57 @@ public class ExcelController {
                                      @AuthenticationPrincipal UserDetails userDetails,
                                      @RequestBody ExcelReqDto dto,
                                      @PathVariable(required = false) String type,
-                                     @PathVariable(required = false) String code
+                                     @PathVariable(required = false) String code,
+                                     @RequestParam(defaultValue = "xlsx") String format,
+                                     @RequestParam(defaultValue = "false") boolean gzip
     ) throws IOException, IllegalAccessException {
         SalesMembers salesMember = salesMemberService.findBySalesMemberCode(Long.parseLong(userDetails.getUsername()));
+        // format=csv 는 workbook 없이 바로 쓰고, gzip=true 면 Content-Encoding: gzip 으로 압축한다
+        ExcelOutput output = ExcelOutput.of(response, ExportFormat.of(format), gzip);
         switch (type){
             case "contract":
-                excelService.contractExcel(salesMember, code, response, dto);
+                excelService.contractExcel(salesMember, code, output, dto);
                 break;
             case "customerList":
-                excelService.customerListExcel(salesMember, code, response, dto);
+                excelService.customerListExcel(salesMember, code, output, dto);
                 break;
             case "salesMembers":
-                excelService.salesMembersExcel(salesMember, code, response);
+                excelService.salesMembersExcel(salesMember, code, output);
                 break;
         }
     }
+
+    // 큰 엑셀은 작업으로 만들고 상태 조회 후 내려받는다
+    @PostMapping(value = {"/jobs/{type}", "/jobs/{type}/{code}"})
+    public ResponseEntity<CommonResponse> submitExportJob(@AuthenticationPrincipal UserDetails userDetails,
+                                                          @RequestBody ExcelReqDto dto,
+                                                          @PathVariable String type,
+                                                          @PathVariable(required = false) String code,
+                                                          @RequestParam(defaultValue = "xlsx") String format
+    ) {
+        SalesMembers salesMember = salesMemberService.findBySalesMemberCode(Long.parseLong(userDetails.getUsername()));
+        // 지원하지 않는 format 은 ExportFormat.of 에서 IllegalArgumentException(400)
+        ExcelExportJobResDto job = excelExportJobService.submit(salesMember, type, ExportFormat.of(format), code, dto);
+        return CommonResponse.responseMessage(HttpStatus.ACCEPTED, "엑셀 내보내기 작업이 등록되었습니다.", job);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<CommonResponse> exportJobStatus(@AuthenticationPrincipal UserDetails userDetails,
+                                                          @PathVariable String jobId
+    ) throws IOException {
+        ExcelExportJobResDto job = excelExportJobService.status(Long.parseLong(userDetails.getUsername()), jobId);
+        return CommonResponse.responseMessage(HttpStatus.OK, "엑셀 내보내기 작업 상태입니다.", job);
+    }
+
+    // Resource 로 돌려주면 Range 요청은 206 부분 응답으로 처리된다
+    @GetMapping("/jobs/{jobId}/download")
+    public ResponseEntity<Resource> downloadExportJob(@AuthenticationPrincipal UserDetails userDetails,
+                                                      @PathVariable String jobId
+    ) throws IOException {
+        ExcelExportJob job = excelExportJobService.findDoneJob(Long.parseLong(userDetails.getUsername()), jobId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(job.getFormat().getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=" + job.getFileName())
+                .body(new FileSystemResource(job.getFile()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.alioth.server.domain.excel.domain;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엑셀 내보내기 작업 하나. 요청 스레드와 작업 스레드가 같이 보므로 바뀌는 값은 volatile / Atomic 으로 둔다.
+ * 같은 조건의 요청이 생성 중에 또 들어오면 새 작업을 만들지 않고 requester 만 추가한다.
+ */
+@Getter
+public class ExcelExportJob {
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final String key;
+    private final String type;
+    private final ExportFormat format;
+    private final String fileName;
+    private final Path file;
+    private final LocalDateTime createdTime = LocalDateTime.now();
+    private final Set<Long> requesters = ConcurrentHashMap.newKeySet();
+    private final AtomicLong rowsProcessed = new AtomicLong();
+
+    private volatile ExcelExportStatus status = ExcelExportStatus.QUEUED;
+    private volatile String errorMessage;
+    private volatile LocalDateTime finishedTime;
+
+    public ExcelExportJob(String key, String type, ExportFormat format, String fileName, Path directory) {
+        this.key = key;
+        this.type = type;
+        this.format = format;
+        this.fileName = fileName;
+        this.file = directory.resolve(jobId + "." + format.getExtension());
+    }
+
+    public void addRequester(Long salesMemberCode) {
+        requesters.add(salesMemberCode);
+    }
+
+    public boolean isRequester(Long salesMemberCode) {
+        return requesters.contains(salesMemberCode);
+    }
+
+    public boolean isActive() {
+        return status == ExcelExportStatus.QUEUED || status == ExcelExportStatus.RUNNING;
+    }
+
+    public boolean isExpired(LocalDateTime now, Duration ttl) {
+        return !isActive() && finishedTime.plus(ttl).isBefore(now);
+    }
+
+    public void start() {
+        status = ExcelExportStatus.RUNNING;
+    }
+
+    public void progress(long rows) {
+        rowsProcessed.set(rows);
+    }
+
+    public void complete() {
+        finishedTime = LocalDateTime.now();
+        status = ExcelExportStatus.DONE;
+    }
+
+    public void fail(String message) {
+        errorMessage = message;
+        finishedTime = LocalDateTime.now();
+        status = ExcelExportStatus.FAILED;
+    }
+}
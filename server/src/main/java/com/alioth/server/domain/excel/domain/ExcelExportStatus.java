@@ -0,0 +1,8 @@
+package com.alioth.server.domain.excel.domain;
+
+public enum ExcelExportStatus {
+    QUEUED, // 대기
+    RUNNING, // 생성 중
+    DONE, // 완료
+    FAILED // 실패
+}
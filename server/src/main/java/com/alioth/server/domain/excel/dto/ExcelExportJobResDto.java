@@ -0,0 +1,36 @@
+package com.alioth.server.domain.excel.dto;
+
+import com.alioth.server.domain.excel.domain.ExcelExportJob;
+import com.alioth.server.domain.excel.domain.ExcelExportStatus;
+import com.alioth.server.domain.excel.domain.ExportFormat;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record ExcelExportJobResDto(
+        String jobId,
+        String type,
+        ExportFormat format,
+        ExcelExportStatus status,
+        Long rowsProcessed,
+        String fileName,
+        String errorMessage,
+        LocalDateTime createdTime,
+        LocalDateTime finishedTime
+) {
+
+    public static ExcelExportJobResDto from(ExcelExportJob job) {
+        return ExcelExportJobResDto.builder()
+                .jobId(job.getJobId())
+                .type(job.getType())
+                .format(job.getFormat())
+                .status(job.getStatus())
+                .rowsProcessed(job.getRowsProcessed().get())
+                .fileName(job.getFileName())
+                .errorMessage(job.getErrorMessage())
+                .createdTime(job.getCreatedTime())
+                .finishedTime(job.getFinishedTime())
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.alioth.server.domain.excel.service;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV writer. 줄 끝은 CRLF, 쉼표 / 따옴표 / 줄바꿈이 있는 값만 따옴표로 감싸고 따옴표는 두 번 쓴다.
+ * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 을 앞에 쓴다.
+ * 숫자가 아닌 값이 = + - @ 탭 CR 로 시작하면 엑셀이 수식으로 실행하지 않도록 앞에 ' 를 붙이고 따옴표로 감싼다.
+ */
+public class CsvWriter implements TableWriter {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+    private long rowCount;
+
+    public CsvWriter(OutputStream outputStream, List<String> header) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write('\uFEFF');
+        appendRow(header);
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        appendRow(values);
+        rowCount++;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+
+    private void appendRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value instanceof Number) {
+                // 숫자는 음수(-)여도 숫자로 남긴다
+                appendField(toText(value), false);
+            } else if (value != null) {
+                String text = toText(value);
+                boolean formula = isFormulaLike(text);
+                appendField(formula ? "'" + text : text, formula);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private String toText(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.format(DATE_TIME);
+        }
+        if (value instanceof LocalDate date) {
+            return date.toString();
+        }
+        return value.toString();
+    }
+
+    private static boolean isFormulaLike(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    private void appendField(String text, boolean quote) throws IOException {
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,29 @@
+package com.alioth.server.domain.excel.service;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CreationHelper;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * workbook 하나에서 같이 쓰는 셀 스타일. 셀마다 스타일을 만들면 workbook 의 스타일 수 제한에 걸리므로 한 번만 만든다.
+ */
+public record ExcelCellStyles(
+        CellStyle date,
+        CellStyle dateTime
+) {
+
+    public static final String DATE_FORMAT = "yyyy-mm-dd";
+    public static final String DATE_TIME_FORMAT = "yyyy-mm-dd hh:mm:ss";
+
+    public static ExcelCellStyles of(Workbook workbook) {
+        CreationHelper helper = workbook.getCreationHelper();
+
+        CellStyle date = workbook.createCellStyle();
+        date.setDataFormat(helper.createDataFormat().getFormat(DATE_FORMAT));
+
+        CellStyle dateTime = workbook.createCellStyle();
+        dateTime.setDataFormat(helper.createDataFormat().getFormat(DATE_TIME_FORMAT));
+
+        return new ExcelCellStyles(date, dateTime);
+    }
+}
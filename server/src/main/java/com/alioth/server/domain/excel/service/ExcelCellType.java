@@ -0,0 +1,49 @@
+package com.alioth.server.domain.excel.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 엑셀 셀에 쓰는 값의 종류. 컬럼의 선언 타입으로 한 번 정하고 행마다 다시 판단하지 않는다.
+ */
+public enum ExcelCellType {
+    STRING,
+    NUMBER,
+    DATE,
+    DATE_TIME,
+    BOOLEAN;
+
+    // 엑셀 숫자 셀은 double 이라 유효 숫자 15자리까지만 그대로 보인다
+    private static final int EXCEL_PRECISION = 15;
+
+    public static ExcelCellType of(Class<?> type) {
+        if (Number.class.isAssignableFrom(type) || (type.isPrimitive() && type != boolean.class && type != char.class)) {
+            return NUMBER;
+        }
+        if (LocalDateTime.class.equals(type)) {
+            return DATE_TIME;
+        }
+        if (LocalDate.class.equals(type)) {
+            return DATE;
+        }
+        if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+            return BOOLEAN;
+        }
+        return STRING;
+    }
+
+    /* 엑셀 숫자 셀에 반올림 없이 들어가는 값인지. 넘치는 금액 / 큰 long 은 숫자 셀 대신 문자열 셀로 쓴다 */
+    public static boolean isExactNumber(Number value) {
+        if (value instanceof Double || value instanceof Float) {
+            return Double.isFinite(value.doubleValue());
+        }
+        BigDecimal decimal = value instanceof BigDecimal d ? d : new BigDecimal(value.toString());
+        return decimal.signum() == 0 || decimal.stripTrailingZeros().precision() <= EXCEL_PRECISION;
+    }
+
+    /* 지수 표기 없는 숫자 문자열 (BigDecimal 은 toPlainString) */
+    public static String plainText(Number value) {
+        return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+    }
+}
@@ -0,0 +1,268 @@
+package com.alioth.server.domain.excel.service;
+
+import com.alioth.server.domain.contract.dto.res.ContractExcelResDto;
+import com.alioth.server.domain.dummy.domain.Custom;
+import com.alioth.server.domain.excel.domain.ExcelExportJob;
+import com.alioth.server.domain.excel.domain.ExcelExportStatus;
+import com.alioth.server.domain.excel.domain.ExportFormat;
+import com.alioth.server.domain.excel.dto.ExcelExportJobResDto;
+import com.alioth.server.domain.excel.dto.ExcelReqDto;
+import com.alioth.server.domain.member.domain.SalesMembers;
+import com.alioth.server.domain.member.dto.res.SalesMemberResDto;
+import com.alioth.server.domain.member.service.SalesMemberService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 엑셀 내보내기를 요청 스레드에서 떼어 내 작업으로 돌린다.
+ * 제출하면 jobId 를 바로 돌려주고, 제한된 작업 스레드가 로컬 디스크에 파일을 만든다. 진행 상황은 상태 조회로, 결과는 다운로드로 받는다.
+ * 같은 조건(종류, 형식, 직급, 범위, 코드, 기간)의 작업이 아직 생성 중이면 새로 만들지 않고 그 작업을 같이 쓴다.
+ * 조건에 맞는 행이 없으면 실패가 아니라 헤더만 있는 파일로 끝낸다.
+ * 작업 목록과 파일이 이 서버에만 있으므로 상태 조회 / 다운로드도 제출한 서버로 와야 한다.
+ */
+@Slf4j
+@Service
+public class ExcelExportJobService {
+
+    // 종류별 행 타입 (행이 없을 때 헤더만 쓰는 데 쓴다)
+    private static final Map<String, Class<?>> ROW_TYPES = Map.of(
+            "contract", ContractExcelResDto.class,
+            "customerList", Custom.class,
+            "salesMembers", SalesMemberResDto.class);
+    private static final String PART_SUFFIX = ".part";
+
+    private final ExcelService excelService;
+    private final SalesMemberService salesMemberService;
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Path directory;
+    private final Duration ttl;
+
+    private final Map<String, ExcelExportJob> jobs = new ConcurrentHashMap<>();
+    // 생성 중인 작업 (중복 요청 확인용)
+    private final Map<String, ExcelExportJob> activeJobs = new ConcurrentHashMap<>();
+
+    public ExcelExportJobService(ExcelService excelService,
+                                 SalesMemberService salesMemberService,
+                                 @Qualifier("excelExportTaskExecutor") TaskExecutor taskExecutor,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${excel.export.dir:${java.io.tmpdir}/alioth-export}") String directory,
+                                 @Value("${excel.export.ttl-minutes:60}") long ttlMinutes) throws IOException {
+        this.excelService = excelService;
+        this.salesMemberService = salesMemberService;
+        this.taskExecutor = taskExecutor;
+
+        // 작업 스레드에는 요청 범위의 영속성 컨텍스트가 없으므로 지연 로딩을 위해 트랜잭션 안에서 만든다
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        this.directory = Files.createDirectories(Path.of(directory));
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    public ExcelExportJobResDto submit(SalesMembers salesMember, String type, ExportFormat format, String code, ExcelReqDto dto) {
+        if (!ROW_TYPES.containsKey(type)) {
+            throw new IllegalArgumentException("지원하지 않는 엑셀 종류입니다: " + type);
+        }
+
+        // 작업 등록과 실행 요청을 같은 compute 안에서 한다. 큐가 가득 차 거절된 작업은 여기서 지우므로 다른 요청이 붙을 수 없다
+        Long salesMemberCode = salesMember.getSalesMemberCode();
+        ExcelExportJob job = activeJobs.compute(keyOf(salesMember, type, format, code, dto), (key, running) -> {
+            if (running != null && running.isActive()) {
+                running.addRequester(salesMemberCode);
+                log.info("[ExcelExportJob] {} joined running job {}", salesMemberCode, running.getJobId());
+                return running;
+            }
+
+            ExcelExportJob created = new ExcelExportJob(key, type, format, ExcelOutput.fileName(format), directory);
+            created.addRequester(salesMemberCode);
+            jobs.put(created.getJobId(), created);
+            try {
+                taskExecutor.execute(() -> run(created, salesMemberCode, code, dto));
+            } catch (TaskRejectedException e) {
+                jobs.remove(created.getJobId());
+                created.fail("rejected");
+                return null;
+            }
+            return created;
+        });
+
+        if (job == null) {
+            throw new IllegalStateException("엑셀 내보내기 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return ExcelExportJobResDto.from(job);
+    }
+
+    public ExcelExportJobResDto status(Long salesMemberCode, String jobId) throws AccessDeniedException {
+        return ExcelExportJobResDto.from(findJob(salesMemberCode, jobId));
+    }
+
+    /* 완료된 작업의 파일 */
+    public ExcelExportJob findDoneJob(Long salesMemberCode, String jobId) throws AccessDeniedException {
+        ExcelExportJob job = findJob(salesMemberCode, jobId);
+        if (job.getStatus() != ExcelExportStatus.DONE) {
+            throw new IllegalArgumentException("아직 완료되지 않은 작업입니다. (" + job.getStatus() + ")");
+        }
+        return job;
+    }
+
+    /* 완료 후 TTL 이 지난 작업과 파일을 지운다. 재시작 전에 남은 파일도 수정 시각으로 정리한다 */
+    @Scheduled(fixedDelayString = "${excel.export.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        jobs.values().removeIf(job -> {
+            if (!job.isExpired(now, ttl)) {
+                return false;
+            }
+            activeJobs.remove(job.getKey(), job);
+            deleteQuietly(job.getFile());
+            return true;
+        });
+
+        long expiredBefore = now.minus(ttl).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> !isActiveFile(file) && lastModified(file) < expiredBefore)
+                    .forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("[ExcelExportJob] purge failed: {}", e.getMessage());
+        }
+    }
+
+
+    private void run(ExcelExportJob job, Long salesMemberCode, String code, ExcelReqDto dto) {
+        job.start();
+        Path part = job.getFile().resolveSibling(job.getFile().getFileName() + PART_SUFFIX);
+        ExcelOutput output = new ExcelOutput() {
+            @Override
+            public OutputStream open() throws IOException {
+                return new BufferedOutputStream(Files.newOutputStream(part));
+            }
+
+            @Override
+            public ExportFormat format() {
+                return job.getFormat();
+            }
+
+            @Override
+            public void progress(long rows) {
+                job.progress(rows);
+            }
+        };
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    export(job.getType(), salesMemberService.findBySalesMemberCode(salesMemberCode), code, output, dto);
+                } catch (NoSuchFileException e) {
+                    // 조건에 맞는 행이 없다. 아래에서 헤더만 쓴다
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+            });
+            if (Files.notExists(part)) {
+                writeHeaderOnly(output, job.getType());
+            }
+            // 다 쓴 파일만 다운로드 경로로 옮긴다
+            Files.move(part, job.getFile(), StandardCopyOption.REPLACE_EXISTING);
+            job.complete();
+            log.info("[ExcelExportJob] {} {} done, {} rows", job.getJobId(), job.getType(), job.getRowsProcessed().get());
+        } catch (Exception e) {
+            Throwable cause = e instanceof UncheckedIOException ? e.getCause() : e;
+            log.error("[ExcelExportJob] {} {} failed : {}", job.getJobId(), job.getType(), cause.getMessage());
+            deleteQuietly(part);
+            job.fail(cause.getMessage());
+        } finally {
+            activeJobs.remove(job.getKey(), job);
+        }
+    }
+
+    private void export(String type, SalesMembers salesMember, String code, ExcelOutput output, ExcelReqDto dto)
+            throws IOException, IllegalAccessException {
+        switch (type) {
+            case "contract":
+                excelService.contractExcel(salesMember, code, output, dto);
+                break;
+            case "customerList":
+                excelService.customerListExcel(salesMember, code, output, dto);
+                break;
+            case "salesMembers":
+                excelService.salesMembersExcel(salesMember, code, output);
+                break;
+        }
+    }
+
+    private void writeHeaderOnly(ExcelOutput output, String type) throws IOException {
+        try (TableWriter writer = output.openWriter(ExcelRowWriter.of(ROW_TYPES.get(type)).headers())) {
+            writer.finish();
+        }
+    }
+
+    private ExcelExportJob findJob(Long salesMemberCode, String jobId) throws AccessDeniedException {
+        ExcelExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException("내보내기 작업이 없거나 만료되었습니다.");
+        }
+        if (!job.isRequester(salesMemberCode)) {
+            throw new AccessDeniedException("접근 권한이 없습니다.");
+        }
+        return job;
+    }
+
+    // 결과가 같은 요청인지: HQ 는 직급만, MANAGER 는 팀, FP 는 본인 기준으로 결과가 정해진다
+    private String keyOf(SalesMembers salesMember, String type, ExportFormat format, String code, ExcelReqDto dto) {
+        String scope = switch (salesMember.getRank()) {
+            case HQ -> "";
+            case MANAGER -> salesMember.getTeam() == null ? "" : salesMember.getTeam().getTeamCode();
+            case FP -> String.valueOf(salesMember.getSalesMemberCode());
+        };
+        return String.join("|", type, format.name(), salesMember.getRank().name(), scope,
+                code == null ? "" : code,
+                String.valueOf(dto.startDate()), String.valueOf(dto.endDate()));
+    }
+
+    private boolean isActiveFile(Path file) {
+        return jobs.values().stream().anyMatch(job -> file.getFileName().toString().startsWith(job.getJobId()));
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[ExcelExportJob] {} delete failed: {}", file, e.getMessage());
+        }
+    }
+}
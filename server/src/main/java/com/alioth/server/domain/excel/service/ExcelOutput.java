@@ -0,0 +1,72 @@
+package com.alioth.server.domain.excel.service;
+
+import com.alioth.server.domain.excel.domain.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 엑셀을 쓸 곳. 요청 스레드에서 바로 응답으로 쓰거나(of(response)), 내보내기 작업에서 파일로 쓴다.
+ */
+public interface ExcelOutput {
+
+    String CONTENT_TYPE = ExportFormat.XLSX.getContentType();
+
+    /* 데이터를 다 확인한 뒤 처음 쓰기 직전에 한 번 호출한다 */
+    OutputStream open() throws IOException;
+
+    default ExportFormat format() {
+        return ExportFormat.XLSX;
+    }
+
+    /* 지금까지 쓴 행 수 */
+    default void progress(long rows) {
+    }
+
+    /* 형식에 맞는 writer 를 열고 헤더를 쓴다 */
+    default TableWriter openWriter(List<String> header) throws IOException {
+        OutputStream outputStream = open();
+        return format() == ExportFormat.CSV
+                ? new CsvWriter(outputStream, header)
+                : new StreamingXlsxWriter(outputStream, header);
+    }
+
+    static String fileName() {
+        return fileName(ExportFormat.XLSX);
+    }
+
+    static String fileName(ExportFormat format) {
+        return "alioth_" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmm")) + "." + format.getExtension();
+    }
+
+    static ExcelOutput of(HttpServletResponse response) {
+        return of(response, ExportFormat.XLSX, false);
+    }
+
+    /* gzip 은 CSV 에만 적용한다 (xlsx 는 이미 zip 이다) */
+    static ExcelOutput of(HttpServletResponse response, ExportFormat format, boolean gzip) {
+        boolean compress = gzip && format == ExportFormat.CSV;
+        return new ExcelOutput() {
+            @Override
+            public OutputStream open() throws IOException {
+                response.setContentType(format.getContentType());
+                response.setHeader("Content-Disposition", "attachment;filename=" + fileName(format));
+                if (compress) {
+                    response.setHeader("Content-Encoding", "gzip");
+                    return new GZIPOutputStream(response.getOutputStream(), 64 * 1024);
+                }
+                return response.getOutputStream();
+            }
+
+            @Override
+            public ExportFormat format() {
+                return format;
+            }
+        };
+    }
+}
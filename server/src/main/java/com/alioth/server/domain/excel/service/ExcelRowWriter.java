@@ -0,0 +1,160 @@
+package com.alioth.server.domain.excel.service;
+
+import jakarta.persistence.Column;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * DTO 타입별로 한 번만 만들어 두는 엑셀 행 writer.
+ * 헤더(@Column name, 없으면 필드 이름), 값을 읽는 MethodHandle, 셀 타입을 타입당 한 번 계산해 캐시하므로
+ * 행마다 getDeclaredFields / setAccessible / Field.get 을 반복하지 않는다.
+ * record 는 component accessor 를, 일반 클래스(엔티티)는 getter 를 쓴다. getter 를 쓰면 Hibernate 프록시도 그대로 읽힌다.
+ */
+public final class ExcelRowWriter {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<ExcelRowWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ExcelRowWriter computeValue(Class<?> type) {
+            return new ExcelRowWriter(type);
+        }
+    };
+
+    private final String[] headers;
+    private final MethodHandle[] getters;
+    private final ExcelCellType[] types;
+
+    public static ExcelRowWriter of(Class<?> type) {
+        return WRITERS.get(type);
+    }
+
+    private ExcelRowWriter(Class<?> type) {
+        List<String> headerList = new ArrayList<>();
+        List<MethodHandle> getterList = new ArrayList<>();
+        List<ExcelCellType> typeList = new ArrayList<>();
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    Field field = type.getDeclaredField(component.getName());
+                    headerList.add(headerOf(field));
+                    getterList.add(lookup.unreflect(component.getAccessor()).asType(GETTER_TYPE));
+                    typeList.add(ExcelCellType.of(component.getType()));
+                }
+            } else {
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+                    Method getter = getterOf(type, field);
+                    headerList.add(headerOf(field));
+                    getterList.add((getter != null ? lookup.unreflect(getter) : lookup.unreflectGetter(field)).asType(GETTER_TYPE));
+                    typeList.add(ExcelCellType.of(field.getType()));
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("엑셀 컬럼을 읽을 수 없는 타입입니다: " + type.getName(), e);
+        }
+
+        this.headers = headerList.toArray(String[]::new);
+        this.getters = getterList.toArray(MethodHandle[]::new);
+        this.types = typeList.toArray(ExcelCellType[]::new);
+    }
+
+    public List<String> headers() {
+        return List.of(headers);
+    }
+
+    public int size() {
+        return headers.length;
+    }
+
+    public Object value(Object object, int column) {
+        try {
+            return getters[column].invokeExact(object);
+        } catch (Throwable e) {
+            throw new IllegalStateException("엑셀 값을 읽을 수 없습니다: " + headers[column], e);
+        }
+    }
+
+    public List<Object> values(Object object) {
+        Object[] values = new Object[headers.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = value(object, i);
+        }
+        return Arrays.asList(values);
+    }
+
+    public void writeHeader(Row row) {
+        for (int i = 0; i < headers.length; i++) {
+            row.createCell(i).setCellValue(headers[i]);
+        }
+    }
+
+    public void writeRow(Row row, Object object, ExcelCellStyles styles) {
+        for (int i = 0; i < headers.length; i++) {
+            Object value = value(object, i);
+            Cell cell = row.createCell(i);
+            if (value == null) {
+                continue;
+            }
+            switch (types[i]) {
+                case NUMBER -> {
+                    Number number = (Number) value;
+                    if (ExcelCellType.isExactNumber(number)) {
+                        cell.setCellValue(number.doubleValue());
+                    } else {
+                        cell.setCellValue(ExcelCellType.plainText(number));
+                    }
+                }
+                case DATE -> {
+                    cell.setCellValue((LocalDate) value);
+                    cell.setCellStyle(styles.date());
+                }
+                case DATE_TIME -> {
+                    cell.setCellValue((LocalDateTime) value);
+                    cell.setCellStyle(styles.dateTime());
+                }
+                case BOOLEAN -> cell.setCellValue((Boolean) value);
+                case STRING -> cell.setCellValue(value.toString());
+            }
+        }
+    }
+
+
+    private static String headerOf(Field field) {
+        Column column = field.getAnnotation(Column.class);
+        return column != null && !column.name().isEmpty() ? column.name() : field.getName();
+    }
+
+    private static Method getterOf(Class<?> type, Field field) {
+        String name = field.getName();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String getterName : List.of("get" + suffix, "is" + suffix)) {
+            try {
+                Method method = type.getMethod(getterName);
+                if (method.getReturnType() == field.getType()) {
+                    return method;
+                }
+            } catch (NoSuchMethodException ignored) {
+                // 다음 이름으로
+            }
+        }
+        return null;
+    }
+}
@@ -2,31 +2,28 @@ package com.alioth.server.domain.excel.service;
 
 import com.alioth.server.common.domain.TypeChange;
 import com.alioth.server.domain.contract.dto.res.ContractExcelResDto;
-import com.alioth.server.domain.contract.dto.res.ContractResDto;
 import com.alioth.server.domain.contract.service.ContractService;
 import com.alioth.server.domain.dummy.domain.Custom;
+import com.alioth.server.domain.excel.domain.ExportFormat;
 import com.alioth.server.domain.excel.dto.ExcelReqDto;
 import com.alioth.server.domain.member.domain.SalesMembers;
 import com.alioth.server.domain.member.dto.res.SalesMemberResDto;
 import com.alioth.server.domain.member.service.SalesMemberService;
 import com.alioth.server.domain.team.domain.Team;
 import com.alioth.server.domain.team.service.TeamService;
-import jakarta.persistence.Column;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
+import java.io.OutputStream;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.NoSuchFileException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -37,93 +34,75 @@ public class ExcelService {
     private final TeamService teamService;
     private final ContractService contractService;
     private final TypeChange typeChange;
+    private final ExcelStreamService excelStreamService;
+
+    public <T> Workbook createExcel(List<T> list) {
+        // 엔티티는 프록시일 수 있으므로 실제 클래스 기준으로 writer 를 찾는다
+        ExcelRowWriter rowWriter = ExcelRowWriter.of(Hibernate.getClass(list.get(0)));
 
-    public <T> Workbook createExcel(List<T> list) throws IllegalAccessException {
         Workbook workbook = new SXSSFWorkbook();
+        ExcelCellStyles styles = ExcelCellStyles.of(workbook);
         Sheet sheet = workbook.createSheet();
-        Row headerRow = sheet.createRow(0);
-        int k = 0;
-//        for (Field field : list.getFirst().getClass().getDeclaredFields()) {
-//            Cell cell = headerRow.createCell(k++);
-//            cell.setCellValue(field.getName());
-//        }
-        Class<?> clazz = list.get(0).getClass();
-        for (Field field : clazz.getDeclaredFields()) {
-            Column columnAnnotation = field.getAnnotation(Column.class);
-            String columnName = (columnAnnotation != null) ? columnAnnotation.name() : field.getName();
-            Cell cell = headerRow.createCell(k++);
-            cell.setCellValue(columnName);
-        }
+        rowWriter.writeHeader(sheet.createRow(0));
 
         int i = 1;
-        for (Object object : list) {
-            Row row = sheet.createRow(i++);
-            int j = 0;
-            for (Field field : object.getClass().getDeclaredFields()) {
-                field.setAccessible(true);
-                Cell cell = row.createCell(j++);
-                if (field.get(object) != null) {
-                    cell.setCellValue(field.get(object).toString());
-                } else {
-                    cell.setCellValue("");
-                }
-            }
+        for (T object : list) {
+            rowWriter.writeRow(sheet.createRow(i++), object, styles);
         }
         return workbook;
     }
 
-    public void contractExcel(SalesMembers salesMember, String code, HttpServletResponse response, ExcelReqDto dto
+    public void contractExcel(SalesMembers salesMember, String code, ExcelOutput output, ExcelReqDto dto
     ) throws IOException, IllegalAccessException {
         switch (salesMember.getRank()) {
             case HQ:
-                contractExcelHq(code, response, dto);
+                contractExcelHq(code, output, dto);
                 break;
             case MANAGER:
-                contractExcelManager(salesMember, code, response, dto);
+                contractExcelManager(salesMember, code, output, dto);
                 break;
             case FP:
-                exportExcel(response, contractList(salesMember.getSalesMemberCode().toString(), dto));
+                exportExcel(output, contractList(salesMember.getSalesMemberCode().toString(), dto));
                 break;
         }
     }
 
     // 계약 HQ 경우 code = null, 팀 코드 , 사원 코드
-    private void contractExcelHq(String code, HttpServletResponse response, ExcelReqDto dto
+    private void contractExcelHq(String code, ExcelOutput output, ExcelReqDto dto
     ) throws IOException, IllegalAccessException {
         if (code == null || code.isEmpty()) {
-            exportExcel(response, contractService.findAllContractsByPeriod(dto)
-                    .stream().map(typeChange::ContractResDtoTOcontractExcelResDto).toList()
-            );
+            // 전체 계약은 건수가 많아 목록으로 모으지 않고 커서에서 바로 내려보낸다
+            excelStreamService.exportContracts(output, dto);
         } else {
             if (Character.isLetter(code.charAt(0))) {
                 if (code.equals("NoTeam")) {
-                    exportExcel(response, contracNoTeamtList(dto));
+                    exportExcel(output, contracNoTeamtList(dto));
                 } else {
                     if (teamService.findByTeamCode(code).getDelYN().equals("N")) {
-                        exportExcel(response, contractTeamList(code, dto));
+                        excelStreamService.exportTeamContracts(output, code, dto);
 
                     } else {
                         throw new EntityNotFoundException("잘못된 팀이거나 삭제된 팀입니다.");
                     }
                 }
             } else {
-                exportExcel(response, contractList(code, dto));
+                exportExcel(output, contractList(code, dto));
             }
         }
     }
 
     // 계약 Manager 로그인한 사용자가 팀이있는경우, code = null, 사원 코드
-    private void contractExcelManager(SalesMembers salesMember, String code, HttpServletResponse response, ExcelReqDto dto
+    private void contractExcelManager(SalesMembers salesMember, String code, ExcelOutput output, ExcelReqDto dto
     ) throws IOException, IllegalAccessException {
         teamExist(salesMember);
         if (code == null || code.isEmpty()) {
-            exportExcel(response, contractTeamList(salesMember.getTeam().getTeamCode(), dto));
+            excelStreamService.exportTeamContracts(output, salesMember.getTeam().getTeamCode(), dto);
 
         } else if (code.matches("\\d+")) {
             if (salesMemberService.findBySalesMemberCode(Long.parseLong(code)).getTeam().getId()
                     .equals(salesMember.getTeam().getId())
             ) {
-                exportExcel(response, contractList(code, dto));
+                exportExcel(output, contractList(code, dto));
             }
         }
     }
@@ -139,58 +118,49 @@ public class ExcelService {
                 .stream().map(typeChange::ContractResDtoTOcontractExcelResDto).toList();
     }
 
-    public List<ContractExcelResDto> contractTeamList(String code, ExcelReqDto dto) {
-        List<ContractResDto> teamContracts = new ArrayList<>();
-        List<SalesMembers> teamMembers = teamService.findByTeamCode(code).getTeamMembers();
-        for (SalesMembers member : teamMembers) {
-            teamContracts.addAll(contractService.allContractsByMemberAndPeriod(member.getId(), dto));
-        }
-        return teamContracts.stream().map(typeChange::ContractResDtoTOcontractExcelResDto).toList();
-    }
-
-    public void customerListExcel(SalesMembers salesMember, String code, HttpServletResponse response, ExcelReqDto dto
+    public void customerListExcel(SalesMembers salesMember, String code, ExcelOutput output, ExcelReqDto dto
     ) throws IOException, IllegalAccessException {
         switch (salesMember.getRank()) {
             case HQ:
-                customerListExcelHq(code, response, dto);
+                customerListExcelHq(code, output, dto);
                 break;
             case MANAGER:
-                customerListExcelManager(salesMember, code, response, dto);
+                customerListExcelManager(salesMember, code, output, dto);
                 break;
             case FP:
-                exportExcel(response, customList(salesMember.getSalesMemberCode().toString(), dto));
+                exportExcel(output, customList(salesMember.getSalesMemberCode().toString(), dto));
                 break;
         }
     }
 
     // 고객 HQ 일 경우 code = null, 팀 코드, 사원 코드
-    private void customerListExcelHq(String code, HttpServletResponse response, ExcelReqDto dto
+    private void customerListExcelHq(String code, ExcelOutput output, ExcelReqDto dto
     ) throws IOException, IllegalAccessException {
         if (code == null || code.isEmpty()) {
-            List<Custom> allCustomers = contractService.customTotalList(dto);
-            exportExcel(response, allCustomers);
+            // 전체 고객은 계약 수만큼이라 목록으로 모으지 않고 커서에서 바로 내려보낸다
+            excelStreamService.exportCustoms(output, dto);
         } else {
             if (Character.isLetter(code.charAt(0))) {
                 if (teamService.findByTeamCode(code).getDelYN().equals("N")) {
-                    exportExcel(response, customTeamList(code, dto));
+                    exportExcel(output, customTeamList(code, dto));
                 }
             } else {
-                exportExcel(response, customList(code, dto));
+                exportExcel(output, customList(code, dto));
 
             }
         }
     }
 
     // 고객 Manager 일 경우 code = null, 사원코드
-    private void customerListExcelManager(SalesMembers salesMember, String code, HttpServletResponse response, ExcelReqDto dto
+    private void customerListExcelManager(SalesMembers salesMember, String code, ExcelOutput output, ExcelReqDto dto
     ) throws IOException, IllegalAccessException {
         teamExist(salesMember);
         if (code == null || code.isEmpty()) {
-            exportExcel(response, customTeamList(salesMember.getTeam().getTeamCode(), dto));
+            exportExcel(output, customTeamList(salesMember.getTeam().getTeamCode(), dto));
         } else if (code.matches("\\d+")) {
             if (salesMemberService.findBySalesMemberCode(Long.parseLong(code)).getTeam().getId()
                     .equals(salesMember.getTeam().getId())) {
-                exportExcel(response, customList(code, dto));
+                exportExcel(output, customList(code, dto));
             }
         }
     }
@@ -202,22 +172,19 @@ public class ExcelService {
         );
     }
 
+    // 팀원마다 조회하지 않고 팀 계약의 고객을 한 번에 가져온다
     public List<Custom> customTeamList(String code, ExcelReqDto dto) {
-        List<Custom> customers = new ArrayList<>();
-        for (SalesMembers member : teamService.findByTeamCode(code).getTeamMembers()) {
-            customers.addAll(contractService.customListByMemberId(member.getId(), dto));
-        }
-        return customers;
+        return contractService.customTeamList(code, dto);
     }
 
-    public void salesMembersExcel(SalesMembers salesMember, String code, HttpServletResponse response
+    public void salesMembersExcel(SalesMembers salesMember, String code, ExcelOutput output
     ) throws IOException, IllegalAccessException {
         switch (salesMember.getRank()) {
             case HQ:
-                salesMembersExcelHq(code, response);
+                salesMembersExcelHq(code, output);
                 break;
             case MANAGER:
-                salesMembersExcelManager(salesMember, response);
+                salesMembersExcelManager(salesMember, output);
                 break;
             case FP:
                 throw new AccessDeniedException("접근 권한이 없습니다.");
@@ -225,20 +192,20 @@ public class ExcelService {
     }
 
     // 사원 HQ 일 경우  code = null , 팀 코드
-    private void salesMembersExcelHq(String code, HttpServletResponse response
+    private void salesMembersExcelHq(String code, ExcelOutput output
     ) throws IOException, IllegalAccessException {
         if (code == null || code.isEmpty()) {
             List<SalesMemberResDto> list = salesMemberService.findAll();
-            exportExcel(response, list);
+            exportExcel(output, list);
         } else if (Character.isLetter(code.charAt(0))) {
             if (code.equals("NoTeam")) {
                 List<SalesMemberResDto> memberList = salesMemberService.getAllMembersByTeam(null).stream().map(typeChange::smToSmResDto).toList();
-                exportExcel(response, memberList);
+                exportExcel(output, memberList);
             } else {
                 Team team = teamService.findByTeamCode(code);
                 if (team.getDelYN().equals("N")) {
                     List<SalesMemberResDto> memberList = teamService.findAllByTeamCode(code);
-                    exportExcel(response, memberList);
+                    exportExcel(output, memberList);
                 } else {
                     throw new EntityNotFoundException("해체된 팀입니다.");
                 }
@@ -249,24 +216,27 @@ public class ExcelService {
     }
 
     // 사원 Manager 일 경우
-    private void salesMembersExcelManager(SalesMembers salesMember, HttpServletResponse response
+    private void salesMembersExcelManager(SalesMembers salesMember, ExcelOutput output
     ) throws IOException, IllegalAccessException {
         teamExist(salesMember);
-        exportExcel(response, teamService.findAllByTeamCode(salesMember.getTeam().getTeamCode()));
+        exportExcel(output, teamService.findAllByTeamCode(salesMember.getTeam().getTeamCode()));
     }
 
-    public <T> void exportExcel(HttpServletResponse response, List<T> list) throws IOException, IllegalAccessException {
+    public <T> void exportExcel(ExcelOutput output, List<T> list) throws IOException, IllegalAccessException {
         if (list.isEmpty()) {
             throw new NoSuchFileException("No data");
         }
-        LocalDateTime now = LocalDateTime.now();
-        String dateFormat = now.format(DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
+        if (output.format() == ExportFormat.CSV) {
+            excelStreamService.exportRows(output, list);
+            return;
+        }
         Workbook workbook = this.createExcel(list);
-        String fileName = "alioth_" + dateFormat + ".xlsx";
-        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-        response.setHeader("Content-Disposition", "attachment;filename=" + fileName);
-        workbook.write(response.getOutputStream());
-        workbook.close();
+        output.progress(list.size());
+        try (OutputStream outputStream = output.open()) {
+            workbook.write(outputStream);
+        } finally {
+            workbook.close();
+        }
     }
 
     public void teamExist(SalesMembers salesMember) throws AccessDeniedException {
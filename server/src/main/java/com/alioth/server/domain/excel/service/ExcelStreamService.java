@@ -0,0 +1,98 @@
+package com.alioth.server.domain.excel.service;
+
+import com.alioth.server.common.domain.TypeChange;
+import com.alioth.server.domain.contract.domain.Contract;
+import com.alioth.server.domain.contract.dto.res.ContractExcelResDto;
+import com.alioth.server.domain.contract.repository.ContractRepository;
+import com.alioth.server.domain.dummy.domain.Custom;
+import com.alioth.server.domain.excel.dto.ExcelReqDto;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 계약 / 고객 엑셀(csv)을 DB 커서에서 읽는 대로 응답에 써 내려간다.
+ * 목록을 다 모은 뒤 workbook 을 만드는 ExcelService.exportExcel 과 달리, 메모리에는 fetch size 만큼의 행과 쓰기 버퍼만 남는다.
+ * 컬럼 / 헤더 / 값은 기존 엑셀(ContractExcelResDto, Custom)과 같다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExcelStreamService {
+
+    // 이 행 수마다 영속성 컨텍스트를 비우고 지금까지 쓴 내용을 내보낸다
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final ExcelRowWriter CONTRACT_ROW = ExcelRowWriter.of(ContractExcelResDto.class);
+    private static final ExcelRowWriter CUSTOM_ROW = ExcelRowWriter.of(Custom.class);
+
+    private final ContractRepository contractRepository;
+    private final TypeChange typeChange;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public void exportContracts(ExcelOutput output, ExcelReqDto dto) throws IOException {
+        try (Stream<Contract> contracts = contractRepository.streamAllByPeriod(dto.startDate(), dto.endDate())) {
+            write(output, contracts.map(typeChange::ContractToContractExcelResDto).iterator(), CONTRACT_ROW, true);
+        }
+    }
+
+    /* 팀 계약. 팀원 수와 상관없이 한 번의 조회로 읽는다 */
+    @Transactional(readOnly = true)
+    public void exportTeamContracts(ExcelOutput output, String teamCode, ExcelReqDto dto) throws IOException {
+        try (Stream<Contract> contracts = contractRepository.streamAllByTeamCodeAndPeriod(teamCode, dto.startDate(), dto.endDate())) {
+            write(output, contracts.map(typeChange::ContractToContractExcelResDto).iterator(), CONTRACT_ROW, true);
+        }
+    }
+
+    /* 전체 고객. 기존 목록과 같이 계약 한 건당 한 줄이다 */
+    @Transactional(readOnly = true)
+    public void exportCustoms(ExcelOutput output, ExcelReqDto dto) throws IOException {
+        try (Stream<Contract> contracts = contractRepository.streamAllByPeriod(dto.startDate(), dto.endDate())) {
+            write(output, contracts.map(Contract::getCustom).filter(Objects::nonNull).iterator(), CUSTOM_ROW, true);
+        }
+    }
+
+    /* 이미 읽어 온 목록을 workbook 없이 바로 쓴다 (csv) */
+    public void exportRows(ExcelOutput output, List<?> rows) throws IOException {
+        if (rows.isEmpty()) {
+            throw new NoSuchFileException("No data");
+        }
+        write(output, rows.iterator(), ExcelRowWriter.of(Hibernate.getClass(rows.get(0))), false);
+    }
+
+
+    private void write(ExcelOutput output, Iterator<?> iterator, ExcelRowWriter rowWriter, boolean clear) throws IOException {
+        // 응답을 쓰기 시작하면 에러 응답으로 바꿀 수 없으므로 빈 결과는 먼저 확인한다
+        if (!iterator.hasNext()) {
+            throw new NoSuchFileException("No data");
+        }
+
+        try (TableWriter writer = output.openWriter(rowWriter.headers())) {
+            while (iterator.hasNext()) {
+                writer.writeRow(rowWriter.values(iterator.next()));
+
+                if (writer.getRowCount() % FLUSH_INTERVAL == 0) {
+                    if (clear) {
+                        entityManager.clear();
+                    }
+                    writer.flush();
+                    output.progress(writer.getRowCount());
+                }
+            }
+            writer.finish();
+            output.progress(writer.getRowCount());
+            log.info("[ExcelStreamService] {} {} rows exported", writer.getRowCount(), output.format());
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.alioth.server.domain.excel.service;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 행을 받는 대로 xlsx(zip) 로 바로 써 내려가는 writer.
+ * SXSSFWorkbook 은 행을 임시 파일에 모았다가 write() 에서 한 번에 압축하므로 마지막 행을 쓰기 전에는 응답이 나가지 않는다.
+ * 여기서는 sheet XML 을 zip entry 에 바로 쓰기 때문에 첫 행부터 응답으로 흘러가고, 메모리에는 버퍼만 남는다.
+ * 숫자는 숫자 셀, 날짜는 날짜 서식 셀(ExcelCellStyles 와 같은 서식), 나머지는 inline 문자열로 쓴다.
+ * 숫자 셀(double)에 담으면 반올림되는 자릿수의 숫자는 값이 바뀌지 않도록 문자열로 쓴다.
+ * 시트 하나의 최대 행 수를 넘으면 헤더를 다시 쓰고 다음 시트로 넘어간다.
+ */
+public class StreamingXlsxWriter implements TableWriter {
+
+    public static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+    private static final String SHEET_START = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+            "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>";
+    private static final String SHEET_END = "</sheetData></worksheet>";
+
+    // cellXfs 순서: 0 기본, 1 날짜, 2 날짜 시간
+    private static final String DATE_STYLE = "1";
+    private static final String DATE_TIME_STYLE = "2";
+    private static final String STYLES = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+            "<styleSheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">" +
+            "<numFmts count=\"2\">" +
+            "<numFmt numFmtId=\"164\" formatCode=\"" + ExcelCellStyles.DATE_FORMAT + "\"/>" +
+            "<numFmt numFmtId=\"165\" formatCode=\"" + ExcelCellStyles.DATE_TIME_FORMAT + "\"/>" +
+            "</numFmts>" +
+            "<fonts count=\"1\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>" +
+            "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill><fill><patternFill patternType=\"gray125\"/></fill></fills>" +
+            "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>" +
+            "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>" +
+            "<cellXfs count=\"3\">" +
+            "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>" +
+            "<xf numFmtId=\"164\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>" +
+            "<xf numFmtId=\"165\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>" +
+            "</cellXfs>" +
+            "<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>" +
+            "</styleSheet>";
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final List<String> header;
+    private int sheetCount;
+    private int sheetRows;
+    private long rowCount;
+    private boolean finished;
+
+    public StreamingXlsxWriter(OutputStream outputStream, List<String> header) {
+        this.zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 64 * 1024);
+        this.header = header;
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        if (sheetCount == 0 || sheetRows == MAX_ROWS_PER_SHEET) {
+            nextSheet();
+        }
+        appendRow(values);
+        rowCount++;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+        zip.flush();
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /* 마지막 시트를 닫고 workbook 정보를 쓴다 */
+    @Override
+    public void finish() throws IOException {
+        if (sheetCount == 0) {
+            nextSheet();
+        }
+        endSheet();
+
+        putEntry("[Content_Types].xml", contentTypes());
+        putEntry("_rels/.rels", "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+                "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+                "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" Target=\"xl/workbook.xml\"/>" +
+                "</Relationships>");
+        putEntry("xl/workbook.xml", workbook());
+        putEntry("xl/_rels/workbook.xml.rels", workbookRels());
+        putEntry("xl/styles.xml", STYLES);
+
+        writer.flush();
+        zip.finish();
+        finished = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        zip.close();
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+
+    private void nextSheet() throws IOException {
+        if (sheetCount > 0) {
+            endSheet();
+        }
+        sheetCount++;
+        sheetRows = 0;
+
+        writer.flush();
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheetCount + ".xml"));
+        writer.write(SHEET_START);
+        appendRow(header);
+    }
+
+    private void endSheet() throws IOException {
+        writer.write(SHEET_END);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private void appendRow(List<?> values) throws IOException {
+        writer.write("<row>");
+        for (Object value : values) {
+            appendCell(value);
+        }
+        writer.write("</row>");
+        sheetRows++;
+    }
+
+    private void appendCell(Object value) throws IOException {
+        if (value == null) {
+            writer.write("<c/>");
+        } else if (value instanceof Number number) {
+            if (ExcelCellType.isExactNumber(number)) {
+                numberCell(null, ExcelCellType.plainText(number));
+            } else {
+                inlineString(ExcelCellType.plainText(number));
+            }
+        } else if (value instanceof LocalDateTime dateTime) {
+            numberCell(DATE_TIME_STYLE, Double.toString(DateUtil.getExcelDate(dateTime)));
+        } else if (value instanceof LocalDate date) {
+            numberCell(DATE_STYLE, Double.toString(DateUtil.getExcelDate(date.atStartOfDay())));
+        } else if (value instanceof Boolean bool) {
+            writer.write("<c t=\"b\"><v>" + (bool ? "1" : "0") + "</v></c>");
+        } else {
+            inlineString(value.toString());
+        }
+    }
+
+    private void inlineString(String value) throws IOException {
+        writer.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+        escape(value);
+        writer.write("</t></is></c>");
+    }
+
+    private void numberCell(String style, String number) throws IOException {
+        writer.write(style == null ? "<c><v>" : "<c s=\"" + style + "\"><v>");
+        writer.write(number);
+        writer.write("</v></c>");
+    }
+
+    private void escape(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> writer.write("&amp;");
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '"' -> writer.write("&quot;");
+                default -> {
+                    // XML 에 쓸 수 없는 제어 문자는 버린다
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private void putEntry(String name, String content) throws IOException {
+        writer.flush();
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private String contentTypes() {
+        StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+                "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">" +
+                "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>" +
+                "<Default Extension=\"xml\" ContentType=\"application/xml\"/>" +
+                "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>" +
+                "<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+        for (int i = 1; i <= sheetCount; i++) {
+            sb.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        return sb.append("</Types>").toString();
+    }
+
+    private String workbook() {
+        StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+                "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" " +
+                "xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\"><sheets>");
+        for (int i = 1; i <= sheetCount; i++) {
+            sb.append("<sheet name=\"Sheet").append(i - 1).append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+        }
+        return sb.append("</sheets></workbook>").toString();
+    }
+
+    private String workbookRels() {
+        StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+                "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">");
+        for (int i = 1; i <= sheetCount; i++) {
+            sb.append("<Relationship Id=\"rId").append(i)
+                    .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet")
+                    .append(i).append(".xml\"/>");
+        }
+        sb.append("<Relationship Id=\"rId").append(sheetCount + 1)
+                .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles\" Target=\"styles.xml\"/>");
+        return sb.append("</Relationships>").toString();
+    }
+}
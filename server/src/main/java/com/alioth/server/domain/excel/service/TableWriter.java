@@ -0,0 +1,21 @@
+package com.alioth.server.domain.excel.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 헤더 한 줄과 행들을 앞에서부터 바로 써 내려가는 writer (xlsx, csv).
+ * finish() 를 호출하지 않고 close 하면 (중간에 실패한 경우) 끝이 잘린 결과가 된다.
+ */
+public interface TableWriter extends Closeable {
+
+    void writeRow(List<?> values) throws IOException;
+
+    /* 지금까지 쓴 행을 내보낸다 */
+    void flush() throws IOException;
+
+    void finish() throws IOException;
+
+    long getRowCount();
+}
@@ -43,7 +43,7 @@ public class LoginServiceImpl implements LoginService {
 
 
         if (dto.fcmToken() != null && !dto.fcmToken().isEmpty()) {
-            redisService.setValues(findMember.getSalesMemberCode() + ":FcmToken", dto.fcmToken());
+            redisService.saveFcmToken(findMember.getSalesMemberCode(), dto.fcmToken());
         }
 
         LoginResDto resDto = typeChange.memberToLoginResDto(findMember, accessToken, refreshToken);
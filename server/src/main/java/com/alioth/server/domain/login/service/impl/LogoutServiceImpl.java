@@ -14,6 +14,6 @@ public class LogoutServiceImpl implements LogoutService {
     @Override
     public void logout(Long memberCode) {
         redisService.deleteValues(memberCode + ":RefreshToken");
-        redisService.deleteValues(memberCode + ":FCMToken");
+        redisService.deleteFcmToken(memberCode);
     }
 }
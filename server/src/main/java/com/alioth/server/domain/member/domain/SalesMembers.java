@@ -76,7 +76,7 @@ public class SalesMembers extends BaseEntity {
     @Column(nullable = false)
     private String performanceReview = "C";
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     private Team team;
 
 
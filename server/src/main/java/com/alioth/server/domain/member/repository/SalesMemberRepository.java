@@ -3,6 +3,7 @@ package com.alioth.server.domain.member.repository;
 import com.alioth.server.domain.member.domain.SalesMemberType;
 import com.alioth.server.domain.member.domain.SalesMembers;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,6 +22,8 @@ public interface SalesMemberRepository extends JpaRepository<SalesMembers, Long>
 
     List<SalesMembers> findAllByTeamId(Long teamId);
 
+    // 로그인 사원 조회 - 팀 권한 확인에 바로 쓰이므로 team 을 같이 가져온다
+    @EntityGraph(attributePaths = "team")
     Optional<SalesMembers> findBySalesMemberCode(Long salesMemberCode);
 
     boolean existsBySalesMemberCode(Long salesMemberCode);
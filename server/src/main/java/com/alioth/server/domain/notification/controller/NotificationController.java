@@ -2,15 +2,19 @@ package com.alioth.server.domain.notification.controller;
 
 import com.alioth.server.common.response.CommonResponse;
 import com.alioth.server.domain.notification.domain.Notification;
+import com.alioth.server.domain.notification.dto.req.NotificationReadReqDto;
+import com.alioth.server.domain.notification.service.NotificationEventPublisher;
 import com.alioth.server.domain.notification.service.NotificationService;
+import com.alioth.server.domain.notification.service.NotificationSseService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -20,10 +24,36 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationSseService notificationSseService;
+    private final NotificationEventPublisher notificationEventPublisher;
 
     @GetMapping("/{salesMemberId}")
     public ResponseEntity<CommonResponse> getNotifications(@PathVariable Long salesMemberId) {
         List<Notification> notifications = notificationService.getNotificationsForSalesMember(salesMemberId);
         return CommonResponse.responseMessage(HttpStatus.OK, "알림 리스트 조회 성공", notifications);
     }
+
+    /*
+     * 로그인한 사원의 알림 스트림 (SSE).
+     * 연결이 오래 유지되므로 여기서는 DB 를 쓰지 않는다 (open-in-view 로 커넥션을 연결 내내 잡지 않게).
+     * 미확인 수가 Redis 에 없으면 첫 이벤트의 unreadCount 가 null 이고, 그때는 /unread-count 로 조회한다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal UserDetails userDetails) {
+        Long salesMemberCode = Long.parseLong(userDetails.getUsername());
+        return notificationSseService.connect(salesMemberCode, notificationEventPublisher.getUnreadCount(salesMemberCode));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<CommonResponse> unreadCount(@AuthenticationPrincipal UserDetails userDetails) {
+        return CommonResponse.responseMessage(HttpStatus.OK, "미확인 알림 수 조회 성공",
+                notificationService.unreadCount(Long.parseLong(userDetails.getUsername())));
+    }
+
+    @PatchMapping("/read")
+    public ResponseEntity<CommonResponse> markAsRead(@AuthenticationPrincipal UserDetails userDetails,
+                                                     @RequestBody(required = false) NotificationReadReqDto dto) {
+        return CommonResponse.responseMessage(HttpStatus.OK, "알림 읽음 처리 성공",
+                notificationService.markAsRead(Long.parseLong(userDetails.getUsername()), dto));
+    }
 }
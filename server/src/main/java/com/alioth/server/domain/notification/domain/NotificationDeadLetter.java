@@ -0,0 +1,40 @@
+package com.alioth.server.domain.notification.domain;
+
+import com.alioth.server.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 재시도 끝에 FCM 발송에 실패했거나 발송 큐가 가득 차서 보내지 못한 알림 */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDeadLetter extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String messageId;
+
+    @Column(nullable = false)
+    private Long salesMemberCode;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    private String url;
+
+    private int attempts;
+
+    @Column(length = 1000)
+    private String errorMessage;
+}
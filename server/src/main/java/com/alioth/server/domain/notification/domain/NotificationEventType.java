@@ -0,0 +1,6 @@
+package com.alioth.server.domain.notification.domain;
+
+public enum NotificationEventType {
+    NOTIFICATION,   // 새 알림
+    UNREAD          // 미확인 수만 바뀜 (읽음 처리, 접속 직후)
+}
@@ -0,0 +1,18 @@
+package com.alioth.server.domain.notification.dto.req;
+
+import lombok.Builder;
+
+/**
+ * 저장된 알림 한 건을 발송 워커로 넘길 때 쓰는 값.
+ * 워커 스레드에는 영속성 컨텍스트가 없으므로 엔티티 대신 필요한 값만 들고 간다.
+ */
+@Builder
+public record NotificationDispatchDto(
+    String messageId,
+    Long salesMemberId,
+    Long salesMemberCode,
+    String title,
+    String message,
+    String url
+) {
+}
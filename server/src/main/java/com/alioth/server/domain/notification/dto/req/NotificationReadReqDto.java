@@ -0,0 +1,12 @@
+package com.alioth.server.domain.notification.dto.req;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/* 읽음 처리할 알림 id. 비어 있으면 미확인 알림 전부 */
+@Builder
+public record NotificationReadReqDto(
+    List<Long> notificationIds
+) {
+}
@@ -0,0 +1,20 @@
+package com.alioth.server.domain.notification.dto.res;
+
+import com.alioth.server.domain.notification.domain.NotificationEventType;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/* Redis 채널과 SSE 로 보내는 알림 이벤트. unreadCount 가 null 이면 클라이언트가 미확인 수를 다시 조회한다 */
+@Builder
+public record NotificationEventDto(
+    NotificationEventType type,
+    Long salesMemberCode,
+    String messageId,
+    String title,
+    String message,
+    String url,
+    Long unreadCount,
+    LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,42 @@
+package com.alioth.server.domain.notification.repository;
+
+import com.alioth.server.domain.notification.domain.ReadStatus;
+import com.alioth.server.domain.notification.dto.req.NotificationDispatchDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림을 한 번의 배치 INSERT 로 저장한다.
+ * Notification 은 IDENTITY 키라 Hibernate 가 INSERT 를 배치로 묶지 못하므로 JDBC 배치로 직접 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notification " +
+            "(sm_id, title, message, read_status, message_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<NotificationDispatchDto> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, notifications.size(), (ps, notification) -> {
+            ps.setLong(1, notification.salesMemberId());
+            ps.setString(2, notification.title());
+            ps.setString(3, notification.message());
+            ps.setString(4, ReadStatus.Unread.name());
+            ps.setString(5, notification.messageId());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+}
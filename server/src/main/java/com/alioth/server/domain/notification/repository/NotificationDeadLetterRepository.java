@@ -0,0 +1,9 @@
+package com.alioth.server.domain.notification.repository;
+
+import com.alioth.server.domain.notification.domain.NotificationDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationDeadLetterRepository extends JpaRepository<NotificationDeadLetter, Long> {
+}
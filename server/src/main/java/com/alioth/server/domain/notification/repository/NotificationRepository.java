@@ -4,8 +4,13 @@ import com.alioth.server.domain.notification.domain.Notification;
 import com.alioth.server.domain.notification.domain.ReadStatus;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +18,24 @@ import java.util.Optional;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findAllBySalesMemberIdAndReadStatus(Long salesMemberId, ReadStatus readStatus);
     boolean existsByMessageId(String messageId);
-}
\ No newline at end of file
+
+    long countBySalesMemberSalesMemberCodeAndReadStatus(Long salesMemberCode, ReadStatus readStatus);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.readStatus = :read, n.updatedAt = :now " +
+            "WHERE n.salesMember.salesMemberCode = :salesMemberCode AND n.readStatus = :unread")
+    int updateAllReadStatus(@Param("salesMemberCode") Long salesMemberCode,
+                            @Param("unread") ReadStatus unread,
+                            @Param("read") ReadStatus read,
+                            @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.readStatus = :read, n.updatedAt = :now " +
+            "WHERE n.salesMember.salesMemberCode = :salesMemberCode AND n.readStatus = :unread " +
+            "AND n.notification_id IN :notificationIds")
+    int updateReadStatus(@Param("salesMemberCode") Long salesMemberCode,
+                         @Param("notificationIds") Collection<Long> notificationIds,
+                         @Param("unread") ReadStatus unread,
+                         @Param("read") ReadStatus read,
+                         @Param("now") LocalDateTime now);
+}
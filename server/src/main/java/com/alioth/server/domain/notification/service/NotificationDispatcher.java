@@ -0,0 +1,216 @@
+package com.alioth.server.domain.notification.service;
+
+import com.alioth.server.common.firebase.domain.FcmSendDto;
+import com.alioth.server.common.firebase.service.FcmService;
+import com.alioth.server.common.redis.RedisService;
+import com.alioth.server.domain.member.domain.SalesMembers;
+import com.alioth.server.domain.notification.domain.NotificationDeadLetter;
+import com.alioth.server.domain.notification.dto.req.NotificationDispatchDto;
+import com.alioth.server.domain.notification.repository.NotificationBatchRepository;
+import com.alioth.server.domain.notification.repository.NotificationDeadLetterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 알림 저장과 FCM 발송을 나눈다.
+ * 알림은 호출한 트랜잭션 안에서 한 번의 배치 INSERT 로 저장하고, 커밋되면 저장한 알림만큼 미확인 수를 올리고
+ * Redis 채널로 이벤트를 발행해 (SSE) 접속 중인 화면에 알린다. 이건 FCM 큐와 관계없이 항상 한다.
+ * FCM 발송은 제한된 큐에 넣어 작업 스레드가 한다. 받는 사람들의 FCM 토큰을 Redis 에서 한 번에 읽고,
+ * 일시적인 실패(5xx, 429, 연결 오류)만 간격을 늘려 가며 다시 보낸다.
+ * 끝내 보내지 못했거나 큐가 가득 차서 넣지 못한 알림은 notification_dead_letter 에 남긴다.
+ * 발송 실패는 알림 저장이나 호출한 요청의 결과에 영향을 주지 않는다.
+ */
+@Slf4j
+@Service
+public class NotificationDispatcher {
+
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationDeadLetterRepository notificationDeadLetterRepository;
+    private final NotificationEventPublisher notificationEventPublisher;
+    private final RedisService redisService;
+    private final FcmService fcmService;
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate deadLetterTransaction;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+
+    public NotificationDispatcher(NotificationBatchRepository notificationBatchRepository,
+                                  NotificationDeadLetterRepository notificationDeadLetterRepository,
+                                  NotificationEventPublisher notificationEventPublisher,
+                                  RedisService redisService,
+                                  FcmService fcmService,
+                                  @Qualifier("notificationTaskExecutor") TaskExecutor taskExecutor,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${notification.dispatch.max-attempts:3}") int maxAttempts,
+                                  @Value("${notification.dispatch.initial-backoff-ms:500}") long initialBackoffMs) {
+        this.notificationBatchRepository = notificationBatchRepository;
+        this.notificationDeadLetterRepository = notificationDeadLetterRepository;
+        this.notificationEventPublisher = notificationEventPublisher;
+        this.redisService = redisService;
+        this.fcmService = fcmService;
+        this.taskExecutor = taskExecutor;
+
+        // afterCommit 이나 작업 스레드에서 부르므로 항상 새 트랜잭션으로 저장한다
+        this.deadLetterTransaction = new TransactionTemplate(transactionManager);
+        this.deadLetterTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+    }
+
+    /* 받는 사람마다 알림을 저장하고, 커밋된 뒤 발송한다. messageId 는 호출마다 새로 만든 이벤트 id + 받는 사람으로, FCM / SSE / dead letter 에서 같은 알림을 찾는 데 쓴다 */
+    public void notify(List<SalesMembers> recipients, String title, String message, String url) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        String eventId = UUID.randomUUID().toString();
+        List<NotificationDispatchDto> notifications = recipients.stream()
+                .map(recipient -> NotificationDispatchDto.builder()
+                        .messageId(eventId + ":" + recipient.getSalesMemberCode())
+                        .salesMemberId(recipient.getId())
+                        .salesMemberCode(recipient.getSalesMemberCode())
+                        .title(title)
+                        .message(message)
+                        .url(url)
+                        .build())
+                .toList();
+
+        notificationBatchRepository.saveAll(notifications);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(notifications);
+                }
+            });
+        } else {
+            dispatch(notifications);
+        }
+    }
+
+    private void dispatch(List<NotificationDispatchDto> notifications) {
+        publish(notifications);
+        enqueue(notifications);
+    }
+
+    // 접속 중인 화면에는 SSE 로 먼저 알린다. 실패해도 FCM 발송은 계속한다
+    private void publish(List<NotificationDispatchDto> notifications) {
+        try {
+            notificationEventPublisher.publishCreated(notifications);
+        } catch (RuntimeException e) {
+            log.warn("[NotificationDispatcher] 알림 이벤트 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    void enqueue(List<NotificationDispatchDto> notifications) {
+        try {
+            taskExecutor.execute(() -> deliver(notifications));
+        } catch (TaskRejectedException e) {
+            log.warn("[NotificationDispatcher] 발송 큐가 가득 차서 {}건을 dead letter 로 남깁니다.", notifications.size());
+            notifications.forEach(notification -> deadLetter(notification, 0, "발송 큐가 가득 찼습니다."));
+        }
+    }
+
+    void deliver(List<NotificationDispatchDto> notifications) {
+        Map<Long, String> tokens;
+        try {
+            tokens = redisService.getFcmTokens(
+                    notifications.stream().map(NotificationDispatchDto::salesMemberCode).toList());
+        } catch (RuntimeException e) {
+            log.warn("[NotificationDispatcher] FCM 토큰 조회 실패: {}", e.getMessage());
+            notifications.forEach(notification -> deadLetter(notification, 0, "FCM 토큰 조회 실패: " + e.getMessage()));
+            return;
+        }
+
+        for (NotificationDispatchDto notification : notifications) {
+            String token = tokens.get(notification.salesMemberCode());
+            // 토큰이 없으면 (앱에 로그인한 적 없음) 알림 목록에만 남긴다
+            if (token != null) {
+                send(notification, token);
+            }
+        }
+    }
+
+    private void send(NotificationDispatchDto notification, String token) {
+        FcmSendDto fcmSendDto = FcmSendDto.builder()
+                .token(token)
+                .title(notification.title())
+                .body(notification.message())
+                .url(notification.url())
+                .messageId(notification.messageId())
+                .build();
+
+        long backoffMs = initialBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            Exception failure;
+            try {
+                if (fcmService.sendMessageTo(fcmSendDto) == 1) {
+                    return;
+                }
+                failure = new IllegalStateException("FCM 응답이 200 이 아닙니다.");
+            } catch (Exception e) {
+                failure = e;
+            }
+
+            if (attempt >= maxAttempts || !isRetryable(failure)) {
+                log.warn("[NotificationDispatcher] {} 발송 실패 ({}회): {}", notification.messageId(), attempt, failure.getMessage());
+                deadLetter(notification, attempt, failure.getMessage());
+                return;
+            }
+
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                deadLetter(notification, attempt, "발송 중 중단되었습니다.");
+                return;
+            }
+            backoffMs *= 2;
+        }
+    }
+
+    /* 잠깐 기다리면 성공할 수 있는 실패인지 (잘못된 토큰 같은 4xx 는 다시 보내도 같다) */
+    static boolean isRetryable(Exception e) {
+        if (e instanceof HttpStatusCodeException statusException) {
+            return statusException.getStatusCode().is5xxServerError()
+                    || statusException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return e instanceof ResourceAccessException || e instanceof IOException || e instanceof IllegalStateException;
+    }
+
+    private void deadLetter(NotificationDispatchDto notification, int attempts, String errorMessage) {
+        try {
+            deadLetterTransaction.executeWithoutResult(status -> notificationDeadLetterRepository.save(
+                    NotificationDeadLetter.builder()
+                            .messageId(notification.messageId())
+                            .salesMemberCode(notification.salesMemberCode())
+                            .title(notification.title())
+                            .message(notification.message())
+                            .url(notification.url())
+                            .attempts(attempts)
+                            .errorMessage(errorMessage == null ? null : errorMessage.substring(0, Math.min(errorMessage.length(), 1000)))
+                            .build()));
+        } catch (RuntimeException e) {
+            log.error("[NotificationDispatcher] {} dead letter 저장 실패", notification.messageId(), e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.alioth.server.domain.notification.service;
+
+import com.alioth.server.common.redis.RedisService;
+import com.alioth.server.domain.notification.domain.NotificationEventType;
+import com.alioth.server.domain.notification.dto.req.NotificationDispatchDto;
+import com.alioth.server.domain.notification.dto.res.NotificationEventDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사원별 미확인 알림 수를 Redis 에 두고, 알림 이벤트를 Redis 채널로 발행한다.
+ * 어느 서버에서 발행하든 채널을 구독하는 모든 서버가 받아서 자기에게 연결된 SSE 로 보낸다.
+ * 미확인 수는 키가 있을 때만 올리고 내린다. 키가 없으면 처음 조회할 때 DB 에서 세어 채우는데,
+ * 세는 동안 증감이 있었으면(version 이 바뀜) 그 값은 이미 틀렸으므로 채우지 않는다.
+ */
+@Slf4j
+@Component
+public class NotificationEventPublisher {
+
+    private static final String UNREAD_KEY_SUFFIX = ":UnreadNotification";
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final Duration unreadTtl;
+
+    public NotificationEventPublisher(RedisService redisService,
+                                      ObjectMapper objectMapper,
+                                      @Value("${notification.channel:alioth:notification}") String channel,
+                                      @Value("${notification.unread-ttl-hours:24}") long unreadTtlHours) {
+        this.redisService = redisService;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.unreadTtl = Duration.ofHours(unreadTtlHours);
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /* 캐시된 미확인 수. 없으면 null */
+    public Long getUnreadCount(Long salesMemberCode) {
+        String value = redisService.getValues(unreadKey(salesMemberCode));
+        return redisService.checkExistsValue(value) ? Long.valueOf(value) : null;
+    }
+
+    /* DB 에서 세기 전에 읽어 두고 initUnreadCount 에 넘긴다 */
+    public String unreadVersion(Long salesMemberCode) {
+        return redisService.versionOf(unreadKey(salesMemberCode));
+    }
+
+    /* DB 에서 센 미확인 수로 채운다. 다른 요청이 먼저 채웠거나 version 을 읽은 뒤 증감이 있었으면 그대로 둔다 */
+    public void initUnreadCount(Long salesMemberCode, long count, String version) {
+        redisService.setIfVersion(unreadKey(salesMemberCode), String.valueOf(count), version, unreadTtl);
+    }
+
+    /* 새 알림: 받는 사람들의 미확인 수를 올리고 (파이프라인 한 번) 이벤트를 발행한다 (파이프라인 한 번) */
+    public void publishCreated(List<NotificationDispatchDto> notifications) {
+        List<Long> counts = redisService.incrementAllIfExists(
+                notifications.stream().map(notification -> unreadKey(notification.salesMemberCode())).toList(), 1L, unreadTtl);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> messages = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            NotificationDispatchDto notification = notifications.get(i);
+            messages.add(toJson(NotificationEventDto.builder()
+                    .type(NotificationEventType.NOTIFICATION)
+                    .salesMemberCode(notification.salesMemberCode())
+                    .messageId(notification.messageId())
+                    .title(notification.title())
+                    .message(notification.message())
+                    .url(notification.url())
+                    .unreadCount(countOrNull(counts.get(i)))
+                    .createdAt(now)
+                    .build()));
+        }
+        redisService.publishAll(channel, messages);
+    }
+
+    /* 읽음 처리: 읽은 만큼 미확인 수를 내리고 바뀐 수를 발행한다 (다른 탭, 다른 기기도 같이 갱신) */
+    public void publishRead(Long salesMemberCode, long readCount) {
+        Long count = redisService.incrementAllIfExists(List.of(unreadKey(salesMemberCode)), -readCount, unreadTtl).get(0);
+
+        redisService.publishAll(channel, List.of(toJson(NotificationEventDto.builder()
+                .type(NotificationEventType.UNREAD)
+                .salesMemberCode(salesMemberCode)
+                .unreadCount(countOrNull(count))
+                .createdAt(LocalDateTime.now())
+                .build())));
+    }
+
+    private static Long countOrNull(Long count) {
+        return count == null || count < 0 ? null : count;
+    }
+
+    private static String unreadKey(Long salesMemberCode) {
+        return salesMemberCode + UNREAD_KEY_SUFFIX;
+    }
+
+    private String toJson(NotificationEventDto event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 이벤트 직렬화 실패", e);
+        }
+    }
+}
@@ -4,12 +4,16 @@ package com.alioth.server.domain.notification.service;
 
 import com.alioth.server.domain.notification.domain.Notification;
 import com.alioth.server.domain.notification.domain.ReadStatus;
+import com.alioth.server.domain.notification.dto.req.NotificationReadReqDto;
 import com.alioth.server.domain.notification.repository.NotificationRepository;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,8 +23,44 @@ import java.util.Optional;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationEventPublisher notificationEventPublisher;
 
     public List<Notification> getNotificationsForSalesMember(Long salesMemberId) {
         return notificationRepository.findAllBySalesMemberIdAndReadStatus(salesMemberId, ReadStatus.Unread);
     }
-}
\ No newline at end of file
+
+    /* 미확인 알림 수. Redis 에 없을 때만 DB 에서 센다 */
+    @Transactional(readOnly = true)
+    public long unreadCount(Long salesMemberCode) {
+        Long cached = notificationEventPublisher.getUnreadCount(salesMemberCode);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 세는 동안 알림이 오거나 읽음 처리되면 version 이 바뀌어 채우지 않는다
+        String version = notificationEventPublisher.unreadVersion(salesMemberCode);
+        long count = notificationRepository.countBySalesMemberSalesMemberCodeAndReadStatus(salesMemberCode, ReadStatus.Unread);
+        notificationEventPublisher.initUnreadCount(salesMemberCode, count, version);
+        return count;
+    }
+
+    /* 여러 알림을 UPDATE 한 번으로 읽음 처리하고, 커밋된 뒤 미확인 수를 내려 다른 연결에도 알린다 */
+    public int markAsRead(Long salesMemberCode, NotificationReadReqDto dto) {
+        List<Long> notificationIds = dto == null ? null : dto.notificationIds();
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = notificationIds == null || notificationIds.isEmpty()
+                ? notificationRepository.updateAllReadStatus(salesMemberCode, ReadStatus.Unread, ReadStatus.Read, now)
+                : notificationRepository.updateReadStatus(salesMemberCode, notificationIds, ReadStatus.Unread, ReadStatus.Read, now);
+
+        if (updated > 0) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationEventPublisher.publishRead(salesMemberCode, updated);
+                }
+            });
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,127 @@
+package com.alioth.server.domain.notification.service;
+
+import com.alioth.server.domain.notification.domain.NotificationEventType;
+import com.alioth.server.domain.notification.dto.res.NotificationEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 서버에 연결된 SSE 를 사원별로 들고 있다가, Redis 채널로 받은 알림 이벤트를 해당 사원의 연결(탭, 기기)마다 보낸다.
+ * 중간 프록시가 유휴 연결을 끊지 않도록 주기적으로 빈 주석을 보내고, 보내기에 실패한 연결은 정리한다.
+ */
+@Slf4j
+@Service
+public class NotificationSseService implements MessageListener {
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final NotificationEventPublisher notificationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+
+    public NotificationSseService(RedisMessageListenerContainer listenerContainer,
+                                  NotificationEventPublisher notificationEventPublisher,
+                                  ObjectMapper objectMapper,
+                                  @Value("${notification.sse.timeout-ms:1800000}") long timeoutMs) {
+        this.listenerContainer = listenerContainer;
+        this.notificationEventPublisher = notificationEventPublisher;
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(notificationEventPublisher.getChannel()));
+    }
+
+    /* 연결을 등록하고 현재 미확인 수를 먼저 보낸다 (캐시에 없으면 null, 클라이언트가 unread-count 로 조회) */
+    public SseEmitter connect(Long salesMemberCode, Long unreadCount) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitters.compute(salesMemberCode, (code, targets) -> {
+            Set<SseEmitter> result = targets == null ? ConcurrentHashMap.newKeySet() : targets;
+            result.add(emitter);
+            return result;
+        });
+
+        emitter.onCompletion(() -> remove(salesMemberCode, emitter));
+        emitter.onTimeout(() -> remove(salesMemberCode, emitter));
+        emitter.onError(e -> remove(salesMemberCode, emitter));
+
+        send(salesMemberCode, emitter, NotificationEventDto.builder()
+                .type(NotificationEventType.UNREAD)
+                .salesMemberCode(salesMemberCode)
+                .unreadCount(unreadCount)
+                .createdAt(LocalDateTime.now())
+                .build());
+        return emitter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        NotificationEventDto event;
+        try {
+            event = objectMapper.readValue(message.getBody(), NotificationEventDto.class);
+        } catch (IOException e) {
+            log.warn("[NotificationSseService] 알림 이벤트를 읽지 못했습니다: {}", e.getMessage());
+            return;
+        }
+
+        Set<SseEmitter> targets = emitters.get(event.salesMemberCode());
+        if (targets != null) {
+            targets.forEach(emitter -> send(event.salesMemberCode(), emitter, event));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        emitters.forEach((salesMemberCode, targets) -> targets.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                remove(salesMemberCode, emitter);
+            }
+        }));
+    }
+
+    public int connectionCount() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void send(Long salesMemberCode, SseEmitter emitter, NotificationEventDto event) {
+        try {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name(event.type().name())
+                    .data(event);
+            if (event.messageId() != null) {
+                builder.id(event.messageId());
+            }
+            emitter.send(builder);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊긴 연결
+            remove(salesMemberCode, emitter);
+        }
+    }
+
+    private void remove(Long salesMemberCode, SseEmitter emitter) {
+        emitters.computeIfPresent(salesMemberCode, (code, targets) -> {
+            targets.remove(emitter);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+}
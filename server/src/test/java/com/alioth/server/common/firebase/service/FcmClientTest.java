@@ -0,0 +1,66 @@
+package com.alioth.server.common.firebase.service;
+
+import com.alioth.server.common.firebase.domain.FcmSendDto;
+import com.alioth.server.support.FcmStubServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FcmClientTest {
+
+    private static Date after(Duration duration) {
+        return new Date(System.currentTimeMillis() + duration.toMillis());
+    }
+
+    // refresh 할 때마다 새 토큰을 주는 credentials
+    private static GoogleCredentials credentials(AtomicInteger refreshes, Duration lifetime) {
+        return new GoogleCredentials(new AccessToken("token-0", after(lifetime))) {
+            @Override
+            public AccessToken refreshAccessToken() {
+                return new AccessToken("token-" + refreshes.incrementAndGet(), after(Duration.ofHours(1L)));
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("같은 클라이언트와 토큰으로 여러 메시지를 보낸다")
+    public void 메시지발송() throws Exception {
+        AtomicInteger refreshes = new AtomicInteger();
+        FcmAccessTokenProvider tokenProvider = new FcmAccessTokenProvider(credentials(refreshes, Duration.ofHours(1L)), Duration.ofMinutes(5L));
+
+        try (FcmStubServer stub = new FcmStubServer()) {
+            FcmClient fcmClient = new FcmClient(tokenProvider, stub.url(), 1000L, 1000L);
+            FcmServiceImpl fcmService = new FcmServiceImpl(fcmClient, new ObjectMapper());
+
+            for (int i = 0; i < 3; i++) {
+                FcmSendDto dto = FcmSendDto.builder().token("device").title("제목").body("내용 " + i).url("/BoardList").build();
+                assertEquals(1, fcmService.sendMessageTo(dto));
+            }
+
+            assertEquals(3, stub.requests().size());
+            assertTrue(stub.requests().stream().allMatch(request -> "Bearer token-0".equals(request.authorization())));
+            assertTrue(stub.requests().get(0).body().contains("\"token\":\"device\""));
+            assertEquals(0, refreshes.get());
+        }
+    }
+
+    @Test
+    @DisplayName("만료가 가까운 토큰은 발송 전에 한 번만 갱신한다")
+    public void 토큰갱신() throws Exception {
+        AtomicInteger refreshes = new AtomicInteger();
+        FcmAccessTokenProvider tokenProvider = new FcmAccessTokenProvider(credentials(refreshes, Duration.ofMinutes(1L)), Duration.ofMinutes(5L));
+
+        assertEquals("token-1", tokenProvider.getAccessToken());
+        assertEquals("token-1", tokenProvider.getAccessToken());
+        tokenProvider.refreshIfExpiring();
+        assertEquals(1, refreshes.get());
+    }
+}
@@ -0,0 +1,77 @@
+package com.alioth.server.common.jwt;
+
+import com.alioth.server.support.Benchmark;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * access token 에서 User 를 만드는 비용: 예전 방식(요청마다 parser 생성) / parser 재사용 / 캐시. 기본 테스트에서는 돌지 않는다.
+ * ./gradlew test --tests '*JwtAuthBenchmarkTest' -Dbenchmark=true -Dbenchmark.iterations=200000
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtAuthBenchmarkTest {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200_000);
+    private static final String ACCESS_KEY = "alioth-benchmark-access-key-0123456789abcdef";
+    private static final String REFRESH_KEY = "alioth-benchmark-refresh-key-0123456789abcdef";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(null, ACCESS_KEY, REFRESH_KEY, 30L, 60L * 24);
+    private final JwtAuthenticationCache cache = new JwtAuthenticationCache(10_000);
+    private final String token = provider.createAccessToken("2024311:FP");
+
+    private Benchmark benchmark;
+
+    @BeforeEach
+    void setUp(TestInfo testInfo, TestReporter reporter) {
+        benchmark = new Benchmark(testInfo, reporter);
+    }
+
+    @Test
+    @DisplayName("요청마다 parser 생성 / parser 재사용 / 검증 결과 캐시")
+    @SuppressWarnings("deprecation")
+    public void 토큰검증비교() throws Exception {
+        measure("parser per request", accessToken -> {
+            String[] split = Jwts.parser()
+                    .setSigningKey(ACCESS_KEY.getBytes())
+                    .parseClaimsJws(accessToken)
+                    .getBody()
+                    .getSubject()
+                    .split(":");
+            return new User(split[0], "", List.of(new SimpleGrantedAuthority(split[1])));
+        });
+        measure("shared parser", this::parse);
+        measure("cached", accessToken -> cache.get(accessToken, this::load));
+    }
+
+    private User parse(String accessToken) {
+        return load(accessToken).user();
+    }
+
+    private JwtAuthenticationCache.CachedUser load(String accessToken) {
+        Claims claims = provider.validateAccessToken(accessToken);
+        String subject = claims.getSubject();
+        int separator = subject.indexOf(':');
+        return new JwtAuthenticationCache.CachedUser(
+                new User(subject.substring(0, separator), "", List.of(new SimpleGrantedAuthority(subject.substring(separator + 1)))),
+                claims.getExpiration().getTime());
+    }
+
+    private void measure(String name, Function<String, User> authenticate) throws Exception {
+        benchmark.report(benchmark.measure(name, ITERATIONS, 1, () -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                authenticate.apply(token);
+            }
+        }));
+    }
+}
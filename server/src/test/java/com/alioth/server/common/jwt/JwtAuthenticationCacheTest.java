@@ -0,0 +1,64 @@
+package com.alioth.server.common.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private JwtAuthenticationCache.CachedUser load(String token, long expiresAt) {
+        loads.incrementAndGet();
+        return new JwtAuthenticationCache.CachedUser(
+                new User(token, "", List.of(new SimpleGrantedAuthority("FP"))), expiresAt);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 만료 전까지 다시 검증하지 않는다")
+    public void 만료전까지캐시() {
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(100, now::get);
+
+        User first = cache.get("token-a", token -> load(token, 2_000L));
+        User second = cache.get("token-a", token -> load(token, 2_000L));
+        cache.get("token-b", token -> load(token, 2_000L));
+
+        assertSame(first, second);
+        assertEquals(2, loads.get());
+
+        // 만료되면 다시 검증한다 (실제로는 여기서 ExpiredJwtException)
+        now.set(2_000L);
+        assertThrows(IllegalStateException.class, () -> cache.get("token-a", token -> {
+            throw new IllegalStateException("expired");
+        }));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("가득 차면 만료된 항목을 지우고, 그래도 가득 차면 캐시하지 않는다")
+    public void 크기제한() {
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(2, now::get);
+
+        cache.get("token-a", token -> load(token, 1_500L));
+        cache.get("token-b", token -> load(token, 5_000L));
+        cache.get("token-c", token -> load(token, 5_000L));
+        assertEquals(2, cache.size());
+
+        now.set(1_600L);
+        cache.get("token-c", token -> load(token, 5_000L));
+        assertEquals(2, cache.size());
+
+        int before = loads.get();
+        cache.get("token-b", token -> load(token, 5_000L));
+        cache.get("token-c", token -> load(token, 5_000L));
+        assertEquals(before, loads.get());
+    }
+}
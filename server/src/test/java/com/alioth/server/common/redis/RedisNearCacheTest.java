@@ -0,0 +1,120 @@
+package com.alioth.server.common.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisNearCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final Map<String, String> redis = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private RedisNearCache cache(boolean enabled) {
+        return new RedisNearCache(null, enabled, List.of("FcmToken"), Duration.ofSeconds(30), 100, now::get);
+    }
+
+    private String load(String key) {
+        loads.incrementAndGet();
+        return redis.get(key);
+    }
+
+    @Test
+    @DisplayName("캐시 대상 키는 TTL 동안 다시 읽지 않고, 없는 키도 캐시한다")
+    public void 캐시와TTL() {
+        RedisNearCache cache = cache(true);
+        redis.put("1:FcmToken", "token-1");
+
+        assertEquals("token-1", cache.get("1:FcmToken", this::load));
+        assertEquals("token-1", cache.get("1:FcmToken", this::load));
+        assertNull(cache.get("2:FcmToken", this::load));
+        assertNull(cache.get("2:FcmToken", this::load));
+        assertEquals(2, loads.get());
+
+        // 캐시 대상이 아닌 키는 항상 읽는다
+        cache.get("1:RefreshToken", this::load);
+        cache.get("1:RefreshToken", this::load);
+        assertEquals(4, loads.get());
+
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.get("1:FcmToken", this::load);
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    @DisplayName("캐시 대상이 아닌 키를 쓰는 동안 읽은 값은 그대로 캐시한다")
+    public void 다른키무효화() {
+        RedisNearCache cache = cache(true);
+        redis.put("1:FcmToken", "token-1");
+
+        cache.get("1:FcmToken", key -> {
+            cache.invalidate("1:UnreadNotification");
+            return load(key);
+        });
+        cache.get("1:FcmToken", this::load);
+        assertEquals(1, loads.get());
+
+        // 같은 키가 바뀌었으면 읽은 값을 버린다
+        cache.get("2:FcmToken", key -> {
+            cache.invalidate("2:FcmToken");
+            return load(key);
+        });
+        cache.get("2:FcmToken", this::load);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("keyspace notification 을 받으면 해당 키를 비운다")
+    public void keyspace무효화() {
+        RedisNearCache cache = cache(true);
+        redis.put("1:FcmToken", "token-1");
+        cache.get("1:FcmToken", this::load);
+
+        redis.put("1:FcmToken", "token-2");
+        cache.onMessage(new DefaultMessage("__keyspace@0__:1:FcmToken".getBytes(StandardCharsets.UTF_8),
+                "set".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertEquals("token-2", cache.get("1:FcmToken", this::load));
+    }
+
+    @Test
+    @DisplayName("여러 키를 읽을 때 캐시에 없는 키만 한 번에 읽는다")
+    public void 여러키() {
+        RedisNearCache cache = cache(true);
+        redis.put("1:FcmToken", "token-1");
+        redis.put("2:FcmToken", "token-2");
+        cache.get("1:FcmToken", this::load);
+
+        List<List<String>> batches = new ArrayList<>();
+        Map<String, String> result = cache.getAll(List.of("1:FcmToken", "2:FcmToken", "3:FcmToken"), keys -> {
+            batches.add(keys);
+            Map<String, String> loaded = new HashMap<>();
+            keys.stream().filter(redis::containsKey).forEach(key -> loaded.put(key, redis.get(key)));
+            return loaded;
+        });
+
+        assertEquals(Map.of("1:FcmToken", "token-1", "2:FcmToken", "token-2"), result);
+        assertEquals(List.of(List.of("2:FcmToken", "3:FcmToken")), batches);
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 항상 읽는다")
+    public void 꺼짐() {
+        RedisNearCache cache = cache(false);
+        cache.get("1:FcmToken", this::load);
+        cache.get("1:FcmToken", this::load);
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,92 @@
+package com.alioth.server.common.redis;
+
+import com.alioth.server.support.Benchmark;
+import com.alioth.server.support.RedisStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * 사원 N명의 FCM 토큰 조회: 키마다 GET / MGET 한 번 / near-cache 비교. 기본 테스트에서는 돌지 않는다.
+ * 로컬 Redis 대신 왕복마다 지연을 넣는 RedisStubServer 를 쓴다.
+ * ./gradlew test --tests '*RedisServiceBenchmarkTest' -Dbenchmark=true -Dbenchmark.members=200 -Dbenchmark.latency-us=200
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RedisServiceBenchmarkTest {
+
+    private static final int MEMBERS = Integer.getInteger("benchmark.members", 200);
+    private static final long LATENCY_US = Long.getLong("benchmark.latency-us", 200L);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 20);
+
+    private RedisStubServer server;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private List<Long> memberCodes;
+    private Benchmark benchmark;
+
+    interface Lookup {
+        void run(RedisService redisService);
+    }
+
+    @BeforeEach
+    void setUp(TestInfo testInfo, TestReporter reporter) throws Exception {
+        benchmark = new Benchmark(testInfo, reporter);
+        server = new RedisStubServer(LATENCY_US);
+        connectionFactory = new LettuceConnectionFactory("127.0.0.1", server.port());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        memberCodes = LongStream.rangeClosed(1, MEMBERS).boxed().toList();
+        memberCodes.forEach(code -> server.data().put(code + ":FcmToken", "token-" + code));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        server.close();
+    }
+
+    private RedisService redisService(boolean nearCache) {
+        return new RedisService(redisTemplate,
+                new RedisNearCache(null, nearCache, List.of("FcmToken"), Duration.ofSeconds(30), 10_000, System::nanoTime));
+    }
+
+    @Test
+    @DisplayName("키마다 GET / MGET / MGET + near-cache")
+    public void FCM토큰조회비교() throws Exception {
+        measure("GET per member", redisService(false), redisService -> memberCodes.forEach(redisService::getFcmToken));
+        measure("MGET", redisService(false), redisService -> redisService.getFcmTokens(memberCodes));
+        measure("MGET + near-cache", redisService(true), redisService -> redisService.getFcmTokens(memberCodes));
+    }
+
+    private void measure(String name, RedisService redisService, Lookup lookup) throws Exception {
+        // 한 번 돌려서 연결과 JIT 를 데운다 (near-cache 도 이때 채워진다)
+        lookup.run(redisService);
+
+        long roundTrips = server.roundTrips();
+        Benchmark.Result result = benchmark.measure(name, ROUNDS, 0, () -> {
+            for (int i = 0; i < ROUNDS; i++) {
+                lookup.run(redisService);
+            }
+        });
+        benchmark.report(result, "round trips/lookup", (server.roundTrips() - roundTrips) / ROUNDS,
+                "members", MEMBERS, "us latency", LATENCY_US);
+    }
+}
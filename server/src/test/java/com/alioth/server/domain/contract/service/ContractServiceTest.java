@@ -2,9 +2,14 @@ package com.alioth.server.domain.contract.service;
 
 import com.alioth.server.common.domain.TypeChange;
 import com.alioth.server.domain.contract.domain.Contract;
+import com.alioth.server.domain.contract.domain.ContractChangeLog;
+import com.alioth.server.domain.contract.domain.ContractChangeType;
 import com.alioth.server.domain.contract.dto.req.ContractCreateDto;
+import com.alioth.server.domain.contract.dto.req.ContractSearchReqDto;
 import com.alioth.server.domain.contract.dto.req.ContractUpdateDto;
 import com.alioth.server.domain.contract.dto.res.ContractResDto;
+import com.alioth.server.domain.contract.dto.res.ContractSliceResDto;
+import com.alioth.server.domain.contract.repository.ContractChangeLogRepository;
 import com.alioth.server.domain.contract.repository.ContractRepository;
 import com.alioth.server.domain.dummy.domain.ContractStatus;
 import com.alioth.server.domain.dummy.domain.PaymentFrequency;
@@ -20,8 +25,11 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,16 +46,25 @@ public class ContractServiceTest {
     @Autowired
     private ContractRepository contractRepository;
 
+    @Autowired
+    private ContractChangeLogRepository contractChangeLogRepository;
+
     private Contract contract;
 
     @BeforeEach
     void setUp() {
+        ContractResDto savedContractResDto = createContract(LocalDateTime.now());
+        this.contract = contractRepository.findById(savedContractResDto.contractId())
+                .orElseThrow(() -> new EntityNotFoundException("계약이 생성되지 않았습니다"));
+    }
+
+    private ContractResDto createContract(LocalDateTime contractDate) {
         ContractCreateDto contractCreateDto = ContractCreateDto.builder()
-                .contractDate(LocalDateTime.now())
-                .contractExpireDate(LocalDateTime.now())
+                .contractDate(contractDate)
+                .contractExpireDate(contractDate)
                 .contractPeriod("1Y")
-                .contractTotalPrice("10000")
-                .contractPaymentAmount("10000")
+                .contractTotalPrice(new BigDecimal("10000"))
+                .contractPaymentAmount(new BigDecimal("10000"))
                 .contractPaymentFrequency(PaymentFrequency.Monthly)
                 .contractPaymentMaturityInstallment(1L)
                 .contractCount(1L)
@@ -66,10 +83,7 @@ public class ContractServiceTest {
                 .authorities("ROLE_USER") // 실제 사용자의 권한에 따라 적절한 권한을 설정
                 .build();
 
-
-        ContractResDto savedContractResDto = contractService.createContract(contractCreateDto, mockUserDetails);
-        this.contract = contractRepository.findById(savedContractResDto.contractId())
-                .orElseThrow(() -> new EntityNotFoundException("계약이 생성되지 않았습니다"));
+        return contractService.createContract(contractCreateDto, mockUserDetails);
     }
 
     @Test
@@ -115,4 +129,50 @@ public class ContractServiceTest {
             contractRepository.findById(contractId).orElseThrow(() -> new EntityNotFoundException("계약이 존재하지 않습니다."));
         });
     }
+
+    @Test
+    @DisplayName("계약 등록/해지 시 변경 로그 기록 테스트")
+    void recordContractChangeLog() {
+        Long contractId = contract.getContractId();
+
+        contractService.cancelContract(contractId, "테스트 해지");
+
+        List<ContractChangeLog> logs = contractChangeLogRepository.findAllByContractIdOrderByIdAsc(contractId);
+        assertEquals(2, logs.size());
+        assertEquals(ContractChangeType.CREATE, logs.get(0).getChangeType());
+        assertEquals(ContractChangeType.CANCEL, logs.get(1).getChangeType());
+        assertEquals(ContractStatus.New, logs.get(1).getBeforeStatus());
+        assertEquals(ContractStatus.Cancellation, logs.get(1).getAfterStatus());
+    }
+
+    @Test
+    @DisplayName("계약 목록 keyset 페이지 테스트")
+    void findContractSlice() {
+        // 기존 데이터와 겹치지 않는 날짜에 계약일이 같은 계약을 여러 건 넣는다
+        LocalDateTime sameDate = LocalDateTime.of(2099, 1, 1, 9, 0);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(createContract(sameDate).contractId());
+        }
+        expected.sort(Comparator.reverseOrder());
+        expected.add(createContract(sameDate.minusHours(1)).contractId());
+
+        ContractSearchReqDto.ContractSearchReqDtoBuilder search = ContractSearchReqDto.builder()
+                .startDate(sameDate.minusDays(1))
+                .endDate(sameDate.plusDays(1))
+                .size(2);
+
+        List<Long> actual = new ArrayList<>();
+        ContractSliceResDto slice = contractService.findContractSlice(search.build());
+        actual.addAll(slice.contracts().stream().map(ContractResDto::contractId).toList());
+        while (slice.hasNext()) {
+            assertEquals(2, slice.contracts().size());
+            slice = contractService.findContractSlice(search.cursor(slice.nextCursor()).build());
+            actual.addAll(slice.contracts().stream().map(ContractResDto::contractId).toList());
+        }
+
+        // (계약일, 계약 번호) 내림차순으로 빠지거나 겹치는 계약 없이 모두 나온다
+        assertEquals(expected, actual);
+        assertNull(slice.nextCursor());
+    }
 }
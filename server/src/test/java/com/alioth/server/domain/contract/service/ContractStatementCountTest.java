@@ -0,0 +1,127 @@
+package com.alioth.server.domain.contract.service;
+
+import com.alioth.server.domain.contract.dto.req.ContractCreateDto;
+import com.alioth.server.domain.contract.dto.req.ContractSearchReqDto;
+import com.alioth.server.domain.contract.dto.res.ContractResDto;
+import com.alioth.server.domain.dummy.domain.ContractStatus;
+import com.alioth.server.domain.dummy.domain.Custom;
+import com.alioth.server.domain.dummy.domain.PaymentFrequency;
+import com.alioth.server.domain.excel.dto.ExcelReqDto;
+import com.alioth.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 계약 조회 API 마다 나가는 SQL 문 수. 연관 엔티티가 행마다 따로 조회되면(N+1) 여기서 깨진다.
+ */
+@SpringBootTest
+@Transactional
+@Rollback
+public class ContractStatementCountTest {
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private StatementCounter statementCounter;
+
+    private ContractResDto contract;
+
+    @BeforeEach
+    void setUp() {
+        ContractCreateDto contractCreateDto = ContractCreateDto.builder()
+                .contractDate(LocalDateTime.now())
+                .contractExpireDate(LocalDateTime.now())
+                .contractPeriod("1Y")
+                .contractTotalPrice(new BigDecimal("10000"))
+                .contractPaymentAmount(new BigDecimal("10000"))
+                .contractPaymentFrequency(PaymentFrequency.Monthly)
+                .contractPaymentMaturityInstallment(1L)
+                .contractCount(1L)
+                .contractPaymentMethod("한화카드")
+                .contractPayer("테스터훈")
+                .contractConsultation("테스트 보험에 매우 가입을 하고 싶어 하십니다.")
+                .contractStatus(ContractStatus.New)
+                .insuranceProductId(1L)
+                .customId(1L)
+                .contractMemberId(1L)
+                .build();
+
+        UserDetails mockUserDetails = User.builder()
+                .username("202432")
+                .password("")
+                .authorities("ROLE_USER")
+                .build();
+
+        contract = contractService.createContract(contractCreateDto, mockUserDetails);
+        statementCounter = new StatementCounter(entityManager);
+    }
+
+    @Test
+    @DisplayName("GET /detail/{contractId}")
+    void detail() {
+        ContractResDto detail = statementCounter.assertStatements(1, "계약 상세",
+                () -> contractService.getContractDetails(contract.contractId()));
+
+        assertNotNull(detail.salesMemberResDto());
+    }
+
+    @Test
+    @DisplayName("GET /list, /list?status=")
+    void list() {
+        statementCounter.assertStatements(1, "계약 목록", () -> contractService.findAllContractsByStatus(null));
+        statementCounter.assertStatements(1, "상태별 계약 목록", () -> contractService.findAllContractsByStatus(ContractStatus.New));
+    }
+
+    @Test
+    @DisplayName("GET /slice")
+    void slice() {
+        statementCounter.assertStatements(1, "계약 keyset 페이지",
+                () -> contractService.findContractSlice(ContractSearchReqDto.builder().size(20).build()));
+    }
+
+    @Test
+    @DisplayName("엑셀 계약 / 고객 목록")
+    void excelLists() {
+        ExcelReqDto period = ExcelReqDto.builder()
+                .startDate(LocalDateTime.now().minusYears(1L))
+                .endDate(LocalDateTime.now().plusDays(1L))
+                .build();
+        ExcelReqDto all = ExcelReqDto.builder().build();
+
+        statementCounter.assertStatements(1, "기간 계약 목록", () -> contractService.findAllContractsByPeriod(period));
+        statementCounter.assertStatements(1, "전체 계약 목록", () -> contractService.findAllContractsByPeriod(all));
+        statementCounter.assertStatements(1, "팀 없는 계약 목록", () -> contractService.findByNoTeamList(period));
+        statementCounter.assertStatements(1, "전체 고객 목록", () -> contractService.customTotalList(period));
+    }
+
+    @Test
+    @DisplayName("엑셀 팀 고객 목록")
+    void excelTeamCustomers() {
+        String teamCode = contract.salesMemberResDto().teamCode();
+        assumeTrue(teamCode != null, "팀이 없는 사원");
+
+        List<Custom> customers = statementCounter.assertStatements(1, "팀 고객 목록",
+                () -> contractService.customTeamList(teamCode, ExcelReqDto.builder().build()));
+
+        assertFalse(customers.isEmpty());
+        assertEquals(customers.size(), customers.stream().map(Custom::getCustomerId).distinct().count());
+    }
+}
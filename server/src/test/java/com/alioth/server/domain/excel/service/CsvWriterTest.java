@@ -0,0 +1,61 @@
+package com.alioth.server.domain.excel.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvWriterTest {
+
+    @Test
+    @DisplayName("RFC 4180 형식으로 쓴다 (CRLF, 필요한 값만 따옴표)")
+    public void csv형식() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvWriter writer = new CsvWriter(out, List.of("계약 번호", "고객 이름", "금액", "계약 날짜"))) {
+            writer.writeRow(List.of(1L, "홍길동", new BigDecimal("1500000.50"), LocalDateTime.of(2024, 5, 1, 13, 30)));
+            writer.writeRow(Arrays.asList(2L, "김, \"철수\"\n", null, null));
+            writer.finish();
+            assertEquals(2L, writer.getRowCount());
+        }
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertEquals("\uFEFF" +
+                "계약 번호,고객 이름,금액,계약 날짜\r\n" +
+                "1,홍길동,1500000.50,2024-05-01 13:30:00\r\n" +
+                "2,\"김, \"\"철수\"\"\n\",,\r\n", csv);
+    }
+
+    @Test
+    @DisplayName("수식으로 시작하는 문자열은 ' 를 붙여 따옴표로 감싸고 숫자는 그대로 쓴다")
+    public void 수식주입방지() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvWriter writer = new CsvWriter(out, List.of("메모", "금액", "건수"))) {
+            writer.writeRow(List.of("=HYPERLINK(\"http://x\",\"a\")", new BigDecimal("-1500000"), -3L));
+            writer.writeRow(List.of("+1", BigDecimal.ZERO, 0L));
+            writer.writeRow(List.of("-2+3", BigDecimal.ONE, 1L));
+            writer.writeRow(List.of("@SUM(A1)", BigDecimal.ONE, 1L));
+            writer.writeRow(List.of("\tcmd", BigDecimal.ONE, 1L));
+            writer.writeRow(List.of("\rcmd", BigDecimal.ONE, 1L));
+            writer.writeRow(List.of("a=1", BigDecimal.ONE, 1L));
+            writer.finish();
+        }
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertEquals("\uFEFF" +
+                "메모,금액,건수\r\n" +
+                "\"'=HYPERLINK(\"\"http://x\"\",\"\"a\"\")\",-1500000,-3\r\n" +
+                "\"'+1\",0,0\r\n" +
+                "\"'-2+3\",1,1\r\n" +
+                "\"'@SUM(A1)\",1,1\r\n" +
+                "\"'\tcmd\",1,1\r\n" +
+                "\"'\rcmd\",1,1\r\n" +
+                "a=1,1,1\r\n", csv);
+    }
+}
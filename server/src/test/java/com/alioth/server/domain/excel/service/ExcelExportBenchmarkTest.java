@@ -0,0 +1,117 @@
+package com.alioth.server.domain.excel.service;
+
+import com.alioth.server.domain.contract.dto.res.ContractExcelResDto;
+import com.alioth.server.domain.dummy.domain.ContractStatus;
+import com.alioth.server.domain.dummy.domain.PaymentFrequency;
+import com.alioth.server.support.Benchmark;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 엑셀 / csv 내보내기 처리량과 최대 heap 비교. 기본 테스트에서는 돌지 않는다.
+ * ./gradlew test --tests '*ExcelExportBenchmarkTest' -Dbenchmark=true -Dbenchmark.rows=200000
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExcelExportBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+    private static final ExcelRowWriter ROW = ExcelRowWriter.of(ContractExcelResDto.class);
+
+    private Benchmark benchmark;
+
+    interface Export {
+        void run(OutputStream out) throws Exception;
+    }
+
+    @BeforeEach
+    void setUp(TestInfo testInfo, TestReporter reporter) {
+        benchmark = new Benchmark(testInfo, reporter);
+    }
+
+    @Test
+    @DisplayName("xlsx(workbook) / xlsx(streaming) / csv / csv+gzip")
+    public void 내보내기형식비교() throws Exception {
+        measure("xlsx workbook (SXSSF)", out -> {
+            try (SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+                ExcelCellStyles styles = ExcelCellStyles.of(workbook);
+                Sheet sheet = workbook.createSheet();
+                ROW.writeHeader(sheet.createRow(0));
+                for (int i = 0; i < ROWS; i++) {
+                    ROW.writeRow(sheet.createRow(i + 1), row(i), styles);
+                }
+                workbook.write(out);
+                workbook.dispose();
+            }
+        });
+        measure("xlsx streaming", out -> write(new StreamingXlsxWriter(out, ROW.headers())));
+        measure("csv", out -> write(new CsvWriter(out, ROW.headers())));
+        measure("csv + gzip", out -> write(new CsvWriter(new GZIPOutputStream(out, 64 * 1024), ROW.headers())));
+    }
+
+    private void write(TableWriter writer) throws Exception {
+        try (writer) {
+            for (int i = 0; i < ROWS; i++) {
+                writer.writeRow(ROW.values(row(i)));
+            }
+            writer.finish();
+        }
+    }
+
+    private void measure(String name, Export export) throws Exception {
+        CountingOutputStream out = new CountingOutputStream();
+        Benchmark.Result result = benchmark.measure(name, ROWS, 1, () -> {
+            out.count = 0;
+            export.run(out);
+        });
+        benchmark.report(result, "KB output", out.count / 1024);
+    }
+
+    private static ContractExcelResDto row(int i) {
+        return ContractExcelResDto.builder()
+                .contractId((long) i)
+                .contractCode("20240501-" + i)
+                .contractDate(LocalDateTime.of(2024, 5, 1, 9, 0).plusMinutes(i))
+                .contractExpireDate(LocalDateTime.of(2034, 5, 1, 9, 0))
+                .contractPeriod("120")
+                .contractTotalPrice(BigDecimal.valueOf(1_000_000L + i))
+                .contractPaymentAmount(BigDecimal.valueOf(10_000L))
+                .contractPaymentFrequency(PaymentFrequency.Monthly)
+                .contractPaymentMaturityInstallment(120L)
+                .contractCount(1L)
+                .contractPaymentMethod("카드")
+                .contractPayer("납입자" + i)
+                .contractConsultation("상담 내역, \"메모\" " + i)
+                .contractStatus(ContractStatus.New)
+                .insuranceProductName("보험 상품")
+                .customName("고객" + i)
+                .contractMemberName("계약 담당")
+                .salesMemberCode(202400L + i % 100)
+                .salesMemberName("사원" + i % 100)
+                .build();
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.alioth.server.domain.excel.service;
+
+import com.alioth.server.domain.excel.domain.ExcelExportStatus;
+import com.alioth.server.domain.excel.domain.ExportFormat;
+import com.alioth.server.domain.excel.dto.ExcelExportJobResDto;
+import com.alioth.server.domain.excel.dto.ExcelReqDto;
+import com.alioth.server.domain.member.domain.SalesMemberType;
+import com.alioth.server.domain.member.domain.SalesMembers;
+import com.alioth.server.domain.member.service.SalesMemberService;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.OutputStream;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ExcelExportJobServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final ExcelService excelService = mock(ExcelService.class);
+    private final SalesMemberService salesMemberService = mock(SalesMemberService.class);
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private ExcelExportJobService service() throws Exception {
+        return new ExcelExportJobService(excelService, salesMemberService, tasks::add,
+                mock(PlatformTransactionManager.class), directory.toString(), 60L);
+    }
+
+    private SalesMembers hq(Long code) {
+        return SalesMembers.builder().salesMemberCode(code).rank(SalesMemberType.HQ).build();
+    }
+
+    @Test
+    @DisplayName("같은 조건의 작업이 생성 중이면 새로 만들지 않고 같이 쓴다")
+    public void 중복요청() throws Exception {
+        ExcelExportJobService service = service();
+        ExcelReqDto dto = ExcelReqDto.builder().build();
+
+        ExcelExportJobResDto first = service.submit(hq(1L), "contract", ExportFormat.XLSX, null, dto);
+        ExcelExportJobResDto second = service.submit(hq(2L), "contract", ExportFormat.XLSX, null, dto);
+        ExcelExportJobResDto other = service.submit(hq(1L), "customerList", ExportFormat.XLSX, null, dto);
+
+        assertEquals(first.jobId(), second.jobId());
+        assertNotEquals(first.jobId(), other.jobId());
+        assertEquals(2, tasks.size());
+        assertEquals(ExcelExportStatus.QUEUED, service.status(2L, first.jobId()).status());
+        assertThrows(AccessDeniedException.class, () -> service.status(3L, first.jobId()));
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 파일과 처리 행 수가 남는다")
+    public void 작업완료() throws Exception {
+        ExcelExportJobService service = service();
+        SalesMembers member = hq(1L);
+        when(salesMemberService.findBySalesMemberCode(1L)).thenReturn(member);
+        doAnswer(invocation -> {
+            ExcelOutput output = invocation.getArgument(2);
+            try (OutputStream out = output.open()) {
+                out.write(new byte[]{1, 2, 3});
+            }
+            output.progress(3L);
+            return null;
+        }).when(excelService).contractExcel(eq(member), any(), any(), any());
+
+        ExcelExportJobResDto job = service.submit(member, "contract", ExportFormat.XLSX, null, ExcelReqDto.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> service.findDoneJob(1L, job.jobId()));
+        tasks.forEach(Runnable::run);
+
+        ExcelExportJobResDto done = service.status(1L, job.jobId());
+        assertEquals(ExcelExportStatus.DONE, done.status());
+        assertEquals(3L, done.rowsProcessed());
+        assertEquals(3L, Files.size(service.findDoneJob(1L, job.jobId()).getFile()));
+
+        // 끝난 작업은 같은 조건으로 다시 요청하면 새로 만든다
+        assertNotEquals(job.jobId(), service.submit(member, "contract", ExportFormat.XLSX, null, ExcelReqDto.builder().build()).jobId());
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 행이 없으면 헤더만 있는 파일로 끝난다")
+    public void 빈결과() throws Exception {
+        ExcelExportJobService service = service();
+        SalesMembers member = hq(1L);
+        when(salesMemberService.findBySalesMemberCode(1L)).thenReturn(member);
+        doThrow(new NoSuchFileException("No data")).when(excelService).contractExcel(eq(member), any(), any(), any());
+
+        ExcelExportJobResDto job = service.submit(member, "contract", ExportFormat.XLSX, null, ExcelReqDto.builder().build());
+        tasks.forEach(Runnable::run);
+
+        assertEquals(ExcelExportStatus.DONE, service.status(1L, job.jobId()).status());
+        try (XSSFWorkbook workbook = new XSSFWorkbook(Files.newInputStream(service.findDoneJob(1L, job.jobId()).getFile()))) {
+            assertEquals("계약 번호", workbook.getSheetAt(0).getRow(0).getCell(0).getStringCellValue());
+            assertEquals(0, workbook.getSheetAt(0).getLastRowNum());
+        }
+    }
+
+    @Test
+    @DisplayName("csv 로 요청하면 csv 파일을 만들고, 같은 조건이라도 형식이 다르면 다른 작업이다")
+    public void csv작업() throws Exception {
+        ExcelExportJobService service = service();
+        SalesMembers member = hq(1L);
+        when(salesMemberService.findBySalesMemberCode(1L)).thenReturn(member);
+        doThrow(new NoSuchFileException("No data")).when(excelService).contractExcel(eq(member), any(), any(), any());
+
+        ExcelReqDto dto = ExcelReqDto.builder().build();
+        ExcelExportJobResDto csv = service.submit(member, "contract", ExportFormat.CSV, null, dto);
+        ExcelExportJobResDto xlsx = service.submit(member, "contract", ExportFormat.XLSX, null, dto);
+        assertNotEquals(csv.jobId(), xlsx.jobId());
+        assertTrue(csv.fileName().endsWith(".csv"));
+        tasks.forEach(Runnable::run);
+
+        Path file = service.findDoneJob(1L, csv.jobId()).getFile();
+        assertTrue(file.getFileName().toString().endsWith(".csv"));
+        assertTrue(Files.readString(file).contains("계약 번호"));
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차 거절된 작업은 남기지 않고, 다음 요청은 새 작업으로 등록한다")
+    public void 거절된작업() throws Exception {
+        List<Runnable> accepted = new ArrayList<>();
+        boolean[] full = {true};
+        ExcelExportJobService service = new ExcelExportJobService(excelService, salesMemberService, task -> {
+            if (full[0]) {
+                throw new TaskRejectedException("full");
+            }
+            accepted.add(task);
+        }, mock(PlatformTransactionManager.class), directory.toString(), 60L);
+        ExcelReqDto dto = ExcelReqDto.builder().build();
+
+        assertThrows(IllegalStateException.class, () -> service.submit(hq(1L), "contract", ExportFormat.XLSX, null, dto));
+
+        full[0] = false;
+        ExcelExportJobResDto second = service.submit(hq(2L), "contract", ExportFormat.XLSX, null, dto);
+        assertEquals(ExcelExportStatus.QUEUED, second.status());
+        assertEquals(1, accepted.size());
+        assertThrows(AccessDeniedException.class, () -> service.status(1L, second.jobId()));
+    }
+}
@@ -0,0 +1,81 @@
+package com.alioth.server.domain.excel.service;
+
+import com.alioth.server.domain.contract.dto.res.ContractExcelResDto;
+import com.alioth.server.domain.dummy.domain.ContractStatus;
+import com.alioth.server.domain.dummy.domain.Custom;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelRowWriterTest {
+
+    @Test
+    @DisplayName("record 는 @Column 이름을 헤더로, 값은 타입에 맞는 셀로 쓴다")
+    public void 계약엑셀행() throws Exception {
+        ExcelRowWriter rowWriter = ExcelRowWriter.of(ContractExcelResDto.class);
+        assertSame(rowWriter, ExcelRowWriter.of(ContractExcelResDto.class));
+        assertEquals("계약 번호", rowWriter.headers().get(0));
+        assertEquals("영업 사원 이름", rowWriter.headers().get(rowWriter.size() - 1));
+
+        ContractExcelResDto dto = ContractExcelResDto.builder()
+                .contractId(7L)
+                .contractDate(LocalDateTime.of(2024, 5, 1, 9, 0))
+                .contractTotalPrice(new BigDecimal("1200000"))
+                .contractStatus(ContractStatus.New)
+                .build();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet();
+            Row row = sheet.createRow(0);
+            rowWriter.writeRow(row, dto, ExcelCellStyles.of(workbook));
+
+            assertEquals(7d, row.getCell(0).getNumericCellValue());
+            assertEquals(CellType.BLANK, row.getCell(1).getCellType());
+            assertTrue(DateUtil.isCellDateFormatted(row.getCell(2)));
+            assertEquals(LocalDateTime.of(2024, 5, 1, 9, 0), row.getCell(2).getLocalDateTimeCellValue());
+            assertEquals(1200000d, row.getCell(5).getNumericCellValue());
+            assertEquals("New", row.getCell(13).getStringCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("숫자 셀에 담으면 반올림되는 금액 / 번호는 값 그대로 문자열 셀로 쓴다")
+    public void 큰숫자() throws Exception {
+        ExcelRowWriter rowWriter = ExcelRowWriter.of(ContractExcelResDto.class);
+        ContractExcelResDto dto = ContractExcelResDto.builder()
+                .contractId(9007199254740993L)
+                .contractTotalPrice(new BigDecimal("12345678901234567.89"))
+                .contractPaymentAmount(new BigDecimal("999999999999999"))
+                .build();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Row row = workbook.createSheet().createRow(0);
+            rowWriter.writeRow(row, dto, ExcelCellStyles.of(workbook));
+
+            assertEquals("9007199254740993", row.getCell(0).getStringCellValue());
+            assertEquals("12345678901234567.89", row.getCell(5).getStringCellValue());
+            assertEquals(999999999999999d, row.getCell(6).getNumericCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("엔티티는 getter 로 읽고, 이름 없는 @Column 은 필드 이름을 헤더로 쓴다")
+    public void 고객엑셀행() {
+        ExcelRowWriter rowWriter = ExcelRowWriter.of(Custom.class);
+        assertEquals("customerId", rowWriter.headers().get(0));
+        assertEquals("customerName", rowWriter.headers().get(2));
+
+        Custom custom = Custom.builder().customerId(3L).customerName("고객").build();
+        assertEquals(3L, rowWriter.value(custom, 0));
+        assertEquals("고객", rowWriter.value(custom, 2));
+    }
+}
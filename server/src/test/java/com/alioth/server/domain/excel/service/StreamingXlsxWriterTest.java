@@ -0,0 +1,81 @@
+package com.alioth.server.domain.excel.service;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingXlsxWriterTest {
+
+    @Test
+    @DisplayName("스트리밍으로 쓴 xlsx 를 POI 로 다시 읽기")
+    public void 스트리밍엑셀읽기() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (StreamingXlsxWriter writer = new StreamingXlsxWriter(out, List.of("계약 번호", "고객 이름"))) {
+            writer.writeRow(List.of(1L, "홍길동"));
+            writer.writeRow(Arrays.asList(2L, null));
+            writer.writeRow(List.of(3L, "<A&B> \"C\"\u0001"));
+            writer.writeRow(List.of(new BigDecimal("1500000.50"), LocalDateTime.of(2024, 5, 1, 13, 30)));
+            writer.finish();
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(4, sheet.getLastRowNum());
+            assertEquals("계약 번호", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("홍길동", sheet.getRow(1).getCell(1).getStringCellValue());
+            assertEquals("", sheet.getRow(2).getCell(1).getStringCellValue());
+            assertEquals("<A&B> \"C\"", sheet.getRow(3).getCell(1).getStringCellValue());
+
+            // 숫자 / 날짜는 문자열이 아니라 타입이 있는 셀로 쓴다
+            assertEquals(CellType.NUMERIC, sheet.getRow(1).getCell(0).getCellType());
+            assertEquals(1500000.5d, sheet.getRow(4).getCell(0).getNumericCellValue());
+            assertTrue(DateUtil.isCellDateFormatted(sheet.getRow(4).getCell(1)));
+            assertEquals(LocalDateTime.of(2024, 5, 1, 13, 30), sheet.getRow(4).getCell(1).getLocalDateTimeCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("숫자 셀에 담으면 반올림되는 숫자는 값 그대로 문자열로 쓴다")
+    public void 큰숫자() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (StreamingXlsxWriter writer = new StreamingXlsxWriter(out, List.of("계약 번호", "금액"))) {
+            writer.writeRow(List.of(9007199254740993L, new BigDecimal("12345678901234567.89")));
+            writer.writeRow(List.of(999999999999999L, new BigDecimal("1E+3")));
+            writer.finish();
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("9007199254740993", sheet.getRow(1).getCell(0).getStringCellValue());
+            assertEquals("12345678901234567.89", sheet.getRow(1).getCell(1).getStringCellValue());
+            assertEquals(999999999999999d, sheet.getRow(2).getCell(0).getNumericCellValue());
+            assertEquals(1000d, sheet.getRow(2).getCell(1).getNumericCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("행이 없어도 헤더만 있는 파일이 만들어진다")
+    public void 빈엑셀() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (StreamingXlsxWriter writer = new StreamingXlsxWriter(out, List.of("계약 번호"))) {
+            writer.finish();
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(1, workbook.getNumberOfSheets());
+            assertEquals("계약 번호", workbook.getSheetAt(0).getRow(0).getCell(0).getStringCellValue());
+        }
+    }
+}
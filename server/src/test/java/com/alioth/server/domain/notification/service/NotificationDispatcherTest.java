@@ -0,0 +1,106 @@
+package com.alioth.server.domain.notification.service;
+
+import com.alioth.server.common.firebase.service.FcmService;
+import com.alioth.server.common.redis.RedisService;
+import com.alioth.server.domain.member.domain.SalesMembers;
+import com.alioth.server.domain.notification.domain.NotificationDeadLetter;
+import com.alioth.server.domain.notification.dto.req.NotificationDispatchDto;
+import com.alioth.server.domain.notification.repository.NotificationBatchRepository;
+import com.alioth.server.domain.notification.repository.NotificationDeadLetterRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatcherTest {
+
+    private final NotificationBatchRepository batchRepository = mock(NotificationBatchRepository.class);
+    private final NotificationDeadLetterRepository deadLetterRepository = mock(NotificationDeadLetterRepository.class);
+    private final NotificationEventPublisher eventPublisher = mock(NotificationEventPublisher.class);
+    private final RedisService redisService = mock(RedisService.class);
+    private final FcmService fcmService = mock(FcmService.class);
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private NotificationDispatcher dispatcher(TaskExecutor executor) {
+        return new NotificationDispatcher(batchRepository, deadLetterRepository, eventPublisher, redisService, fcmService,
+                executor, mock(PlatformTransactionManager.class), 3, 0L);
+    }
+
+    private SalesMembers member(Long id) {
+        return SalesMembers.builder().Id(id).salesMemberCode(id * 100).build();
+    }
+
+    @Test
+    @DisplayName("한 번에 저장하고, 토큰은 한 번에 읽고, 일시적인 실패는 다시 보낸다")
+    public void 배치저장후재시도() throws Exception {
+        NotificationDispatcher dispatcher = dispatcher(tasks::add);
+        when(redisService.getFcmTokens(anyList())).thenReturn(Map.of(100L, "token-1", 200L, "token-2"));
+        when(fcmService.sendMessageTo(any()))
+                .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+                .thenReturn(1);
+
+        dispatcher.notify(List.of(member(1L), member(2L)), "title", "message", "/BoardList");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationDispatchDto>> saved = ArgumentCaptor.forClass(List.class);
+        verify(batchRepository, times(1)).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        assertNotEquals(saved.getValue().get(0).messageId(), saved.getValue().get(1).messageId());
+
+        // 미확인 수와 SSE 이벤트는 바로, FCM 발송은 작업 스레드로 넘긴다
+        verify(eventPublisher, times(1)).publishCreated(anyList());
+        verifyNoInteractions(fcmService);
+        assertEquals(1, tasks.size());
+        tasks.get(0).run();
+
+        verify(redisService, times(1)).getFcmTokens(anyList());
+        verify(fcmService, times(3)).sendMessageTo(any());
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    @DisplayName("다시 보내도 같은 실패는 바로 dead letter 로 남긴다")
+    public void 재시도하지않는실패() throws Exception {
+        NotificationDispatcher dispatcher = dispatcher(tasks::add);
+        when(redisService.getFcmTokens(anyList())).thenReturn(Map.of(100L, "token-1"));
+        when(fcmService.sendMessageTo(any())).thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        dispatcher.notify(List.of(member(1L)), "title", "message", "/BoardList");
+        tasks.get(0).run();
+
+        ArgumentCaptor<NotificationDeadLetter> deadLetter = ArgumentCaptor.forClass(NotificationDeadLetter.class);
+        verify(fcmService, times(1)).sendMessageTo(any());
+        verify(deadLetterRepository).save(deadLetter.capture());
+        assertEquals(1, deadLetter.getValue().getAttempts());
+        assertEquals(100L, deadLetter.getValue().getSalesMemberCode());
+    }
+
+    @Test
+    @DisplayName("발송 큐가 가득 차면 FCM 은 보내지 않고 dead letter 로 남긴다. 미확인 수와 SSE 이벤트는 그대로 발행한다")
+    public void 큐가득참() {
+        NotificationDispatcher dispatcher = dispatcher(task -> {
+            throw new TaskRejectedException("full");
+        });
+
+        assertDoesNotThrow(() -> dispatcher.notify(List.of(member(1L), member(2L)), "title", "message", "/BoardList"));
+
+        verify(batchRepository, times(1)).saveAll(anyList());
+        verify(eventPublisher, times(1)).publishCreated(anyList());
+        verify(deadLetterRepository, times(2)).save(any());
+        verifyNoInteractions(fcmService);
+    }
+}
@@ -0,0 +1,93 @@
+package com.alioth.server.support;
+
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.TestReporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * -Dbenchmark=true 로 켜는 비교 테스트가 같이 쓰는 측정 도구.
+ * 데우기 실행 후 한 번 재서 시간 / 현재 스레드 할당량 / 최대 heap 을 남기고, 결과는 로그와 JUnit TestReporter 로 내보낸다.
+ * JMH 처럼 fork / 반복 통계를 내지는 않으므로 같은 조건의 구현끼리 비교하는 데만 쓴다.
+ */
+public class Benchmark {
+
+    public interface Body {
+        void run() throws Exception;
+    }
+
+    /* operations: body 한 번이 처리하는 건수 */
+    public record Result(String name, long operations, long elapsedNanos, long allocatedBytes, long peakHeapBytes) {
+
+        public double nanosPerOperation() {
+            return (double) elapsedNanos / operations;
+        }
+
+        public long operationsPerSecond() {
+            return operations * 1_000_000_000L / Math.max(1L, elapsedNanos);
+        }
+
+        public long bytesPerOperation() {
+            return allocatedBytes / operations;
+        }
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(Benchmark.class);
+
+    private final String testName;
+    private final TestReporter reporter;
+
+    public Benchmark(TestInfo testInfo, TestReporter reporter) {
+        this.testName = testInfo.getTestClass().map(Class::getSimpleName).orElse("benchmark");
+        this.reporter = reporter;
+    }
+
+    public Result measure(String name, long operations, int warmups, Body body) throws Exception {
+        for (int i = 0; i < warmups; i++) {
+            body.run();
+        }
+
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        body.run();
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return new Result(name, operations, elapsed, allocated, peakHeap);
+    }
+
+    /* extras 는 "단위", 값 순서로 덧붙이고 "값 단위" 로 출력한다 */
+    public void report(Result result, Object... extras) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("ns/op", String.format("%,.1f", result.nanosPerOperation()));
+        entries.put("ops/s", String.format("%,d", result.operationsPerSecond()));
+        entries.put("B/op", String.format("%,d", result.bytesPerOperation()));
+        entries.put("MB peak heap", String.format("%,d", result.peakHeapBytes() / (1024 * 1024)));
+        for (int i = 0; i + 1 < extras.length; i += 2) {
+            entries.put(String.valueOf(extras[i]), String.valueOf(extras[i + 1]));
+        }
+
+        StringBuilder summary = new StringBuilder();
+        entries.forEach((key, value) -> summary.append(summary.isEmpty() ? "" : ", ").append(value).append(' ').append(key));
+
+        log.info("[{}] {} : {}", testName, result.name(), summary);
+        reporter.publishEntry(testName + " " + result.name(), summary.toString());
+    }
+}
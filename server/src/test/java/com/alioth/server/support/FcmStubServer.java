@@ -0,0 +1,57 @@
+package com.alioth.server.support;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 로컬 FCM 엔드포인트. 받은 요청(Authorization 헤더, 본문)을 기록하고 FCM 처럼 200 과 메시지 이름을 돌려준다.
+ */
+public class FcmStubServer implements AutoCloseable {
+
+    public record Request(String authorization, String body) {}
+
+    private final HttpServer server;
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private volatile int status = 200;
+
+    public FcmStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/projects/test/messages:send", exchange -> {
+            try (InputStream in = exchange.getRequestBody()) {
+                requests.add(new Request(exchange.getRequestHeaders().getFirst("Authorization"),
+                        new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+            }
+            byte[] body = ("{\"name\":\"projects/test/messages/" + requests.size() + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/projects/test/messages:send";
+    }
+
+    public List<Request> requests() {
+        return requests;
+    }
+
+    public void respondWith(int status) {
+        this.status = status;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
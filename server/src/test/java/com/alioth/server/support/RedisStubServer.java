@@ -0,0 +1,210 @@
+package com.alioth.server.support;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 로컬 Redis. RESP2 로 GET / SET / MGET / DEL / SCAN 정도만 흉내 낸다.
+ * 쌓인 명령을 다 처리하고 응답을 보낼 때마다 latency 만큼 기다려 네트워크 왕복 비용을 흉내 낸다
+ * (파이프라인으로 한 번에 온 명령은 한 번만 기다린다). 왕복 수는 roundTrips() 로 센다.
+ */
+public class RedisStubServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Map<String, String> data = new ConcurrentHashMap<>();
+    private final AtomicLong roundTrips = new AtomicLong();
+    private final long latencyNanos;
+    private final List<Socket> sockets = new ArrayList<>();
+
+    public RedisStubServer(long latencyMicros) throws IOException {
+        this.latencyNanos = latencyMicros * 1_000L;
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+
+        Thread acceptor = new Thread(this::accept, "redis-stub-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    public Map<String, String> data() {
+        return data;
+    }
+
+    public long roundTrips() {
+        return roundTrips.get();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                synchronized (sockets) {
+                    sockets.add(socket);
+                }
+                Thread worker = new Thread(() -> serve(socket), "redis-stub-conn");
+                worker.setDaemon(true);
+                worker.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream());
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+            while (true) {
+                List<String> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                execute(command, out);
+
+                // 이번에 받은 명령을 다 처리했으면 왕복 한 번
+                if (in.available() == 0) {
+                    if (latencyNanos > 0) {
+                        LockSupport.parkNanos(latencyNanos);
+                    }
+                    roundTrips.incrementAndGet();
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // 연결 종료
+        }
+    }
+
+    private void execute(List<String> command, OutputStream out) throws IOException {
+        String name = command.get(0).toUpperCase();
+        switch (name) {
+            case "PING" -> simple(out, "PONG");
+            case "CLIENT", "SELECT" -> simple(out, "OK");
+            case "GET" -> bulk(out, data.get(command.get(1)));
+            case "SET" -> {
+                data.put(command.get(1), command.get(2));
+                simple(out, "OK");
+            }
+            case "MGET" -> {
+                array(out, command.size() - 1);
+                for (String key : command.subList(1, command.size())) {
+                    bulk(out, data.get(key));
+                }
+            }
+            case "DEL" -> integer(out, command.subList(1, command.size()).stream().filter(key -> data.remove(key) != null).count());
+            case "SCAN" -> scan(command, out);
+            // HELLO 를 모른다고 하면 클라이언트가 RESP2 로 내려온다
+            default -> write(out, "-ERR unknown command '" + name + "'\r\n");
+        }
+    }
+
+    /* 커서 없이 한 번에 돌려준다 (SCAN 0 MATCH p COUNT n) */
+    private void scan(List<String> command, OutputStream out) throws IOException {
+        String match = "*";
+        for (int i = 2; i + 1 < command.size(); i += 2) {
+            if (command.get(i).equalsIgnoreCase("MATCH")) {
+                match = command.get(i + 1);
+            }
+        }
+        Pattern pattern = Pattern.compile(("\\Q" + match + "\\E").replace("*", "\\E.*\\Q").replace("?", "\\E.\\Q"));
+        List<String> keys = data.keySet().stream().filter(key -> pattern.matcher(key).matches()).toList();
+
+        array(out, 2);
+        bulk(out, "0");
+        array(out, keys.size());
+        for (String key : keys) {
+            bulk(out, key);
+        }
+    }
+
+    private List<String> readCommand(InputStream in) throws IOException {
+        int first = in.read();
+        if (first == -1) {
+            return null;
+        }
+        if (first != '*') {
+            throw new IOException("RESP 배열이 아닙니다: " + (char) first);
+        }
+
+        int count = Integer.parseInt(readLine(in));
+        List<String> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') {
+                throw new IOException("RESP bulk string 이 아닙니다.");
+            }
+            int length = Integer.parseInt(readLine(in));
+            byte[] value = in.readNBytes(length);
+            in.readNBytes(2); // CRLF
+            command.add(new String(value, StandardCharsets.UTF_8));
+        }
+        return command;
+    }
+
+    private String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b == -1) {
+                throw new IOException("연결이 끊겼습니다.");
+            }
+            line.write(b);
+        }
+        in.read(); // \n
+        return line.toString(StandardCharsets.UTF_8);
+    }
+
+    private void simple(OutputStream out, String value) throws IOException {
+        write(out, "+" + value + "\r\n");
+    }
+
+    private void integer(OutputStream out, long value) throws IOException {
+        write(out, ":" + value + "\r\n");
+    }
+
+    private void array(OutputStream out, int size) throws IOException {
+        write(out, "*" + size + "\r\n");
+    }
+
+    private void bulk(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            write(out, "$-1\r\n");
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        write(out, "$" + bytes.length + "\r\n");
+        out.write(bytes);
+        write(out, "\r\n");
+    }
+
+    private void write(OutputStream out, String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        synchronized (sockets) {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.alioth.statistics.common.batch.aggregate;
+
+import com.alioth.statistics.common.batch.reader.ContractSalesRow;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 하루치 계약을 한 번만 읽으면서 사원/팀/본사/상품 집계를 동시에 누적한다.
+ * 메모리는 계약 건수가 아니라 사원 + 팀 + 상품 수에 비례한다.
+ */
+public class DailySalesAggregator {
+
+    private final Map<Long, SalesAggregate> members = new LinkedHashMap<>();
+    private final Map<Long, SalesAggregate> teams = new LinkedHashMap<>();
+    private final Map<Long, SalesAggregate> products = new LinkedHashMap<>();
+
+    @Getter
+    private final SalesAggregate hq = SalesAggregate.empty();
+
+    public void add(ContractSalesRow row) {
+        accumulate(row, SalesAggregate::add);
+    }
+
+    public void subtract(ContractSalesRow row) {
+        accumulate(row, SalesAggregate::subtract);
+    }
+
+    private void accumulate(ContractSalesRow row, BiConsumer<SalesAggregate, ContractSalesRow> operation) {
+        operation.accept(members.computeIfAbsent(row.memberId(), key -> new SalesAggregate(row)), row);
+
+        if (row.contractId() == null) {
+            return;
+        }
+
+        operation.accept(hq, row);
+
+        if (row.teamId() != null) {
+            operation.accept(teams.computeIfAbsent(row.teamId(), key -> new SalesAggregate(row)), row);
+        }
+
+        if (row.insuranceId() != null) {
+            operation.accept(products.computeIfAbsent(row.insuranceId(), key -> new SalesAggregate(row)), row);
+        }
+    }
+
+    public Collection<SalesAggregate> getMembers() {
+        return members.values();
+    }
+
+    public Collection<SalesAggregate> getTeams() {
+        return teams.values();
+    }
+
+    public Collection<SalesAggregate> getProducts() {
+        return products.values();
+    }
+
+    // 사원 랭킹은 계약이 있는 사원만 대상으로 한다
+    public List<SalesAggregate> getRankMembers() {
+        return members.values().stream()
+                .filter(aggregate -> aggregate.getContractCount() > 0)
+                .toList();
+    }
+}
@@ -0,0 +1,61 @@
+package com.alioth.statistics.common.batch.aggregate;
+
+import com.alioth.statistics.common.batch.reader.ContractSalesRow;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 사원/팀/본사/상품 단위로 계약 금액과 건수를 누적한다.
+ * 그룹당 한 개만 메모리에 올라가므로 계약 건수가 늘어도 heap 사용량이 일정하다.
+ */
+@Getter
+public class SalesAggregate {
+
+    private final ContractSalesRow first; // 그룹 대표 행 (사원명, 팀명, 상품명 등)
+
+    private BigDecimal contractPrice = BigDecimal.ZERO;
+    private long contractCount;
+    private BigDecimal cancelPrice = BigDecimal.ZERO;
+    private long cancelCount;
+
+    public SalesAggregate(ContractSalesRow first) {
+        this.first = first;
+    }
+
+    public static SalesAggregate empty() {
+        return new SalesAggregate(ContractSalesRow.builder().build());
+    }
+
+    public void add(ContractSalesRow row) {
+        accumulate(row, 1);
+    }
+
+    // delta 집계에서 변경 전 상태를 빼는 데 사용한다
+    public void subtract(ContractSalesRow row) {
+        accumulate(row, -1);
+    }
+
+    public boolean hasChanges() {
+        return contractCount != 0 || cancelCount != 0 || contractPrice.signum() != 0 || cancelPrice.signum() != 0;
+    }
+
+    private void accumulate(ContractSalesRow row, int sign) {
+        if (row.contractId() == null) {
+            return;
+        }
+
+        BigDecimal price = row.contractTotalPrice();
+        if (sign < 0) {
+            price = price.negate();
+        }
+
+        contractPrice = contractPrice.add(price);
+        contractCount += sign;
+
+        if (row.isCancellation()) {
+            cancelPrice = cancelPrice.add(price);
+            cancelCount += sign;
+        }
+    }
+}
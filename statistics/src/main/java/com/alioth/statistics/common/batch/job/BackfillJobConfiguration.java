@@ -0,0 +1,31 @@
+package com.alioth.statistics.common.batch.job;
+
+import com.alioth.statistics.common.batch.partition.DateRangePartitioner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+
+/**
+ * 지난 날짜의 batch_* 집계를 다시 만드는 backfillJob 의 파티셔너.
+ * backfillJob, 날짜 하나를 다시 만드는 backfillDayJob 과 Step 은 BatchBackfillService 가 만든다.
+ * (Job 을 감싸는 Step 을 빈으로 두면 Map&lt;String, Step&gt; 주입과 순환 참조가 생기고,
+ *  Job 빈이 둘 이상이면 기동 시 자동 실행할 Job 을 고르지 못한다)
+ */
+@Slf4j
+@Configuration
+public class BackfillJobConfiguration {
+
+    @Bean(name = "partitionerBackfill")
+    @StepScope
+    public DateRangePartitioner partitionerBackfill(@Value("#{jobParameters['startDate']}") String startDate,
+                                                    @Value("#{jobParameters['endDate']}") String endDate) {
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = endDate == null ? start : LocalDate.parse(endDate);
+
+        return new DateRangePartitioner(start, end);
+    }
+}
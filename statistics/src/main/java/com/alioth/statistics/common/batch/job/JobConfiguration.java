@@ -1,18 +1,25 @@
 package com.alioth.statistics.common.batch.job;
 
+import com.alioth.statistics.common.cache.StatisticsCacheInvalidator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.*;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.support.SimpleFlow;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Map;
@@ -20,8 +27,17 @@ import java.util.Set;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class JobConfiguration {
 
+    private final StatisticsCacheInvalidator statisticsCacheInvalidator;
+
+    @Value("${batch.job.layout:chain}")
+    private String jobLayout; // chain | single-pass | parallel | delta
+
+    @Value("${batch.partition.enabled:false}")
+    private boolean partitionEnabled;
+
     @Bean
     @JobScope
     public JobExecutionListener jobExecutionListener() {
@@ -36,6 +52,10 @@ public class JobConfiguration {
                 if (jobExecution.getStatus() == BatchStatus.FAILED) {
                     log.error("[JobExecutionListener AfterJob] jobExecution is " + jobExecution.getStatus());
                 }
+                // batch_* 테이블이 새로 채워졌으니 통계 캐시를 모든 replica 에서 비운다
+                if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+                    statisticsCacheInvalidator.invalidateAll(jobExecution.getJobInstance().getJobName() + " completed");
+                }
                 log.info("[JobExecutionListener AfterJob] jobExecution is " + jobExecution.getStatus());
             }
         };
@@ -43,15 +63,71 @@ public class JobConfiguration {
 
 
     @Bean(name = "batchJob")
-    public Job batchJob(JobRepository jobRepository, Map<String, Step> stepMap) {
+    public Job batchJob(JobRepository jobRepository, Map<String, Step> stepMap,
+                        @Qualifier("batchFlowTaskExecutor") TaskExecutor batchFlowTaskExecutor) {
+
+        // 계약 변경 로그에서 지난 실행 이후의 변경분만 반영하는 방식 (재실행해도 checkpoint 이후만 읽는다)
+        if ("delta".equals(jobLayout)) {
+            return new JobBuilder("batchJob", jobRepository)
+                    .start(stepMap.get("stepContractDelta"))
+                    .listener(jobExecutionListener())
+                    .build();
+        }
+
+        // 하루치 계약을 한 번만 읽어서 다섯 테이블을 모두 채우는 방식
+        if ("single-pass".equals(jobLayout)) {
+            return new JobBuilder("batchJob", jobRepository)
+                    .start(stepMap.get("stepClearDailySales"))
+                    .next(stepMap.get("stepDailySales"))
+                    .next(stepMap.get("stepRankMemberRanking"))
+                    .next(stepMap.get("stepSalesRollup"))
+                    .listener(jobExecutionListener())
+                    .build();
+        }
+
+        // 사원/상품 Step 은 id 범위로 파티셔닝해서 여러 스레드로 실행할 수 있다
+        String memberSales = partitionEnabled ? "stepMemberSalesPartitioned" : "stepMemberSales";
+        String rankProduct = partitionEnabled ? "stepRankProductPartitioned" : "stepRankProduct";
+
+        // 서로의 결과를 읽지 않는 Step 들이라 split 으로 동시에 실행한다 (전체 시간 = 가장 긴 Step)
+        if ("parallel".equals(jobLayout)) {
+            Flow salesFlow = new FlowBuilder<SimpleFlow>("salesFlow")
+                    .split(batchFlowTaskExecutor)
+                    .add(flow(stepMap.get(memberSales)),
+                            flow(stepMap.get("stepTeamSales")),
+                            flow(stepMap.get("stepHqSales")),
+                            flow(stepMap.get(rankProduct)),
+                            new FlowBuilder<SimpleFlow>("flowRankMember")
+                                    .start(stepMap.get("stepRankMember"))
+                                    .next(stepMap.get("stepRankMemberRanking"))
+                                    .build())
+                    .build();
+
+            return new JobBuilder("batchJob", jobRepository)
+                    .flow(stepMap.get("stepClearDailySales"))
+                    .next(salesFlow)
+                    .next(stepMap.get("stepSalesRollup"))
+                    .end()
+                    .listener(jobExecutionListener())
+                    .build();
+        }
 
         return new JobBuilder("batchJob", jobRepository)
-                .start(stepMap.get("stepMemberSales"))
+                .start(stepMap.get("stepClearDailySales"))
+                .next(stepMap.get(memberSales))
                 .next(stepMap.get("stepTeamSales"))
                 .next(stepMap.get("stepHqSales"))
-                .next(stepMap.get("stepRankProduct"))
+                .next(stepMap.get(rankProduct))
                 .next(stepMap.get("stepRankMember"))
+                .next(stepMap.get("stepRankMemberRanking"))
+                .next(stepMap.get("stepSalesRollup"))
                 .listener(jobExecutionListener())
                 .build();
     }
+
+    private Flow flow(Step step) {
+        return new FlowBuilder<SimpleFlow>("flow-" + step.getName())
+                .start(step)
+                .build();
+    }
 }
@@ -0,0 +1,70 @@
+package com.alioth.statistics.common.batch.job;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+/**
+ * 배치 1회 실행이 집계하는 계약 기간(startDate ~ endDate)과 batch_* 테이블에 기록할 시각(createdTime).
+ * Step 마다 LocalDateTime.now() 를 따로 잡지 않도록 JobParameter 에서 한 번만 계산한다.
+ */
+@Builder
+public record SalesWindow(
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        LocalDateTime createdTime
+) {
+
+    public static final String TARGET_DATE = "targetDate";
+    public static final String TIMESTAMP = "timestamp";
+
+    public static SalesWindow ofRunTime(LocalDateTime runTime) {
+        LocalDateTime endDate = runTime.toLocalDate().atStartOfDay();
+
+        return SalesWindow.builder()
+                .startDate(endDate.minusDays(1L))
+                .endDate(endDate)
+                .createdTime(runTime.truncatedTo(ChronoUnit.MINUTES))
+                .build();
+    }
+
+    // targetDate 하루치 계약. 그날 밤 자정 배치가 기록했을 시각(다음날 00:00)으로 남긴다
+    public static SalesWindow ofTargetDate(LocalDate targetDate) {
+        return ofRunTime(targetDate.plusDays(1L).atStartOfDay());
+    }
+
+    // BatchScheduler 가 넘기는 timestamp(epoch millis) 기준, 없으면 현재 시각
+    public static SalesWindow ofTimestamp(String timestamp) {
+        if (timestamp == null || timestamp.isBlank()) {
+            return ofRunTime(LocalDateTime.now());
+        }
+
+        LocalDateTime runTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(timestamp)), ZoneId.systemDefault());
+        return ofRunTime(runTime);
+    }
+
+    // 재집계(backfill)는 targetDate(yyyy-MM-dd), 정기 실행은 timestamp 기준
+    public static SalesWindow ofJobParameters(Map<String, Object> jobParameters) {
+        Object targetDate = jobParameters.get(TARGET_DATE);
+        if (targetDate != null) {
+            return ofTargetDate(LocalDate.parse(targetDate.toString()));
+        }
+
+        Object timestamp = jobParameters.get(TIMESTAMP);
+        return ofTimestamp(timestamp == null ? null : timestamp.toString());
+    }
+
+    // batch_* 테이블에서 이번 실행이 덮어쓸 구간 (createdTime 이 속한 날짜)
+    public LocalDateTime createdDayStart() {
+        return createdTime.toLocalDate().atStartOfDay();
+    }
+
+    public LocalDateTime createdDayEnd() {
+        return createdDayStart().plusDays(1L);
+    }
+}
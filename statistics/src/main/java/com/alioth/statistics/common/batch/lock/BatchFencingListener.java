@@ -0,0 +1,77 @@
+package com.alioth.statistics.common.batch.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * lease 를 잃은 replica 의 배치가 batch_* 테이블에 쓰지 못하게 막는다.
+ * jobOperator.stop 은 실행 중인 tasklet / chunk 를 끊지 못하므로, 쓰는 쪽에서 직접 확인한다.
+ * lease 를 잡으면 advance 로 batch_job_fence 의 token 을 올리고, 모든 chunk 는 같은 트랜잭션 안에서
+ * 그 행을 공유 잠금으로 읽어 자기 token 과 다르면 실패한다. 새 token 으로 올리는 UPDATE 는 진행 중인 chunk 가 커밋될 때까지 기다린다.
+ */
+@Slf4j
+@Component
+public class BatchFencingListener implements ChunkListener {
+
+    public static final String FENCING_NAME = "fencingName";
+    public static final String FENCING_TOKEN = "fencingToken";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BatchFencingListener(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /* fencing token 을 lease 의 token 으로 올린다. 더 큰 token 이 이미 있으면(이 lease 가 오래된 것) false */
+    public boolean advance(BatchLease lease) {
+        jdbcTemplate.update("INSERT INTO batch_job_fence (name, fencing_token, updated_time) VALUES (?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE updated_time = IF(VALUES(fencing_token) > fencing_token, VALUES(updated_time), updated_time), " +
+                        "fencing_token = GREATEST(fencing_token, VALUES(fencing_token))",
+                lease.name(), lease.fencingToken(), LocalDateTime.now());
+
+        Long current = currentToken(lease.name(), false);
+        if (!lease.fencingToken().equals(current)) {
+            log.error("[BatchFencing] {} fencing token {} is behind {}", lease.name(), lease.fencingToken(), current);
+            return false;
+        }
+        return true;
+    }
+
+    /* Job 파라미터에 넣을 lease 정보. 같은 실행인지 가르는 값이 아니므로 identifying 이 아니다 */
+    public static JobParametersBuilder addLease(JobParametersBuilder builder, BatchLease lease) {
+        return builder
+                .addString(FENCING_NAME, lease.name(), false)
+                .addLong(FENCING_TOKEN, lease.fencingToken(), false);
+    }
+
+    // chunk 트랜잭션 안에서 호출된다
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        JobParameters jobParameters = context.getStepContext().getStepExecution().getJobParameters();
+        String name = jobParameters.getString(FENCING_NAME);
+        Long token = jobParameters.getLong(FENCING_TOKEN);
+        if (name == null || token == null) {
+            return; // lease 없이 띄운 실행 (테스트, 수동 실행)
+        }
+
+        Long current = currentToken(name, true);
+        if (!token.equals(current)) {
+            throw new IllegalStateException("batch lease " + name + " 의 fencing token " + token
+                    + " 이 만료되었습니다 (현재 " + current + "). " + context.getStepContext().getStepName() + " 를 중단합니다.");
+        }
+    }
+
+    private Long currentToken(String name, boolean lock) {
+        List<Long> tokens = jdbcTemplate.queryForList(
+                "SELECT fencing_token FROM batch_job_fence WHERE name = ?" + (lock ? " LOCK IN SHARE MODE" : ""), Long.class, name);
+        return tokens.isEmpty() ? null : tokens.get(0);
+    }
+}
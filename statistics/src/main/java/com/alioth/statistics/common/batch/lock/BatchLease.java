@@ -0,0 +1,16 @@
+package com.alioth.statistics.common.batch.lock;
+
+/**
+ * Redis 에 잡힌 배치 실행 권한.
+ * fencingToken 은 획득할 때마다 1씩 증가하므로, 늦게 도착한 이전 소유자의 작업을 구분할 수 있다.
+ */
+public record BatchLease(
+        String name,
+        String owner,
+        Long fencingToken
+) {
+
+    public String value() {
+        return owner + ":" + fencingToken;
+    }
+}
@@ -0,0 +1,133 @@
+package com.alioth.statistics.common.batch.lock;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 replica 중 한 곳에서만 배치가 돌도록 Redis 에 TTL 이 있는 lease 를 잡는다.
+ * 실행 중에는 heartbeat 로 TTL 을 연장하고, pod 가 죽으면 TTL 이 지나 다른 replica 가 가져갈 수 있다.
+ */
+@Slf4j
+@Component
+public class BatchLockService {
+
+    private static final String KEY_PREFIX = "batch:lock:";
+
+    // lease 가 없을 때만 fencing token 을 올리고 owner:token 으로 잡는다
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "local token = redis.call('INCR', KEYS[2]) " +
+            "redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+            "return token", Long.class);
+
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0", Long.class);
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Duration heartbeat;
+    private final String owner;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    public BatchLockService(StringRedisTemplate redisTemplate,
+                            @Value("${batch.lock.ttl:PT5M}") Duration ttl,
+                            @Value("${batch.lock.heartbeat:PT1M}") Duration heartbeat) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.heartbeat = heartbeat;
+        this.owner = hostName() + "-" + UUID.randomUUID();
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "batch-lock-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Optional<BatchLease> tryAcquire(String name) {
+        Long token = redisTemplate.execute(ACQUIRE, List.of(KEY_PREFIX + name, KEY_PREFIX + name + ":fencing"),
+                owner, String.valueOf(ttl.toMillis()));
+
+        if (token == null || token == 0L) {
+            return Optional.empty();
+        }
+
+        log.info("[BatchLock] {} acquired by {} (fencing token {})", name, owner, token);
+        return Optional.of(new BatchLease(name, owner, token));
+    }
+
+    public boolean renew(BatchLease lease) {
+        Long renewed = redisTemplate.execute(RENEW, List.of(KEY_PREFIX + lease.name()),
+                lease.value(), String.valueOf(ttl.toMillis()));
+
+        return renewed != null && renewed == 1L;
+    }
+
+    public boolean isHeld(BatchLease lease) {
+        return lease.value().equals(redisTemplate.opsForValue().get(KEY_PREFIX + lease.name()));
+    }
+
+    public void release(BatchLease lease) {
+        redisTemplate.execute(RELEASE, List.of(KEY_PREFIX + lease.name()), lease.value());
+        log.info("[BatchLock] {} released by {} (fencing token {})", lease.name(), owner, lease.fencingToken());
+    }
+
+    /**
+     * TTL 보다 짧은 주기로 lease 를 연장한다. 연장에 실패하면(TTL 만료 후 다른 replica 가 가져감) onLost 를 한 번 호출한다.
+     */
+    public ScheduledFuture<?> startHeartbeat(BatchLease lease, Runnable onLost) {
+        long period = heartbeat.toMillis();
+
+        ScheduledFuture<?>[] future = new ScheduledFuture<?>[1];
+        future[0] = heartbeatExecutor.scheduleAtFixedRate(() -> {
+            try {
+                if (!renew(lease)) {
+                    log.error("[BatchLock] {} lost by {} (fencing token {})", lease.name(), owner, lease.fencingToken());
+                    future[0].cancel(false);
+                    onLost.run();
+                }
+            } catch (Exception e) {
+                log.error("[BatchLock] heartbeat failed: {}", e.getMessage());
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+
+        return future[0];
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
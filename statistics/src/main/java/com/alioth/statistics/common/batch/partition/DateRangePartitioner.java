@@ -0,0 +1,41 @@
+package com.alioth.statistics.common.batch.partition;
+
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * startDate ~ endDate 를 하루에 하나씩 파티션으로 나눈다. 각 파티션은 targetDate 로 batchJob 을 한 번 실행한다.
+ * 동시에 실행되는 날짜 수는 gridSize 가 아니라 파티션 Step 의 TaskExecutor 가 정한다.
+ */
+public class DateRangePartitioner implements Partitioner {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    public DateRangePartitioner(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate 가 startDate 보다 빠릅니다.");
+        }
+
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1L)) {
+            ExecutionContext context = new ExecutionContext();
+            context.putString(SalesWindow.TARGET_DATE, date.toString());
+            partitions.put("day-" + date, context);
+        }
+
+        return partitions;
+    }
+}
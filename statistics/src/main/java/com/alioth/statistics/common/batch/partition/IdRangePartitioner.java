@@ -0,0 +1,59 @@
+package com.alioth.statistics.common.batch.partition;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 테이블의 id 범위(min ~ max)를 gridSize 개의 구간으로 나눈다.
+ * 각 파티션의 ExecutionContext 에 minId, maxId 를 담아 worker Step 의 reader 가 자기 구간만 읽게 한다.
+ */
+public class IdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String column;
+
+    public IdRangePartitioner(JdbcTemplate jdbcTemplate, String table, String column) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.column = column;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Long min = jdbcTemplate.queryForObject("SELECT MIN(" + column + ") FROM " + table, Long.class);
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + column + ") FROM " + table, Long.class);
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (min == null || max == null) {
+            partitions.put("partition0", range(0L, -1L));
+            return partitions;
+        }
+
+        long size = (max - min) / gridSize + 1;
+        long start = min;
+        int number = 0;
+
+        while (start <= max) {
+            long end = Math.min(start + size - 1, max);
+            partitions.put("partition" + number++, range(start, end));
+            start = end + 1;
+        }
+
+        return partitions;
+    }
+
+    private ExecutionContext range(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        return context;
+    }
+}
@@ -0,0 +1,53 @@
+package com.alioth.statistics.common.batch.reader;
+
+import com.alioth.statistics.domain.dummy.domain.ContractStatus;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+/**
+ * contract_change_log 한 줄. before 는 변경 전 계약 상태로, 계약 등록(CREATE)이면 contractId 가 null 이다.
+ * 집계에는 after 를 더하고 before 를 빼서 변경분만 반영한다.
+ * id 는 AUTO_INCREMENT 라 커밋 순서와 다를 수 있으므로 id 커서가 아니라 processed_at 이 없는 행을 읽는다.
+ */
+public record ContractChangeRow(
+        Long id,
+        LocalDateTime changedAt,
+        ContractSalesRow before,
+        ContractSalesRow after
+) {
+
+    // 사원/팀/상품은 집계 시점 기준으로 붙인다
+    public static final String SQL =
+            "SELECT l.id, l.changed_at, l.before_status, l.before_price, " +
+            "l.contract_id, l.after_price AS contract_total_price, l.after_status AS contract_status, " +
+            "m.id AS member_id, m.sales_member_code, m.name AS member_name, " +
+            "t.id AS team_id, t.team_code, t.team_name, " +
+            "p.insurance_id, p.insurance_name, p.insurance_category, p.insurance_main_code " +
+            "FROM contract_change_log l " +
+            "JOIN sales_members m ON l.sales_member_id = m.id " +
+            "LEFT JOIN team t ON m.team_id = t.id " +
+            "LEFT JOIN insurance_product p ON l.insurance_id = p.insurance_id " +
+            "WHERE l.processed_at IS NULL ORDER BY l.id LIMIT ?";
+
+    public static String markProcessedSql(int size) {
+        return "UPDATE contract_change_log SET processed_at = ? WHERE id IN (" + String.join(", ", Collections.nCopies(size, "?")) + ")";
+    }
+
+    public static ContractChangeRow of(ResultSet rs, int rowNum) throws SQLException {
+        ContractSalesRow after = ContractSalesRow.of(rs, rowNum);
+        String beforeStatus = rs.getString("before_status");
+
+        ContractSalesRow before = beforeStatus == null
+                ? after.toBuilder().contractId(null).contractTotalPrice(null).contractStatus(null).build()
+                : after.toBuilder().contractTotalPrice(rs.getBigDecimal("before_price")).contractStatus(ContractStatus.valueOf(beforeStatus)).build();
+
+        return new ContractChangeRow(
+                rs.getLong("id"),
+                rs.getObject("changed_at", LocalDateTime.class),
+                before,
+                after);
+    }
+}
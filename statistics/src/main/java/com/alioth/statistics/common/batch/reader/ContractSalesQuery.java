@@ -0,0 +1,84 @@
+package com.alioth.statistics.common.batch.reader;
+
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 집계 Step 들이 공유하는 계약 조회 쿼리.
+ * 서브쿼리의 컬럼명을 그대로 sort key 로 쓰기 위해 FROM 절을 한 번 감싼다.
+ */
+public final class ContractSalesQuery {
+
+    private static final String COLUMNS =
+            "c.contract_id, c.contract_total_price, c.contract_status, " +
+            "m.id AS member_id, m.sales_member_code, m.name AS member_name, " +
+            "t.id AS team_id, t.team_code, t.team_name, " +
+            "p.insurance_id, p.insurance_name, p.insurance_category, p.insurance_main_code";
+
+    // 하루치 계약
+    public static final String DAILY_CONTRACTS =
+            "(SELECT " + COLUMNS + " " +
+            "FROM contract c " +
+            "JOIN sales_members m ON c.sm_id = m.id " +
+            "LEFT JOIN team t ON m.team_id = t.id " +
+            "LEFT JOIN insurance_product p ON c.insurance_id = p.insurance_id " +
+            "WHERE c.contract_date BETWEEN :startDate AND :endDate) sales";
+
+    // 전체 사원 + 하루치 계약 (계약이 없는 사원도 0건으로 집계)
+    public static final String DAILY_MEMBERS =
+            "(SELECT " + COLUMNS + " " +
+            "FROM sales_members m " +
+            "LEFT JOIN team t ON m.team_id = t.id " +
+            "LEFT JOIN contract c ON c.sm_id = m.id AND c.contract_date BETWEEN :startDate AND :endDate " +
+            "LEFT JOIN insurance_product p ON c.insurance_id = p.insurance_id) sales";
+
+    private ContractSalesQuery() {
+    }
+
+    public static Map<String, Order> sortKeys(String... keys) {
+        Map<String, Order> sortKeys = new LinkedHashMap<>();
+        for (String key : keys) {
+            sortKeys.put(key, Order.ASCENDING);
+        }
+        return sortKeys;
+    }
+
+    public static JdbcPagingItemReader<ContractSalesRow> pagingReader(String name, DataSource dataSource, String fromClause,
+                                                                     String whereClause, Map<String, Order> sortKeys,
+                                                                     SalesWindow window, int pageSize) throws Exception {
+        return pagingReader(name, dataSource, fromClause, whereClause, sortKeys, window, Map.of(), pageSize);
+    }
+
+    public static JdbcPagingItemReader<ContractSalesRow> pagingReader(String name, DataSource dataSource, String fromClause,
+                                                                     String whereClause, Map<String, Order> sortKeys,
+                                                                     SalesWindow window, Map<String, Object> parameters,
+                                                                     int pageSize) throws Exception {
+        Map<String, Object> parameterValues = new HashMap<>(parameters);
+        parameterValues.put("startDate", window.startDate());
+        parameterValues.put("endDate", window.endDate());
+
+        JdbcPagingItemReader<ContractSalesRow> reader = new JdbcPagingItemReaderBuilder<ContractSalesRow>()
+                .name(name)
+                .dataSource(dataSource)
+                .selectClause("SELECT *")
+                .fromClause(fromClause)
+                .whereClause(whereClause)
+                .sortKeys(sortKeys)
+                .parameterValues(parameterValues)
+                .pageSize(pageSize)
+                .fetchSize(pageSize)
+                .rowMapper(ContractSalesRow::of)
+                .saveState(true)
+                .build();
+        reader.afterPropertiesSet();
+
+        return reader;
+    }
+}
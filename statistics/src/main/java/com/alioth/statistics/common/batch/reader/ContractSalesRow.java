@@ -0,0 +1,54 @@
+package com.alioth.statistics.common.batch.reader;
+
+import com.alioth.statistics.domain.dummy.domain.ContractStatus;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 집계용 계약 한 줄. 엔티티 대신 필요한 컬럼만 읽어서 연관관계 EAGER 로딩을 피한다.
+ * 계약이 없는 사원(LEFT JOIN)은 contractId 가 null 이다.
+ */
+@Builder(toBuilder = true)
+public record ContractSalesRow(
+        Long contractId,
+        BigDecimal contractTotalPrice,
+        ContractStatus contractStatus,
+        Long memberId,
+        Long salesMemberCode,
+        String memberName,
+        Long teamId,
+        String teamCode,
+        String teamName,
+        Long insuranceId,
+        String insuranceName,
+        String insuranceCategory,
+        String insuranceMainCode
+) {
+
+    public static ContractSalesRow of(ResultSet rs, int rowNum) throws SQLException {
+        String status = rs.getString("contract_status");
+
+        return ContractSalesRow.builder()
+                .contractId(rs.getObject("contract_id", Long.class))
+                .contractTotalPrice(rs.getBigDecimal("contract_total_price"))
+                .contractStatus(status == null ? null : ContractStatus.valueOf(status))
+                .memberId(rs.getObject("member_id", Long.class))
+                .salesMemberCode(rs.getObject("sales_member_code", Long.class))
+                .memberName(rs.getString("member_name"))
+                .teamId(rs.getObject("team_id", Long.class))
+                .teamCode(rs.getString("team_code"))
+                .teamName(rs.getString("team_name"))
+                .insuranceId(rs.getObject("insurance_id", Long.class))
+                .insuranceName(rs.getString("insurance_name"))
+                .insuranceCategory(rs.getString("insurance_category"))
+                .insuranceMainCode(rs.getString("insurance_main_code"))
+                .build();
+    }
+
+    public boolean isCancellation() {
+        return contractStatus == ContractStatus.Cancellation;
+    }
+}
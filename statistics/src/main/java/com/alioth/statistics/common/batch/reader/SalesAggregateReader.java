@@ -0,0 +1,82 @@
+package com.alioth.statistics.common.batch.reader;
+
+import com.alioth.statistics.common.batch.aggregate.SalesAggregate;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.SingleItemPeekableItemReader;
+import org.springframework.batch.item.support.builder.SingleItemPeekableItemReaderBuilder;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 같은 key 로 정렬된 계약 행을 연속으로 읽어 그룹 하나당 SalesAggregate 하나를 돌려준다.
+ * 다음 그룹의 첫 행은 peek 만 하므로, chunk 커밋 시점의 reader 상태는 항상 그룹 경계에 저장되어
+ * Step 을 중간에 재시작해도 그룹이 둘로 쪼개지지 않는다.
+ */
+public class SalesAggregateReader implements ItemStreamReader<SalesAggregate> {
+
+    private static final String EMITTED = "emitted";
+
+    private final SingleItemPeekableItemReader<ContractSalesRow> delegate;
+    private final Function<ContractSalesRow, Object> keyMapper;
+    private final boolean emitEmpty;
+    private final String name;
+
+    private boolean emitted;
+
+    /**
+     * @param emitEmpty 읽을 행이 하나도 없을 때 빈 집계 한 건을 돌려줄지 여부 (본사 일별 합계처럼 0원이라도 기록해야 하는 경우)
+     */
+    public SalesAggregateReader(ItemStreamReader<ContractSalesRow> delegate, Function<ContractSalesRow, Object> keyMapper,
+                                boolean emitEmpty, String name) {
+        this.delegate = new SingleItemPeekableItemReaderBuilder<ContractSalesRow>()
+                .delegate(delegate)
+                .build();
+        this.keyMapper = keyMapper;
+        this.emitEmpty = emitEmpty;
+        this.name = name;
+    }
+
+    @Override
+    public SalesAggregate read() throws Exception {
+        ContractSalesRow first = delegate.read();
+        if (first == null) {
+            if (emitEmpty && !emitted) {
+                emitted = true;
+                return SalesAggregate.empty();
+            }
+            return null;
+        }
+
+        Object key = keyMapper.apply(first);
+        SalesAggregate aggregate = new SalesAggregate(first);
+        aggregate.add(first);
+
+        ContractSalesRow next;
+        while ((next = delegate.peek()) != null && Objects.equals(key, keyMapper.apply(next))) {
+            aggregate.add(delegate.read());
+        }
+
+        emitted = true;
+        return aggregate;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.open(executionContext);
+        emitted = executionContext.getString(name + "." + EMITTED, "N").equals("Y");
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.update(executionContext);
+        executionContext.putString(name + "." + EMITTED, emitted ? "Y" : "N");
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        delegate.close();
+    }
+}
@@ -1,35 +1,125 @@
 package com.alioth.statistics.common.batch.scheduler;
 
 
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import com.alioth.statistics.common.batch.lock.BatchFencingListener;
+import com.alioth.statistics.common.batch.lock.BatchLease;
+import com.alioth.statistics.common.batch.lock.BatchLockService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.JobOperator;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.support.CronExpression;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+
+@Slf4j
 @Component
 public class BatchScheduler {
 
     private final JobLauncher jobLauncher;
     private final Job batchJob;
+    private final BatchLockService batchLockService;
+    private final JobExplorer jobExplorer;
+    private final JobOperator jobOperator;
+    private final BatchFencingListener batchFencingListener;
+    private final CronExpression cron;
 
-    public BatchScheduler(JobLauncher jobLauncher, Job batchJob) {
+    public BatchScheduler(JobLauncher jobLauncher, @Qualifier("batchJob") Job batchJob, BatchLockService batchLockService,
+                          JobExplorer jobExplorer, JobOperator jobOperator, BatchFencingListener batchFencingListener,
+                          @Value("${batch.cron:0 0 0 * * *}") String cron) {
         this.jobLauncher = jobLauncher;
         this.batchJob = batchJob;
+        this.batchLockService = batchLockService;
+        this.jobExplorer = jobExplorer;
+        this.jobOperator = jobOperator;
+        this.batchFencingListener = batchFencingListener;
+        this.cron = CronExpression.parse(cron);
     }
     
-    @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
+    @Scheduled(cron = "${batch.cron:0 0 0 * * *}") // 기본은 매일 자정, delta 방식이면 더 자주 돌려도 된다
 //    @Scheduled(cron = "0 * * 1 * *") // 매분 0초에 실행
     public void runBatchJob() throws JobParametersInvalidException, JobExecutionAlreadyRunningException,
             JobRestartException, JobInstanceAlreadyCompleteException {
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addString("timestamp", Long.toString(System.currentTimeMillis())) // 현재 시간을 파라미터로 사용
-                .toJobParameters();
-        jobLauncher.run(batchJob, jobParameters);
+        // replica 중 lease 를 잡은 한 곳에서만 실행, 나머지는 건너뛴다
+        Optional<BatchLease> acquired;
+        try {
+            acquired = batchLockService.tryAcquire(batchJob.getName());
+        } catch (Exception e) {
+            log.error("[BatchScheduler] batch lock 획득 실패, 이번 실행은 건너뜁니다. {}", e.getMessage());
+            return;
+        }
+
+        if (acquired.isEmpty()) {
+            log.info("[BatchScheduler] {} 는 다른 replica 에서 실행 중입니다.", batchJob.getName());
+            return;
+        }
+
+        BatchLease lease = acquired.get();
+        if (!batchFencingListener.advance(lease)) {
+            batchLockService.release(lease);
+            return;
+        }
+        ScheduledFuture<?> heartbeat = batchLockService.startHeartbeat(lease, () -> stopJob(lease));
+
+        // 실행 시각이 아니라 cron 이 울린 시각으로 JobInstance 를 가른다.
+        // 먼저 끝낸 replica 가 lease 를 놓은 뒤 늦게 울린 replica 가 잡아도 같은 JobInstance 라 다시 돌지 않는다 (실패한 실행은 이어서 재시작)
+        LocalDateTime scheduledAt = lastFireTime(LocalDateTime.now());
+        try {
+            JobParameters jobParameters = BatchFencingListener.addLease(new JobParametersBuilder(), lease)
+                    .addString(SalesWindow.TIMESTAMP, Long.toString(scheduledAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()))
+                    .toJobParameters();
+            jobLauncher.run(batchJob, jobParameters);
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("[BatchScheduler] {} 의 {} 실행은 이미 다른 replica 에서 끝났습니다.", batchJob.getName(), scheduledAt);
+        } finally {
+            heartbeat.cancel(false);
+            batchLockService.release(lease);
+        }
+    }
+
+    // now 이전에 cron 이 마지막으로 울린 시각. 하루 안에 없으면(월 단위 cron 등) 분 단위로 자른 현재 시각
+    LocalDateTime lastFireTime(LocalDateTime now) {
+        LocalDateTime fireTime = cron.next(now.minusDays(1L));
+        if (fireTime == null || fireTime.isAfter(now)) {
+            return now.truncatedTo(ChronoUnit.MINUTES);
+        }
+
+        for (LocalDateTime next = cron.next(fireTime); next != null && !next.isAfter(now); next = cron.next(next)) {
+            fireTime = next;
+        }
+        return fireTime;
+    }
+
+    // lease 를 다른 replica 가 가져갔으면 이 replica 의 실행은 중단한다
+    private void stopJob(BatchLease lease) {
+        for (JobExecution execution : jobExplorer.findRunningJobExecutions(batchJob.getName())) {
+            if (!lease.fencingToken().equals(execution.getJobParameters().getLong(BatchFencingListener.FENCING_TOKEN))) {
+                continue;
+            }
+
+            try {
+                jobOperator.stop(execution.getId());
+                log.error("[BatchScheduler] lease 상실로 jobExecution {} 중단 (fencing token {})", execution.getId(), lease.fencingToken());
+            } catch (Exception e) {
+                log.error("[BatchScheduler] jobExecution {} 중단 실패 {}", execution.getId(), e.getMessage());
+            }
+        }
     }
-}
\ No newline at end of file
+}
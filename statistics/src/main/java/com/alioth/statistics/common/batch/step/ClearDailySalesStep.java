@@ -0,0 +1,67 @@
+package com.alioth.statistics.common.batch.step;
+
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import com.alioth.statistics.common.batch.lock.BatchFencingListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+
+/**
+ * 집계 Step 들보다 먼저 실행되어 같은 날짜에 이미 기록된 batch_* 행을 지운다.
+ * 같은 날짜를 몇 번 다시 돌려도 그날의 집계는 한 벌만 남는다.
+ */
+@Slf4j
+@Configuration
+public class ClearDailySalesStep {
+
+    // 테이블 이름, 기록 시각 컬럼
+    private static final Map<String, String> TABLES = Map.of(
+            "batch_member_sales", "created_time",
+            "batch_team_sales", "created_time",
+            "batch_hq_sales", "created_date",
+            "batch_rank_product", "created_date",
+            "batch_rank_member", "created_date"
+    );
+
+    @Bean(name = "stepClearDailySales")
+    public Step stepClearDailySales(JobRepository jobRepository, BatchFencingListener batchFencingListener, @Qualifier("taskletClearDailySales") Tasklet taskletClearDailySales,
+                                    PlatformTransactionManager platformTransactionManager){
+        return new StepBuilder("stepClearDailySales", jobRepository)
+                .tasklet(taskletClearDailySales, platformTransactionManager)
+                .listener(batchFencingListener)
+                .build();
+    }
+
+    @Bean(name = "taskletClearDailySales")
+    @StepScope
+    public Tasklet taskletClearDailySales(JdbcTemplate jdbcTemplate,
+                                          @Value("#{jobParameters}") Map<String, Object> jobParameters) {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return ((contribution, chunkContext) -> {
+            for (var table : TABLES.entrySet()) {
+                int deleted = jdbcTemplate.update(
+                        "DELETE FROM " + table.getKey() + " WHERE " + table.getValue() + " >= ? AND " + table.getValue() + " < ?",
+                        window.createdDayStart(), window.createdDayEnd());
+
+                if (deleted > 0) {
+                    log.info("[taskletClearDailySales] {} : {} rows of {} replaced", table.getKey(), deleted, window.createdDayStart().toLocalDate());
+                }
+            }
+
+            return RepeatStatus.FINISHED;
+        });
+    }
+}
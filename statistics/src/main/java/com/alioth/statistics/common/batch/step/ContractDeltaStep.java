@@ -0,0 +1,105 @@
+package com.alioth.statistics.common.batch.step;
+
+import com.alioth.statistics.common.batch.aggregate.DailySalesAggregator;
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import com.alioth.statistics.common.batch.lock.BatchFencingListener;
+import com.alioth.statistics.common.batch.reader.ContractChangeRow;
+import com.alioth.statistics.common.batch.writer.SalesDeltaWriter;
+import com.alioth.statistics.common.batch.writer.SalesRollupWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * batch.job.layout=delta 일 때 사용.
+ * 계약 테이블을 다시 읽지 않고 contract_change_log 에서 아직 반영하지 않은 변경분만 읽어 집계에 더하고, 같은 트랜잭션에서 반영했다고 표시한다.
+ * id 커서(마지막 id 이후)로 읽으면 작은 id 가 늦게 커밋될 때 그 행을 영영 건너뛰므로 행마다 processed_at 을 남긴다.
+ * 변경은 계약일이 아니라 변경된 날짜의 집계에 반영되므로, 며칠 뒤의 해지도 해지된 날의 cancel 에 잡힌다.
+ */
+@Slf4j
+@Configuration
+public class ContractDeltaStep {
+
+    private static final String CHECKPOINT = "contract_change_log";
+
+    @Value("${batch.page-size:1000}")
+    private int pageSize;
+
+    @Bean(name = "stepContractDelta")
+    public Step stepContractDelta(JobRepository jobRepository, BatchFencingListener batchFencingListener, PlatformTransactionManager platformTransactionManager,
+                                  @Qualifier("taskletContractDelta") Tasklet taskletContractDelta){
+        return new StepBuilder("stepContractDelta", jobRepository)
+                .tasklet(taskletContractDelta, platformTransactionManager)
+                .listener(batchFencingListener)
+                .build();
+    }
+
+    // 한 번 실행할 때 pageSize 만큼 반영하고 같은 트랜잭션에서 processed_at 을 찍는다. 남은 로그가 있으면 다시 실행된다.
+    // checkpoint 행은 FOR UPDATE 로 잡아 두 실행이 같은 로그를 동시에 반영하지 않게 하고, 마지막으로 반영한 id 를 참고용으로 남긴다.
+    @Bean(name = "taskletContractDelta")
+    public Tasklet taskletContractDelta(JdbcTemplate jdbcTemplate, SalesDeltaWriter salesDeltaWriter,
+                                         SalesRollupWriter salesRollupWriter) {
+        return ((contribution, chunkContext) -> {
+            long checkpoint = readCheckpoint(jdbcTemplate);
+
+            List<ContractChangeRow> changes = jdbcTemplate.query(ContractChangeRow.SQL, ContractChangeRow::of, pageSize);
+            if (changes.isEmpty()) {
+                return RepeatStatus.FINISHED;
+            }
+
+            // 변경된 날짜별로 묶는다 (하루치 집계 행은 다음날 자정으로 기록된다)
+            Map<LocalDateTime, DailySalesAggregator> days = new TreeMap<>();
+            for (ContractChangeRow change : changes) {
+                DailySalesAggregator aggregator = days.computeIfAbsent(
+                        SalesWindow.ofTargetDate(change.changedAt().toLocalDate()).createdTime(), key -> new DailySalesAggregator());
+                aggregator.add(change.after());
+                aggregator.subtract(change.before());
+            }
+
+            days.forEach(salesDeltaWriter::write);
+            salesRollupWriter.refreshAll(days.keySet()); // 변경된 날짜가 속한 월 / 반기 / 연만 다시 계산
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Object> markArgs = new ArrayList<>(changes.size() + 1);
+            markArgs.add(now);
+            changes.forEach(change -> markArgs.add(change.id()));
+            jdbcTemplate.update(ContractChangeRow.markProcessedSql(changes.size()), markArgs.toArray());
+
+            long lastLogId = Math.max(checkpoint, changes.get(changes.size() - 1).id());
+            jdbcTemplate.update("UPDATE batch_delta_checkpoint SET last_log_id = ?, updated_time = ? WHERE name = ?",
+                    lastLogId, now, CHECKPOINT);
+            contribution.incrementWriteCount(changes.size());
+
+            log.info("[taskletContractDelta] {} changes applied to {} days, checkpoint {} -> {}", changes.size(), days.size(), checkpoint, lastLogId);
+            return RepeatStatus.continueIf(changes.size() == pageSize);
+        });
+    }
+
+    private long readCheckpoint(JdbcTemplate jdbcTemplate) {
+        List<Long> checkpoint = jdbcTemplate.queryForList(
+                "SELECT last_log_id FROM batch_delta_checkpoint WHERE name = ? FOR UPDATE", Long.class, CHECKPOINT);
+
+        if (checkpoint.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO batch_delta_checkpoint (name, last_log_id, updated_time) VALUES (?, 0, ?)",
+                    CHECKPOINT, LocalDateTime.now());
+            return 0L;
+        }
+
+        return checkpoint.get(0);
+    }
+}
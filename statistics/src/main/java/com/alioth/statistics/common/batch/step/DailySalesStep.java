@@ -0,0 +1,118 @@
+package com.alioth.statistics.common.batch.step;
+
+import com.alioth.statistics.common.batch.aggregate.DailySalesAggregator;
+import com.alioth.statistics.common.batch.aggregate.SalesAggregate;
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import com.alioth.statistics.common.batch.lock.BatchFencingListener;
+import com.alioth.statistics.common.batch.reader.ContractSalesQuery;
+import com.alioth.statistics.common.batch.reader.ContractSalesRow;
+import com.alioth.statistics.domain.batch.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * batch.job.layout=single-pass 일 때 사용하는 Step.
+ * 하루치 계약을 한 번만 스캔해서 batch_* 다섯 테이블을 모두 채운다.
+ * 행 변환과 INSERT 는 개별 Step 의 processor / writer 를 그대로 재사용한다.
+ */
+@Slf4j
+@Configuration
+public class DailySalesStep {
+
+    @Value("${batch.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${batch.page-size:1000}")
+    private int pageSize;
+
+    @Bean(name = "stepDailySales")
+    public Step stepDailySales(JobRepository jobRepository, BatchFencingListener batchFencingListener, @Qualifier("taskletDailySales") Tasklet taskletDailySales,
+                               PlatformTransactionManager platformTransactionManager){
+        return new StepBuilder("stepDailySales", jobRepository)
+                .tasklet(taskletDailySales, platformTransactionManager)
+                .listener(batchFencingListener)
+                .build();
+    }
+
+    @Bean(name = "taskletDailySales")
+    @StepScope
+    public Tasklet taskletDailySales(DataSource dataSource,
+                                     @Value("#{jobParameters}") Map<String, Object> jobParameters,
+                                     @Qualifier("processorMemberSales") ItemProcessor<SalesAggregate, BatchMemberSales> processorMemberSales,
+                                     @Qualifier("processorTeamSales") ItemProcessor<SalesAggregate, BatchTeamSales> processorTeamSales,
+                                     @Qualifier("processorHqSales") ItemProcessor<SalesAggregate, BatchHQSales> processorHqSales,
+                                     @Qualifier("processorRankProduct") ItemProcessor<SalesAggregate, BatchRankProduct> processorRankProduct,
+                                     @Qualifier("processorRankMember") ItemProcessor<SalesAggregate, BatchRankMember> processorRankMember,
+                                     @Qualifier("writerMemberSales") ItemWriter<BatchMemberSales> writerMemberSales,
+                                     @Qualifier("writerTeamSales") ItemWriter<BatchTeamSales> writerTeamSales,
+                                     @Qualifier("writerHqSales") ItemWriter<BatchHQSales> writerHqSales,
+                                     @Qualifier("writerRankProduct") ItemWriter<BatchRankProduct> writerRankProduct,
+                                     @Qualifier("writerRankMember") ItemWriter<BatchRankMember> writerRankMember) {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(pageSize);
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+        return ((contribution, chunkContext) -> {
+            log.info("===============================================");
+            log.info("===========This is taskletDailySales===========");
+
+            DailySalesAggregator aggregator = new DailySalesAggregator();
+            namedParameterJdbcTemplate.query(
+                    "SELECT * FROM " + ContractSalesQuery.DAILY_MEMBERS,
+                    Map.of("startDate", window.startDate(), "endDate", window.endDate()),
+                    (RowCallbackHandler) rs -> aggregator.add(ContractSalesRow.of(rs, rs.getRow())));
+
+            write(aggregator.getMembers(), processorMemberSales, writerMemberSales);
+            write(aggregator.getTeams(), processorTeamSales, writerTeamSales);
+            write(List.of(aggregator.getHq()), processorHqSales, writerHqSales);
+            write(aggregator.getProducts(), processorRankProduct, writerRankProduct);
+            write(aggregator.getRankMembers(), processorRankMember, writerRankMember);
+
+            contribution.incrementWriteCount(aggregator.getMembers().size());
+
+            log.info("===========This is taskletDailySales===========");
+            log.info("===============================================");
+            return RepeatStatus.FINISHED;
+        });
+    }
+
+    private <T> void write(Collection<SalesAggregate> aggregates, ItemProcessor<SalesAggregate, T> processor,
+                           ItemWriter<T> writer) throws Exception {
+        Chunk<T> chunk = new Chunk<>();
+        for (var aggregate : aggregates) {
+            chunk.add(processor.process(aggregate));
+
+            if (chunk.size() >= chunkSize) {
+                writer.write(chunk);
+                chunk = new Chunk<>();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            writer.write(chunk);
+        }
+    }
+}
@@ -1,25 +1,87 @@
 package com.alioth.statistics.common.batch.step;
 
+import com.alioth.statistics.common.batch.aggregate.SalesAggregate;
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import com.alioth.statistics.common.batch.lock.BatchFencingListener;
+import com.alioth.statistics.common.batch.reader.ContractSalesQuery;
+import com.alioth.statistics.common.batch.reader.SalesAggregateReader;
+import com.alioth.statistics.domain.batch.BatchHQSales;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.util.Map;
+
 @Slf4j
 @Configuration
 public class HqSalesStep {
 
+    @Value("${batch.chunk-size:100}")
+    private int chunkSize; // commit interval
+
+    @Value("${batch.page-size:1000}")
+    private int pageSize;
+
     @Bean(name = "stepHqSales")
-    public Step stepHqSales(JobRepository jobRepository, @Qualifier("taskletHqSales") Tasklet taskletHqSales, PlatformTransactionManager platformTransactionManager){
+    public Step stepHqSales(JobRepository jobRepository, BatchFencingListener batchFencingListener, PlatformTransactionManager platformTransactionManager,
+                            @Qualifier("readerHqSales") SalesAggregateReader readerHqSales,
+                            @Qualifier("processorHqSales") ItemProcessor<SalesAggregate, BatchHQSales> processorHqSales,
+                            @Qualifier("writerHqSales") ItemWriter<BatchHQSales> writerHqSales){
         return new StepBuilder("stepHqSales", jobRepository)
                 // .allowStartIfComplete(true)     // test 를 위해 Step이 항상 재실행되도록 설정
-                .tasklet(taskletHqSales, platformTransactionManager)
+                .<SalesAggregate, BatchHQSales>chunk(chunkSize, platformTransactionManager)
+                .reader(readerHqSales)
+                .processor(processorHqSales)
+                .writer(writerHqSales)
+                .listener(batchFencingListener)
+                .build();
+    }
+
+    @Bean(name = "readerHqSales")
+    @StepScope
+    public SalesAggregateReader readerHqSales(DataSource dataSource,
+                                              @Value("#{jobParameters}") Map<String, Object> jobParameters) throws Exception {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return new SalesAggregateReader(
+                ContractSalesQuery.pagingReader("readerHqSales", dataSource, ContractSalesQuery.DAILY_CONTRACTS, null,
+                        ContractSalesQuery.sortKeys("contract_id"), window, pageSize),
+                row -> "HQ", true, "readerHqSales");
+    }
+
+    @Bean(name = "processorHqSales")
+    @StepScope
+    public ItemProcessor<SalesAggregate, BatchHQSales> processorHqSales(@Value("#{jobParameters}") Map<String, Object> jobParameters) {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return aggregate -> BatchHQSales.builder()
+                .totalPrice(aggregate.getContractPrice())
+                .totalCount(aggregate.getContractCount())
+                .cancelPrice(aggregate.getCancelPrice())
+                .cancelCount(aggregate.getCancelCount())
+                .createdDate(window.createdTime())
+                .build();
+    }
+
+    @Bean(name = "writerHqSales")
+    public JdbcBatchItemWriter<BatchHQSales> writerHqSales(DataSource dataSource) {
+        return new JdbcBatchItemWriterBuilder<BatchHQSales>()
+                .dataSource(dataSource)
+                .sql("INSERT INTO batch_hq_sales (total_price, total_count, cancel_price, cancel_count, created_date) " +
+                        "VALUES (:totalPrice, :totalCount, :cancelPrice, :cancelCount, :createdDate)")
+                .beanMapped()
                 .build();
     }
 }
@@ -1,27 +1,137 @@
 package com.alioth.statistics.common.batch.step;
 
+import com.alioth.statistics.common.batch.aggregate.SalesAggregate;
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import com.alioth.statistics.common.batch.lock.BatchFencingListener;
+import com.alioth.statistics.common.batch.partition.IdRangePartitioner;
+import com.alioth.statistics.common.batch.reader.ContractSalesQuery;
+import com.alioth.statistics.common.batch.reader.ContractSalesRow;
+import com.alioth.statistics.common.batch.reader.SalesAggregateReader;
+import com.alioth.statistics.domain.batch.BatchMemberSales;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.util.Map;
+
 @Slf4j
 @Configuration
 public class MemberSalesStep {
 
+    @Value("${batch.chunk-size:100}")
+    private int chunkSize; // commit interval
+
+    @Value("${batch.page-size:1000}")
+    private int pageSize;
+
+    @Value("${batch.partition.grid-size:4}")
+    private int gridSize;
+
     @Bean(name = "stepMemberSales")
-    public Step stepMemberSales(JobRepository jobRepository, @Qualifier("taskletMemberSales") Tasklet taskletMemberSales, PlatformTransactionManager platformTransactionManager){
+    public Step stepMemberSales(JobRepository jobRepository, BatchFencingListener batchFencingListener, PlatformTransactionManager platformTransactionManager,
+                                @Qualifier("readerMemberSales") SalesAggregateReader readerMemberSales,
+                                @Qualifier("processorMemberSales") ItemProcessor<SalesAggregate, BatchMemberSales> processorMemberSales,
+                                @Qualifier("writerMemberSales") ItemWriter<BatchMemberSales> writerMemberSales){
         return new StepBuilder("stepMemberSales", jobRepository)
                 // .allowStartIfComplete(true)     // test 를 위해 Step이 항상 재실행되도록 설정
-                .tasklet(taskletMemberSales, platformTransactionManager)
+                .<SalesAggregate, BatchMemberSales>chunk(chunkSize, platformTransactionManager)
+                .reader(readerMemberSales)
+                .processor(processorMemberSales)
+                .writer(writerMemberSales)
+                .listener(batchFencingListener)
+                .build();
+    }
+
+    @Bean(name = "readerMemberSales")
+    @StepScope
+    public SalesAggregateReader readerMemberSales(DataSource dataSource,
+                                                  @Value("#{jobParameters}") Map<String, Object> jobParameters) throws Exception {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return new SalesAggregateReader(
+                ContractSalesQuery.pagingReader("readerMemberSales", dataSource, ContractSalesQuery.DAILY_MEMBERS, null,
+                        ContractSalesQuery.sortKeys("member_id", "contract_id"), window, pageSize),
+                ContractSalesRow::memberId, false, "readerMemberSales");
+    }
+
+    /* batch.partition.enabled=true 일 때 사용. sales_members.id 범위별로 나눠 batchTaskExecutor 에서 동시에 실행한다 */
+    @Bean(name = "stepMemberSalesPartitioned")
+    public Step stepMemberSalesPartitioned(JobRepository jobRepository, JdbcTemplate jdbcTemplate,
+                                           @Qualifier("stepMemberSalesWorker") Step stepMemberSalesWorker,
+                                           @Qualifier("batchTaskExecutor") TaskExecutor batchTaskExecutor){
+        return new StepBuilder("stepMemberSalesPartitioned", jobRepository)
+                .partitioner("stepMemberSalesWorker", new IdRangePartitioner(jdbcTemplate, "sales_members", "id"))
+                .step(stepMemberSalesWorker)
+                .gridSize(gridSize)
+                .taskExecutor(batchTaskExecutor)
+                .build();
+    }
+
+    @Bean(name = "stepMemberSalesWorker")
+    public Step stepMemberSalesWorker(JobRepository jobRepository, BatchFencingListener batchFencingListener, PlatformTransactionManager platformTransactionManager,
+                                      @Qualifier("readerMemberSalesPartition") SalesAggregateReader readerMemberSalesPartition,
+                                      @Qualifier("processorMemberSales") ItemProcessor<SalesAggregate, BatchMemberSales> processorMemberSales,
+                                      @Qualifier("writerMemberSales") ItemWriter<BatchMemberSales> writerMemberSales){
+        return new StepBuilder("stepMemberSalesWorker", jobRepository)
+                .<SalesAggregate, BatchMemberSales>chunk(chunkSize, platformTransactionManager)
+                .reader(readerMemberSalesPartition)
+                .processor(processorMemberSales)
+                .writer(writerMemberSales)
+                .listener(batchFencingListener)
+                .build();
+    }
+
+    @Bean(name = "readerMemberSalesPartition")
+    @StepScope
+    public SalesAggregateReader readerMemberSalesPartition(DataSource dataSource,
+                                                           @Value("#{jobParameters}") Map<String, Object> jobParameters,
+                                                           @Value("#{stepExecutionContext['minId']}") Long minId,
+                                                           @Value("#{stepExecutionContext['maxId']}") Long maxId) throws Exception {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return new SalesAggregateReader(
+                ContractSalesQuery.pagingReader("readerMemberSalesPartition", dataSource, ContractSalesQuery.DAILY_MEMBERS, "member_id BETWEEN :minId AND :maxId",
+                        ContractSalesQuery.sortKeys("member_id", "contract_id"), window, Map.of("minId", minId, "maxId", maxId), pageSize),
+                ContractSalesRow::memberId, false, "readerMemberSalesPartition");
+    }
+
+    @Bean(name = "processorMemberSales")
+    @StepScope
+    public ItemProcessor<SalesAggregate, BatchMemberSales> processorMemberSales(@Value("#{jobParameters}") Map<String, Object> jobParameters) {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return aggregate -> BatchMemberSales.builder()
+                .salesMemberCode(aggregate.getFirst().salesMemberCode())
+                .salesMemberName(aggregate.getFirst().memberName())
+                .contractPrice(aggregate.getContractPrice())
+                .contractCount(aggregate.getContractCount())
+                .cancelPrice(aggregate.getCancelPrice())
+                .cancelCount(aggregate.getCancelCount())
+                .createdTime(window.createdTime())
+                .build();
+    }
+
+    @Bean(name = "writerMemberSales")
+    public JdbcBatchItemWriter<BatchMemberSales> writerMemberSales(DataSource dataSource) {
+        return new JdbcBatchItemWriterBuilder<BatchMemberSales>()
+                .dataSource(dataSource)
+                .sql("INSERT INTO batch_member_sales (sales_member_code, sales_member_name, contract_price, contract_count, cancel_price, cancel_count, created_time) " +
+                        "VALUES (:salesMemberCode, :salesMemberName, :contractPrice, :contractCount, :cancelPrice, :cancelCount, :createdTime)")
+                .beanMapped()
                 .build();
     }
 }
@@ -1,27 +1,123 @@
 package com.alioth.statistics.common.batch.step;
 
+import com.alioth.statistics.common.batch.aggregate.SalesAggregate;
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import com.alioth.statistics.common.batch.lock.BatchFencingListener;
+import com.alioth.statistics.common.batch.reader.ContractSalesQuery;
+import com.alioth.statistics.common.batch.reader.ContractSalesRow;
+import com.alioth.statistics.common.batch.reader.SalesAggregateReader;
+import com.alioth.statistics.domain.batch.BatchRankMember;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.util.Map;
+
 @Slf4j
 @Configuration
 public class RankMemberStep {
 
+    // 같은 날짜(created_date)의 사원 랭킹을 계약 금액 순으로 다시 매긴다
+    public static final String RANKING_SQL =
+            "UPDATE batch_rank_member r " +
+            "JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY contract_price DESC, id) AS member_rank " +
+            "      FROM batch_rank_member WHERE created_date = ?) ranked ON r.id = ranked.id " +
+            "SET r.member_rank = ranked.member_rank";
+
+    @Value("${batch.chunk-size:100}")
+    private int chunkSize; // commit interval
+
+    @Value("${batch.page-size:1000}")
+    private int pageSize;
+
     @Bean(name = "stepRankMember")
-    public Step stepRankMember(JobRepository jobRepository, @Qualifier("taskletRankMember") Tasklet taskletRankMember, PlatformTransactionManager platformTransactionManager){
+    public Step stepRankMember(JobRepository jobRepository, BatchFencingListener batchFencingListener, PlatformTransactionManager platformTransactionManager,
+                               @Qualifier("readerRankMember") SalesAggregateReader readerRankMember,
+                               @Qualifier("processorRankMember") ItemProcessor<SalesAggregate, BatchRankMember> processorRankMember,
+                               @Qualifier("writerRankMember") ItemWriter<BatchRankMember> writerRankMember){
         return new StepBuilder("stepRankMember", jobRepository)
                 // .allowStartIfComplete(true)     // test 를 위해 Step이 항상 재실행되도록 설정
-                .tasklet(taskletRankMember, platformTransactionManager)
+                .<SalesAggregate, BatchRankMember>chunk(chunkSize, platformTransactionManager)
+                .reader(readerRankMember)
+                .processor(processorRankMember)
+                .writer(writerRankMember)
+                .listener(batchFencingListener)
+                .build();
+    }
+
+    @Bean(name = "readerRankMember")
+    @StepScope
+    public SalesAggregateReader readerRankMember(DataSource dataSource,
+                                                 @Value("#{jobParameters}") Map<String, Object> jobParameters) throws Exception {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return new SalesAggregateReader(
+                ContractSalesQuery.pagingReader("readerRankMember", dataSource, ContractSalesQuery.DAILY_CONTRACTS, null,
+                        ContractSalesQuery.sortKeys("member_id", "contract_id"), window, pageSize),
+                ContractSalesRow::memberId, false, "readerRankMember");
+    }
+
+    @Bean(name = "processorRankMember")
+    @StepScope
+    public ItemProcessor<SalesAggregate, BatchRankMember> processorRankMember(@Value("#{jobParameters}") Map<String, Object> jobParameters) {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return aggregate -> BatchRankMember.builder()
+                .memberCode(aggregate.getFirst().salesMemberCode())
+                .memberName(aggregate.getFirst().memberName())
+                .memberRank(-1L)
+                .contractPrice(aggregate.getContractPrice())
+                .contractCount(aggregate.getContractCount())
+                .createdDate(window.createdTime())
                 .build();
     }
+
+    @Bean(name = "writerRankMember")
+    public JdbcBatchItemWriter<BatchRankMember> writerRankMember(DataSource dataSource) {
+        return new JdbcBatchItemWriterBuilder<BatchRankMember>()
+                .dataSource(dataSource)
+                .sql("INSERT INTO batch_rank_member (member_code, member_name, member_rank, created_date, contract_price, contract_count) " +
+                        "VALUES (:memberCode, :memberName, :memberRank, :createdDate, :contractPrice, :contractCount)")
+                .beanMapped()
+                .build();
+    }
+
+    /* 금액 순위는 전체 사원을 정렬해야 하므로 chunk 로 쓰고 난 뒤 DB 에서 한 번에 매긴다 */
+    @Bean(name = "stepRankMemberRanking")
+    public Step stepRankMemberRanking(JobRepository jobRepository, BatchFencingListener batchFencingListener, PlatformTransactionManager platformTransactionManager,
+                                      @Qualifier("taskletRankMemberRanking") Tasklet taskletRankMemberRanking){
+        return new StepBuilder("stepRankMemberRanking", jobRepository)
+                .tasklet(taskletRankMemberRanking, platformTransactionManager)
+                .listener(batchFencingListener)
+                .build();
+    }
+
+    @Bean(name = "taskletRankMemberRanking")
+    @StepScope
+    public Tasklet taskletRankMemberRanking(JdbcTemplate jdbcTemplate,
+                                            @Value("#{jobParameters}") Map<String, Object> jobParameters) {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return ((contribution, chunkContext) -> {
+            int ranked = jdbcTemplate.update(RANKING_SQL, window.createdTime());
+
+            log.info("[taskletRankMemberRanking] {} members ranked", ranked);
+            return RepeatStatus.FINISHED;
+        });
+    }
 }
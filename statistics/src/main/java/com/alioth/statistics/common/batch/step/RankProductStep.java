@@ -1,29 +1,136 @@
 package com.alioth.statistics.common.batch.step;
 
+import com.alioth.statistics.common.batch.aggregate.SalesAggregate;
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import com.alioth.statistics.common.batch.lock.BatchFencingListener;
+import com.alioth.statistics.common.batch.partition.IdRangePartitioner;
+import com.alioth.statistics.common.batch.reader.ContractSalesQuery;
+import com.alioth.statistics.common.batch.reader.ContractSalesRow;
+import com.alioth.statistics.common.batch.reader.SalesAggregateReader;
+import com.alioth.statistics.domain.batch.BatchRankProduct;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
-import org.springframework.core.task.VirtualThreadTaskExecutor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.util.Map;
+
 @Slf4j
 @Configuration
 public class RankProductStep {
 
+    @Value("${batch.chunk-size:100}")
+    private int chunkSize; // commit interval
+
+    @Value("${batch.page-size:1000}")
+    private int pageSize;
+
+    @Value("${batch.partition.grid-size:4}")
+    private int gridSize;
+
     @Bean(name = "stepRankProduct")
-    public Step stepRankProduct(JobRepository jobRepository, @Qualifier("taskletRankProduct") Tasklet taskletRankProduct, PlatformTransactionManager platformTransactionManager){
+    public Step stepRankProduct(JobRepository jobRepository, BatchFencingListener batchFencingListener, PlatformTransactionManager platformTransactionManager,
+                                @Qualifier("readerRankProduct") SalesAggregateReader readerRankProduct,
+                                @Qualifier("processorRankProduct") ItemProcessor<SalesAggregate, BatchRankProduct> processorRankProduct,
+                                @Qualifier("writerRankProduct") ItemWriter<BatchRankProduct> writerRankProduct){
         return new StepBuilder("stepRankProduct", jobRepository)
                 // .allowStartIfComplete(true)     // test 를 위해 Step이 항상 재실행되도록 설정
-                .tasklet(taskletRankProduct, platformTransactionManager)
+                .<SalesAggregate, BatchRankProduct>chunk(chunkSize, platformTransactionManager)
+                .reader(readerRankProduct)
+                .processor(processorRankProduct)
+                .writer(writerRankProduct)
+                .listener(batchFencingListener)
+                .build();
+    }
+
+    @Bean(name = "readerRankProduct")
+    @StepScope
+    public SalesAggregateReader readerRankProduct(DataSource dataSource,
+                                                  @Value("#{jobParameters}") Map<String, Object> jobParameters) throws Exception {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return new SalesAggregateReader(
+                ContractSalesQuery.pagingReader("readerRankProduct", dataSource, ContractSalesQuery.DAILY_CONTRACTS, "insurance_id IS NOT NULL",
+                        ContractSalesQuery.sortKeys("insurance_id", "contract_id"), window, pageSize),
+                ContractSalesRow::insuranceId, false, "readerRankProduct");
+    }
+
+    /* batch.partition.enabled=true 일 때 사용. insurance_product.insurance_id 범위별로 나눠 batchTaskExecutor 에서 동시에 실행한다 */
+    @Bean(name = "stepRankProductPartitioned")
+    public Step stepRankProductPartitioned(JobRepository jobRepository, JdbcTemplate jdbcTemplate,
+                                           @Qualifier("stepRankProductWorker") Step stepRankProductWorker,
+                                           @Qualifier("batchTaskExecutor") TaskExecutor batchTaskExecutor){
+        return new StepBuilder("stepRankProductPartitioned", jobRepository)
+                .partitioner("stepRankProductWorker", new IdRangePartitioner(jdbcTemplate, "insurance_product", "insurance_id"))
+                .step(stepRankProductWorker)
+                .gridSize(gridSize)
+                .taskExecutor(batchTaskExecutor)
+                .build();
+    }
+
+    @Bean(name = "stepRankProductWorker")
+    public Step stepRankProductWorker(JobRepository jobRepository, BatchFencingListener batchFencingListener, PlatformTransactionManager platformTransactionManager,
+                                      @Qualifier("readerRankProductPartition") SalesAggregateReader readerRankProductPartition,
+                                      @Qualifier("processorRankProduct") ItemProcessor<SalesAggregate, BatchRankProduct> processorRankProduct,
+                                      @Qualifier("writerRankProduct") ItemWriter<BatchRankProduct> writerRankProduct){
+        return new StepBuilder("stepRankProductWorker", jobRepository)
+                .<SalesAggregate, BatchRankProduct>chunk(chunkSize, platformTransactionManager)
+                .reader(readerRankProductPartition)
+                .processor(processorRankProduct)
+                .writer(writerRankProduct)
+                .listener(batchFencingListener)
+                .build();
+    }
+
+    @Bean(name = "readerRankProductPartition")
+    @StepScope
+    public SalesAggregateReader readerRankProductPartition(DataSource dataSource,
+                                                           @Value("#{jobParameters}") Map<String, Object> jobParameters,
+                                                           @Value("#{stepExecutionContext['minId']}") Long minId,
+                                                           @Value("#{stepExecutionContext['maxId']}") Long maxId) throws Exception {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return new SalesAggregateReader(
+                ContractSalesQuery.pagingReader("readerRankProductPartition", dataSource, ContractSalesQuery.DAILY_CONTRACTS, "insurance_id BETWEEN :minId AND :maxId",
+                        ContractSalesQuery.sortKeys("insurance_id", "contract_id"), window, Map.of("minId", minId, "maxId", maxId), pageSize),
+                ContractSalesRow::insuranceId, false, "readerRankProductPartition");
+    }
+
+    @Bean(name = "processorRankProduct")
+    @StepScope
+    public ItemProcessor<SalesAggregate, BatchRankProduct> processorRankProduct(@Value("#{jobParameters}") Map<String, Object> jobParameters) {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return aggregate -> BatchRankProduct.builder()
+                .productName(aggregate.getFirst().insuranceName())
+                .productCode(aggregate.getFirst().insuranceMainCode())
+                .productCategory(aggregate.getFirst().insuranceCategory())
+                .contractPrice(aggregate.getContractPrice())
+                .contractCount(aggregate.getContractCount())
+                .createdDate(window.createdTime())
+                .build();
+    }
+
+    @Bean(name = "writerRankProduct")
+    public JdbcBatchItemWriter<BatchRankProduct> writerRankProduct(DataSource dataSource) {
+        return new JdbcBatchItemWriterBuilder<BatchRankProduct>()
+                .dataSource(dataSource)
+                .sql("INSERT INTO batch_rank_product (product_name, product_code, product_category, created_date, contract_price, contract_count) " +
+                        "VALUES (:productName, :productCode, :productCategory, :createdDate, :contractPrice, :contractCount)")
+                .beanMapped()
                 .build();
     }
 }
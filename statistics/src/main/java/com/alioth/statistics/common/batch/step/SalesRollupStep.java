@@ -0,0 +1,54 @@
+package com.alioth.statistics.common.batch.step;
+
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import com.alioth.statistics.common.batch.lock.BatchFencingListener;
+import com.alioth.statistics.common.batch.writer.SalesRollupWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+
+/**
+ * 하루치 batch_* 행을 쓴 뒤 마지막에 실행되어 그 날짜가 속한 월 / 반기 / 연 rollup 을 갱신한다.
+ * targetDate 로 지난 날짜를 돌릴 때는 건너뛴다. 재집계(backfillJob)는 이 Step 없이 날짜를 동시에 돌리고 끝날 때 기간 전체를 한 번에 갱신한다.
+ */
+@Slf4j
+@Configuration
+public class SalesRollupStep {
+
+    @Bean(name = "stepSalesRollup")
+    public Step stepSalesRollup(JobRepository jobRepository, BatchFencingListener batchFencingListener, @Qualifier("taskletSalesRollup") Tasklet taskletSalesRollup,
+                                PlatformTransactionManager platformTransactionManager){
+        return new StepBuilder("stepSalesRollup", jobRepository)
+                .tasklet(taskletSalesRollup, platformTransactionManager)
+                .listener(batchFencingListener)
+                .build();
+    }
+
+    @Bean(name = "taskletSalesRollup")
+    @StepScope
+    public Tasklet taskletSalesRollup(SalesRollupWriter salesRollupWriter,
+                                      @Value("#{jobParameters}") Map<String, Object> jobParameters) {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return ((contribution, chunkContext) -> {
+            if (jobParameters.containsKey(SalesWindow.TARGET_DATE)) {
+                log.info("[taskletSalesRollup] backfill day {}, rollup is refreshed when backfillJob completes", window.createdDayStart().toLocalDate());
+                return RepeatStatus.FINISHED;
+            }
+
+            salesRollupWriter.refresh(window.createdTime());
+            return RepeatStatus.FINISHED;
+        });
+    }
+}
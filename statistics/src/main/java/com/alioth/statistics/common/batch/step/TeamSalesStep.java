@@ -1,27 +1,90 @@
 package com.alioth.statistics.common.batch.step;
 
+import com.alioth.statistics.common.batch.aggregate.SalesAggregate;
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import com.alioth.statistics.common.batch.lock.BatchFencingListener;
+import com.alioth.statistics.common.batch.reader.ContractSalesQuery;
+import com.alioth.statistics.common.batch.reader.ContractSalesRow;
+import com.alioth.statistics.common.batch.reader.SalesAggregateReader;
+import com.alioth.statistics.domain.batch.BatchTeamSales;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.util.Map;
+
 @Slf4j
 @Configuration
 public class TeamSalesStep {
 
+    @Value("${batch.chunk-size:100}")
+    private int chunkSize; // commit interval
+
+    @Value("${batch.page-size:1000}")
+    private int pageSize;
+
     @Bean(name = "stepTeamSales")
-    public Step stepTeamSales(JobRepository jobRepository, @Qualifier("taskletTeamSales") Tasklet taskletTeamSales, PlatformTransactionManager platformTransactionManager){
+    public Step stepTeamSales(JobRepository jobRepository, BatchFencingListener batchFencingListener, PlatformTransactionManager platformTransactionManager,
+                              @Qualifier("readerTeamSales") SalesAggregateReader readerTeamSales,
+                              @Qualifier("processorTeamSales") ItemProcessor<SalesAggregate, BatchTeamSales> processorTeamSales,
+                              @Qualifier("writerTeamSales") ItemWriter<BatchTeamSales> writerTeamSales){
         return new StepBuilder("stepTeamSales", jobRepository)
                 // .allowStartIfComplete(true)     // test 를 위해 Step이 항상 재실행되도록 설정
-                .tasklet(taskletTeamSales, platformTransactionManager)
+                .<SalesAggregate, BatchTeamSales>chunk(chunkSize, platformTransactionManager)
+                .reader(readerTeamSales)
+                .processor(processorTeamSales)
+                .writer(writerTeamSales)
+                .listener(batchFencingListener)
+                .build();
+    }
+
+    @Bean(name = "readerTeamSales")
+    @StepScope
+    public SalesAggregateReader readerTeamSales(DataSource dataSource,
+                                                @Value("#{jobParameters}") Map<String, Object> jobParameters) throws Exception {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return new SalesAggregateReader(
+                ContractSalesQuery.pagingReader("readerTeamSales", dataSource, ContractSalesQuery.DAILY_CONTRACTS, "team_id IS NOT NULL",
+                        ContractSalesQuery.sortKeys("team_id", "contract_id"), window, pageSize),
+                ContractSalesRow::teamId, false, "readerTeamSales");
+    }
+
+    @Bean(name = "processorTeamSales")
+    @StepScope
+    public ItemProcessor<SalesAggregate, BatchTeamSales> processorTeamSales(@Value("#{jobParameters}") Map<String, Object> jobParameters) {
+        SalesWindow window = SalesWindow.ofJobParameters(jobParameters);
+
+        return aggregate -> BatchTeamSales.builder()
+                .teamCode(aggregate.getFirst().teamCode())
+                .teamName(aggregate.getFirst().teamName())
+                .contractPrice(aggregate.getContractPrice())
+                .contractCount(aggregate.getContractCount())
+                .cancelPrice(aggregate.getCancelPrice())
+                .cancelCount(aggregate.getCancelCount())
+                .createdTime(window.createdTime())
+                .build();
+    }
+
+    @Bean(name = "writerTeamSales")
+    public JdbcBatchItemWriter<BatchTeamSales> writerTeamSales(DataSource dataSource) {
+        return new JdbcBatchItemWriterBuilder<BatchTeamSales>()
+                .dataSource(dataSource)
+                .sql("INSERT INTO batch_team_sales (team_code, team_name, contract_price, contract_count, cancel_price, cancel_count, created_time) " +
+                        "VALUES (:teamCode, :teamName, :contractPrice, :contractCount, :cancelPrice, :cancelCount, :createdTime)")
+                .beanMapped()
                 .build();
     }
 }
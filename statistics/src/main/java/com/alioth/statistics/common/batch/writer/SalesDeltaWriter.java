@@ -0,0 +1,137 @@
+package com.alioth.statistics.common.batch.writer;
+
+import com.alioth.statistics.common.batch.aggregate.DailySalesAggregator;
+import com.alioth.statistics.common.batch.aggregate.SalesAggregate;
+import com.alioth.statistics.common.batch.step.RankMemberStep;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계약 변경분(delta)을 그날의 batch_* 행에 더한다. 행이 없으면 변경분으로 새로 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesDeltaWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void write(LocalDateTime createdTime, DailySalesAggregator aggregator) {
+        for (SalesAggregate member : aggregator.getMembers()) {
+            if (member.hasChanges()) {
+                writeMember(createdTime, member);
+            }
+        }
+
+        for (SalesAggregate team : aggregator.getTeams()) {
+            if (team.hasChanges()) {
+                writeTeam(createdTime, team);
+            }
+        }
+
+        if (aggregator.getHq().hasChanges()) {
+            writeHq(createdTime, aggregator.getHq());
+        }
+
+        for (SalesAggregate product : aggregator.getProducts()) {
+            if (product.hasChanges()) {
+                writeProduct(createdTime, product);
+            }
+        }
+
+        boolean ranked = false;
+        for (SalesAggregate member : aggregator.getMembers()) {
+            if (member.getContractCount() != 0 || member.getContractPrice().signum() != 0) {
+                writeRankMember(createdTime, member);
+                ranked = true;
+            }
+        }
+
+        if (ranked) {
+            jdbcTemplate.update(RankMemberStep.RANKING_SQL, createdTime);
+        }
+    }
+
+    private void writeMember(LocalDateTime createdTime, SalesAggregate member) {
+        int updated = jdbcTemplate.update(
+                "UPDATE batch_member_sales SET contract_price = contract_price + ?, contract_count = contract_count + ?" +
+                        ", cancel_price = cancel_price + ?, cancel_count = cancel_count + ?" +
+                        " WHERE sales_member_code = ? AND created_time = ?",
+                member.getContractPrice(), member.getContractCount(), member.getCancelPrice(), member.getCancelCount(),
+                member.getFirst().salesMemberCode(), createdTime);
+
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO batch_member_sales (sales_member_code, sales_member_name, contract_price, contract_count, cancel_price, cancel_count, created_time) " +
+                            "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    member.getFirst().salesMemberCode(), member.getFirst().memberName(),
+                    member.getContractPrice(), member.getContractCount(),
+                    member.getCancelPrice(), member.getCancelCount(), createdTime);
+        }
+    }
+
+    private void writeTeam(LocalDateTime createdTime, SalesAggregate team) {
+        int updated = jdbcTemplate.update(
+                "UPDATE batch_team_sales SET contract_price = contract_price + ?, contract_count = contract_count + ?" +
+                        ", cancel_price = cancel_price + ?, cancel_count = cancel_count + ?" +
+                        " WHERE team_code = ? AND created_time = ?",
+                team.getContractPrice(), team.getContractCount(), team.getCancelPrice(), team.getCancelCount(),
+                team.getFirst().teamCode(), createdTime);
+
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO batch_team_sales (team_code, team_name, contract_price, contract_count, cancel_price, cancel_count, created_time) " +
+                            "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    team.getFirst().teamCode(), team.getFirst().teamName(),
+                    team.getContractPrice(), team.getContractCount(),
+                    team.getCancelPrice(), team.getCancelCount(), createdTime);
+        }
+    }
+
+    private void writeHq(LocalDateTime createdTime, SalesAggregate hq) {
+        int updated = jdbcTemplate.update(
+                "UPDATE batch_hq_sales SET total_price = total_price + ?, total_count = total_count + ?" +
+                        ", cancel_price = cancel_price + ?, cancel_count = cancel_count + ?" +
+                        " WHERE created_date = ?",
+                hq.getContractPrice(), hq.getContractCount(), hq.getCancelPrice(), hq.getCancelCount(), createdTime);
+
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO batch_hq_sales (total_price, total_count, cancel_price, cancel_count, created_date) VALUES (?, ?, ?, ?, ?)",
+                    hq.getContractPrice(), hq.getContractCount(),
+                    hq.getCancelPrice(), hq.getCancelCount(), createdTime);
+        }
+    }
+
+    private void writeProduct(LocalDateTime createdTime, SalesAggregate product) {
+        int updated = jdbcTemplate.update(
+                "UPDATE batch_rank_product SET contract_price = contract_price + ?, contract_count = contract_count + ?" +
+                        " WHERE product_code = ? AND created_date = ?",
+                product.getContractPrice(), product.getContractCount(), product.getFirst().insuranceMainCode(), createdTime);
+
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO batch_rank_product (product_name, product_code, product_category, created_date, contract_price, contract_count) " +
+                            "VALUES (?, ?, ?, ?, ?, ?)",
+                    product.getFirst().insuranceName(), product.getFirst().insuranceMainCode(), product.getFirst().insuranceCategory(),
+                    createdTime, product.getContractPrice(), product.getContractCount());
+        }
+    }
+
+    private void writeRankMember(LocalDateTime createdTime, SalesAggregate member) {
+        int updated = jdbcTemplate.update(
+                "UPDATE batch_rank_member SET contract_price = contract_price + ?, contract_count = contract_count + ?" +
+                        " WHERE member_code = ? AND created_date = ?",
+                member.getContractPrice(), member.getContractCount(), member.getFirst().salesMemberCode(), createdTime);
+
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO batch_rank_member (member_code, member_name, member_rank, created_date, contract_price, contract_count) " +
+                            "VALUES (?, ?, -1, ?, ?, ?)",
+                    member.getFirst().salesMemberCode(), member.getFirst().memberName(), createdTime,
+                    member.getContractPrice(), member.getContractCount());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.alioth.statistics.common.batch.writer;
+
+import com.alioth.statistics.common.leaderboard.LeaderboardPeriod;
+import com.alioth.statistics.common.leaderboard.LeaderboardWriter;
+import com.alioth.statistics.domain.batch.RollupPeriod;
+import com.alioth.statistics.domain.batch.RollupScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * batch_sales_rollup 의 월 / 반기 / 연 행을 다시 계산한다.
+ * 월은 그 달의 batch_* 일별 행(최대 31일치)에서, 반기는 월 행 6개에서, 연은 반기 행 2개에서 더하므로
+ * 하루치가 새로 들어와도 1년치 일별 행을 다시 읽지 않는다. 지우고 다시 쓰기 때문에 여러 번 실행해도 결과가 같다.
+ * 다시 계산한 기간의 leaderboard 는 커밋된 뒤에 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRollupWriter {
+
+    private static final String INSERT = "INSERT INTO batch_sales_rollup " +
+            "(scope, group_key, group_name, period_type, period_key, contract_price, contract_count, cancel_price, cancel_count, updated_time) ";
+
+    private static final String MEMBER_MONTH_SQL = INSERT +
+            "SELECT '" + RollupScope.MEMBER + "', CAST(sales_member_code AS CHAR), MAX(sales_member_name), ?, ?, " +
+            "SUM(contract_price), SUM(contract_count), SUM(cancel_price), SUM(cancel_count), ? " +
+            "FROM batch_member_sales WHERE created_time >= ? AND created_time < ? GROUP BY sales_member_code";
+
+    private static final String TEAM_MONTH_SQL = INSERT +
+            "SELECT '" + RollupScope.TEAM + "', team_code, MAX(team_name), ?, ?, " +
+            "SUM(contract_price), SUM(contract_count), SUM(cancel_price), SUM(cancel_count), ? " +
+            "FROM batch_team_sales WHERE created_time >= ? AND created_time < ? GROUP BY team_code";
+
+    // 행이 없으면 SUM 이 null 인 한 줄이 나오므로 HAVING 으로 거른다
+    private static final String HQ_MONTH_SQL = INSERT +
+            "SELECT '" + RollupScope.HQ + "', '" + RollupScope.HQ + "', NULL, ?, ?, " +
+            "SUM(total_price), SUM(total_count), SUM(cancel_price), SUM(cancel_count), ? " +
+            "FROM batch_hq_sales WHERE created_date >= ? AND created_date < ? HAVING COUNT(*) > 0";
+
+    // 상품은 해약을 따로 집계하지 않는다
+    private static final String PRODUCT_MONTH_SQL = INSERT +
+            "SELECT '" + RollupScope.PRODUCT + "', product_code, MAX(product_name), ?, ?, " +
+            "SUM(contract_price), SUM(contract_count), 0, 0, ? " +
+            "FROM batch_rank_product WHERE created_date >= ? AND created_date < ? GROUP BY product_code";
+
+    private static final String CHILDREN_SQL = INSERT +
+            "SELECT scope, group_key, MAX(group_name), ?, ?, " +
+            "SUM(contract_price), SUM(contract_count), SUM(cancel_price), SUM(cancel_count), ? " +
+            "FROM batch_sales_rollup WHERE period_type = ? AND period_key IN (%s) GROUP BY scope, group_key";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LeaderboardWriter leaderboardWriter;
+
+    /* createdTime(batch_* 행의 기록 시각)이 속한 월, 반기, 연을 다시 계산한다 */
+    public void refresh(LocalDateTime createdTime) {
+        refreshAll(List.of(createdTime));
+    }
+
+    /* 여러 날짜를 한 번에 반영할 때 (delta, backfill) 같은 월 / 반기 / 연은 한 번만 계산한다 */
+    public void refreshAll(Collection<LocalDateTime> createdTimes) {
+        if (createdTimes.isEmpty()) {
+            return;
+        }
+
+        TreeSet<YearMonth> months = new TreeSet<>();
+        createdTimes.forEach(createdTime -> months.add(YearMonth.from(createdTime)));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<LeaderboardPeriod> periods = new ArrayList<>();
+        for (YearMonth month : months) {
+            refreshMonth(month, now);
+            periods.add(LeaderboardPeriod.of(RollupPeriod.MONTH, month.atDay(1)));
+        }
+
+        // 각 반기 / 연의 첫날 하나씩
+        TreeSet<LocalDate> halves = new TreeSet<>();
+        months.forEach(month -> halves.add(LocalDate.of(month.getYear(), month.getMonthValue() <= 6 ? 1 : 7, 1)));
+        for (LocalDate half : halves) {
+            refreshFromChildren(RollupPeriod.HALF, half, RollupPeriod.MONTH, now);
+            periods.add(LeaderboardPeriod.of(RollupPeriod.HALF, half));
+        }
+
+        TreeSet<LocalDate> years = new TreeSet<>();
+        months.forEach(month -> years.add(LocalDate.of(month.getYear(), 1, 1)));
+        for (LocalDate year : years) {
+            refreshFromChildren(RollupPeriod.YEAR, year, RollupPeriod.HALF, now);
+            periods.add(LeaderboardPeriod.of(RollupPeriod.YEAR, year));
+        }
+
+        leaderboardWriter.refreshAfterCommit(periods);
+
+        log.info("[SalesRollupWriter] {} ~ {} refreshed ({} months, {} halves, {} years)",
+                months.first(), months.last(), months.size(), halves.size(), years.size());
+    }
+
+    private void refreshMonth(YearMonth month, LocalDateTime now) {
+        String key = month.toString();
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1L).atDay(1).atStartOfDay();
+
+        jdbcTemplate.update("DELETE FROM batch_sales_rollup WHERE period_type = ? AND period_key = ?",
+                RollupPeriod.MONTH.name(), key);
+
+        for (String sql : List.of(MEMBER_MONTH_SQL, TEAM_MONTH_SQL, HQ_MONTH_SQL, PRODUCT_MONTH_SQL)) {
+            jdbcTemplate.update(sql, RollupPeriod.MONTH.name(), key, now, start, end);
+        }
+    }
+
+    private void refreshFromChildren(RollupPeriod period, LocalDate date, RollupPeriod childPeriod, LocalDateTime now) {
+        String key = period.keyOf(date);
+        List<String> childKeys = period.childKeysOf(date);
+
+        jdbcTemplate.update("DELETE FROM batch_sales_rollup WHERE period_type = ? AND period_key = ?", period.name(), key);
+
+        List<Object> args = new ArrayList<>(List.of(period.name(), key, now, childPeriod.name()));
+        args.addAll(childKeys);
+        jdbcTemplate.update(String.format(CHILDREN_SQL, String.join(", ", Collections.nCopies(childKeys.size(), "?"))),
+                args.toArray());
+    }
+}
@@ -0,0 +1,41 @@
+package com.alioth.statistics.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계약 변경은 server 모듈에서 일어나므로 contract_change_log 의 마지막 id 를 주기적으로 보고
+ * 새 변경이 있으면 이 replica 의 통계 캐시를 비운다. (replica 마다 각자 확인하므로 전파하지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContractChangeWatcher {
+
+    private static final String LAST_LOG_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM contract_change_log";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StatisticsCacheInvalidator statisticsCacheInvalidator;
+
+    private volatile Long lastSeenLogId;
+
+    @Scheduled(fixedDelayString = "${statistics.cache.watch-delay:PT30S}")
+    public void checkContractChange() {
+        Long lastLogId;
+        try {
+            lastLogId = jdbcTemplate.queryForObject(LAST_LOG_ID_SQL, Long.class);
+        } catch (Exception e) {
+            log.error("[ContractChangeWatcher] contract_change_log 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        // 처음 한 번은 기준값만 잡는다
+        if (lastSeenLogId != null && !lastSeenLogId.equals(lastLogId)) {
+            statisticsCacheInvalidator.clear("contract change " + lastSeenLogId + " -> " + lastLogId);
+        }
+        lastSeenLogId = lastLogId;
+    }
+}
@@ -0,0 +1,55 @@
+package com.alioth.statistics.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 통계 캐시를 비운다.
+ * local 모드에서는 replica 마다 캐시가 따로 있으므로 Redis 채널로 다른 replica 에도 알린다.
+ */
+@Slf4j
+@Component
+public class StatisticsCacheInvalidator {
+
+    public static final String CHANNEL = "statistics:cache:invalidate";
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final String mode;
+
+    public StatisticsCacheInvalidator(CacheManager cacheManager,
+                                      StringRedisTemplate redisTemplate,
+                                      @Value("${statistics.cache.mode:local}") String mode) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.mode = mode;
+    }
+
+    /* 이 replica 의 캐시를 비우고, local 모드면 다른 replica 에도 알린다 */
+    public void invalidateAll(String reason) {
+        clear(reason);
+
+        if ("local".equals(mode)) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, reason);
+            } catch (Exception e) {
+                log.error("[StatisticsCache] invalidate 전파 실패 ({}): {}", reason, e.getMessage());
+            }
+        }
+    }
+
+    /* 캐시만 비우고 다른 replica 에는 알리지 않는다 (redis 모드면 공유 캐시가 비워진다) */
+    public void clear(String reason) {
+        for (String name : StatisticsCacheNames.ALL) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.info("[StatisticsCache] cleared ({})", reason);
+    }
+}
@@ -0,0 +1,31 @@
+package com.alioth.statistics.common.cache;
+
+import java.util.List;
+
+/**
+ * 통계 조회 결과 캐시 이름.
+ * 입력(계약, batch_* 테이블)이 바뀌면 {@link StatisticsCacheInvalidator} 가 전부 비운다.
+ */
+public final class StatisticsCacheNames {
+
+    public static final String CANCEL_SM = "statistics:cancel:sm";
+    public static final String CANCEL_TEAM = "statistics:cancel:team";
+    public static final String CANCEL_HQ = "statistics:cancel:hq";
+    public static final String CANCEL_SM_RANK = "statistics:cancel:sm-rank";
+    public static final String ACHIEVE_RANK = "statistics:sm-rank";
+    public static final String TEAM_RANK = "statistics:team-rank";
+    public static final String PERFORMANCE_REVIEW = "statistics:performance";
+    public static final String RATE_SM = "statistics:rate:sm";
+    public static final String RATE_TEAM = "statistics:rate:team";
+    public static final String RATE_COMPANY = "statistics:rate:company";
+    public static final String INSURANCE_GOD = "statistics:insurance";
+
+    public static final List<String> ALL = List.of(
+            CANCEL_SM, CANCEL_TEAM, CANCEL_HQ, CANCEL_SM_RANK,
+            ACHIEVE_RANK, TEAM_RANK, PERFORMANCE_REVIEW,
+            RATE_SM, RATE_TEAM, RATE_COMPANY, INSURANCE_GOD
+    );
+
+    private StatisticsCacheNames() {
+    }
+}
@@ -0,0 +1,68 @@
+package com.alioth.statistics.common.config.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+public class BatchTaskExecutorConfig {
+
+    @Value("${batch.executor.type:platform}")
+    private String executorType; // platform | virtual
+
+    @Value("${batch.executor.pool-size:4}")
+    private int poolSize;
+
+    @Value("${batch.flow.pool-size:5}")
+    private int flowPoolSize;
+
+    @Value("${batch.backfill.concurrency:3}")
+    private int backfillConcurrency;
+
+    /* 파티션 / 병렬 Step 실행용. 동시에 잡는 DB 커넥션 수는 gridSize 와 커넥션 풀 크기로 제한된다 */
+    @Bean(name = "batchTaskExecutor")
+    public TaskExecutor batchTaskExecutor() {
+        return createExecutor("batch-", poolSize);
+    }
+
+    /*
+     * batch.job.layout=parallel 에서 split 된 Flow 를 실행한다.
+     * Flow 스레드가 파티션 완료를 기다리는 동안 파티션이 스레드를 못 얻는 일이 없도록 batchTaskExecutor 와 분리한다.
+     */
+    @Bean(name = "batchFlowTaskExecutor")
+    public TaskExecutor batchFlowTaskExecutor() {
+        return createExecutor("batch-flow-", flowPoolSize);
+    }
+
+    /* 재집계(backfillJob)에서 동시에 처리할 날짜 수를 제한한다 */
+    @Bean(name = "backfillTaskExecutor")
+    public TaskExecutor backfillTaskExecutor() {
+        return createExecutor("batch-backfill-", backfillConcurrency);
+    }
+
+    private TaskExecutor createExecutor(String threadNamePrefix, int size) {
+        if ("virtual".equals(executorType)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(size);
+
+            log.info("[BatchTaskExecutor] {} virtual thread executor, limit {}", threadNamePrefix, size);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+
+        log.info("[BatchTaskExecutor] {} thread pool executor, size {}", threadNamePrefix, size);
+        return executor;
+    }
+}
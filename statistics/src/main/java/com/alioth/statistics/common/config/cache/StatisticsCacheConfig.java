@@ -0,0 +1,122 @@
+package com.alioth.statistics.common.config.cache;
+
+import com.alioth.statistics.common.cache.StatisticsCacheInvalidator;
+import com.alioth.statistics.common.cache.StatisticsCacheNames;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 통계 조회 결과 캐시.
+ * statistics.cache.mode
+ *  - local : replica 마다 Caffeine (크기 + TTL 제한), invalidate 는 Redis 채널로 전파
+ *  - redis : replica 가 Redis 캐시를 같이 쓴다 (TTL 제한, 크기는 Redis maxmemory 정책을 따른다)
+ *  - none  : 캐시하지 않음
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+public class StatisticsCacheConfig implements CachingConfigurer {
+
+    @Value("${statistics.cache.mode:local}")
+    private String mode;
+
+    @Value("${statistics.cache.ttl:PT10M}")
+    private Duration ttl;
+
+    @Value("${statistics.cache.max-size:100}")
+    private long maxSize;
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+        log.info("[StatisticsCache] mode {}, ttl {}", mode, ttl);
+
+        if ("redis".equals(mode)) {
+            RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                    .entryTtl(ttl)
+                    .disableCachingNullValues()
+                    .serializeValuesWith(RedisSerializationContext.SerializationPair
+                            .fromSerializer(new JdkSerializationRedisSerializer()));
+
+            // clear() 가 KEYS 대신 SCAN 으로 지우도록 한다
+            return RedisCacheManager.builder(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000)))
+                    .cacheDefaults(configuration)
+                    .initialCacheNames(Set.copyOf(StatisticsCacheNames.ALL))
+                    .build();
+        }
+
+        if ("none".equals(mode)) {
+            return new NoOpCacheManager();
+        }
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl));
+        cacheManager.setCacheNames(StatisticsCacheNames.ALL);
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+
+    /* local 모드: 다른 replica 가 보낸 invalidate 를 받아 이 replica 의 캐시를 비운다 */
+    @Bean
+    @ConditionalOnProperty(name = "statistics.cache.mode", havingValue = "local", matchIfMissing = true)
+    public RedisMessageListenerContainer statisticsCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         StatisticsCacheInvalidator statisticsCacheInvalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> statisticsCacheInvalidator.clear(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(StatisticsCacheInvalidator.CHANNEL));
+        return container;
+    }
+
+    /* 캐시(Redis) 장애 시 조회가 실패하지 않고 DB 에서 다시 계산하도록 로그만 남긴다 */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CacheErrorHandler() {
+            @Override
+            public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+                log.error("[StatisticsCache] get {} 실패: {}", cache.getName(), exception.getMessage());
+            }
+
+            @Override
+            public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+                log.error("[StatisticsCache] put {} 실패: {}", cache.getName(), exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+                log.error("[StatisticsCache] evict {} 실패: {}", cache.getName(), exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheClearError(RuntimeException exception, Cache cache) {
+                log.error("[StatisticsCache] clear {} 실패: {}", cache.getName(), exception.getMessage());
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.alioth.statistics.common.leaderboard;
+
+import com.alioth.statistics.domain.batch.BatchSalesRollup;
+
+import java.math.RoundingMode;
+
+/**
+ * leaderboard 점수. 같은 기간 / 단위라도 금액 순위와 건수 순위는 sorted set 을 따로 둔다.
+ * sorted set 점수는 double 이라 금액(원)을 정수로 맞춘 long 으로 넣는다. 2^53 까지는 double 로 정확히 표현된다.
+ */
+public enum LeaderboardMetric {
+    PRICE,
+    COUNT;
+
+    // 이보다 크면 double 점수로 바꿀 때 1 원 단위가 틀어진다
+    public static final long MAX_EXACT_SCORE = 1L << 53;
+
+    public long scoreOf(BatchSalesRollup rollup) {
+        long score = switch (this) {
+            case PRICE -> rollup.getContractPrice().setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+            case COUNT -> rollup.getContractCount();
+        };
+
+        if (Math.abs(score) > MAX_EXACT_SCORE) {
+            throw new IllegalStateException(rollup.getGroupKey() + " 의 " + this + " 점수 " + score + " 는 순위에 정확히 넣을 수 없습니다.");
+        }
+        return score;
+    }
+}
@@ -0,0 +1,18 @@
+package com.alioth.statistics.common.leaderboard;
+
+import com.alioth.statistics.domain.batch.RollupPeriod;
+
+import java.time.LocalDate;
+
+/**
+ * leaderboard 가 만들어지는 기간. batch_sales_rollup 의 period_type / period_key 와 같다.
+ */
+public record LeaderboardPeriod(
+    RollupPeriod type,
+    String key
+) {
+
+    public static LeaderboardPeriod of(RollupPeriod type, LocalDate date) {
+        return new LeaderboardPeriod(type, type.keyOf(date));
+    }
+}
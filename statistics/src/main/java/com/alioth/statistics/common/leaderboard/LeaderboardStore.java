@@ -0,0 +1,96 @@
+package com.alioth.statistics.common.leaderboard;
+
+import com.alioth.statistics.domain.batch.BatchSalesRollup;
+import com.alioth.statistics.domain.batch.RollupScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 기간 / 단위 / 점수별 Redis sorted set.
+ * key 는 leaderboard:{scope}:{metric}:{periodKey} 이고 member 는 group_key(사원 코드, 팀 코드, 상품 코드)다.
+ * 이름은 기간마다 hash(leaderboard:{scope}:name:{periodKey})로 두고 순위와 함께 통째로 바꾼다 (빠진 사원 / 팀 / 상품의 이름이 쌓이지 않는다).
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaderboardStore {
+
+    private static final String KEY_PREFIX = "leaderboard:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 기간의 순위를 통째로 바꾼다. 임시 key 에 다 쓴 뒤 RENAME 하므로 읽는 쪽은 이전 순위나 새 순위 중 하나만 본다.
+     */
+    public void replace(RollupScope scope, String periodKey, List<BatchSalesRollup> rows) {
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            String key = key(scope, metric, periodKey);
+
+            if (rows.isEmpty()) {
+                redisTemplate.delete(key);
+                continue;
+            }
+
+            Set<TypedTuple<String>> tuples = new HashSet<>();
+            rows.forEach(row -> tuples.add(TypedTuple.of(row.getGroupKey(), (double) metric.scoreOf(row))));
+
+            String rebuildKey = key + ":rebuild";
+            redisTemplate.delete(rebuildKey);
+            redisTemplate.opsForZSet().add(rebuildKey, tuples);
+            redisTemplate.rename(rebuildKey, key);
+        }
+
+        Map<String, String> names = new HashMap<>();
+        rows.stream()
+                .filter(row -> row.getGroupName() != null)
+                .forEach(row -> names.put(row.getGroupKey(), row.getGroupName()));
+
+        String nameKey = nameKey(scope, periodKey);
+        if (names.isEmpty()) {
+            redisTemplate.delete(nameKey);
+            return;
+        }
+
+        String rebuildKey = nameKey + ":rebuild";
+        redisTemplate.delete(rebuildKey);
+        redisTemplate.opsForHash().putAll(rebuildKey, names);
+        redisTemplate.rename(rebuildKey, nameKey);
+    }
+
+    /* 점수 높은 순으로 start ~ end 등 (0 부터) */
+    public List<TypedTuple<String>> range(RollupScope scope, LeaderboardMetric metric, String periodKey, long start, long end) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key(scope, metric, periodKey), start, end);
+        return tuples == null ? List.of() : new ArrayList<>(tuples);
+    }
+
+    /* 0 부터 시작하는 순위, 없으면 null */
+    public Long rank(RollupScope scope, LeaderboardMetric metric, String periodKey, String groupKey) {
+        return redisTemplate.opsForZSet().reverseRank(key(scope, metric, periodKey), groupKey);
+    }
+
+    public Map<String, String> names(RollupScope scope, String periodKey, List<String> groupKeys) {
+        if (groupKeys.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> names = redisTemplate.opsForHash().multiGet(nameKey(scope, periodKey), new ArrayList<>(groupKeys));
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < groupKeys.size(); i++) {
+            if (names.get(i) != null) {
+                result.put(groupKeys.get(i), names.get(i).toString());
+            }
+        }
+        return result;
+    }
+
+    public static String key(RollupScope scope, LeaderboardMetric metric, String periodKey) {
+        return KEY_PREFIX + scope + ":" + metric + ":" + periodKey;
+    }
+
+    public static String nameKey(RollupScope scope, String periodKey) {
+        return KEY_PREFIX + scope + ":name:" + periodKey;
+    }
+}
@@ -0,0 +1,60 @@
+package com.alioth.statistics.common.leaderboard;
+
+import com.alioth.statistics.domain.batch.RollupScope;
+import com.alioth.statistics.domain.batch.repository.BatchSalesRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * batch_sales_rollup 행으로 leaderboard sorted set 을 다시 채운다.
+ * rollup 이 바뀐 기간만 갱신하고, Redis 가 실패해도 배치는 실패시키지 않는다 (rebuild 로 복구).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardWriter {
+
+    public static final List<RollupScope> SCOPES = List.of(RollupScope.MEMBER, RollupScope.TEAM, RollupScope.PRODUCT);
+
+    private final BatchSalesRollupRepository rollupRepository;
+    private final LeaderboardStore leaderboardStore;
+
+    public void refresh(LeaderboardPeriod period) {
+        for (RollupScope scope : SCOPES) {
+            leaderboardStore.replace(scope, period.key(),
+                    rollupRepository.findByPeriodTypeAndPeriodKeyAndScope(period.type(), period.key(), scope));
+        }
+    }
+
+    /**
+     * rollup 을 쓰는 트랜잭션이 커밋된 뒤에 갱신한다. 롤백되면 Redis 는 건드리지 않는다.
+     */
+    public void refreshAfterCommit(Collection<LeaderboardPeriod> periods) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshQuietly(periods);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshQuietly(periods);
+            }
+        });
+    }
+
+    private void refreshQuietly(Collection<LeaderboardPeriod> periods) {
+        try {
+            periods.forEach(this::refresh);
+            log.info("[LeaderboardWriter] {} periods refreshed", periods.size());
+        } catch (Exception e) {
+            log.error("[LeaderboardWriter] refresh failed, run /statistics/leaderboard/rebuild to recover: {}", e.getMessage());
+        }
+    }
+}
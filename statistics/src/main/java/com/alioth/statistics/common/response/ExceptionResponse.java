@@ -37,7 +37,7 @@ public class ExceptionResponse {
             return CommonResponse.responseMessage(HttpStatus.BAD_REQUEST, e.getMessage());
         }
 
-        if(e instanceof DataIntegrityViolationException){
+        if(e instanceof DataIntegrityViolationException || e instanceof IllegalStateException){
             return CommonResponse.responseMessage(HttpStatus.CONFLICT, e.getMessage());
         }
 
@@ -0,0 +1,39 @@
+package com.alioth.statistics.controller;
+
+import com.alioth.statistics.common.response.CommonResponse;
+import com.alioth.statistics.service.batch.BatchBackfillService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@RequestMapping("/statistics")
+@RestController
+@RequiredArgsConstructor
+public class BatchController {
+
+    private final BatchBackfillService batchBackfillService;
+
+
+    // 하루만 다시 돌릴 때는 startDate 만 넘긴다
+    @PostMapping("/batch/backfill")
+    public ResponseEntity<CommonResponse> backfill(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) throws Exception {
+        JobExecution execution = batchBackfillService.backfill(startDate, endDate == null ? startDate : endDate);
+
+        return CommonResponse.responseMessage(
+                HttpStatus.ACCEPTED,
+                "재집계를 시작했습니다.",
+                Map.of("jobExecutionId", execution.getId(), "status", execution.getStatus())
+        );
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.alioth.statistics.controller;
+
+import com.alioth.statistics.common.leaderboard.LeaderboardMetric;
+import com.alioth.statistics.common.response.CommonResponse;
+import com.alioth.statistics.domain.batch.RollupPeriod;
+import com.alioth.statistics.domain.batch.RollupScope;
+import com.alioth.statistics.domain.batch.dto.res.LeaderboardEntryResDto;
+import com.alioth.statistics.service.leaderboard.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * scope 는 MEMBER / TEAM / PRODUCT, period 는 MONTH / HALF / YEAR. date 가 없으면 오늘이 속한 기간이다.
+ */
+@RequestMapping("/statistics/leaderboard")
+@RestController
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+
+    @GetMapping("/{scope}/top")
+    public ResponseEntity<CommonResponse> top(@PathVariable("scope") RollupScope scope,
+                                              @RequestParam(defaultValue = "PRICE") LeaderboardMetric metric,
+                                              @RequestParam(defaultValue = "MONTH") RollupPeriod period,
+                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                              @RequestParam(defaultValue = "10") int size) {
+        List<LeaderboardEntryResDto> dto = leaderboardService.top(scope, metric, period, dateOrToday(date), size);
+
+        return CommonResponse.responseMessage(HttpStatus.OK, "상위 " + size + " 순위입니다.", dto);
+    }
+
+    @GetMapping("/{scope}/rank/{groupKey}")
+    public ResponseEntity<CommonResponse> rankOf(@PathVariable("scope") RollupScope scope,
+                                                 @PathVariable("groupKey") String groupKey,
+                                                 @RequestParam(defaultValue = "PRICE") LeaderboardMetric metric,
+                                                 @RequestParam(defaultValue = "MONTH") RollupPeriod period,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LeaderboardEntryResDto dto = leaderboardService.rankOf(scope, metric, period, dateOrToday(date), groupKey);
+
+        return CommonResponse.responseMessage(HttpStatus.OK, groupKey + " 의 순위입니다.", dto);
+    }
+
+    @GetMapping("/{scope}/around/{groupKey}")
+    public ResponseEntity<CommonResponse> around(@PathVariable("scope") RollupScope scope,
+                                                 @PathVariable("groupKey") String groupKey,
+                                                 @RequestParam(defaultValue = "PRICE") LeaderboardMetric metric,
+                                                 @RequestParam(defaultValue = "MONTH") RollupPeriod period,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                 @RequestParam(defaultValue = "5") int radius) {
+        List<LeaderboardEntryResDto> dto = leaderboardService.around(scope, metric, period, dateOrToday(date), groupKey, radius);
+
+        return CommonResponse.responseMessage(HttpStatus.OK, groupKey + " 의 앞뒤 순위입니다.", dto);
+    }
+
+    // period 가 없으면 rollup 에 있는 모든 기간을 다시 채운다
+    @PostMapping("/rebuild")
+    public ResponseEntity<CommonResponse> rebuild(@RequestParam(required = false) RollupPeriod period,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        if (period != null) {
+            leaderboardService.rebuild(period, dateOrToday(date));
+            return CommonResponse.responseMessage(HttpStatus.OK, period.keyOf(dateOrToday(date)) + " 순위를 다시 만들었습니다.");
+        }
+
+        int count = leaderboardService.rebuild();
+        return CommonResponse.responseMessage(HttpStatus.OK, "순위를 다시 만들었습니다.", Map.of("periods", count));
+    }
+
+    private LocalDate dateOrToday(LocalDate date) {
+        return date == null ? LocalDate.now() : date;
+    }
+}
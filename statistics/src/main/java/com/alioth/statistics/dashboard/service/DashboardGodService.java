@@ -2,12 +2,8 @@ package com.alioth.statistics.dashboard.service;
 
 import com.alioth.statistics.dashboard.dto.res.DashboardBestTeamResDto;
 import com.alioth.statistics.dashboard.dto.res.DashboardGodResDto;
-import com.alioth.statistics.domain.contract.domain.Contract;
-import com.alioth.statistics.domain.contract.repository.ContractRepository;
-import com.alioth.statistics.domain.dummy.domain.ContractStatus;
-import com.alioth.statistics.domain.member.domain.SalesMembers;
-import com.alioth.statistics.domain.team.domain.Team;
-import com.alioth.statistics.domain.team.repository.TeamRepository;
+import com.alioth.statistics.domain.contract.dto.res.ContractTopResDto;
+import com.alioth.statistics.domain.contract.repository.ContractRankQueryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,105 +11,47 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class DashboardGodService {
 
-    private final ContractRepository contractRepository;
-    private final TeamRepository teamRepository;
+    private static final String BEST_REVIEW = "A";
 
+    private final ContractRankQueryRepository contractRankQueryRepository;
 
-    public DashboardGodResDto getSalesGod() {
-        LocalDateTime now = LocalDateTime.now();
-        YearMonth yearMonth = YearMonth.from(now);
-        LocalDateTime startTime = LocalDateTime.of(now.getYear(), yearMonth.getMonth(), 1, 0, 0, 0);
-        LocalDateTime endTime = LocalDateTime.of(now.getYear(), yearMonth.getMonth(), yearMonth.atEndOfMonth().getDayOfMonth(), 23, 59, 59);
-
-        List<Contract> all = contractRepository.findByCreatedAtBetween(startTime, endTime);
-
-        Map<SalesMembers, List<Contract>> collectList = all.stream()
-                .collect(Collectors.groupingBy(Contract::getSalesMembers));
-
-        List<DashboardGodResDto> dtoList = new ArrayList<>();
-
-        for (var entry : collectList.entrySet()) {
-            SalesMembers member = entry.getKey();
-            List<Contract> contracts = entry.getValue();
-
-            BigDecimal sumPrice = contracts.stream()
-                    .filter(x -> x.getSalesMembers().getPerformanceReview().equals("A"))
-                    .map(x -> new BigDecimal(x.getContractTotalPrice()))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            long sumCount = contracts.stream()
-                    .filter(x -> x.getSalesMembers().getPerformanceReview().equals("A"))
-                    .mapToLong(Contract::getContractCount)
-                    .sum();
-
-            DashboardGodResDto temp = DashboardGodResDto.builder()
-                    .name(member.getName())
-                    .price(sumPrice.toEngineeringString())
-                    .count(String.valueOf(sumCount))
-                    .build();
-
-            dtoList.add(temp);
-        }
 
-        dtoList.sort((o1, o2) -> {
-            BigDecimal o1Price = new BigDecimal(o1.price());
-            BigDecimal o2Price = new BigDecimal(o2.price());
+    /* 이번 달 A 고과 사원 중 계약 금액 1위 */
+    public DashboardGodResDto getSalesGod() {
+        YearMonth yearMonth = YearMonth.now();
+        LocalDateTime startTime = yearMonth.atDay(1).atStartOfDay();
+        LocalDateTime endTime = yearMonth.plusMonths(1L).atDay(1).atStartOfDay();
 
-            return o2Price.compareTo(o1Price);
-        });
+        ContractTopResDto top = contractRankQueryRepository.findTopMember(startTime, endTime, BEST_REVIEW)
+                .orElse(ContractTopResDto.builder().build());
 
-        return dtoList.get(0);
+        return DashboardGodResDto.builder()
+                .name(top.name())
+                .price(top.price().toEngineeringString())
+                .count(String.valueOf(top.count()))
+                .build();
     }
 
 
-
+    /* 이번 달 A 고과 팀 중 (해약 제외) 계약 금액 1위 */
     public DashboardBestTeamResDto getBestTeam() {
-        LocalDateTime now = LocalDateTime.now();
-        YearMonth yearMonth = YearMonth.from(now);
-        LocalDateTime startTime = LocalDateTime.of(now.getYear(), yearMonth.getMonth(), 1, 0, 0, 0);
-        LocalDateTime endTime = LocalDateTime.of(now.getYear(), yearMonth.getMonth(), yearMonth.atEndOfMonth().getDayOfMonth(), 23, 59, 59);
-
-        List<Team> aTeam = teamRepository.findAll()
-                .stream()
-                .filter(x -> x.getPerformanceReview().equals("A"))
-                .toList();
-
-        List<SalesMembers> list = aTeam.get(0).getTeamMembers();
-
-        BigDecimal totalPrice = BigDecimal.ZERO;
-        Long totalCount = 0L;
-        for (var members : list) {
-            List<Contract> contracts = contractRepository.findBySalesMembersAndCreatedAtBetween(members, startTime, endTime);
-
-            BigDecimal sumPrice = contracts
-                    .stream()
-                    .filter(x->x.getContractStatus() != ContractStatus.Cancellation)
-                    .map(x -> new BigDecimal(x.getContractTotalPrice()))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            Long sumCount = contracts
-                    .stream()
-                    .filter(x->x.getContractStatus() != ContractStatus.Cancellation)
-                    .count();
+        YearMonth yearMonth = YearMonth.now();
+        LocalDateTime startTime = yearMonth.atDay(1).atStartOfDay();
+        LocalDateTime endTime = yearMonth.plusMonths(1L).atDay(1).atStartOfDay();
 
-            totalPrice = totalPrice.add(sumPrice);
-            totalCount = totalCount + sumCount;
-        }
+        ContractTopResDto top = contractRankQueryRepository.findTopTeam(startTime, endTime, BEST_REVIEW)
+                .orElse(ContractTopResDto.builder().build());
 
         return DashboardBestTeamResDto.builder()
-                .teamName(aTeam.get(0).getTeamName())
-                .price(totalPrice.toEngineeringString())
-                .count(String.valueOf(totalCount))
+                .teamName(top.name())
+                .price(top.price().toEngineeringString())
+                .count(String.valueOf(top.count()))
                 .build();
     }
 
@@ -0,0 +1,28 @@
+package com.alioth.statistics.domain.batch;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * delta 집계 실행의 잠금 행. 반영과 같은 트랜잭션에서 FOR UPDATE 로 잡고, 지금까지 반영한 가장 큰 로그 id 를 남긴다.
+ * 반영 여부 자체는 contract_change_log.processed_at 으로 판단한다 (id 는 커밋 순서가 아니다).
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BatchDeltaCheckpoint {
+
+    @Id
+    private String name; // 읽어 가는 로그 이름 (contract_change_log)
+
+    @Column(nullable = false)
+    private Long lastLogId; // 반영한 로그 중 가장 큰 id (참고용)
+
+    @Column(nullable = false)
+    private LocalDateTime updatedTime;
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Table(name = "batch_hq_sales")
@@ -21,17 +22,17 @@ public class BatchHQSales {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long Id;
 
-    @Column(nullable = false)
-    private String totalPrice;
+    @Column(nullable = false, precision = 19)
+    private BigDecimal totalPrice;
 
     @Column(nullable = false)
-    private String totalCount;
+    private Long totalCount;
 
-    @Column(nullable = false)
-    private String cancelPrice;
+    @Column(nullable = false, precision = 19)
+    private BigDecimal cancelPrice;
 
     @Column(nullable = false)
-    private String cancelCount;
+    private Long cancelCount;
 
     @Column(nullable = false)
     private LocalDateTime createdDate; // 날짜
@@ -0,0 +1,28 @@
+package com.alioth.statistics.domain.batch;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * lease 이름별로 지금 batch_* 테이블에 쓸 수 있는 fencing token. 더 큰 token 으로만 올라간다.
+ * 배치의 모든 chunk 트랜잭션이 이 행을 공유 잠금으로 읽고 token 이 다르면 쓰지 않는다.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BatchJobFence {
+
+    @Id
+    private String name; // lease 이름 (batchJob)
+
+    @Column(nullable = false)
+    private Long fencingToken;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedTime;
+}
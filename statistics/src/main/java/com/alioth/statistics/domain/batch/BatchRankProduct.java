@@ -4,6 +4,7 @@ import com.alioth.statistics.domain.member.domain.SalesMembers;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -26,9 +27,10 @@ public class BatchRankProduct {
 
     private LocalDateTime createdDate; // 날짜
 
-    private String contractPrice; // 상품별 가격
+    @Column(precision = 19)
+    private BigDecimal contractPrice; // 상품별 가격
 
-    private String contractCount; // 상품별 건수
+    private Long contractCount; // 상품별 건수
 
     private LocalDateTime createdTime; // 입사 날짜
 
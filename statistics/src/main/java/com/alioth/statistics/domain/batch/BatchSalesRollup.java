@@ -0,0 +1,59 @@
+package com.alioth.statistics.domain.batch;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사원 / 팀 / 본사의 월, 반기, 연 매출 합계.
+ * 배치가 하루치 batch_* 행을 쓴 뒤 그 날짜가 속한 월 -> 반기 -> 연 행만 다시 계산한다.
+ */
+@Table(name = "batch_sales_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_batch_sales_rollup",
+                columnNames = {"period_type", "period_key", "scope", "group_key"}))
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BatchSalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long Id;
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private RollupScope scope;
+
+    @Column(nullable = false)
+    private String groupKey; // 사원 코드, 팀 코드, HQ
+
+    @Column
+    private String groupName;
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private RollupPeriod periodType;
+
+    @Column(nullable = false, length = 10)
+    private String periodKey; // 2024-05, 2024-H1, 2024
+
+    @Column(nullable = false, precision = 19)
+    private BigDecimal contractPrice;
+
+    @Column(nullable = false)
+    private Long contractCount;
+
+    @Column(nullable = false, precision = 19)
+    private BigDecimal cancelPrice;
+
+    @Column(nullable = false)
+    private Long cancelCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedTime;
+}
@@ -4,6 +4,7 @@ package com.alioth.statistics.domain.batch;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -24,17 +25,17 @@ public class BatchTeamSales {
     @Column(nullable = false)
     private String teamName ;
 
-    @Column(nullable = false)
-    private String contractPrice;
+    @Column(nullable = false, precision = 19)
+    private BigDecimal contractPrice;
 
     @Column(nullable = false)
-    private String contractCount;
+    private Long contractCount;
 
-    @Column(nullable = false)
-    private String cancelPrice;
+    @Column(nullable = false, precision = 19)
+    private BigDecimal cancelPrice;
 
     @Column(nullable = false)
-    private String cancelCount;
+    private Long cancelCount;
 
     @Column(nullable = false)
     private LocalDateTime createdTime;
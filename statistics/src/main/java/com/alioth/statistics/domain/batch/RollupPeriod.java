@@ -0,0 +1,39 @@
+package com.alioth.statistics.domain.batch;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * batch_sales_rollup 의 기간. 월 -> 반기 -> 연 순서로 아래 기간의 행을 더해서 만든다.
+ * 기간은 batch_* 행의 기록 시각(created_time) 기준이다.
+ */
+public enum RollupPeriod {
+    MONTH,
+    HALF,
+    YEAR;
+
+    /* 2024-05, 2024-H1, 2024 */
+    public String keyOf(LocalDate date) {
+        return switch (this) {
+            case MONTH -> YearMonth.from(date).toString();
+            case HALF -> date.getYear() + "-H" + (date.getMonthValue() <= 6 ? 1 : 2);
+            case YEAR -> String.valueOf(date.getYear());
+        };
+    }
+
+    /* 이 기간을 만드는 아래 기간의 key 목록 (MONTH 는 batch_* 에서 직접 만든다) */
+    public List<String> childKeysOf(LocalDate date) {
+        return switch (this) {
+            case MONTH -> List.of();
+            case HALF -> {
+                int firstMonth = date.getMonthValue() <= 6 ? 1 : 7;
+                yield IntStream.range(firstMonth, firstMonth + 6)
+                        .mapToObj(month -> YearMonth.of(date.getYear(), month).toString())
+                        .toList();
+            }
+            case YEAR -> List.of(date.getYear() + "-H1", date.getYear() + "-H2");
+        };
+    }
+}
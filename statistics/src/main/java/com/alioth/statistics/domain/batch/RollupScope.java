@@ -0,0 +1,11 @@
+package com.alioth.statistics.domain.batch;
+
+/**
+ * batch_sales_rollup 의 집계 단위. group_key 는 사원 코드 / 팀 코드 / "HQ" / 상품 코드.
+ */
+public enum RollupScope {
+    MEMBER,
+    TEAM,
+    HQ,
+    PRODUCT
+}
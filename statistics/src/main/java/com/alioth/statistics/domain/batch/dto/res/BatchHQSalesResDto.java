@@ -1,14 +1,21 @@
 package com.alioth.statistics.domain.batch.dto.res;
 
 import com.alioth.statistics.domain.batch.BatchHQSales;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 
+import java.math.BigDecimal;
+
 @Builder
 public record BatchHQSalesResDto(
-    String contractPrice,
-    String contractCount,
-    String cancelPrice,
-    String cancelCount
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    BigDecimal contractPrice,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    Long contractCount,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    BigDecimal cancelPrice,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    Long cancelCount
 ) {
 
     public static BatchHQSalesResDto ofBatchHQSales(BatchHQSales hq) {
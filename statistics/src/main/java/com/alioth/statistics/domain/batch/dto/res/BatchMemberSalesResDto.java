@@ -1,16 +1,24 @@
 package com.alioth.statistics.domain.batch.dto.res;
 
 import com.alioth.statistics.domain.batch.BatchMemberSales;
+import com.alioth.statistics.domain.batch.BatchSalesRollup;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 
+import java.math.BigDecimal;
+
 @Builder
 public record BatchMemberSalesResDto(
     String salesMemberName,
     String salesMemberCode,
-    String contractPrice,
-    String contractCount,
-    String cancelPrice,
-    String cancelCount
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    BigDecimal contractPrice,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    Long contractCount,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    BigDecimal cancelPrice,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    Long cancelCount
 ) {
 
     public static BatchMemberSalesResDto ofBatchMemberSales(BatchMemberSales member) {
@@ -24,4 +32,15 @@ public record BatchMemberSalesResDto(
                 .build();
     }
 
+    public static BatchMemberSalesResDto ofRollup(BatchSalesRollup rollup) {
+        return BatchMemberSalesResDto.builder()
+                .salesMemberName(rollup.getGroupName())
+                .salesMemberCode(rollup.getGroupKey())
+                .contractPrice(rollup.getContractPrice())
+                .contractCount(rollup.getContractCount())
+                .cancelPrice(rollup.getCancelPrice())
+                .cancelCount(rollup.getCancelCount())
+                .build();
+    }
+
 }
@@ -1,10 +1,14 @@
 package com.alioth.statistics.domain.batch.dto.res;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 
+import java.math.BigDecimal;
+
 @Builder
 public record BatchProductPriceResDto(
     String category,
-    String price
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    BigDecimal price
 ) {
 }
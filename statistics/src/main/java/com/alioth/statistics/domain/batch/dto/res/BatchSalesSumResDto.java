@@ -0,0 +1,42 @@
+package com.alioth.statistics.domain.batch.dto.res;
+
+import com.alioth.statistics.domain.batch.BatchSalesRollup;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+/**
+ * batch_* 테이블을 DB 에서 SUM / GROUP BY 한 결과, 또는 batch_sales_rollup 의 월 / 반기 / 연 행.
+ * 조회 기간에 행이 없으면 SUM 이 null 이라 0 으로 바꿔 둔다.
+ */
+@Builder
+public record BatchSalesSumResDto(
+    String groupKey,
+    BigDecimal contractPrice,
+    Long contractCount,
+    BigDecimal cancelPrice,
+    Long cancelCount
+) {
+
+    public BatchSalesSumResDto {
+        contractPrice = contractPrice == null ? BigDecimal.ZERO : contractPrice;
+        contractCount = contractCount == null ? 0L : contractCount;
+        cancelPrice = cancelPrice == null ? BigDecimal.ZERO : cancelPrice;
+        cancelCount = cancelCount == null ? 0L : cancelCount;
+    }
+
+    // GROUP BY 없이 전체 합계만 구할 때
+    public BatchSalesSumResDto(BigDecimal contractPrice, Long contractCount, BigDecimal cancelPrice, Long cancelCount) {
+        this(null, contractPrice, contractCount, cancelPrice, cancelCount);
+    }
+
+    public static BatchSalesSumResDto ofRollup(BatchSalesRollup rollup) {
+        return new BatchSalesSumResDto(rollup.getGroupName(), rollup.getContractPrice(), rollup.getContractCount(),
+                rollup.getCancelPrice(), rollup.getCancelCount());
+    }
+
+    // 그 기간에 집계된 행이 없을 때
+    public static BatchSalesSumResDto empty() {
+        return new BatchSalesSumResDto(null, null, null, null);
+    }
+}
@@ -1,17 +1,24 @@
 package com.alioth.statistics.domain.batch.dto.res;
 
 import com.alioth.statistics.domain.batch.BatchTeamSales;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+
 @Builder
 public record BatchTeamSalesResDto(
     String teamName,
     String teamCode,
-    String contractPrice,
-    String contractCount,
-    String cancelPrice,
-    String cancelCount
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    BigDecimal contractPrice,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    Long contractCount,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    BigDecimal cancelPrice,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    Long cancelCount
 ) {
 
     public static BatchTeamSalesResDto ofBatchTeamSales(BatchTeamSales team) {
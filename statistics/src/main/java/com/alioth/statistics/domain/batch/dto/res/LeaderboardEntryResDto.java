@@ -0,0 +1,14 @@
+package com.alioth.statistics.domain.batch.dto.res;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+public record LeaderboardEntryResDto(
+    Long rank,          // 1 부터
+    String groupKey,    // 사원 코드, 팀 코드, 상품 코드
+    String groupName,
+    BigDecimal score    // 계약 금액 또는 건수
+) {
+}
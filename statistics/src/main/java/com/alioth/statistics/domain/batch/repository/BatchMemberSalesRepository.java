@@ -11,5 +11,4 @@ public interface BatchMemberSalesRepository extends JpaRepository<BatchMemberSal
 
     List<BatchMemberSales> findByCreatedTimeBetween(LocalDateTime start, LocalDateTime end);
     List<BatchMemberSales> findBySalesMemberCodeAndCreatedTimeBetween(Long memberCode, LocalDateTime start, LocalDateTime end);
-
 }
@@ -1,7 +1,11 @@
 package com.alioth.statistics.domain.batch.repository;
 
 import com.alioth.statistics.domain.batch.BatchRankProduct;
+import com.alioth.statistics.domain.batch.dto.res.BatchProductCountResDto;
+import com.alioth.statistics.domain.batch.dto.res.BatchProductPriceResDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,4 +14,12 @@ public interface BatchRankProductRepository extends JpaRepository<BatchRankProdu
 
     List<BatchRankProduct> findByCreatedDateBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    @Query("SELECT new com.alioth.statistics.domain.batch.dto.res.BatchProductPriceResDto(p.productCategory, SUM(p.contractPrice)) " +
+            "FROM BatchRankProduct p WHERE p.createdDate BETWEEN :startDate AND :endDate GROUP BY p.productCategory")
+    List<BatchProductPriceResDto> sumPriceByCategory(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT new com.alioth.statistics.domain.batch.dto.res.BatchProductCountResDto(p.productCategory, SUM(p.contractCount)) " +
+            "FROM BatchRankProduct p WHERE p.createdDate BETWEEN :startDate AND :endDate GROUP BY p.productCategory")
+    List<BatchProductCountResDto> sumCountByCategory(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
 }
@@ -0,0 +1,22 @@
+package com.alioth.statistics.domain.batch.repository;
+
+import com.alioth.statistics.domain.batch.BatchSalesRollup;
+import com.alioth.statistics.domain.batch.RollupPeriod;
+import com.alioth.statistics.domain.batch.RollupScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BatchSalesRollupRepository extends JpaRepository<BatchSalesRollup, Long> {
+
+    Optional<BatchSalesRollup> findByPeriodTypeAndPeriodKeyAndScopeAndGroupKey(RollupPeriod periodType, String periodKey,
+                                                                                RollupScope scope, String groupKey);
+
+    List<BatchSalesRollup> findByPeriodTypeAndPeriodKeyAndScope(RollupPeriod periodType, String periodKey, RollupScope scope);
+
+    @Query("SELECT DISTINCT r.periodKey FROM BatchSalesRollup r WHERE r.periodType = :periodType")
+    List<String> findPeriodKeys(@Param("periodType") RollupPeriod periodType);
+}
@@ -6,6 +6,7 @@ import com.alioth.statistics.domain.member.domain.SalesMembers;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -26,10 +27,10 @@ public class Contract extends BaseEntity {
     private LocalDateTime contractExpireDate;
     @Column(nullable = false)
     private String contractPeriod;
-    @Column(nullable = false)
-    private String contractTotalPrice;
-    @Column(nullable = false)
-    private String contractPaymentAmount;
+    @Column(nullable = false, precision = 19)
+    private BigDecimal contractTotalPrice;
+    @Column(nullable = false, precision = 19)
+    private BigDecimal contractPaymentAmount;
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private PaymentFrequency contractPaymentFrequency;
@@ -47,21 +48,25 @@ public class Contract extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private ContractStatus contractStatus;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     @JoinColumn(name = "insurance_id")
     @Enumerated(EnumType.STRING)
     private InsuranceProduct insuranceProduct;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     @JoinColumn(name = "customer_id")
     private Custom custom;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     @JoinColumn(name = "CM_id")
     @Enumerated(EnumType.STRING)
     private ContractMembers contractMembers;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     @JoinColumn(name = "SM_id")
     private SalesMembers salesMembers;
 
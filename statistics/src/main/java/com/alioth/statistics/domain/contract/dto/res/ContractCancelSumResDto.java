@@ -0,0 +1,55 @@
+package com.alioth.statistics.domain.contract.dto.res;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 계약 전체 / 해약 건수·금액을 한 번의 GROUP BY 로 묶은 결과.
+ * 그룹에 해약 계약이 없으면 SUM 이 null 이라 0 으로 바꿔 둔다.
+ */
+@Builder
+public record ContractCancelSumResDto(
+    Long groupId,
+    String groupKey,
+    BigDecimal totalPrice,
+    Long totalCount,
+    BigDecimal cancelPrice,
+    Long cancelCount
+) {
+
+    private static final BigDecimal PERCENT = new BigDecimal("100");
+
+    public ContractCancelSumResDto {
+        totalPrice = totalPrice == null ? BigDecimal.ZERO : totalPrice;
+        totalCount = totalCount == null ? 0L : totalCount;
+        cancelPrice = cancelPrice == null ? BigDecimal.ZERO : cancelPrice;
+        cancelCount = cancelCount == null ? 0L : cancelCount;
+    }
+
+    // GROUP BY 없이 전사 합계만 구할 때
+    public ContractCancelSumResDto(BigDecimal totalPrice, Long totalCount, BigDecimal cancelPrice, Long cancelCount) {
+        this(null, null, totalPrice, totalCount, cancelPrice, cancelCount);
+    }
+
+    public static ContractCancelSumResDto empty() {
+        return new ContractCancelSumResDto(null, null, null, null);
+    }
+
+    /* 해약 금액 비율 (소수 3자리, 예: 12.300) */
+    public BigDecimal cancelPricePercent() {
+        if (totalPrice.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return cancelPrice.divide(totalPrice, 3, RoundingMode.HALF_EVEN).multiply(PERCENT);
+    }
+
+    /* 해약 건수 비율 */
+    public double cancelCountPercent() {
+        if (totalCount == 0L) {
+            return 0d;
+        }
+        return ((double) cancelCount / (double) totalCount) * 100;
+    }
+}
@@ -0,0 +1,17 @@
+package com.alioth.statistics.domain.contract.dto.res;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+/**
+ * 계약을 GROUP BY 로 묶은 결과 (그룹 id / 코드, 건수, 금액 합계).
+ */
+@Builder
+public record ContractSumResDto(
+    Long groupId,
+    String groupKey,
+    Long count,
+    BigDecimal price
+) {
+}
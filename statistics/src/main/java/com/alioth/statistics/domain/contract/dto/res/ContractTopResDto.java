@@ -0,0 +1,21 @@
+package com.alioth.statistics.domain.contract.dto.res;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+/**
+ * ORDER BY 합계 DESC LIMIT 1 로 뽑은 1위 (사원 또는 팀).
+ */
+@Builder
+public record ContractTopResDto(
+    String name,
+    BigDecimal price,
+    Long count
+) {
+
+    public ContractTopResDto {
+        price = price == null ? BigDecimal.ZERO : price;
+        count = count == null ? 0L : count;
+    }
+}
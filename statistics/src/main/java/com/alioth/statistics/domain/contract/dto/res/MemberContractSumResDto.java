@@ -0,0 +1,44 @@
+package com.alioth.statistics.domain.contract.dto.res;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 사원별 계약 / 해약 합계 (보험왕 선정용).
+ */
+@Builder
+public record MemberContractSumResDto(
+    Long memberCode,
+    String memberName,
+    String performanceReview,
+    BigDecimal totalPrice,
+    Long totalCount,
+    BigDecimal cancelPrice,
+    Long cancelCount
+) {
+
+    public MemberContractSumResDto {
+        totalPrice = totalPrice == null ? BigDecimal.ZERO : totalPrice;
+        totalCount = totalCount == null ? 0L : totalCount;
+        cancelPrice = cancelPrice == null ? BigDecimal.ZERO : cancelPrice;
+        cancelCount = cancelCount == null ? 0L : cancelCount;
+    }
+
+    /* 해약 건당 평균 금액, 해약이 없으면 0 */
+    public BigDecimal cancelAvgPrice() {
+        if (cancelCount == 0L) {
+            return BigDecimal.ZERO;
+        }
+        return cancelPrice.divide(BigDecimal.valueOf(cancelCount), 0, RoundingMode.HALF_EVEN);
+    }
+
+    /* 계약 건당 평균 금액 - 해약 건당 평균 금액 */
+    public BigDecimal score() {
+        if (totalCount == 0L) {
+            return BigDecimal.ZERO.subtract(cancelAvgPrice());
+        }
+        return totalPrice.divide(BigDecimal.valueOf(totalCount), 3, RoundingMode.HALF_EVEN).subtract(cancelAvgPrice());
+    }
+}
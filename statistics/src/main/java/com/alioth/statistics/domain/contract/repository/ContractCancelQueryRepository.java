@@ -0,0 +1,100 @@
+package com.alioth.statistics.domain.contract.repository;
+
+import com.alioth.statistics.domain.contract.dto.res.ContractCancelSumResDto;
+import com.alioth.statistics.domain.dummy.domain.ContractStatus;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.alioth.statistics.domain.contract.domain.QContract.contract;
+import static com.alioth.statistics.domain.member.domain.QSalesMembers.salesMembers;
+import static com.alioth.statistics.domain.team.domain.QTeam.team;
+
+/**
+ * 해약 통계용 집계 쿼리.
+ * 사원마다 계약을 읽어 오지 않고, 전체 / 해약 합계를 CASE WHEN 으로 한 문장에서 같이 구한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContractCancelQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /* 사원별 */
+    public List<ContractCancelSumResDto> sumGroupBySalesMember() {
+        return queryFactory
+                .select(Projections.constructor(ContractCancelSumResDto.class,
+                        salesMembers.Id,
+                        salesMembers.name,
+                        totalPrice(),
+                        totalCount(),
+                        cancelPrice(),
+                        cancelCount()))
+                .from(contract)
+                .join(contract.salesMembers, salesMembers)
+                .groupBy(salesMembers.Id, salesMembers.name)
+                .fetch();
+    }
+
+    /* 팀별 */
+    public List<ContractCancelSumResDto> sumGroupByTeam() {
+        return queryFactory
+                .select(Projections.constructor(ContractCancelSumResDto.class,
+                        team.id,
+                        team.teamCode,
+                        totalPrice(),
+                        totalCount(),
+                        cancelPrice(),
+                        cancelCount()))
+                .from(contract)
+                .join(contract.salesMembers, salesMembers)
+                .join(salesMembers.team, team)
+                .groupBy(team.id, team.teamCode)
+                .fetch();
+    }
+
+    /* 전사 */
+    public ContractCancelSumResDto sumAll() {
+        ContractCancelSumResDto result = queryFactory
+                .select(Projections.constructor(ContractCancelSumResDto.class,
+                        totalPrice(),
+                        totalCount(),
+                        cancelPrice(),
+                        cancelCount()))
+                .from(contract)
+                .fetchOne();
+
+        return result == null ? ContractCancelSumResDto.empty() : result;
+    }
+
+
+    private NumberExpression<BigDecimal> totalPrice() {
+        return contract.contractTotalPrice.sum();
+    }
+
+    private NumberExpression<Long> totalCount() {
+        return contract.count();
+    }
+
+    private NumberExpression<BigDecimal> cancelPrice() {
+        return new CaseBuilder()
+                .when(contract.contractStatus.eq(ContractStatus.Cancellation))
+                .then(contract.contractTotalPrice)
+                .otherwise(BigDecimal.ZERO)
+                .sum();
+    }
+
+    private NumberExpression<Long> cancelCount() {
+        return new CaseBuilder()
+                .when(contract.contractStatus.eq(ContractStatus.Cancellation))
+                .then(1L)
+                .otherwise(0L)
+                .sum();
+    }
+}
@@ -0,0 +1,95 @@
+package com.alioth.statistics.domain.contract.repository;
+
+import com.alioth.statistics.domain.contract.dto.res.ContractTopResDto;
+import com.alioth.statistics.domain.contract.dto.res.MemberContractSumResDto;
+import com.alioth.statistics.domain.dummy.domain.ContractStatus;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.alioth.statistics.domain.contract.domain.QContract.contract;
+import static com.alioth.statistics.domain.member.domain.QSalesMembers.salesMembers;
+import static com.alioth.statistics.domain.team.domain.QTeam.team;
+
+/**
+ * 보험왕 / 최우수 팀 선정용 집계 쿼리.
+ * 계약을 엔티티로 읽지 않고 DB 에서 그룹별 합계만 만들어 1위만 가져온다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContractRankQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /* 기간 내 등록 계약 금액이 가장 큰 사원 (고과 등급 필터) */
+    public Optional<ContractTopResDto> findTopMember(LocalDateTime startTime, LocalDateTime endTime, String performanceReview) {
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(ContractTopResDto.class,
+                        salesMembers.name,
+                        contract.contractTotalPrice.sum(),
+                        contract.contractCount.sum()))
+                .from(contract)
+                .join(contract.salesMembers, salesMembers)
+                .where(contract.createdAt.goe(startTime),
+                        contract.createdAt.lt(endTime),
+                        salesMembers.performanceReview.eq(performanceReview))
+                .groupBy(salesMembers.Id, salesMembers.name)
+                .orderBy(contract.contractTotalPrice.sum().desc(), salesMembers.Id.asc())
+                .fetchFirst());
+    }
+
+    /* 기간 내 해약을 뺀 계약 금액이 가장 큰 팀 (고과 등급 필터) */
+    public Optional<ContractTopResDto> findTopTeam(LocalDateTime startTime, LocalDateTime endTime, String performanceReview) {
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(ContractTopResDto.class,
+                        team.teamName,
+                        contract.contractTotalPrice.sum(),
+                        contract.count()))
+                .from(contract)
+                .join(contract.salesMembers, salesMembers)
+                .join(salesMembers.team, team)
+                .where(contract.createdAt.goe(startTime),
+                        contract.createdAt.lt(endTime),
+                        contract.contractStatus.ne(ContractStatus.Cancellation),
+                        team.performanceReview.eq(performanceReview))
+                .groupBy(team.id, team.teamName)
+                .orderBy(contract.contractTotalPrice.sum().desc(), team.id.asc())
+                .fetchFirst());
+    }
+
+    /**
+     * 기간 내 계약일 기준 사원별 합계. 사원 수만큼의 행을 커서로 흘려 보내므로 호출하는 쪽에서 닫아야 한다.
+     */
+    public Stream<MemberContractSumResDto> streamMemberSums(LocalDateTime startDate, LocalDateTime endDate) {
+        return queryFactory
+                .select(Projections.constructor(MemberContractSumResDto.class,
+                        salesMembers.salesMemberCode,
+                        salesMembers.name,
+                        salesMembers.performanceReview,
+                        contract.contractTotalPrice.sum(),
+                        contract.count(),
+                        new CaseBuilder()
+                                .when(contract.contractStatus.eq(ContractStatus.Cancellation))
+                                .then(contract.contractTotalPrice)
+                                .otherwise(BigDecimal.ZERO)
+                                .sum(),
+                        new CaseBuilder()
+                                .when(contract.contractStatus.eq(ContractStatus.Cancellation))
+                                .then(1L)
+                                .otherwise(0L)
+                                .sum()))
+                .from(contract)
+                .join(contract.salesMembers, salesMembers)
+                .where(contract.contractDate.goe(startDate),
+                        contract.contractDate.lt(endDate))
+                .groupBy(salesMembers.Id, salesMembers.salesMemberCode, salesMembers.name, salesMembers.performanceReview)
+                .stream();
+    }
+}
@@ -2,10 +2,12 @@ package com.alioth.statistics.domain.contract.repository;
 
 
 import com.alioth.statistics.domain.contract.domain.Contract;
+import com.alioth.statistics.domain.contract.dto.res.ContractSumResDto;
 import com.alioth.statistics.domain.dummy.domain.ContractStatus;
 import com.alioth.statistics.domain.dummy.domain.InsuranceProduct;
 import com.alioth.statistics.domain.member.domain.SalesMembers;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -26,4 +28,19 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
     List<Contract> findByContractDateBetween(LocalDateTime startDate, LocalDateTime endDateTime);
 
     List<Contract> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    // 팀별 전체 계약 건수/금액
+    @Query("SELECT new com.alioth.statistics.domain.contract.dto.res.ContractSumResDto(t.id, t.teamCode, COUNT(c), SUM(c.contractTotalPrice)) " +
+            "FROM Contract c JOIN c.salesMembers m JOIN m.team t GROUP BY t.id, t.teamCode")
+    List<ContractSumResDto> sumGroupByTeam();
+
+    // 사원별 전체 계약 건수/금액
+    @Query("SELECT new com.alioth.statistics.domain.contract.dto.res.ContractSumResDto(m.Id, m.name, COUNT(c), SUM(c.contractTotalPrice)) " +
+            "FROM Contract c JOIN c.salesMembers m GROUP BY m.Id, m.name")
+    List<ContractSumResDto> sumGroupBySalesMember();
+
+    // 상품별 전체 계약 건수/금액 (groupKey = 상품 카테고리)
+    @Query("SELECT new com.alioth.statistics.domain.contract.dto.res.ContractSumResDto(p.insuranceId, p.insuranceCategory, COUNT(c), SUM(c.contractTotalPrice)) " +
+            "FROM Contract c JOIN c.insuranceProduct p GROUP BY p.insuranceId, p.insuranceCategory ORDER BY p.insuranceId")
+    List<ContractSumResDto> sumGroupByInsuranceProduct();
 }
@@ -2,6 +2,8 @@ package com.alioth.statistics.domain.insurance.dto.res;
 
 import lombok.Builder;
 
+import java.io.Serializable;
+
 @Builder
 public record InsuranceGodResDto(
         String memberCode,
@@ -10,7 +12,7 @@ public record InsuranceGodResDto(
         Long Count,
         String CancelAvgPrice,
         String performanceReview
-) {
+) implements Serializable {
 
 
 }
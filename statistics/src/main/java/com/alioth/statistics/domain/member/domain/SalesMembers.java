@@ -71,7 +71,8 @@ public class SalesMembers extends BaseEntity {
     @Column(nullable = false)
     private String performanceReview = "C";
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     private Team team;
 
 
@@ -1,15 +1,22 @@
 package com.alioth.statistics.domain.member.dto.res;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 
+import java.io.Serializable;
+import java.math.BigDecimal;
+
 @Builder
 public record MemberPerformanceReviewResDto(
-    String salesMemberCode,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    Long salesMemberCode,
     String name,
     String performanceReview,
-    String totalCount,
-    String totalPrice
-) {
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    Long totalCount,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    BigDecimal totalPrice
+) implements Serializable {
 
 
 
@@ -1,14 +1,21 @@
 package com.alioth.statistics.domain.member.dto.res;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 
+import java.io.Serializable;
+import java.math.BigDecimal;
+
 @Builder
 public record TeamPerformanceReviewResDto(
 
     String teamCode,
-    String teamPerformanceReview,
-    String teamTotal,
-    String teamCount
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    Long teamPerformanceReview,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    BigDecimal teamTotal,
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    Long teamCount
 
-) {
+) implements Serializable {
 }
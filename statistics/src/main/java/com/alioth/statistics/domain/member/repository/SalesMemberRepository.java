@@ -1,6 +1,7 @@
 package com.alioth.statistics.domain.member.repository;
 
 import com.alioth.statistics.domain.member.domain.SalesMembers;
+import com.alioth.statistics.domain.member.dto.res.MemberPerformanceReviewResDto;
 import com.querydsl.core.Tuple;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -22,12 +23,16 @@ public interface SalesMemberRepository extends JpaRepository<SalesMembers, Long>
     Optional<SalesMembers> findBySalesMemberCode(Long salesMemberCode);
 
 
-    @Query(value = "SELECT m.sales_member_code, m.name, m.performance_review, COUNT(m.name) as totalcount, SUM(c.contract_total_price) as totalprice \n" +
-            "                FROM contract as c \n" +
-            "                    join sales_members as m \n" +
-            "                    on c.sm_id = m.id \n" +
-            "                GROUP BY m.sales_member_code, m.performance_review \n" +
-            "                ORDER BY m.performance_review, SUM(c.contract_total_price) DESC, COUNT(m.name) DESC", nativeQuery = true)
-    List<Map<String, Object>> memberPerformanceReviewRank();
+    @Query("SELECT new com.alioth.statistics.domain.member.dto.res.MemberPerformanceReviewResDto(" +
+            "m.salesMemberCode, m.name, m.performanceReview, COUNT(c), SUM(c.contractTotalPrice)) " +
+            "FROM Contract c JOIN c.salesMembers m " +
+            "GROUP BY m.salesMemberCode, m.name, m.performanceReview " +
+            "ORDER BY m.performanceReview, SUM(c.contractTotalPrice) DESC, COUNT(c) DESC")
+    List<MemberPerformanceReviewResDto> memberPerformanceReviewRank();
+
+    // 팀별 인사고과 등급 인원수
+    @Query("SELECT m.team.teamCode, m.performanceReview, COUNT(m) FROM SalesMembers m WHERE m.team IS NOT NULL " +
+            "GROUP BY m.team.teamCode, m.performanceReview")
+    List<Object[]> countPerformanceReviewGroupByTeam();
 
 }
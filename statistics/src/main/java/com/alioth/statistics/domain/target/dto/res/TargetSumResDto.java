@@ -0,0 +1,29 @@
+package com.alioth.statistics.domain.target.dto.res;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 목표를 GROUP BY 로 묶은 결과 (사원 / 팀 id, 목표 금액 합계, 목표 건수 합계).
+ * 사원 목표 금액은 Long, 팀 목표 금액은 BigInteger 컬럼이라 JPQL 생성자 식에서 둘 다 받는다.
+ */
+@Builder
+public record TargetSumResDto(
+    Long groupId,
+    BigDecimal price,
+    Long count
+) {
+    public TargetSumResDto(Long groupId, Long price, Long count) {
+        this(groupId, BigDecimal.valueOf(price), count);
+    }
+
+    public TargetSumResDto(Long groupId, BigInteger price, Long count) {
+        this(groupId, new BigDecimal(price), count);
+    }
+
+    public static TargetSumResDto empty() {
+        return new TargetSumResDto(null, BigDecimal.ZERO, 0L);
+    }
+}
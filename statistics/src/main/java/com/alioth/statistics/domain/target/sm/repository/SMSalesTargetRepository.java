@@ -1,8 +1,10 @@
 package com.alioth.statistics.domain.target.sm.repository;
 
 import com.alioth.statistics.domain.member.domain.SalesMembers;
+import com.alioth.statistics.domain.target.dto.res.TargetSumResDto;
 import com.alioth.statistics.domain.target.sm.domain.SMSalesTarget;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,4 +14,9 @@ public interface SMSalesTargetRepository extends JpaRepository<SMSalesTarget, Lo
 
     List<SMSalesTarget> findBySalesMembers(SalesMembers salesMembers);
     Optional<SMSalesTarget> findBySalesMembersAndTargetStartTimeBetween(SalesMembers salesMembers, LocalDateTime startTime, LocalDateTime endTime);
+
+    // 사원별 목표 합계. 목표 엔티티를 읽지 않으므로 EAGER 인 salesMembers 를 행마다 조회하지 않는다
+    @Query("SELECT new com.alioth.statistics.domain.target.dto.res.TargetSumResDto(t.salesMembers.Id, SUM(t.targetPrice), SUM(t.targetCount)) " +
+            "FROM SMSalesTarget t GROUP BY t.salesMembers.Id")
+    List<TargetSumResDto> sumGroupBySalesMember();
 }
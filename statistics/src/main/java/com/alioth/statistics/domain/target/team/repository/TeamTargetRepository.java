@@ -1,8 +1,10 @@
 package com.alioth.statistics.domain.target.team.repository;
 
+import com.alioth.statistics.domain.target.dto.res.TargetSumResDto;
 import com.alioth.statistics.domain.target.team.domain.TeamTarget;
 import com.alioth.statistics.domain.team.domain.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -10,4 +12,9 @@ public interface TeamTargetRepository extends JpaRepository<TeamTarget, Long> {
 
     List<TeamTarget> findByTeam(Team team);
 
+    // 팀별 목표 합계. 팀마다 팀과 목표를 따로 조회하지 않는다
+    @Query("SELECT new com.alioth.statistics.domain.target.dto.res.TargetSumResDto(t.team.id, SUM(t.targetPrice), SUM(t.targetCount)) " +
+            "FROM TeamTarget t GROUP BY t.team.id")
+    List<TargetSumResDto> sumGroupByTeam();
+
 }
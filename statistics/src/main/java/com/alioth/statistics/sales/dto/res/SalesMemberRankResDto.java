@@ -3,14 +3,19 @@ package com.alioth.statistics.sales.dto.res;
 import com.alioth.statistics.domain.batch.BatchMemberSales;
 import com.alioth.statistics.domain.batch.BatchRankMember;
 import com.alioth.statistics.domain.batch.dto.res.BatchMemberSalesResDto;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 
+import java.math.BigDecimal;
+
 @Builder
 public record SalesMemberRankResDto(
         String salesMemberName,
         String salesMemberCode,
-        String contractPrice,
-        String contractCount
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        BigDecimal contractPrice,
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        Long contractCount
 ) {
     public static SalesMemberRankResDto ofSalesMemberRankResDto(BatchRankMember member) {
         return SalesMemberRankResDto.builder()
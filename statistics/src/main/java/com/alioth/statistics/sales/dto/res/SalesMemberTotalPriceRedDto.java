@@ -1,13 +1,20 @@
 package com.alioth.statistics.sales.dto.res;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 
 import lombok.Builder;
 
+import java.math.BigDecimal;
+
 @Builder
 public record SalesMemberTotalPriceRedDto(
-        String contractPrice,
-        String contractCount,
-        String cancelPrice,
-        String cancelCount
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        BigDecimal contractPrice,
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        Long contractCount,
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        BigDecimal cancelPrice,
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        Long cancelCount
 ) {
 }
@@ -1,7 +1,10 @@
 package com.alioth.statistics.sales.service;
 
-import com.alioth.statistics.domain.batch.BatchMemberSales;
+import com.alioth.statistics.domain.batch.RollupPeriod;
+import com.alioth.statistics.domain.batch.RollupScope;
+import com.alioth.statistics.domain.batch.dto.res.BatchSalesSumResDto;
 import com.alioth.statistics.domain.batch.repository.BatchMemberSalesRepository;
+import com.alioth.statistics.domain.batch.repository.BatchSalesRollupRepository;
 import com.alioth.statistics.domain.member.domain.SalesMembers;
 import com.alioth.statistics.domain.member.repository.SalesMemberRepository;
 import com.alioth.statistics.domain.target.sm.domain.SMSalesTarget;
@@ -14,7 +17,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
@@ -27,6 +29,7 @@ import java.util.List;
 public class SalesMemberService {
 
     private final BatchMemberSalesRepository memberSalesRepository;
+    private final BatchSalesRollupRepository rollupRepository;
     private final SalesMemberRepository salesMemberRepository;
     private final SMSalesTargetRepository smTargetRepository;
 
@@ -47,32 +50,13 @@ public class SalesMemberService {
     }
 
     public SalesMemberTotalPriceRedDto memberSalesPrice(Long memberCode, String date) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        LocalDate temp = LocalDate.parse(date+"-01", formatter);
-        YearMonth yearMonth = YearMonth.from(temp);
-
-        LocalDateTime startTime = LocalDateTime.of(temp.getYear(), temp.getMonth().getValue(), 1, 0, 0, 0);
-        LocalDateTime endTime = LocalDateTime.of(temp.getYear(), temp.getMonth().getValue(), yearMonth.atEndOfMonth().getDayOfMonth(), 23, 59, 59);
-
-        List<BatchMemberSales> dto = memberSalesRepository.findBySalesMemberCodeAndCreatedTimeBetween(memberCode, startTime, endTime);
-
-        BigDecimal totalPrice = BigDecimal.ZERO;
-        Long count = 0L;
-        BigDecimal totalCancelPrice = BigDecimal.ZERO;
-        Long cancelCount = 0L;
-
-        for(var member : dto) {
-            totalPrice = totalPrice.add(new BigDecimal(member.getContractPrice()));
-            count += Long.valueOf(member.getContractCount());
-            totalCancelPrice = totalCancelPrice.add(new BigDecimal(member.getCancelPrice()));
-            cancelCount += Long.valueOf(member.getCancelCount());
-        }
+        BatchSalesSumResDto sum = memberMonthSum(memberCode, date);
 
         return SalesMemberTotalPriceRedDto.builder()
-                .contractPrice(totalPrice.toEngineeringString())
-                .contractCount(String.valueOf(count))
-                .cancelPrice(totalCancelPrice.toEngineeringString())
-                .cancelCount(String.valueOf(cancelCount))
+                .contractPrice(sum.contractPrice())
+                .contractCount(sum.contractCount())
+                .cancelPrice(sum.cancelPrice())
+                .cancelCount(sum.cancelCount())
                 .build();
     }
 
@@ -105,25 +89,18 @@ public class SalesMemberService {
     }
 
     public Long memberSalesTargetResPrice(Long memberCode, String date) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        LocalDate temp = LocalDate.parse(date+"-01", formatter);
-        YearMonth yearMonth = YearMonth.from(temp);
-
-        LocalDateTime startTime = LocalDateTime.of(temp.getYear(), temp.getMonth().getValue(), 1, 0, 0, 0);
-        LocalDateTime endTime = LocalDateTime.of(temp.getYear(), temp.getMonth().getValue(), yearMonth.atEndOfMonth().getDayOfMonth(), 23, 59, 59);
-
-        List<BatchMemberSales> dto = memberSalesRepository.findBySalesMemberCodeAndCreatedTimeBetween(memberCode, startTime, endTime);
-
-        BigDecimal totalPrice = BigDecimal.ZERO;
-        Long count = 0L;
-        BigDecimal totalCancelPrice = BigDecimal.ZERO;
-        Long cancelCount = 0L;
-
-        for(var member : dto) {
-            totalPrice = totalPrice.add(new BigDecimal(member.getContractPrice()));
-        }
+        return memberMonthSum(memberCode, date)
+                .contractPrice()
+                .longValue();
+    }
 
-        return totalPrice.toBigInteger().longValue();
+    // 사원의 월 합계는 배치가 미리 만들어 둔 batch_sales_rollup 한 행에서 읽는다
+    private BatchSalesSumResDto memberMonthSum(Long memberCode, String date) {
+        return rollupRepository
+                .findByPeriodTypeAndPeriodKeyAndScopeAndGroupKey(RollupPeriod.MONTH, YearMonth.parse(date).toString(),
+                        RollupScope.MEMBER, String.valueOf(memberCode))
+                .map(BatchSalesSumResDto::ofRollup)
+                .orElseGet(BatchSalesSumResDto::empty);
     }
 
 
@@ -1,13 +1,16 @@
 package com.alioth.statistics.service.achievementrate.impl;
 
+import com.alioth.statistics.common.cache.StatisticsCacheNames;
+import com.alioth.statistics.domain.contract.dto.res.ContractSumResDto;
 import com.alioth.statistics.domain.contract.repository.ContractRepository;
 import com.alioth.statistics.service.achievementrate.CompanyAchievementRateService;
-import com.alioth.statistics.domain.member.domain.SalesMembers;
-import com.alioth.statistics.domain.target.team.domain.TeamTarget;
+import com.alioth.statistics.domain.target.dto.res.TargetSumResDto;
 import com.alioth.statistics.domain.target.team.repository.TeamTargetRepository;
 import com.alioth.statistics.domain.team.domain.Team;
 import com.alioth.statistics.domain.team.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,9 +18,13 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
+@CacheConfig(cacheNames = StatisticsCacheNames.RATE_COMPANY)
 @RequiredArgsConstructor
 @Transactional
 public class CompanyAchievementRateServiceImpl implements CompanyAchievementRateService {
@@ -27,31 +34,25 @@ public class CompanyAchievementRateServiceImpl implements CompanyAchievementRate
     private final TeamTargetRepository teamTargetRepository;
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public String achievementRatePercent() {
         List<Team> teamList = teamRepository.findAll();
         String result = "";
         BigInteger teamTargetSum = BigInteger.ZERO;
         BigInteger smContractSum = BigInteger.ZERO;
+        Map<Long, ContractSumResDto> teamContractSums = teamContractSums();
+        Map<Long, TargetSumResDto> teamTargetSums = teamTargetSums();
 
         for (var team : teamList) {
             /* ----팀 목표 금액 계산--- */
-            Team getTeam = teamRepository.findByTeamCode(team.getTeamCode());
-            List<TeamTarget> teamTargetList = teamTargetRepository.findByTeam(getTeam);
-
-            for (var teamTarget : teamTargetList) {
-                teamTargetSum = teamTargetSum.add(teamTarget.getTargetPrice());
-            }
+            TargetSumResDto targetSum = teamTargetSums.getOrDefault(team.getId(), TargetSumResDto.empty());
+            teamTargetSum = teamTargetSum.add(targetSum.price().toBigInteger());
             /* ----팀 목표 금액 계산--- */
 
             /* ----개인 전체 금액 계산--- */
-            List<SalesMembers> teamMembers = getTeam.getTeamMembers();
-
-            for (var member : teamMembers) {
-                BigInteger contractSum = contractRepository.findBySalesMembers(member).stream()
-                        .map(x -> new BigInteger(x.getContractTotalPrice()))
-                        .reduce(BigInteger.ZERO, BigInteger::add);
-
-                smContractSum = smContractSum.add(contractSum);
+            ContractSumResDto contractSum = teamContractSums.get(team.getId());
+            if (contractSum != null) {
+                smContractSum = smContractSum.add(contractSum.price().toBigInteger());
             }
             /* ----개인 전체 금액 계산--- */
         }
@@ -68,28 +69,23 @@ public class CompanyAchievementRateServiceImpl implements CompanyAchievementRate
     }
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public String achievementRateCount() {
         List<Team> teamList = teamRepository.findAll();
         Long teamTargetCountSum = 0L;
         Long smContractCount = 0L;
+        Map<Long, ContractSumResDto> teamContractSums = teamContractSums();
+        Map<Long, TargetSumResDto> teamTargetSums = teamTargetSums();
 
         for (var team : teamList) {
             /* ----팀 목표 금액 계산--- */
-            Team getTeam = teamRepository.findByTeamCode(team.getTeamCode());
-            List<TeamTarget> teamTargetList = teamTargetRepository.findByTeam(getTeam);
-
-            for (var teamTarget : teamTargetList) {
-                teamTargetCountSum += teamTarget.getTargetCount();
-            }
+            teamTargetCountSum += teamTargetSums.getOrDefault(team.getId(), TargetSumResDto.empty()).count();
             /* ----팀 목표 금액 계산--- */
 
             /* ----개인 전체 금액 계산--- */
-            List<SalesMembers> teamMembers = getTeam.getTeamMembers();
-
-            for (var member : teamMembers) {
-                long sum = contractRepository.findBySalesMembers(member).size();
-
-                smContractCount += sum;
+            ContractSumResDto contractSum = teamContractSums.get(team.getId());
+            if (contractSum != null) {
+                smContractCount += contractSum.count();
             }
             /* ----개인 전체 금액 계산--- */
         }
@@ -102,4 +98,16 @@ public class CompanyAchievementRateServiceImpl implements CompanyAchievementRate
 
         return result;
     }
+
+    // 팀별 계약 합계를 한 번의 GROUP BY 로 가져온다 (사원마다 계약을 읽지 않는다)
+    private Map<Long, ContractSumResDto> teamContractSums() {
+        return contractRepository.sumGroupByTeam().stream()
+                .collect(Collectors.toMap(ContractSumResDto::groupId, Function.identity()));
+    }
+
+    // 팀별 목표 합계도 팀마다 조회하지 않고 한 번에 가져온다
+    private Map<Long, TargetSumResDto> teamTargetSums() {
+        return teamTargetRepository.sumGroupByTeam().stream()
+                .collect(Collectors.toMap(TargetSumResDto::groupId, Function.identity()));
+    }
 }
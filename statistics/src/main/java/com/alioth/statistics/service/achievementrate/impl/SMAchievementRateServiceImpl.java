@@ -1,13 +1,17 @@
 package com.alioth.statistics.service.achievementrate.impl;
 
+import com.alioth.statistics.common.cache.StatisticsCacheNames;
+import com.alioth.statistics.domain.contract.dto.res.ContractSumResDto;
 import com.alioth.statistics.domain.contract.repository.ContractRepository;
 import com.alioth.statistics.service.achievementrate.SMAchievementRateService;
 import com.alioth.statistics.domain.member.domain.SalesMembers;
 import com.alioth.statistics.domain.member.repository.SalesMemberRepository;
-import com.alioth.statistics.domain.target.sm.domain.SMSalesTarget;
+import com.alioth.statistics.domain.target.dto.res.TargetSumResDto;
 import com.alioth.statistics.domain.target.sm.repository.SMSalesTargetRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,10 +20,13 @@ import java.math.RoundingMode;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Slf4j
 @Service
+@CacheConfig(cacheNames = StatisticsCacheNames.RATE_SM)
 @RequiredArgsConstructor
 @Transactional
 public class SMAchievementRateServiceImpl implements SMAchievementRateService {
@@ -30,19 +37,19 @@ public class SMAchievementRateServiceImpl implements SMAchievementRateService {
 
     /* 팀 달성률 */
     @Override
+    @Cacheable(key = "#root.methodName")
     public Map<SalesMembers, String> achievementRatePercent() {
         List<SalesMembers> memberList = salesMemberRepository.findAll();
 
         Map<SalesMembers, String> result = new LinkedHashMap<>();
+        Map<Long, ContractSumResDto> memberContractSums = memberContractSums();
+        Map<Long, TargetSumResDto> memberTargetSums = memberTargetSums();
 
         for (var member : memberList) {
-            BigDecimal contractSum = contractRepository.findBySalesMembers(member).stream()
-                    .map(x -> new BigDecimal(x.getContractTotalPrice()))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            ContractSumResDto contractSumDto = memberContractSums.get(member.getId());
+            BigDecimal contractSum = contractSumDto == null ? BigDecimal.ZERO : contractSumDto.price();
 
-            BigDecimal targetSum = smSalesTargetRepository.findBySalesMembers(member).stream()
-                    .map(m -> BigDecimal.valueOf(m.getTargetPrice()))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal targetSum = memberTargetSums.getOrDefault(member.getId(), TargetSumResDto.empty()).price();
 
             BigDecimal mulPercent = new BigDecimal("100");
             BigDecimal temp = contractSum.divide(targetSum, 3, RoundingMode.HALF_EVEN);
@@ -57,17 +64,19 @@ public class SMAchievementRateServiceImpl implements SMAchievementRateService {
 
     /* 팀 달성 건수 */
     @Override
+    @Cacheable(key = "#root.methodName")
     public Map<SalesMembers, String> achievementRateCount() {
         List<SalesMembers> memberList = salesMemberRepository.findAll();
         //List<Contract> memberByContractList = contractRepository.findBySalesMembers(memberList.get(2));
         //List<SMSalesTarget> memberByTargetList = smSalesTargetRepository.findBySalesMembers(memberList.get(2));
         Map<SalesMembers, String> result = new LinkedHashMap<>();
+        Map<Long, ContractSumResDto> memberContractSums = memberContractSums();
+        Map<Long, TargetSumResDto> memberTargetSums = memberTargetSums();
 
         for (var member : memberList) {
-            int size = contractRepository.findBySalesMembers(member).size();
-            Long memberTargetCount = smSalesTargetRepository.findBySalesMembers(member).stream()
-                    .map(SMSalesTarget::getTargetCount)
-                    .reduce(0L, Long::sum);
+            ContractSumResDto contractSumDto = memberContractSums.get(member.getId());
+            long size = contractSumDto == null ? 0L : contractSumDto.count();
+            Long memberTargetCount = memberTargetSums.getOrDefault(member.getId(), TargetSumResDto.empty()).count();
 
             double temp = ((double)memberTargetCount / (double)size) * 100;
             String res = String.format("%.3f", temp);
@@ -76,4 +85,16 @@ public class SMAchievementRateServiceImpl implements SMAchievementRateService {
 
         return result;
     }
+
+    // 사원별 계약 합계를 한 번의 GROUP BY 로 가져온다
+    private Map<Long, ContractSumResDto> memberContractSums() {
+        return contractRepository.sumGroupBySalesMember().stream()
+                .collect(Collectors.toMap(ContractSumResDto::groupId, Function.identity()));
+    }
+
+    // 사원별 목표 합계도 사원마다 조회하지 않고 한 번에 가져온다
+    private Map<Long, TargetSumResDto> memberTargetSums() {
+        return smSalesTargetRepository.sumGroupBySalesMember().stream()
+                .collect(Collectors.toMap(TargetSumResDto::groupId, Function.identity()));
+    }
 }
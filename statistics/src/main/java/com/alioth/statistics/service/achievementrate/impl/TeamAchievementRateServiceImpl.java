@@ -1,14 +1,17 @@
 package com.alioth.statistics.service.achievementrate.impl;
 
+import com.alioth.statistics.common.cache.StatisticsCacheNames;
+import com.alioth.statistics.domain.contract.dto.res.ContractSumResDto;
 import com.alioth.statistics.domain.contract.repository.ContractRepository;
 import com.alioth.statistics.service.achievementrate.TeamAchievementRateService;
-import com.alioth.statistics.domain.member.domain.SalesMembers;
-import com.alioth.statistics.domain.target.team.domain.TeamTarget;
+import com.alioth.statistics.domain.target.dto.res.TargetSumResDto;
 import com.alioth.statistics.domain.target.team.repository.TeamTargetRepository;
 import com.alioth.statistics.domain.team.domain.Team;
 import com.alioth.statistics.domain.team.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,9 +21,12 @@ import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@CacheConfig(cacheNames = StatisticsCacheNames.RATE_TEAM)
 @RequiredArgsConstructor
 @Transactional
 public class TeamAchievementRateServiceImpl implements TeamAchievementRateService {
@@ -33,34 +39,23 @@ public class TeamAchievementRateServiceImpl implements TeamAchievementRateServic
 
     /* 개인별 달성률 */
     @Override
+    @Cacheable(key = "#root.methodName")
     public Map<Team, String> achievementRatePercent() {
         List<Team> teamList = teamRepository.findAll();
 
         Map<Team, String> result = new HashMap<>();
+        Map<Long, ContractSumResDto> teamContractSums = teamContractSums();
+        Map<Long, TargetSumResDto> teamTargetSums = teamTargetSums();
 
         for (var team : teamList) {
             /* ----팀 목표 금액 계산--- */
-            Team getTeam = teamRepository.findByTeamCode(team.getTeamCode());
-            List<TeamTarget> teamTargetList = teamTargetRepository.findByTeam(getTeam);
-            BigInteger teamTargetSum = BigInteger.ZERO;
-
-            for (var teamTarget : teamTargetList) {
-                teamTargetSum = teamTargetSum.add(teamTarget.getTargetPrice());
-            }
+            BigInteger teamTargetSum = teamTargetSums.getOrDefault(team.getId(), TargetSumResDto.empty()).price().toBigInteger();
             /* ----팀 목표 금액 계산--- */
 
 
             /* ----개인 전체 금액 계산--- */
-            List<SalesMembers> teamMembers = getTeam.getTeamMembers();
-            BigInteger smContractSum = BigInteger.ZERO;
-
-            for (var member : teamMembers) {
-                BigInteger contractSum = contractRepository.findBySalesMembers(member).stream()
-                        .map(x -> new BigInteger(x.getContractTotalPrice()))
-                        .reduce(BigInteger.ZERO, BigInteger::add);
-
-                smContractSum = smContractSum.add(contractSum);
-            }
+            ContractSumResDto contractSum = teamContractSums.get(team.getId());
+            BigInteger smContractSum = contractSum == null ? BigInteger.ZERO : contractSum.price().toBigInteger();
             /* ----개인 전체 금액 계산--- */
 
             BigDecimal decimalTeamTargetSum = new BigDecimal(teamTargetSum);
@@ -79,30 +74,24 @@ public class TeamAchievementRateServiceImpl implements TeamAchievementRateServic
 
     /* 개인별 달성 건수 */
     @Override
+    @Cacheable(key = "#root.methodName", unless = "#result == null")
     public Map<Team, String> achievementRateCount() {
 
         List<Team> teamList = teamRepository.findAll();
         Map<Team, String> result = new HashMap<>();
+        Map<Long, ContractSumResDto> teamContractSums = teamContractSums();
+        Map<Long, TargetSumResDto> teamTargetSums = teamTargetSums();
 
         for (var team : teamList) {
 
             /* ----팀 목표 건 계산--- */
-            Team getTeam = teamRepository.findByTeamCode(team.getTeamCode());
-            List<TeamTarget> teamTargetList = teamTargetRepository.findByTeam(getTeam);
-            Long teamTargetCount = 0L;
-
-            for (var teamTarget : teamTargetList) {
-                teamTargetCount += teamTarget.getTargetCount();
-            }
+            Long teamTargetCount = teamTargetSums.getOrDefault(team.getId(), TargetSumResDto.empty()).count();
             /* ----팀 목표 건 계산--- */
 
 
             /* ----개인 전체 건 계산--- */
-            int allContractSize = 0;
-            for (var member : getTeam.getTeamMembers()) {
-                int size = contractRepository.findBySalesMembers(member).size();
-                allContractSize += size;
-            }
+            ContractSumResDto contractSum = teamContractSums.get(team.getId());
+            long allContractSize = contractSum == null ? 0L : contractSum.count();
             /* ----개인 전체 건 계산--- */
 
             double temp = ((double)allContractSize / (double)teamTargetCount) * 100;
@@ -115,4 +104,16 @@ public class TeamAchievementRateServiceImpl implements TeamAchievementRateServic
 
         return null;
     }
+
+    // 팀별 계약 합계를 한 번의 GROUP BY 로 가져온다 (사원마다 계약을 읽지 않는다)
+    private Map<Long, ContractSumResDto> teamContractSums() {
+        return contractRepository.sumGroupByTeam().stream()
+                .collect(Collectors.toMap(ContractSumResDto::groupId, Function.identity()));
+    }
+
+    // 팀별 목표 합계도 팀마다 조회하지 않고 한 번에 가져온다
+    private Map<Long, TargetSumResDto> teamTargetSums() {
+        return teamTargetRepository.sumGroupByTeam().stream()
+                .collect(Collectors.toMap(TargetSumResDto::groupId, Function.identity()));
+    }
 }
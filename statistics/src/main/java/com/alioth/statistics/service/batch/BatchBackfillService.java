@@ -0,0 +1,197 @@
+package com.alioth.statistics.service.batch;
+
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import com.alioth.statistics.common.batch.lock.BatchFencingListener;
+import com.alioth.statistics.common.batch.lock.BatchLease;
+import com.alioth.statistics.common.batch.lock.BatchLockService;
+import com.alioth.statistics.common.batch.partition.DateRangePartitioner;
+import com.alioth.statistics.common.batch.writer.SalesRollupWriter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.job.DefaultJobParametersExtractor;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * startDate ~ endDate 를 하루씩 나눠 backfillDayJob(targetDate) 을 backfillTaskExecutor 에서 제한된 수만큼 동시에 실행한다.
+ * backfillDayJob 은 batch.job.layout 과 관계없이 그날 계약을 처음부터 다시 읽는 Step 들로 만든다 (delta 는 지난 날짜를 다시 만들지 못한다).
+ * 각 날짜는 stepClearDailySales 가 기존 행을 지운 뒤 다시 쓰므로 여러 번 실행해도 결과가 같다.
+ * 모든 날짜가 끝나면 stepBackfillRollup 이 기간의 월 / 반기 / 연을 한 번에 갱신한다.
+ * 정기 배치와 같은 batch_* 행을 쓰므로 같은 lease 를 기간 전체 동안 잡고, 모든 Step 이 그 fencing token 으로 쓴다.
+ */
+@Slf4j
+@Service
+public class BatchBackfillService {
+
+    private record HeldLease(BatchLease lease, ScheduledFuture<?> heartbeat) {}
+
+    private final JobRepository jobRepository;
+    private final JobLauncher jobLauncher;
+    private final Map<String, Step> stepMap;
+    private final String leaseName;
+    private final BatchLockService batchLockService;
+    private final BatchFencingListener batchFencingListener;
+    private final DateRangePartitioner partitionerBackfill;
+    private final TaskExecutor backfillTaskExecutor;
+    private final JobExecutionListener jobExecutionListener;
+    private final SalesRollupWriter salesRollupWriter;
+    private final PlatformTransactionManager platformTransactionManager;
+    private final TaskExecutorJobLauncher asyncJobLauncher = new TaskExecutorJobLauncher();
+    // 실행 중인 backfillJob 이 잡고 있는 lease (fencing token 별). 끝나면 놓는다
+    private final Map<Long, HeldLease> leases = new ConcurrentHashMap<>();
+    private Job backfillJob;
+
+    public BatchBackfillService(JobRepository jobRepository, JobLauncher jobLauncher, Map<String, Step> stepMap,
+                                @Qualifier("batchJob") Job batchJob, BatchLockService batchLockService,
+                                BatchFencingListener batchFencingListener,
+                                @Qualifier("partitionerBackfill") DateRangePartitioner partitionerBackfill,
+                                @Qualifier("backfillTaskExecutor") TaskExecutor backfillTaskExecutor,
+                                @Qualifier("jobExecutionListener") JobExecutionListener jobExecutionListener,
+                                SalesRollupWriter salesRollupWriter, PlatformTransactionManager platformTransactionManager) {
+        this.jobRepository = jobRepository;
+        this.jobLauncher = jobLauncher;
+        this.stepMap = stepMap;
+        this.leaseName = batchJob.getName(); // 정기 배치와 같은 lease
+        this.batchLockService = batchLockService;
+        this.batchFencingListener = batchFencingListener;
+        this.partitionerBackfill = partitionerBackfill;
+        this.backfillTaskExecutor = backfillTaskExecutor;
+        this.jobExecutionListener = jobExecutionListener;
+        this.salesRollupWriter = salesRollupWriter;
+        this.platformTransactionManager = platformTransactionManager;
+    }
+
+    @PostConstruct
+    public void init() throws Exception {
+        // 하루치 계약을 다시 읽는 chain 방식 그대로. rollup 은 기간 전체를 마지막에 한 번 갱신한다
+        Job backfillDayJob = new JobBuilder("backfillDayJob", jobRepository)
+                .start(stepMap.get("stepClearDailySales"))
+                .next(stepMap.get("stepMemberSales"))
+                .next(stepMap.get("stepTeamSales"))
+                .next(stepMap.get("stepHqSales"))
+                .next(stepMap.get("stepRankProduct"))
+                .next(stepMap.get("stepRankMember"))
+                .next(stepMap.get("stepRankMemberRanking"))
+                .build();
+
+        // 날짜 하나 = backfillDayJob 한 번. targetDate 는 파티션에서, timestamp 와 lease 는 backfillJob 파라미터에서 넘긴다
+        DefaultJobParametersExtractor extractor = new DefaultJobParametersExtractor();
+        extractor.setKeys(new String[]{SalesWindow.TARGET_DATE, SalesWindow.TIMESTAMP,
+                BatchFencingListener.FENCING_NAME, BatchFencingListener.FENCING_TOKEN});
+        extractor.setUseAllParentParameters(false);
+
+        Step stepBackfillDay = new StepBuilder("stepBackfillDay", jobRepository)
+                .job(backfillDayJob)
+                .launcher(jobLauncher)
+                .parametersExtractor(extractor)
+                .build();
+
+        Step stepBackfill = new StepBuilder("stepBackfill", jobRepository)
+                .partitioner("stepBackfillDay", partitionerBackfill)
+                .step(stepBackfillDay)
+                .taskExecutor(backfillTaskExecutor)
+                .build();
+
+        Step stepBackfillRollup = new StepBuilder("stepBackfillRollup", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    salesRollupWriter.refreshAll(createdTimes(chunkContext.getStepContext().getJobParameters()));
+                    return RepeatStatus.FINISHED;
+                }, platformTransactionManager)
+                .listener(batchFencingListener)
+                .build();
+
+        backfillJob = new JobBuilder("backfillJob", jobRepository)
+                .start(stepBackfill)
+                .next(stepBackfillRollup)
+                .listener(jobExecutionListener)
+                .listener(new JobExecutionListener() {
+                    @Override
+                    public void afterJob(JobExecution jobExecution) {
+                        releaseLease(jobExecution.getJobParameters().getLong(BatchFencingListener.FENCING_TOKEN));
+                    }
+                })
+                .build();
+
+        // 몇 달치 재집계는 오래 걸리므로 요청 스레드를 잡지 않고 바로 jobExecution 을 돌려준다
+        asyncJobLauncher.setJobRepository(jobRepository);
+        asyncJobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("batch-backfill-launcher-"));
+        asyncJobLauncher.afterPropertiesSet();
+    }
+
+    public JobExecution backfill(LocalDate startDate, LocalDate endDate) throws Exception {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate 가 startDate 보다 빠릅니다.");
+        }
+        if (!endDate.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("오늘 이후 날짜는 재집계할 수 없습니다.");
+        }
+
+        BatchLease lease = batchLockService.tryAcquire(leaseName)
+                .orElseThrow(() -> new IllegalStateException("정기 배치나 다른 재집계가 실행 중입니다. 끝난 뒤 다시 요청해 주세요."));
+        if (!batchFencingListener.advance(lease)) {
+            batchLockService.release(lease);
+            throw new IllegalStateException("batch lease 의 fencing token 이 밀렸습니다. 다시 요청해 주세요.");
+        }
+        // lease 를 잃으면 이후 chunk 가 fencing 에 막혀 실패한다
+        leases.put(lease.fencingToken(), new HeldLease(lease, batchLockService.startHeartbeat(lease, () -> { })));
+
+        JobParameters jobParameters = BatchFencingListener.addLease(new JobParametersBuilder(), lease)
+                .addString("startDate", startDate.toString())
+                .addString("endDate", endDate.toString())
+                .addString(SalesWindow.TIMESTAMP, Long.toString(System.currentTimeMillis()))
+                .toJobParameters();
+
+        log.info("[BatchBackfillService] backfill {} ~ {} (fencing token {})", startDate, endDate, lease.fencingToken());
+        try {
+            return asyncJobLauncher.run(backfillJob, jobParameters);
+        } catch (Exception e) {
+            releaseLease(lease.fencingToken());
+            throw e;
+        }
+    }
+
+    private void releaseLease(Long fencingToken) {
+        HeldLease held = fencingToken == null ? null : leases.remove(fencingToken);
+        if (held == null) {
+            return;
+        }
+
+        held.heartbeat().cancel(false);
+        batchLockService.release(held.lease());
+    }
+
+    // 재집계한 날짜들의 batch_* 기록 시각
+    private List<LocalDateTime> createdTimes(Map<String, Object> jobParameters) {
+        LocalDate startDate = LocalDate.parse(jobParameters.get("startDate").toString());
+        LocalDate endDate = LocalDate.parse(jobParameters.get("endDate").toString());
+
+        List<LocalDateTime> createdTimes = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1L)) {
+            createdTimes.add(SalesWindow.ofTargetDate(date).createdTime());
+        }
+        return createdTimes;
+    }
+}
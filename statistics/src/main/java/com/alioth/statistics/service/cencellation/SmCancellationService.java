@@ -1,86 +1,63 @@
 package com.alioth.statistics.service.cencellation;
 
-import com.alioth.statistics.domain.contract.domain.Contract;
-import com.alioth.statistics.domain.contract.repository.ContractRepository;
-import com.alioth.statistics.domain.dummy.domain.ContractStatus;
+import com.alioth.statistics.common.cache.StatisticsCacheNames;
+import com.alioth.statistics.domain.contract.dto.res.ContractCancelSumResDto;
+import com.alioth.statistics.domain.contract.repository.ContractCancelQueryRepository;
 import com.alioth.statistics.domain.member.domain.SalesMembers;
 import com.alioth.statistics.domain.member.repository.SalesMemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@CacheConfig(cacheNames = StatisticsCacheNames.CANCEL_SM)
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class SmCancellationService implements CancellationService {
 
-    private final ContractRepository contractRepository;
+    private final ContractCancelQueryRepository contractCancelQueryRepository;
     private final SalesMemberRepository salesMemberRepository;
-    private final ContractStatus contractStatus = ContractStatus.Cancellation;
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public Map<SalesMembers, String> cancelMoneyPercent() {
-
         Map<SalesMembers, String> result = new LinkedHashMap<>();
-        List<SalesMembers> memberList = salesMemberRepository.findAll();
-
-        for (var member : memberList) {
-
-            List<Contract> contractList = contractRepository.findBySalesMembers(member);
-            BigDecimal totalPrice = contractList.stream()
-                    .map(x -> new BigDecimal(x.getContractTotalPrice()))
-                    .reduce(BigDecimal::add)
-                    .orElse(BigDecimal.ONE);
-
-            BigDecimal cancelPrice = contractList.stream()
-                    .filter(x -> x.getContractStatus() == ContractStatus.Cancellation)
-                    .map(x -> new BigDecimal(x.getContractTotalPrice()))
-                    .reduce(BigDecimal::add)
-                    .orElse(BigDecimal.ONE);
-
-            if(cancelPrice.equals(BigDecimal.ZERO)) {
-                result.put(member, "0%");
-            }
-
-            BigDecimal percent = new BigDecimal("100");
-            BigDecimal divide = cancelPrice.divide(totalPrice, 3, RoundingMode.HALF_EVEN);
-            BigDecimal multiply = divide.multiply(percent);
+        Map<Long, ContractCancelSumResDto> memberSums = memberCancelSums();
 
-            result.put(member, multiply+"%");
+        for (var member : salesMemberRepository.findAll()) {
+            ContractCancelSumResDto sum = memberSums.getOrDefault(member.getId(), ContractCancelSumResDto.empty());
+            result.put(member, sum.cancelPricePercent() + "%");
         }
 
         return result;
     }
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public Map<SalesMembers, String> cancelCountPercent() {
         Map<SalesMembers, String> result = new LinkedHashMap<>();
-        List<SalesMembers> memberList = salesMemberRepository.findAll();
+        Map<Long, ContractCancelSumResDto> memberSums = memberCancelSums();
 
-        for (var member : memberList) {
-            List<Contract> contractList = contractRepository.findBySalesMembers(member);
-            long contractSize = contractList.stream()
-                    .count();
-
-            long cancelSize = contractList.stream()
-                    .filter(x -> x.getContractStatus() == ContractStatus.Cancellation)
-                    .count();
-
-            if(cancelSize == 0L) {
-                result.put(member, "0%");
-            }
-
-            double v = ((double)cancelSize / (double)contractSize) * 100;
-            String strResult = String.format("%.3f", v);
-            result.put(member, strResult);
+        for (var member : salesMemberRepository.findAll()) {
+            ContractCancelSumResDto sum = memberSums.getOrDefault(member.getId(), ContractCancelSumResDto.empty());
+            result.put(member, String.format("%.3f", sum.cancelCountPercent()));
         }
 
         return result;
     }
+
+    // 사원별 전체/해약 합계를 한 번의 GROUP BY 로 가져온다
+    private Map<Long, ContractCancelSumResDto> memberCancelSums() {
+        List<ContractCancelSumResDto> sums = contractCancelQueryRepository.sumGroupBySalesMember();
+        return sums.stream()
+                .collect(Collectors.toMap(ContractCancelSumResDto::groupId, Function.identity()));
+    }
 }
@@ -1,97 +1,61 @@
 package com.alioth.statistics.service.cencellation;
 
-import com.alioth.statistics.domain.contract.domain.Contract;
-import com.alioth.statistics.domain.contract.repository.ContractRepository;
-import com.alioth.statistics.domain.dummy.domain.ContractStatus;
-import com.alioth.statistics.domain.member.domain.SalesMembers;
+import com.alioth.statistics.common.cache.StatisticsCacheNames;
+import com.alioth.statistics.domain.contract.dto.res.ContractCancelSumResDto;
+import com.alioth.statistics.domain.contract.repository.ContractCancelQueryRepository;
 import com.alioth.statistics.domain.team.domain.Team;
 import com.alioth.statistics.domain.team.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@CacheConfig(cacheNames = StatisticsCacheNames.CANCEL_TEAM)
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class TeamCancellationService implements CancellationService {
 
-    private final ContractRepository contractRepository;
+    private final ContractCancelQueryRepository contractCancelQueryRepository;
     private final TeamRepository teamRepository;
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public Map<Team, String> cancelMoneyPercent() {
         Map<Team, String> result = new LinkedHashMap<>();
-        List<Team> teamList = teamRepository.findAll();
+        Map<Long, ContractCancelSumResDto> teamSums = teamCancelSums();
 
-        for (var team : teamList) {
-
-            List<SalesMembers> teamMembers = team.getTeamMembers();
-            BigDecimal teamTotalPrice = BigDecimal.ZERO;
-            BigDecimal teamCancelPrice = BigDecimal.ZERO;
-
-            for (var member : teamMembers) {
-
-                List<Contract> contractList = contractRepository.findBySalesMembers(member);
-                BigDecimal totalPrice = contractList.stream()
-                        .map(x -> new BigDecimal(x.getContractTotalPrice()))
-                        .reduce(BigDecimal::add)
-                        .orElse(BigDecimal.ONE);
-
-                BigDecimal cancelPrice = contractList.stream()
-                        .filter(x -> x.getContractStatus() == ContractStatus.Cancellation)
-                        .map(x -> new BigDecimal(x.getContractTotalPrice()))
-                        .reduce(BigDecimal::add)
-                        .orElse(BigDecimal.ONE);
-
-                teamTotalPrice = teamTotalPrice.add(totalPrice);
-                teamCancelPrice = teamCancelPrice.add(cancelPrice);
-            }
-
-            BigDecimal percent = new BigDecimal("100");
-            BigDecimal divide = teamCancelPrice.divide(teamTotalPrice, 3, RoundingMode.HALF_EVEN);
-            BigDecimal multiply = divide.multiply(percent);
-
-            result.put(team, multiply + "%");
+        for (var team : teamRepository.findAll()) {
+            ContractCancelSumResDto sum = teamSums.getOrDefault(team.getId(), ContractCancelSumResDto.empty());
+            result.put(team, sum.cancelPricePercent() + "%");
         }
 
         return result;
     }
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public Map<Team, String> cancelCountPercent() {
         Map<Team, String> result = new LinkedHashMap<>();
-        List<Team> teamList = teamRepository.findAll();
-
-        for (var team : teamList) {
+        Map<Long, ContractCancelSumResDto> teamSums = teamCancelSums();
 
-            List<SalesMembers> teamMembers = team.getTeamMembers();
-            long teamTotalCount = 0L;
-            long teamCancelCount = 0L;
-
-            for (var member : teamMembers) {
-
-                List<Contract> contractList = contractRepository.findBySalesMembers(member);
-                long totalCount = contractList.stream().count();
-
-                long cancelCount = contractList.stream()
-                        .filter(x -> x.getContractStatus() == ContractStatus.Cancellation)
-                        .count();
-
-                teamTotalCount += totalCount;
-                teamCancelCount += cancelCount;
-            }
-
-            double v = ((double)teamCancelCount / (double)teamTotalCount) * 100;
-            String strResult = String.format("%.3f", v);
-            result.put(team, strResult + "%");
+        for (var team : teamRepository.findAll()) {
+            ContractCancelSumResDto sum = teamSums.getOrDefault(team.getId(), ContractCancelSumResDto.empty());
+            result.put(team, String.format("%.3f", sum.cancelCountPercent()) + "%");
         }
 
         return result;
     }
+
+    // 팀별 전체/해약 합계를 한 번의 GROUP BY 로 가져온다 (팀원마다 계약을 읽지 않는다)
+    private Map<Long, ContractCancelSumResDto> teamCancelSums() {
+        return contractCancelQueryRepository.sumGroupByTeam().stream()
+                .collect(Collectors.toMap(ContractCancelSumResDto::groupId, Function.identity()));
+    }
 }
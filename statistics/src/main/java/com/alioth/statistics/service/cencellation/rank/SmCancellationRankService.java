@@ -1,75 +1,60 @@
 package com.alioth.statistics.service.cencellation.rank;
 
-import com.alioth.statistics.domain.contract.domain.Contract;
-import com.alioth.statistics.domain.contract.repository.ContractRepository;
-import com.alioth.statistics.domain.dummy.domain.ContractStatus;
+import com.alioth.statistics.common.cache.StatisticsCacheNames;
+import com.alioth.statistics.domain.contract.dto.res.ContractCancelSumResDto;
+import com.alioth.statistics.domain.contract.repository.ContractCancelQueryRepository;
 import com.alioth.statistics.domain.member.domain.SalesMembers;
 import com.alioth.statistics.domain.member.repository.SalesMemberRepository;
-import com.alioth.statistics.service.cencellation.rank.CancellationRankService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@CacheConfig(cacheNames = StatisticsCacheNames.CANCEL_SM_RANK)
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class SmCancellationRankService implements CancellationRankService {
 
-    private final ContractRepository contractRepository;
+    private final ContractCancelQueryRepository contractCancelQueryRepository;
     private final SalesMemberRepository salesMemberRepository;
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public Map<SalesMembers, String> cancelMoney() {
-        Map<SalesMembers, String> temp = new HashMap<>();
-        Map<SalesMembers, String> result = new LinkedHashMap<>();
-        List<SalesMembers> memberList = salesMemberRepository.findAll();
-
-        for (var member : memberList) {
-
-            List<Contract> contractList = contractRepository.findBySalesMembers(member);
-            BigDecimal cancelPrice = contractList.stream()
-                    .filter(x -> x.getContractStatus() == ContractStatus.Cancellation)
-                    .map(x -> new BigDecimal(x.getContractTotalPrice()))
-                    .reduce(BigDecimal::add)
-                    .orElse(BigDecimal.ZERO);
-
-            temp.put(member, cancelPrice.toString());
-        }
-
-        List<SalesMembers> keys = new ArrayList<>(temp.keySet());
-        Collections.sort(keys, (v1, v2) -> (temp.get(v2).compareTo(temp.get(v1))));
-        for (var key : keys) {
-            System.out.println(key.getName() + " : " + temp.get(key));
-            result.put(key, temp.get(key));
-        }
-
-        return result;
+        return rank(Comparator.comparing(ContractCancelSumResDto::cancelPrice),
+                sum -> sum.cancelPrice().toString());
     }
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public Map<SalesMembers, String> cancelCount() {
-        Map<SalesMembers, String> temp = new HashMap<>();
-        Map<SalesMembers, String> result = new LinkedHashMap<>();
-        List<SalesMembers> memberList = salesMemberRepository.findAll();
-
-        for (var member : memberList) {
+        return rank(Comparator.comparing(ContractCancelSumResDto::cancelCount),
+                sum -> String.valueOf(sum.cancelCount()));
+    }
 
-            List<Contract> contractList = contractRepository.findBySalesMembers(member);
-            long count = contractList.stream()
-                    .filter(x -> x.getContractStatus() == ContractStatus.Cancellation)
-                    .count();
+    /*
+     * 사원별 합계는 쿼리 한 번으로 가져오고, 계약이 없는 사원은 0 으로 채운 뒤 내림차순 정렬한다.
+     * (예전에는 문자열을 비교해서 "900" 이 "1000" 보다 앞에 오는 문제가 있었다)
+     */
+    private Map<SalesMembers, String> rank(Comparator<ContractCancelSumResDto> comparator,
+                                           Function<ContractCancelSumResDto, String> value) {
+        Map<Long, ContractCancelSumResDto> memberSums = contractCancelQueryRepository.sumGroupBySalesMember().stream()
+                .collect(Collectors.toMap(ContractCancelSumResDto::groupId, Function.identity()));
 
-            temp.put(member, String.valueOf(count));
-        }
+        List<SalesMembers> members = new ArrayList<>(salesMemberRepository.findAll());
+        Function<SalesMembers, ContractCancelSumResDto> sumOf =
+                member -> memberSums.getOrDefault(member.getId(), ContractCancelSumResDto.empty());
+        members.sort(Comparator.comparing(sumOf, comparator.reversed()));
 
-        List<SalesMembers> keys = new ArrayList<>(temp.keySet());
-        Collections.sort(keys, (v1, v2) -> (temp.get(v2).compareTo(temp.get(v1))));
-        for (var key : keys) {
-            System.out.println(key.getName() + " : " + temp.get(key));
-            result.put(key, temp.get(key));
+        Map<SalesMembers, String> result = new LinkedHashMap<>();
+        for (var member : members) {
+            result.put(member, value.apply(sumOf.apply(member)));
         }
 
         return result;
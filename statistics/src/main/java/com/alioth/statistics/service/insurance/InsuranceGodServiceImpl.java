@@ -1,30 +1,31 @@
 package com.alioth.statistics.service.insurance;
 
-import com.alioth.statistics.domain.contract.domain.Contract;
-import com.alioth.statistics.domain.contract.repository.ContractRepository;
-import com.alioth.statistics.domain.dummy.domain.ContractStatus;
+import com.alioth.statistics.common.cache.StatisticsCacheNames;
+import com.alioth.statistics.domain.contract.dto.res.MemberContractSumResDto;
+import com.alioth.statistics.domain.contract.repository.ContractRankQueryRepository;
 import com.alioth.statistics.domain.insurance.dto.res.InsuranceGodResDto;
-import com.alioth.statistics.domain.member.domain.SalesMembers;
-import com.alioth.statistics.domain.member.repository.SalesMemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.util.Pair;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Comparator;
+import java.util.stream.Stream;
 
 @Service
+@CacheConfig(cacheNames = StatisticsCacheNames.INSURANCE_GOD)
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class InsuranceGodServiceImpl implements InsuranceGodService{
 
-    private final ContractRepository contractRepository;
-    private final SalesMemberRepository salesMemberRepository;
+    private final ContractRankQueryRepository contractRankQueryRepository;
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public InsuranceGodResDto insuranceOfGodMonth() {
 //        LocalDateTime startDate = LocalDateTime.of(2024, 3, 2, 0, 0);
 //        LocalDateTime endDate = LocalDateTime.of(2024, 4, 2, 0, 0);
@@ -36,6 +37,7 @@ public class InsuranceGodServiceImpl implements InsuranceGodService{
     }
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public InsuranceGodResDto insuranceOfGodQuarter() {
         Pair<LocalDateTime, LocalDateTime> dateTime = startAndEndDateMonth(6L);
         InsuranceGodResDto insuranceGodQuarterResDto = insuranceGodResDto(dateTime.getFirst(), dateTime.getSecond());
@@ -44,9 +46,10 @@ public class InsuranceGodServiceImpl implements InsuranceGodService{
     }
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public InsuranceGodResDto insuranceOfGodYear() {
-        LocalDateTime startDate = LocalDateTime.now();
-        LocalDateTime endDate = startDate.minusYears(1L);
+        LocalDateTime endDate = LocalDateTime.now();
+        LocalDateTime startDate = endDate.minusYears(1L);
 
         InsuranceGodResDto insuranceGodYearResDto = insuranceGodResDto(startDate, endDate);
 
@@ -65,79 +68,32 @@ public class InsuranceGodServiceImpl implements InsuranceGodService{
         return Pair.of(startDate, endDate);
     }
 
+    /*
+     * 계약 건당 평균 금액 - 해약 건당 평균 금액이 가장 큰 사원.
+     * 사원별 합계는 한 번의 GROUP BY 로 만들고, 점수 계산은 커서를 흘려 보내며 1위만 남긴다 (사원 목록을 메모리에 모으지 않는다).
+     */
     private InsuranceGodResDto insuranceGodResDto(LocalDateTime startDate, LocalDateTime endDate) {
-        List<SalesMembers> memberList = salesMemberRepository.findAll();
-        List<InsuranceGodResDto> dto = new LinkedList<>();
-
-        for (var member : memberList) {
-            List<Contract> memberContractList = contractRepository.findBySalesMembersAndContractDateBetween(member, startDate, endDate);
-
-            if(memberContractList.size() == 0) {
-                return InsuranceGodResDto.builder()
-                        .memberCode(member.getSalesMemberCode().toString())
-                        .memberName(member.getName())
-                        .totalPrice(BigDecimal.ZERO.toPlainString())
-                        .Count(0L)
-                        .CancelAvgPrice(BigDecimal.ZERO.toPlainString())
-                        .performanceReview(member.getPerformanceReview())
-                        .build();
-            }
-
-            BigDecimal price = memberContractList.stream()
-                    .map(contract -> new BigDecimal(contract.getContractTotalPrice()))
-                    .reduce(BigDecimal::add)
-                    .orElse(BigDecimal.ZERO);
-
-            long count = memberContractList.stream().count();
-
-            BigDecimal cancelTotalPrice = memberContractList.stream()
-                    .filter(contract -> contract.getContractStatus() == ContractStatus.Cancellation)
-                    .map(contract -> new BigDecimal(contract.getContractTotalPrice()))
-                    .reduce(BigDecimal::add)
-                    .orElse(BigDecimal.ZERO);
-
-            long cancelCount = memberContractList.stream()
-                    .filter(contract -> contract.getContractStatus() == ContractStatus.Cancellation)
-                    .count();
-
-            String cancelAvgPrice = cancelTotalPrice.divide(BigDecimal.valueOf(cancelCount)).toPlainString();
-
-            InsuranceGodResDto resDto = InsuranceGodResDto.builder()
-                    .memberCode(member.getSalesMemberCode().toString())
-                    .memberName(member.getName())
-                    .totalPrice(price.toPlainString())
-                    .Count(count)
-                    .CancelAvgPrice(cancelAvgPrice)
-                    .performanceReview(member.getPerformanceReview())
-                    .build();
-
-            dto.add(resDto);
+        try (Stream<MemberContractSumResDto> memberSums = contractRankQueryRepository.streamMemberSums(startDate, endDate)) {
+            return memberSums
+                    .max(Comparator.comparing(MemberContractSumResDto::score))
+                    .map(this::toInsuranceGodResDto)
+                    .orElse(InsuranceGodResDto.builder()
+                            .totalPrice(BigDecimal.ZERO.toPlainString())
+                            .Count(0L)
+                            .CancelAvgPrice(BigDecimal.ZERO.toPlainString())
+                            .build());
         }
+    }
 
-        dto.sort((o1, o2) -> {
-            BigDecimal o2_divide = new BigDecimal(o2.totalPrice()).divide(BigDecimal.valueOf(o2.Count()));
-            BigDecimal o2_cancelAvgPrice = new BigDecimal(o2.CancelAvgPrice());
-            BigDecimal o2_subPrice = o2_divide.subtract(o2_cancelAvgPrice);
-
-            BigDecimal o1_divide = new BigDecimal(o1.totalPrice()).divide(BigDecimal.valueOf(o1.Count()));
-            BigDecimal o1_cancelAvgPrice = new BigDecimal(o1.CancelAvgPrice());
-            BigDecimal o1_subPrice = o1_divide.subtract(o1_cancelAvgPrice);
-
-            BigDecimal subtractResult = o2_subPrice.subtract(o1_subPrice);
-
-            int result;
-            if(subtractResult.compareTo(BigDecimal.ZERO) > 0) {
-                result = 1;
-            }else if(subtractResult.compareTo(BigDecimal.ZERO) < 0) {
-                result = -1;
-            }else {
-                result = 0;
-            }
-
-            return result;
-        });
-
-        return dto.get(0);
+    private InsuranceGodResDto toInsuranceGodResDto(MemberContractSumResDto memberSum) {
+        return InsuranceGodResDto.builder()
+                .memberCode(memberSum.memberCode().toString())
+                .memberName(memberSum.memberName())
+                .totalPrice(memberSum.totalPrice().toPlainString())
+                .Count(memberSum.totalCount())
+                .CancelAvgPrice(memberSum.cancelAvgPrice().toPlainString())
+                .performanceReview(memberSum.performanceReview())
+                .build();
     }
 
 
@@ -1,6 +1,6 @@
 package com.alioth.statistics.service.insuranceproduct.impl;
 
-import com.alioth.statistics.domain.contract.domain.Contract;
+import com.alioth.statistics.domain.contract.dto.res.ContractSumResDto;
 import com.alioth.statistics.domain.contract.repository.ContractRepository;
 import com.alioth.statistics.domain.dummy.domain.InsuranceProduct;
 import com.alioth.statistics.domain.dummy.domain.InsuranceProductCategory;
@@ -14,7 +14,7 @@ import java.util.*;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
+@Transactional(readOnly = true)
 public class InsuranceProductRankService implements InsuranceProductService {
 
     private final InsuranceProductRepository insuranceProductRepository;
@@ -22,20 +22,15 @@ public class InsuranceProductRankService implements InsuranceProductService {
 
     @Override
     public Map<String, String> insuranceContractRankService() {
-        List<InsuranceProduct> allList = insuranceProductRepository.findAll();
-        int contractSize = contractRepository.findAll().size();
+        long contractSize = contractRepository.count();
         Map<String, String> temp = new HashMap<>();
         Map<String, String> result = new LinkedHashMap<>();
 
-        for (var InsuranceProduct: allList) {
-            List<Contract> insuranceProductList = contractRepository.findByInsuranceProduct(InsuranceProduct);
-            if(insuranceProductList.size() == 0) {
-                continue;
-            }
-
-            double v = ((double)insuranceProductList.size() / (double)contractSize) * 100;;
+        // 상품마다 계약을 읽어 오지 않고 상품별 건수를 한 번의 GROUP BY 로 가져온다 (계약이 없는 상품은 나오지 않는다)
+        for (ContractSumResDto productSum : contractRepository.sumGroupByInsuranceProduct()) {
+            double v = ((double) productSum.count() / (double) contractSize) * 100;
             String strTemp = String.format("%.3f", v);
-            temp.put(InsuranceProduct.getInsuranceCategory(), strTemp + "%");
+            temp.put(productSum.groupKey(), strTemp + "%");
         }
 
         List<String> keySet = new ArrayList<>(temp.keySet());
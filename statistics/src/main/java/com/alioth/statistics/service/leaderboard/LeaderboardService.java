@@ -0,0 +1,145 @@
+package com.alioth.statistics.service.leaderboard;
+
+import com.alioth.statistics.common.batch.lock.BatchLease;
+import com.alioth.statistics.common.batch.lock.BatchLockService;
+import com.alioth.statistics.common.leaderboard.LeaderboardMetric;
+import com.alioth.statistics.common.leaderboard.LeaderboardPeriod;
+import com.alioth.statistics.common.leaderboard.LeaderboardStore;
+import com.alioth.statistics.common.leaderboard.LeaderboardWriter;
+import com.alioth.statistics.domain.batch.RollupPeriod;
+import com.alioth.statistics.domain.batch.RollupScope;
+import com.alioth.statistics.domain.batch.dto.res.LeaderboardEntryResDto;
+import com.alioth.statistics.domain.batch.repository.BatchSalesRollupRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.IntSupplier;
+
+/**
+ * 사원 / 팀 / 상품의 월, 반기, 연 순위.
+ * 순위는 Redis sorted set 에서 읽으므로 top-N 은 O(log n + N), 내 순위는 O(log n) 이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    private static final int MAX_SIZE = 100;
+    private static final String REBUILD_LOCK = "leaderboardRebuild";
+
+    private final LeaderboardStore leaderboardStore;
+    private final LeaderboardWriter leaderboardWriter;
+    private final BatchSalesRollupRepository rollupRepository;
+    private final BatchLockService batchLockService;
+
+    /* 상위 size 명 (1 ~ 100) */
+    public List<LeaderboardEntryResDto> top(RollupScope scope, LeaderboardMetric metric, RollupPeriod period, LocalDate date, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        }
+        String periodKey = periodKey(scope, period, date);
+
+        return entries(scope, metric, periodKey, 0L, Math.min(size, MAX_SIZE) - 1L);
+    }
+
+    /* groupKey 의 순위 */
+    public LeaderboardEntryResDto rankOf(RollupScope scope, LeaderboardMetric metric, RollupPeriod period, LocalDate date, String groupKey) {
+        String periodKey = periodKey(scope, period, date);
+        long rank = rank(scope, metric, periodKey, groupKey);
+
+        return entries(scope, metric, periodKey, rank, rank).get(0);
+    }
+
+    /* groupKey 의 앞뒤 radius 명 (0 ~ 50) */
+    public List<LeaderboardEntryResDto> around(RollupScope scope, LeaderboardMetric metric, RollupPeriod period, LocalDate date,
+                                               String groupKey, int radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("radius 는 0 이상이어야 합니다.");
+        }
+        String periodKey = periodKey(scope, period, date);
+        long rank = rank(scope, metric, periodKey, groupKey);
+        int limit = Math.min(radius, MAX_SIZE / 2);
+
+        return entries(scope, metric, periodKey, Math.max(rank - limit, 0L), rank + limit);
+    }
+
+    /**
+     * batch_sales_rollup 에 있는 모든 기간의 순위를 다시 채운다. Redis 를 비웠거나 갱신이 실패했을 때 사용한다.
+     * 모든 기간의 rollup 을 읽으므로 replica 전체에서 한 번에 하나만 실행한다.
+     */
+    public int rebuild() {
+        return withRebuildLock(() -> {
+            int count = 0;
+            for (RollupPeriod period : RollupPeriod.values()) {
+                for (String periodKey : rollupRepository.findPeriodKeys(period)) {
+                    leaderboardWriter.refresh(new LeaderboardPeriod(period, periodKey));
+                    count++;
+                }
+            }
+
+            log.info("[LeaderboardService] {} periods rebuilt", count);
+            return count;
+        });
+    }
+
+    public void rebuild(RollupPeriod period, LocalDate date) {
+        withRebuildLock(() -> {
+            leaderboardWriter.refresh(LeaderboardPeriod.of(period, date));
+            return 1;
+        });
+    }
+
+    private int withRebuildLock(IntSupplier rebuild) {
+        BatchLease lease = batchLockService.tryAcquire(REBUILD_LOCK)
+                .orElseThrow(() -> new IllegalStateException("순위를 다시 만드는 중입니다. 끝난 뒤 다시 요청해 주세요."));
+        ScheduledFuture<?> heartbeat = batchLockService.startHeartbeat(lease, () -> { });
+        try {
+            return rebuild.getAsInt();
+        } finally {
+            heartbeat.cancel(false);
+            batchLockService.release(lease);
+        }
+    }
+
+
+    private String periodKey(RollupScope scope, RollupPeriod period, LocalDate date) {
+        if (!LeaderboardWriter.SCOPES.contains(scope)) {
+            throw new IllegalArgumentException(scope + " 순위는 제공하지 않습니다.");
+        }
+        return period.keyOf(date);
+    }
+
+    private long rank(RollupScope scope, LeaderboardMetric metric, String periodKey, String groupKey) {
+        Long rank = leaderboardStore.rank(scope, metric, periodKey, groupKey);
+        if (rank == null) {
+            throw new EntityNotFoundException(periodKey + " 순위에 " + groupKey + " 가 없습니다.");
+        }
+        return rank;
+    }
+
+    private List<LeaderboardEntryResDto> entries(RollupScope scope, LeaderboardMetric metric, String periodKey, long start, long end) {
+        List<TypedTuple<String>> tuples = leaderboardStore.range(scope, metric, periodKey, start, end);
+        Map<String, String> names = leaderboardStore.names(scope, periodKey, tuples.stream().map(TypedTuple::getValue).toList());
+
+        List<LeaderboardEntryResDto> result = new ArrayList<>();
+        long rank = start + 1;
+        for (TypedTuple<String> tuple : tuples) {
+            result.add(LeaderboardEntryResDto.builder()
+                    .rank(rank++)
+                    .groupKey(tuple.getValue())
+                    .groupName(names.get(tuple.getValue()))
+                    .score(BigDecimal.valueOf(tuple.getScore().longValue()))
+                    .build());
+        }
+        return result;
+    }
+}
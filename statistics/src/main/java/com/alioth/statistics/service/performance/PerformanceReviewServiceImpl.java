@@ -1,25 +1,28 @@
 package com.alioth.statistics.service.performance;
 
 
-import com.alioth.statistics.domain.contract.domain.Contract;
+import com.alioth.statistics.common.cache.StatisticsCacheNames;
+import com.alioth.statistics.domain.contract.dto.res.ContractSumResDto;
 import com.alioth.statistics.domain.contract.repository.ContractRepository;
-import com.alioth.statistics.domain.member.domain.SalesMembers;
 import com.alioth.statistics.domain.member.dto.res.MemberPerformanceReviewResDto;
 import com.alioth.statistics.domain.member.dto.res.TeamPerformanceReviewResDto;
 import com.alioth.statistics.domain.member.repository.SalesMemberRepository;
-import com.alioth.statistics.domain.team.domain.Team;
 import com.alioth.statistics.domain.team.repository.TeamRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@CacheConfig(cacheNames = StatisticsCacheNames.PERFORMANCE_REVIEW)
 @RequiredArgsConstructor
 @Transactional
 public class PerformanceReviewServiceImpl implements PerformanceReviewService{
@@ -39,80 +42,43 @@ public class PerformanceReviewServiceImpl implements PerformanceReviewService{
 
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public List<MemberPerformanceReviewResDto> performanceReviewMember() {
-        List<Map<String, Object>> maps = salesMemberRepository.memberPerformanceReviewRank();
-        List<MemberPerformanceReviewResDto> dto = new LinkedList<>();
-
-        for(var map : maps) {
-            MemberPerformanceReviewResDto build = MemberPerformanceReviewResDto.builder()
-                    .salesMemberCode(map.get("sales_member_code").toString())
-                    .name(map.get("name").toString())
-                    .performanceReview(map.get("performance_review").toString())
-                    .totalCount(map.get("totalcount").toString())
-                    .totalPrice(totalConvert(map.get("totalprice").toString()))
-                    .build();
-            dto.add(build);
-        }
-
-        return dto;
-    }
-
-    private String totalConvert(String price) {
-        double scientificNotation = Double.parseDouble(price);
-        BigInteger bigIntegerValue = BigDecimal.valueOf(scientificNotation).toBigInteger();
-        return bigIntegerValue.toString();
+        // 건수/금액 합계와 정렬까지 DB 에서 끝낸다
+        return salesMemberRepository.memberPerformanceReviewRank();
     }
 
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public List<TeamPerformanceReviewResDto> performanceReviewTeam() {
-        List<Team> teamList = teamRepository.findAll();
-        List<TeamPerformanceReviewResDto> dto = new LinkedList<>();
+        Map<String, ContractSumResDto> contractSums = contractRepository.sumGroupByTeam().stream()
+                .collect(Collectors.toMap(ContractSumResDto::groupKey, Function.identity()));
 
-        for (var team : teamList) {
-            List<SalesMembers> memberList = team.getTeamMembers();
-            BigInteger priceSum = BigInteger.ZERO;
-            Long countSum = 0L;
-            Long performanceSum = 0L;
-
-            for (var member : memberList) {
-                performanceSum += performanceScore(member.getPerformanceReview());
-
-                List<Contract> contractList = contractRepository.findBySalesMembers(member);
-
-                BigInteger price = contractList.stream()
-                        .map(x -> new BigInteger(x.getContractTotalPrice()))
-                        .reduce(BigInteger::add)
-                        .orElse(BigInteger.ZERO);
-                priceSum = priceSum.add(price);
+        Map<String, Long> performanceSums = new HashMap<>();
+        for (Object[] row : salesMemberRepository.countPerformanceReviewGroupByTeam()) {
+            long score = performanceScore((String) row[1]) * (Long) row[2];
+            performanceSums.merge((String) row[0], score, Long::sum);
+        }
 
-                long count = contractList.stream().count();
-                countSum += count;
-            }
+        List<TeamPerformanceReviewResDto> dto = new LinkedList<>();
+        for (var team : teamRepository.findAll()) {
+            ContractSumResDto contractSum = contractSums.get(team.getTeamCode());
 
             TeamPerformanceReviewResDto build = TeamPerformanceReviewResDto.builder()
                     .teamCode(team.getTeamCode())
-                    .teamPerformanceReview(String.valueOf(performanceSum))
-                    .teamTotal(priceSum.toString())
-                    .teamCount(String.valueOf(countSum))
+                    .teamPerformanceReview(performanceSums.getOrDefault(team.getTeamCode(), 0L))
+                    .teamTotal(contractSum == null ? BigDecimal.ZERO : contractSum.price())
+                    .teamCount(contractSum == null ? 0L : contractSum.count())
                     .build();
 
             dto.add(build);
         }
 
-        dto.sort((o1, o2) -> {
-            int result = (int) (Long.valueOf(o2.teamPerformanceReview()) - Long.valueOf(o1.teamPerformanceReview()));
-
-            if(result == 0) {
-                result = (int) (Long.valueOf(o2.teamTotal()) - Long.valueOf(o1.teamTotal()));
-            }
-
-            if(result == 0) {
-                result = (int) (Long.valueOf(o2.teamCount()) - Long.valueOf(o1.teamCount()));
-            }
-
-            return result;
-        });
+        dto.sort(Comparator.comparing(TeamPerformanceReviewResDto::teamPerformanceReview)
+                .thenComparing(TeamPerformanceReviewResDto::teamTotal)
+                .thenComparing(TeamPerformanceReviewResDto::teamCount)
+                .reversed());
 
         return dto;
     }
@@ -1,17 +1,24 @@
 package com.alioth.statistics.service.salesmember.impl;
 
+import com.alioth.statistics.common.cache.StatisticsCacheNames;
+import com.alioth.statistics.domain.contract.dto.res.ContractSumResDto;
 import com.alioth.statistics.domain.contract.repository.ContractRepository;
 import com.alioth.statistics.domain.member.domain.SalesMembers;
 import com.alioth.statistics.domain.member.repository.SalesMemberRepository;
 import com.alioth.statistics.service.salesmember.AchieveRankService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
+@CacheConfig(cacheNames = StatisticsCacheNames.ACHIEVE_RANK)
 @RequiredArgsConstructor
 @Transactional
 public class MemberAchieveRankService implements AchieveRankService {
@@ -20,18 +27,17 @@ public class MemberAchieveRankService implements AchieveRankService {
     private final SalesMemberRepository salesMemberRepository;
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public Map<SalesMembers, BigInteger> memberAchieveMoneyRank() {
         List<SalesMembers> memberList = salesMemberRepository.findAll();
         Map<SalesMembers, BigInteger> temp = new HashMap<>();
         Map<SalesMembers, BigInteger> result = new LinkedHashMap<>();
 
-        for (var member : memberList) {
-            BigInteger memberTotalPrice = contractRepository.findBySalesMembers(member).stream()
-                    .map(x -> new BigInteger(x.getContractTotalPrice()))
-                    .reduce(BigInteger::add)
-                    .orElse(BigInteger.ZERO);
+        Map<Long, BigDecimal> memberPrice = contractRepository.sumGroupBySalesMember().stream()
+                .collect(Collectors.toMap(ContractSumResDto::groupId, ContractSumResDto::price));
 
-            temp.put(member, memberTotalPrice);
+        for (var member : memberList) {
+            temp.put(member, memberPrice.getOrDefault(member.getId(), BigDecimal.ZERO).toBigInteger());
         }
 
         List<SalesMembers> keys = new ArrayList<>(temp.keySet());
@@ -46,14 +52,17 @@ public class MemberAchieveRankService implements AchieveRankService {
     }
 
     @Override
+    @Cacheable(key = "#root.methodName")
     public Map<SalesMembers, Long> memberAchieveCountRank() {
         List<SalesMembers> memberList = salesMemberRepository.findAll();
         Map<SalesMembers, Long> temp = new HashMap<>();
         Map<SalesMembers, Long> result = new LinkedHashMap<>();
 
+        Map<Long, Long> memberCount = contractRepository.sumGroupBySalesMember().stream()
+                .collect(Collectors.toMap(ContractSumResDto::groupId, ContractSumResDto::count));
+
         for (var member : memberList) {
-            long size = contractRepository.findBySalesMembers(member).size();
-            temp.put(member, size);
+            temp.put(member, memberCount.getOrDefault(member.getId(), 0L));
         }
 
         List<SalesMembers> keys = new ArrayList<>(temp.keySet());
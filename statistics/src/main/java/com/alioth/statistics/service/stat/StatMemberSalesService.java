@@ -1,8 +1,11 @@
 package com.alioth.statistics.service.stat;
 
+import com.alioth.statistics.domain.batch.RollupPeriod;
+import com.alioth.statistics.domain.batch.RollupScope;
 import com.alioth.statistics.domain.batch.dto.res.BatchMemberSalesResDto;
 import com.alioth.statistics.domain.batch.dto.res.BatchTeamSalesResDto;
 import com.alioth.statistics.domain.batch.repository.BatchMemberSalesRepository;
+import com.alioth.statistics.domain.batch.repository.BatchSalesRollupRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -10,7 +13,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.Month;
 import java.time.YearMonth;
 import java.util.List;
 
@@ -20,6 +22,7 @@ import java.util.List;
 public class StatMemberSalesService {
 
     private final BatchMemberSalesRepository memberSalesRepository;
+    private final BatchSalesRollupRepository rollupRepository;
     private LocalDateTime now;
     private int year;
     private int month;
@@ -58,29 +61,25 @@ public class StatMemberSalesService {
     }
 
 
+    /* 반기 / 연은 일별 행 대신 batch_sales_rollup 에서 사원당 한 행씩 읽는다 */
     public List<BatchMemberSalesResDto> memberSalesQuarter() {
-        LocalDateTime startTime;
-        LocalDateTime endTime;
-
-        if(month > 6) {
-            startTime = LocalDateTime.of(year, Month.JULY, 1, 0, 0, 0);
-            endTime = LocalDateTime.of(year, Month.DECEMBER, 31, 23, 59, 59);
-        }else {
-            startTime = LocalDateTime.of(year, Month.JANUARY, 1, 0, 0, 0);
-            endTime = LocalDateTime.of(year, Month.JUNE, 30, 23, 59, 59);
-        }
-
-        return getMemberSales(startTime, endTime);
+        return getMemberRollup(RollupPeriod.HALF);
     }
 
     public List<BatchMemberSalesResDto> memberSalesYear() {
-        LocalDateTime startTime = LocalDateTime.of(year, Month.JANUARY, 1, 0, 0);
-        LocalDateTime endTime = LocalDateTime.of(year, Month.DECEMBER, 31, 23, 59, 59);
-
-        return getMemberSales(startTime, endTime);
+        return getMemberRollup(RollupPeriod.YEAR);
     }
 
 
+    private List<BatchMemberSalesResDto> getMemberRollup(RollupPeriod period) {
+        String periodKey = period.keyOf(LocalDate.now());
+
+        return rollupRepository.findByPeriodTypeAndPeriodKeyAndScope(period, periodKey, RollupScope.MEMBER)
+                .stream()
+                .map(BatchMemberSalesResDto::ofRollup)
+                .toList();
+    }
+
     private List<BatchMemberSalesResDto> getMemberSales(LocalDateTime startTime, LocalDateTime endTime) {
 
         List<BatchMemberSalesResDto> dto = memberSalesRepository.findByCreatedTimeBetween(startTime, endTime)
@@ -1,7 +1,6 @@
 package com.alioth.statistics.service.stat;
 
 
-import com.alioth.statistics.domain.batch.BatchRankProduct;
 import com.alioth.statistics.domain.batch.dto.res.BatchProductCountResDto;
 import com.alioth.statistics.domain.batch.dto.res.BatchProductPriceResDto;
 import com.alioth.statistics.domain.batch.repository.BatchRankProductRepository;
@@ -9,14 +8,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigInteger;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -32,25 +27,8 @@ public class StatProductService {
         LocalDateTime endTime = LocalDateTime.of(year, month, 10, hour, minute);
         LocalDateTime startTime = endTime.minusDays(1L);
 
-        Map<String, List<BatchRankProduct>> collect = productRepository.findByCreatedDateBetween(startTime, endTime)
-                .stream()
-                .collect(Collectors.groupingBy(BatchRankProduct::getProductCategory));
-
-        List<BatchProductPriceResDto> dto = new LinkedList<>();
-        for(var key : collect.keySet()) {
-            BigInteger sum = collect.get(key).stream()
-                    .map(product -> new BigInteger(product.getContractPrice()))
-                    .reduce(BigInteger.ZERO, BigInteger::add);
-
-            BatchProductPriceResDto temp = BatchProductPriceResDto.builder()
-                    .category(key)
-                    .price(sum.toString())
-                    .build();
-
-            dto.add(temp);
-        }
-        
-        return dto;
+        // 카테고리별 합계는 DB 에서 GROUP BY 로 계산한다
+        return productRepository.sumPriceByCategory(startTime, endTime);
     }
 
 
@@ -65,25 +43,7 @@ public class StatProductService {
 //        LocalDateTime endTime = LocalDateTime.of(year, month, 10, hour, minute);
 //        LocalDateTime startTime = endTime.minusDays(1L);
 
-        Map<String, List<BatchRankProduct>> collect = productRepository.findByCreatedDateBetween(startTime, endTime)
-                .stream()
-                .collect(Collectors.groupingBy(BatchRankProduct::getProductCategory));
-
-        List<BatchProductPriceResDto> dto = new LinkedList<>();
-        for(var key : collect.keySet()) {
-            BigInteger sum = collect.get(key).stream()
-                    .map(product -> new BigInteger(product.getContractPrice()))
-                    .reduce(BigInteger.ZERO, BigInteger::add);
-
-            BatchProductPriceResDto tempDto = BatchProductPriceResDto.builder()
-                    .category(key)
-                    .price(sum.toString())
-                    .build();
-
-            dto.add(tempDto);
-        }
-
-        return dto;
+        return productRepository.sumPriceByCategory(startTime, endTime);
     }
 
 
@@ -98,25 +58,7 @@ public class StatProductService {
         LocalDateTime endTime = LocalDateTime.of(year, month, 10, hour, minute);
         LocalDateTime startTime = endTime.minusDays(1L);
 
-        Map<String, List<BatchRankProduct>> collect = productRepository.findByCreatedDateBetween(startTime, endTime)
-                .stream()
-                .collect(Collectors.groupingBy(BatchRankProduct::getProductCategory));
-
-        List<BatchProductCountResDto> dto = new LinkedList<>();
-        for(var key : collect.keySet()) {
-            Long contractCount = collect.get(key).stream()
-                    .map(product -> Long.valueOf(product.getContractCount()))
-                    .reduce(0L, Long::sum);
-
-            BatchProductCountResDto temp = BatchProductCountResDto.builder()
-                    .category(key)
-                    .count(contractCount)
-                    .build();
-
-            dto.add(temp);
-        }
-
-        return dto;
+        return productRepository.sumCountByCategory(startTime, endTime);
     }
 
 
@@ -132,25 +74,7 @@ public class StatProductService {
         LocalDateTime startTime = LocalDateTime.of(temp.getYear(), temp.getMonth().getValue(), temp.getDayOfMonth(), 0, 0, 0);
         LocalDateTime endTime = LocalDateTime.of(temp.getYear(), temp.getMonth().getValue(), temp.getDayOfMonth(), 23, 59, 59);
 
-        Map<String, List<BatchRankProduct>> collect = productRepository.findByCreatedDateBetween(startTime, endTime)
-                .stream()
-                .collect(Collectors.groupingBy(BatchRankProduct::getProductCategory));
-
-        List<BatchProductCountResDto> dto = new LinkedList<>();
-        for(var key : collect.keySet()) {
-            Long contractCount = collect.get(key).stream()
-                    .map(product -> Long.valueOf(product.getContractCount()))
-                    .reduce(0L, Long::sum);
-
-            BatchProductCountResDto tempDto = BatchProductCountResDto.builder()
-                    .category(key)
-                    .count(contractCount)
-                    .build();
-
-            dto.add(tempDto);
-        }
-
-        return dto;
+        return productRepository.sumCountByCategory(startTime, endTime);
     }
 
 
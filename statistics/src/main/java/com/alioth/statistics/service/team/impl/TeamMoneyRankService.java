@@ -1,20 +1,26 @@
 package com.alioth.statistics.service.team.impl;
 
 
+import com.alioth.statistics.common.cache.StatisticsCacheNames;
+import com.alioth.statistics.domain.contract.dto.res.ContractSumResDto;
 import com.alioth.statistics.domain.contract.repository.ContractRepository;
-import com.alioth.statistics.domain.member.domain.SalesMembers;
 import com.alioth.statistics.domain.team.domain.Team;
 import com.alioth.statistics.domain.team.repository.TeamRepository;
 import com.alioth.statistics.service.team.TeamRankService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
+@CacheConfig(cacheNames = StatisticsCacheNames.TEAM_RANK)
 @RequiredArgsConstructor
 @Transactional
 public class TeamMoneyRankService implements TeamRankService {
@@ -25,22 +31,18 @@ public class TeamMoneyRankService implements TeamRankService {
 
     /* 팀 달성 금액 순위 */
     @Override
+    @Cacheable(key = "#root.methodName")
     public Map<Team, BigInteger> teamMoneyRank() {
 
         Map<Team, BigInteger> temp = new HashMap<>();
         Map<Team, BigInteger> result = new LinkedHashMap<>();
         List<Team> teamList = teamRepository.findAll();
 
+        Map<Long, BigDecimal> teamPrice = contractRepository.sumGroupByTeam().stream()
+                .collect(Collectors.toMap(ContractSumResDto::groupId, ContractSumResDto::price));
+
         for (var team : teamList) {
-            List<SalesMembers> memberList = team.getTeamMembers();
-            BigInteger priceSum = BigInteger.ZERO;
-            for (var member : memberList) {
-                priceSum = contractRepository.findBySalesMembers(member).stream()
-                        .map(x -> new BigInteger(x.getContractTotalPrice()))
-                        .reduce(BigInteger::add)
-                        .orElse(BigInteger.ZERO);
-            }
-            temp.put(team, priceSum);
+            temp.put(team, teamPrice.getOrDefault(team.getId(), BigDecimal.ZERO).toBigInteger());
         }
 
         List<Team> keys = new ArrayList<>(temp.keySet());
@@ -0,0 +1,65 @@
+package com.alioth.statistics.common.batch.aggregate;
+
+import com.alioth.statistics.common.batch.reader.ContractSalesRow;
+import com.alioth.statistics.domain.dummy.domain.ContractStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailySalesAggregatorTest {
+
+    private ContractSalesRow row(Long contractId, Long memberId, Long teamId, Long insuranceId, String price, ContractStatus status) {
+        return ContractSalesRow.builder()
+                .contractId(contractId)
+                .contractTotalPrice(price == null ? null : new BigDecimal(price))
+                .contractStatus(status)
+                .memberId(memberId)
+                .salesMemberCode(memberId * 100)
+                .memberName("member" + memberId)
+                .teamId(teamId)
+                .insuranceId(insuranceId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("한 번의 스캔으로 사원/팀/본사/상품 집계")
+    public void 한번의스캔으로전체집계() {
+        DailySalesAggregator aggregator = new DailySalesAggregator();
+
+        aggregator.add(row(1L, 1L, 10L, 100L, "1000", ContractStatus.New));
+        aggregator.add(row(2L, 1L, 10L, 200L, "500", ContractStatus.Cancellation));
+        aggregator.add(row(3L, 2L, 20L, 100L, "300", ContractStatus.Renewals));
+        aggregator.add(row(null, 3L, 20L, null, null, null)); // 계약이 없는 사원
+
+        assertEquals(3, aggregator.getMembers().size());
+        assertEquals(2, aggregator.getRankMembers().size());
+        assertEquals(2, aggregator.getTeams().size());
+        assertEquals(2, aggregator.getProducts().size());
+
+        SalesAggregate hq = aggregator.getHq();
+        assertEquals(0, new BigDecimal("1800").compareTo(hq.getContractPrice()));
+        assertEquals(3L, hq.getContractCount());
+        assertEquals(0, new BigDecimal("500").compareTo(hq.getCancelPrice()));
+        assertEquals(1L, hq.getCancelCount());
+    }
+
+    @Test
+    @DisplayName("변경 로그의 변경 전 상태를 빼면 해지분만 남는다")
+    public void 해지변경분집계() {
+        DailySalesAggregator aggregator = new DailySalesAggregator();
+
+        // 며칠 전에 등록된 계약이 오늘 해지됨
+        aggregator.add(row(1L, 1L, 10L, 100L, "1000", ContractStatus.Cancellation));
+        aggregator.subtract(row(1L, 1L, 10L, 100L, "1000", ContractStatus.New));
+
+        SalesAggregate hq = aggregator.getHq();
+        assertEquals(0L, hq.getContractCount());
+        assertEquals(0, BigDecimal.ZERO.compareTo(hq.getContractPrice()));
+        assertEquals(1L, hq.getCancelCount());
+        assertEquals(0, new BigDecimal("1000").compareTo(hq.getCancelPrice()));
+        assertTrue(hq.hasChanges());
+    }
+}
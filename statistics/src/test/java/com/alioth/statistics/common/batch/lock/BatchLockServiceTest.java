@@ -0,0 +1,93 @@
+package com.alioth.statistics.common.batch.lock;
+
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLockServiceTest {
+
+    private static final int PORT = 6390;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", PORT);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("한 replica 만 lease 를 잡는다")
+    public void 한곳만실행() {
+        BatchLockService podA = new BatchLockService(redisTemplate, Duration.ofSeconds(30), Duration.ofSeconds(10));
+        BatchLockService podB = new BatchLockService(redisTemplate, Duration.ofSeconds(30), Duration.ofSeconds(10));
+
+        Optional<BatchLease> leaseA = podA.tryAcquire("batchJob");
+        Optional<BatchLease> leaseB = podB.tryAcquire("batchJob");
+
+        assertTrue(leaseA.isPresent());
+        assertTrue(leaseB.isEmpty());
+
+        podA.release(leaseA.get());
+        Optional<BatchLease> next = podB.tryAcquire("batchJob");
+
+        assertTrue(next.isPresent());
+        assertTrue(next.get().fencingToken() > leaseA.get().fencingToken());
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나 다른 replica 가 가져가면 이전 lease 는 연장/해제할 수 없다")
+    public void TTL만료후펜싱() throws InterruptedException {
+        BatchLockService podA = new BatchLockService(redisTemplate, Duration.ofMillis(200), Duration.ofMillis(50));
+        BatchLockService podB = new BatchLockService(redisTemplate, Duration.ofSeconds(30), Duration.ofSeconds(10));
+
+        BatchLease leaseA = podA.tryAcquire("batchJob").orElseThrow();
+        Thread.sleep(400);
+        BatchLease leaseB = podB.tryAcquire("batchJob").orElseThrow();
+
+        assertFalse(podA.renew(leaseA));
+        podA.release(leaseA);
+
+        assertTrue(podB.isHeld(leaseB));
+        assertTrue(leaseB.fencingToken() > leaseA.fencingToken());
+    }
+
+    @Test
+    @DisplayName("heartbeat 가 TTL 을 연장한다")
+    public void heartbeat연장() throws InterruptedException {
+        BatchLockService podA = new BatchLockService(redisTemplate, Duration.ofMillis(300), Duration.ofMillis(100));
+
+        BatchLease lease = podA.tryAcquire("batchJob").orElseThrow();
+        var heartbeat = podA.startHeartbeat(lease, () -> fail("lease 를 잃으면 안 됩니다."));
+        Thread.sleep(800);
+
+        assertTrue(podA.isHeld(lease));
+        heartbeat.cancel(false);
+        podA.shutdown();
+    }
+}
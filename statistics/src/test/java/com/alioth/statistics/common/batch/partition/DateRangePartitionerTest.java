@@ -0,0 +1,43 @@
+package com.alioth.statistics.common.batch.partition;
+
+import com.alioth.statistics.common.batch.job.SalesWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateRangePartitionerTest {
+
+    @Test
+    @DisplayName("하루에 하나씩 파티션을 만든다")
+    public void 날짜별파티션() {
+        Map<String, ExecutionContext> partitions = new DateRangePartitioner(LocalDate.of(2024, 2, 27), LocalDate.of(2024, 3, 1))
+                .partition(1);
+
+        assertEquals(4, partitions.size());
+        assertEquals("2024-02-29", partitions.get("day-2024-02-29").getString(SalesWindow.TARGET_DATE));
+    }
+
+    @Test
+    @DisplayName("targetDate 하루치는 다음날 자정에 기록된다")
+    public void targetDate집계구간() {
+        SalesWindow window = SalesWindow.ofJobParameters(Map.of(SalesWindow.TARGET_DATE, "2024-03-01"));
+
+        assertEquals(LocalDateTime.of(2024, 3, 1, 0, 0), window.startDate());
+        assertEquals(LocalDateTime.of(2024, 3, 2, 0, 0), window.endDate());
+        assertEquals(LocalDateTime.of(2024, 3, 2, 0, 0), window.createdTime());
+        assertEquals(LocalDateTime.of(2024, 3, 3, 0, 0), window.createdDayEnd());
+    }
+
+    @Test
+    @DisplayName("endDate 가 startDate 보다 빠르면 예외")
+    public void 잘못된기간() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DateRangePartitioner(LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 1)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.alioth.statistics.common.batch.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdRangePartitionerTest {
+
+    @Test
+    @DisplayName("id 범위를 겹치지 않게 나눈다")
+    public void id범위분할() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(eq("SELECT MIN(id) FROM sales_members"), eq(Long.class))).thenReturn(1L);
+        when(jdbcTemplate.queryForObject(eq("SELECT MAX(id) FROM sales_members"), eq(Long.class))).thenReturn(10L);
+
+        Map<String, ExecutionContext> partitions = new IdRangePartitioner(jdbcTemplate, "sales_members", "id").partition(3);
+
+        assertEquals(3, partitions.size());
+        assertEquals(1L, partitions.get("partition0").getLong(IdRangePartitioner.MIN_ID));
+        assertEquals(4L, partitions.get("partition0").getLong(IdRangePartitioner.MAX_ID));
+        assertEquals(5L, partitions.get("partition1").getLong(IdRangePartitioner.MIN_ID));
+        assertEquals(10L, partitions.get("partition2").getLong(IdRangePartitioner.MAX_ID));
+    }
+
+    @Test
+    @DisplayName("빈 테이블이면 아무것도 읽지 않는 파티션 하나")
+    public void 빈테이블() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+        Map<String, ExecutionContext> partitions = new IdRangePartitioner(jdbcTemplate, "insurance_product", "insurance_id").partition(4);
+
+        assertEquals(1, partitions.size());
+    }
+}
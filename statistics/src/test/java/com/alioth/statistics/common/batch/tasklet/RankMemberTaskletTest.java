@@ -10,6 +10,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -28,6 +29,7 @@ class RankMemberTaskletTest {
 
     @Test
     @DisplayName("사원 랭킹 통계")
+    @Transactional // 계약의 사원 / 팀은 LAZY
     public void 사원랭킹통계() {
 
         int year = LocalDateTime.now().getYear();
@@ -48,7 +50,7 @@ class RankMemberTaskletTest {
             SalesMembers findMember = salesMemberRepository.findBySalesMemberCode(memberCode).orElseThrow(() -> new EntityNotFoundException("계정 정보를 찾을 수 없습니다."));
 
             BigDecimal totalPrice = memberContract.get(memberCode).stream()
-                    .map(contract -> new BigDecimal(contract.getContractTotalPrice()))
+                    .map(contract -> contract.getContractTotalPrice())
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
 
             int contractCount = memberContract.get(memberCode).size();
@@ -57,8 +59,8 @@ class RankMemberTaskletTest {
                     .memberCode(memberCode)
                     .memberName(findMember.getName())
                     .memberRank(-1L)
-                    .contractPrice(totalPrice.toPlainString())
-                    .contractCount(String.valueOf(contractCount))
+                    .contractPrice(totalPrice)
+                    .contractCount((long) contractCount)
                     .createdDate(LocalDateTime.now())
                     .build();
 
@@ -66,8 +68,8 @@ class RankMemberTaskletTest {
         }
 
         rankMemberList.sort((o1, o2) -> {
-            BigDecimal o2Price = new BigDecimal(o2.getContractPrice());
-            BigDecimal o1Price = new BigDecimal(o1.getContractPrice());
+            BigDecimal o2Price = o2.getContractPrice();
+            BigDecimal o1Price = o1.getContractPrice();
             return o2Price.compareTo(o1Price);
         });
 
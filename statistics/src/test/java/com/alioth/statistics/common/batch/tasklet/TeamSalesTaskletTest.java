@@ -11,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -32,6 +33,7 @@ class TeamSalesTaskletTest {
 
     @Test
     @DisplayName("배치 팀 결산 테스트")
+    @Transactional // 계약의 사원 / 팀은 LAZY
     public void 배치팀결산테스트() {
 
         LocalDateTime endDate = LocalDateTime.of(LocalDateTime.now().getYear(), LocalDateTime.now().getMonth().getValue(), 3, 0, 0);
@@ -46,14 +48,14 @@ class TeamSalesTaskletTest {
             List<Contract> teamContractList = collect.get(team);
 
             BigDecimal teamPrice = teamContractList.stream()
-                    .map(contract -> new BigDecimal(contract.getContractTotalPrice()))
+                    .map(contract -> contract.getContractTotalPrice())
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
 
             Long teamCount = teamContractList.stream().count();
 
             BigDecimal teamCancellationPrice = teamContractList.stream()
                     .filter(contract -> contract.getContractStatus() == ContractStatus.Cancellation)
-                    .map(contract -> new BigDecimal(contract.getContractTotalPrice()))
+                    .map(contract -> contract.getContractTotalPrice())
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
 
             Long teamCancellationCount = teamContractList.stream()
@@ -63,10 +65,10 @@ class TeamSalesTaskletTest {
             BatchTeamSales teamSales = BatchTeamSales.builder()
                     .teamCode(team.getTeamCode())
                     .teamName(team.getTeamName())
-                    .contractPrice(teamPrice.toPlainString())
-                    .contractCount(String.valueOf(teamCount))
-                    .cancelPrice(teamCancellationPrice.toPlainString())
-                    .cancelCount(String.valueOf(teamCancellationCount))
+                    .contractPrice(teamPrice)
+                    .contractCount(teamCount)
+                    .cancelPrice(teamCancellationPrice)
+                    .cancelCount(teamCancellationCount)
                     .createdTime(null)
                     .build();
 
@@ -74,8 +76,8 @@ class TeamSalesTaskletTest {
         }
 
         batchTeamSalesList.sort((o1, o2) -> {
-            BigDecimal o2Price = new BigDecimal(o2.getContractPrice());
-            BigDecimal o1Price = new BigDecimal(o1.getContractPrice());
+            BigDecimal o2Price = o2.getContractPrice();
+            BigDecimal o1Price = o1.getContractPrice();
             return o2Price.compareTo(o1Price);
         });
 
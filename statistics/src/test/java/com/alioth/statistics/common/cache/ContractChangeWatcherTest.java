@@ -0,0 +1,29 @@
+package com.alioth.statistics.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ContractChangeWatcherTest {
+
+    @Test
+    @DisplayName("contract_change_log 가 늘었을 때만 캐시를 비운다")
+    public void 계약변경시캐시삭제() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        StatisticsCacheInvalidator invalidator = mock(StatisticsCacheInvalidator.class);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(5L, 5L, 7L);
+
+        ContractChangeWatcher watcher = new ContractChangeWatcher(jdbcTemplate, invalidator);
+
+        watcher.checkContractChange(); // 기준값
+        watcher.checkContractChange(); // 변화 없음
+        verify(invalidator, never()).clear(anyString());
+
+        watcher.checkContractChange();
+        verify(invalidator, times(1)).clear(anyString());
+    }
+}
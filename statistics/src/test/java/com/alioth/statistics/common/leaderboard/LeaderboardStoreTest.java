@@ -0,0 +1,113 @@
+package com.alioth.statistics.common.leaderboard;
+
+import com.alioth.statistics.domain.batch.BatchSalesRollup;
+import com.alioth.statistics.domain.batch.RollupPeriod;
+import com.alioth.statistics.domain.batch.RollupScope;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardStoreTest {
+
+    private static final int PORT = 6391;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", PORT);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    private BatchSalesRollup row(String groupKey, String price, long count) {
+        return BatchSalesRollup.builder()
+                .scope(RollupScope.MEMBER)
+                .groupKey(groupKey)
+                .groupName("member" + groupKey)
+                .periodType(RollupPeriod.MONTH)
+                .periodKey("2024-05")
+                .contractPrice(new BigDecimal(price))
+                .contractCount(count)
+                .build();
+    }
+
+    @Test
+    @DisplayName("금액 / 건수 순위를 따로 매긴다")
+    public void 금액건수순위() {
+        LeaderboardStore store = new LeaderboardStore(redisTemplate);
+
+        store.replace(RollupScope.MEMBER, "2024-05", List.of(row("1", "1000", 1L), row("2", "3000", 2L), row("3", "2000", 5L)));
+
+        List<TypedTuple<String>> price = store.range(RollupScope.MEMBER, LeaderboardMetric.PRICE, "2024-05", 0L, 9L);
+        assertEquals(List.of("2", "3", "1"), price.stream().map(TypedTuple::getValue).toList());
+        assertEquals(3000d, price.get(0).getScore());
+
+        assertEquals(0L, store.rank(RollupScope.MEMBER, LeaderboardMetric.COUNT, "2024-05", "3"));
+        assertEquals(2L, store.rank(RollupScope.MEMBER, LeaderboardMetric.COUNT, "2024-05", "1"));
+        assertNull(store.rank(RollupScope.MEMBER, LeaderboardMetric.COUNT, "2024-05", "4"));
+
+        assertEquals(Map.of("1", "member1", "3", "member3"), store.names(RollupScope.MEMBER, "2024-05", List.of("1", "3", "4")));
+    }
+
+    @Test
+    @DisplayName("다시 채우면 rollup 에서 빠진 사원은 순위에서도 빠진다")
+    public void 통째로교체() {
+        LeaderboardStore store = new LeaderboardStore(redisTemplate);
+
+        store.replace(RollupScope.MEMBER, "2024-05", List.of(row("1", "1000", 1L), row("2", "3000", 2L)));
+        store.replace(RollupScope.MEMBER, "2024-05", List.of(row("1", "5000", 3L)));
+
+        List<TypedTuple<String>> price = store.range(RollupScope.MEMBER, LeaderboardMetric.PRICE, "2024-05", 0L, 9L);
+        assertEquals(1, price.size());
+        assertEquals(5000d, price.get(0).getScore());
+
+        // 빠진 사원의 이름도 남지 않는다
+        assertEquals(Map.of("1", "member1"), store.names(RollupScope.MEMBER, "2024-05", List.of("1", "2")));
+
+        store.replace(RollupScope.MEMBER, "2024-05", List.of());
+        assertFalse(redisTemplate.hasKey(LeaderboardStore.key(RollupScope.MEMBER, LeaderboardMetric.PRICE, "2024-05")));
+        assertFalse(redisTemplate.hasKey(LeaderboardStore.nameKey(RollupScope.MEMBER, "2024-05")));
+    }
+
+    @Test
+    @DisplayName("큰 금액도 1 원 단위까지 그대로 순위에 들어간다")
+    public void 큰금액() {
+        LeaderboardStore store = new LeaderboardStore(redisTemplate);
+
+        store.replace(RollupScope.MEMBER, "2024-05", List.of(row("1", "9007199254740991", 1L), row("2", "9007199254740990", 1L)));
+
+        List<TypedTuple<String>> price = store.range(RollupScope.MEMBER, LeaderboardMetric.PRICE, "2024-05", 0L, 9L);
+        assertEquals(List.of("1", "2"), price.stream().map(TypedTuple::getValue).toList());
+        assertEquals(9007199254740991L, price.get(0).getScore().longValue());
+
+        assertThrows(IllegalStateException.class,
+                () -> store.replace(RollupScope.MEMBER, "2024-05", List.of(row("1", "90071992547409930", 1L))));
+    }
+}
@@ -32,6 +32,7 @@ class DashboardServiceTest {
     @Autowired private TeamRepository teamRepository;
 
     @Test
+    @Transactional // 계약의 사원 / 팀은 LAZY
     public void 계약테이블테스트() {
         LocalDateTime now = LocalDateTime.now();
         YearMonth yearMonth = YearMonth.from(now);
@@ -51,7 +52,7 @@ class DashboardServiceTest {
 
             BigDecimal sumPrice = contracts.stream()
                     .filter(x -> x.getSalesMembers().getPerformanceReview().equals("A"))
-                    .map(x -> new BigDecimal(x.getContractTotalPrice()))
+                    .map(x -> x.getContractTotalPrice())
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
 
             long sumCount = contracts.stream()
@@ -104,7 +105,7 @@ class DashboardServiceTest {
             BigDecimal sumPrice = contracts
                     .stream()
                     .filter(x->x.getContractStatus() != ContractStatus.Cancellation)
-                    .map(x -> new BigDecimal(x.getContractTotalPrice()))
+                    .map(x -> x.getContractTotalPrice())
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
 
             Long sumCount = contracts
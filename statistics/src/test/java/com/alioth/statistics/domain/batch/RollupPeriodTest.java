@@ -0,0 +1,33 @@
+package com.alioth.statistics.domain.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollupPeriodTest {
+
+    @Test
+    @DisplayName("월 / 반기 / 연 key")
+    public void 기간key() {
+        LocalDate date = LocalDate.of(2024, 8, 15);
+
+        assertEquals("2024-08", RollupPeriod.MONTH.keyOf(date));
+        assertEquals("2024-H2", RollupPeriod.HALF.keyOf(date));
+        assertEquals("2024", RollupPeriod.YEAR.keyOf(date));
+        assertEquals("2024-H1", RollupPeriod.HALF.keyOf(LocalDate.of(2024, 6, 30)));
+    }
+
+    @Test
+    @DisplayName("반기는 월 6개, 연은 반기 2개로 만든다")
+    public void 하위기간() {
+        LocalDate date = LocalDate.of(2024, 2, 1);
+
+        assertTrue(RollupPeriod.MONTH.childKeysOf(date).isEmpty());
+        assertEquals(List.of("2024-01", "2024-02", "2024-03", "2024-04", "2024-05", "2024-06"), RollupPeriod.HALF.childKeysOf(date));
+        assertEquals(List.of("2024-H1", "2024-H2"), RollupPeriod.YEAR.childKeysOf(date));
+    }
+}
@@ -0,0 +1,31 @@
+package com.alioth.statistics.domain.contract.dto.res;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContractCancelSumResDtoTest {
+
+    @Test
+    @DisplayName("해약 금액/건수 비율")
+    public void 해약비율() {
+        ContractCancelSumResDto sum = new ContractCancelSumResDto(1L, "A", new BigDecimal("4000"), 4L, new BigDecimal("1000"), 1L);
+
+        assertEquals(0, new BigDecimal("25").compareTo(sum.cancelPricePercent()));
+        assertEquals("25.000", String.format("%.3f", sum.cancelCountPercent()));
+    }
+
+    @Test
+    @DisplayName("계약이 없으면 0%")
+    public void 계약없음() {
+        ContractCancelSumResDto sum = new ContractCancelSumResDto(null, null, null, null);
+
+        assertEquals(BigDecimal.ZERO, sum.totalPrice());
+        assertEquals(0L, sum.cancelCount());
+        assertEquals(0, BigDecimal.ZERO.compareTo(sum.cancelPricePercent()));
+        assertEquals(0d, sum.cancelCountPercent());
+    }
+}
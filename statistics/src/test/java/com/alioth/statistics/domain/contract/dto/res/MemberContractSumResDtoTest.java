@@ -0,0 +1,45 @@
+package com.alioth.statistics.domain.contract.dto.res;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberContractSumResDtoTest {
+
+    private MemberContractSumResDto sum(Long memberCode, String totalPrice, Long totalCount, String cancelPrice, Long cancelCount) {
+        return MemberContractSumResDto.builder()
+                .memberCode(memberCode)
+                .totalPrice(new BigDecimal(totalPrice))
+                .totalCount(totalCount)
+                .cancelPrice(new BigDecimal(cancelPrice))
+                .cancelCount(cancelCount)
+                .build();
+    }
+
+    @Test
+    @DisplayName("해약이 없으면 해약 평균은 0")
+    public void 해약없음() {
+        MemberContractSumResDto dto = sum(1L, "3000", 3L, "0", 0L);
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(dto.cancelAvgPrice()));
+        assertEquals(0, new BigDecimal("1000").compareTo(dto.score()));
+    }
+
+    @Test
+    @DisplayName("건당 평균 - 해약 평균이 가장 큰 사원을 고른다")
+    public void 보험왕선정() {
+        MemberContractSumResDto best = Stream.of(
+                        sum(1L, "3000", 3L, "900", 1L),   // 1000 - 900
+                        sum(2L, "1000", 2L, "0", 0L),     // 500 - 0
+                        sum(3L, "10000", 10L, "2000", 2L)) // 1000 - 1000
+                .max(Comparator.comparing(MemberContractSumResDto::score))
+                .orElseThrow();
+
+        assertEquals(2L, best.memberCode());
+    }
+}
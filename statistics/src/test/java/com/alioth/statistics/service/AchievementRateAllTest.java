@@ -53,7 +53,7 @@ class AchievementRateAllTest {
 
             for (var member : teamMembers) {
                 BigInteger contractSum = contractRepository.findBySalesMembers(member).stream()
-                        .map(x -> new BigInteger(x.getContractTotalPrice()))
+                        .map(x -> x.getContractTotalPrice().toBigInteger())
                         .reduce(BigInteger.ZERO, BigInteger::add);
 
                 smContractSum = smContractSum.add(contractSum);
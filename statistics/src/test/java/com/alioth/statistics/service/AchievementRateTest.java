@@ -42,7 +42,7 @@ class AchievementRateTest {
 
         for (var member : memberList) {
             BigDecimal contractSum = contractRepository.findBySalesMembers(member).stream()
-                    .map(x -> new BigDecimal(x.getContractTotalPrice()))
+                    .map(x -> x.getContractTotalPrice())
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
 
             BigDecimal targetSum = smSalesTargetRepository.findBySalesMembers(member).stream()
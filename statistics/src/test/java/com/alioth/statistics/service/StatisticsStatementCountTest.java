@@ -0,0 +1,61 @@
+package com.alioth.statistics.service;
+
+import com.alioth.statistics.dashboard.service.DashboardGodService;
+import com.alioth.statistics.service.achievementrate.CompanyAchievementRateService;
+import com.alioth.statistics.service.achievementrate.SMAchievementRateService;
+import com.alioth.statistics.service.achievementrate.TeamAchievementRateService;
+import com.alioth.statistics.service.insuranceproduct.InsuranceProductService;
+import com.alioth.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 통계 조회 API 마다 나가는 SQL 문 수. 계약이나 목표를 엔티티로 읽어 행마다 연관 엔티티를 조회하면 여기서 깨진다.
+ * 조회 결과 캐시는 끄고 센다.
+ */
+@SpringBootTest(properties = "statistics.cache.mode=none")
+@Transactional
+class StatisticsStatementCountTest {
+
+    @Autowired private DashboardGodService dashboardGodService;
+    @Autowired private InsuranceProductService insuranceProductService;
+    @Autowired private SMAchievementRateService smAchievementRateService;
+    @Autowired private TeamAchievementRateService teamAchievementRateService;
+    @Autowired private CompanyAchievementRateService companyAchievementRateService;
+    @Autowired private EntityManager entityManager;
+
+    private StatementCounter statementCounter;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter(entityManager);
+    }
+
+    @Test
+    @DisplayName("GET /statistics/api/dashboard/god, /best-team")
+    public void 대시보드() {
+        statementCounter.assertStatements(1, "보험의 신", dashboardGodService::getSalesGod);
+        statementCounter.assertStatements(1, "최우수 고과 팀", dashboardGodService::getBestTeam);
+    }
+
+    @Test
+    @DisplayName("상품별 계약 비율")
+    public void 상품별계약비율() {
+        // 전체 건수 + 상품별 GROUP BY
+        statementCounter.assertStatements(2, "상품별 계약 비율", insuranceProductService::insuranceContractRankService);
+    }
+
+    @Test
+    @DisplayName("GET /statistics/rate/sm/count, /rate/team/count, /rate/company/count")
+    public void 달성률() {
+        // 사원(팀) 목록 + 계약 GROUP BY + 목표 GROUP BY. 사원 / 팀 수와 상관없이 같다
+        statementCounter.assertStatements(3, "사원 달성 건수", smAchievementRateService::achievementRateCount);
+        statementCounter.assertStatements(3, "팀 달성 건수", teamAchievementRateService::achievementRateCount);
+        statementCounter.assertStatements(3, "전사 달성 건수", companyAchievementRateService::achievementRateCount);
+    }
+}
@@ -42,13 +42,13 @@ class HqCancellationServiceTest {
 
                 List<Contract> contractList = contractRepository.findBySalesMembers(member);
                 BigDecimal totalPrice = contractList.stream()
-                        .map(x -> new BigDecimal(x.getContractTotalPrice()))
+                        .map(x -> x.getContractTotalPrice())
                         .reduce(BigDecimal::add)
                         .orElse(BigDecimal.ONE);
 
                 BigDecimal cancelPrice = contractList.stream()
                         .filter(x -> x.getContractStatus() == ContractStatus.Cancellation)
-                        .map(x -> new BigDecimal(x.getContractTotalPrice()))
+                        .map(x -> x.getContractTotalPrice())
                         .reduce(BigDecimal::add)
                         .orElse(BigDecimal.ONE);
 
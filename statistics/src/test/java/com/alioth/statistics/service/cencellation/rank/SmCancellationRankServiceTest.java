@@ -36,7 +36,7 @@ class SmCancellationRankServiceTest {
 
             BigDecimal cancelPrice = contractList.stream()
                     .filter(x -> x.getContractStatus() == ContractStatus.Cancellation)
-                    .map(x -> new BigDecimal(x.getContractTotalPrice()))
+                    .map(x -> x.getContractTotalPrice())
                     .reduce(BigDecimal::add)
                     .orElse(BigDecimal.ZERO);
 
@@ -41,7 +41,7 @@ class InsuranceGodServiceImplTest {
             List<Contract> memberContractList = contractRepository.findBySalesMembersAndContractDateBetween(member, startDate, endDate);
 
             BigDecimal price = memberContractList.stream()
-                    .map(contract -> new BigDecimal(contract.getContractTotalPrice()))
+                    .map(contract -> contract.getContractTotalPrice())
                     .reduce(BigDecimal::add)
                     .orElse(BigDecimal.ZERO);
 
@@ -49,7 +49,7 @@ class InsuranceGodServiceImplTest {
 
             BigDecimal cancelTotalPrice = memberContractList.stream()
                     .filter(contract -> contract.getContractStatus() == ContractStatus.Cancellation)
-                    .map(contract -> new BigDecimal(contract.getContractTotalPrice()))
+                    .map(contract -> contract.getContractTotalPrice())
                     .reduce(BigDecimal::add)
                     .orElse(BigDecimal.ZERO);
 
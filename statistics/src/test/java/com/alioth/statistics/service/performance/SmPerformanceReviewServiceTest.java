@@ -30,29 +30,11 @@ class SmPerformanceReviewServiceTest {
     @Test
     @DisplayName("고과 평가 최우수 FP")
     public void 고과평가최우수FP() {
-        List<Map<String, Object>> maps = salesMemberRepository.memberPerformanceReviewRank();
-        List<MemberPerformanceReviewResDto> dto = new LinkedList<>();
-
-        for(var map : maps) {
-            MemberPerformanceReviewResDto build = MemberPerformanceReviewResDto.builder()
-                    .salesMemberCode(map.get("sales_member_code").toString())
-                    .name(map.get("name").toString())
-                    .performanceReview(map.get("performance_review").toString())
-                    .totalCount(map.get("totalcount").toString())
-                    .totalPrice(totalConvert(map.get("totalprice").toString()))
-                    .build();
-            dto.add(build);
-        }
+        List<MemberPerformanceReviewResDto> dto = salesMemberRepository.memberPerformanceReviewRank();
 
         System.out.println("dto = " + dto);
     }
 
-    private String totalConvert(String price) {
-        double scientificNotation = Double.parseDouble(price);
-        BigInteger bigIntegerValue = BigDecimal.valueOf(scientificNotation).toBigInteger();
-        return bigIntegerValue.toString();
-    }
-
     @Test
     @DisplayName("고과 평가 최우수 지점")
     public void 고과평가최우수지점() {
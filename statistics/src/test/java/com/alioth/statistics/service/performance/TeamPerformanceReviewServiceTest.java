@@ -14,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
 
@@ -52,7 +53,7 @@ class TeamPerformanceReviewServiceTest {
                 List<Contract> contractList = contractRepository.findBySalesMembers(member);
 
                 BigInteger price = contractList.stream()
-                        .map(x -> new BigInteger(x.getContractTotalPrice()))
+                        .map(x -> x.getContractTotalPrice().toBigInteger())
                         .reduce(BigInteger::add)
                         .orElse(BigInteger.ZERO);
                 priceSum = priceSum.add(price);
@@ -63,30 +64,18 @@ class TeamPerformanceReviewServiceTest {
 
             TeamPerformanceReviewResDto build = TeamPerformanceReviewResDto.builder()
                     .teamCode(team.getTeamCode())
-                    .teamPerformanceReview(String.valueOf(performanceSum))
-                    .teamTotal(priceSum.toString())
-                    .teamCount(String.valueOf(countSum))
+                    .teamPerformanceReview(performanceSum)
+                    .teamTotal(new BigDecimal(priceSum))
+                    .teamCount(countSum)
                     .build();
 
             dto.add(build);
         }
 
-        dto.sort(new Comparator<TeamPerformanceReviewResDto>() {
-            @Override
-            public int compare(TeamPerformanceReviewResDto o1, TeamPerformanceReviewResDto o2) {
-                int result = (int) (Long.valueOf(o2.teamPerformanceReview()) - Long.valueOf(o1.teamPerformanceReview()));
-
-                if(result == 0) {
-                    result = (int) (Long.valueOf(o2.teamTotal()) - Long.valueOf(o1.teamTotal()));
-                }
-
-                if(result == 0) {
-                    result = (int) (Long.valueOf(o2.teamCount()) - Long.valueOf(o1.teamCount()));
-                }
-
-                return result;
-            }
-        });
+        dto.sort(Comparator.comparing(TeamPerformanceReviewResDto::teamPerformanceReview)
+                .thenComparing(TeamPerformanceReviewResDto::teamTotal)
+                .thenComparing(TeamPerformanceReviewResDto::teamCount)
+                .reversed());
 
 
         System.out.println("dto = " + dto);
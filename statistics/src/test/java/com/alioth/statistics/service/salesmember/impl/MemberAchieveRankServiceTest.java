@@ -29,7 +29,7 @@ class MemberAchieveRankServiceTest {
 
         for (var member : memberList) {
             BigInteger memberTotalPrice = contractRepository.findBySalesMembers(member).stream()
-                    .map(x -> new BigInteger(x.getContractTotalPrice()))
+                    .map(x -> x.getContractTotalPrice().toBigInteger())
                     .reduce(BigInteger::add)
                     .orElse(BigInteger.ZERO);
 
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.time.Month;
@@ -38,12 +39,12 @@ class BatchStatProductServiceTest {
         List<BatchProductPriceResDto> dto = new LinkedList<>();
         for(var key : collect.keySet()) {
             BigInteger sum = collect.get(key).stream()
-                    .map(product -> new BigInteger(product.getContractPrice()))
+                    .map(product -> product.getContractPrice().toBigInteger())
                     .reduce(BigInteger.ZERO, BigInteger::add);
 
             BatchProductPriceResDto temp = BatchProductPriceResDto.builder()
                     .category(key)
-                    .price(sum.toString())
+                    .price(new BigDecimal(sum))
                     .build();
 
             dto.add(temp);
@@ -67,7 +68,7 @@ class BatchStatProductServiceTest {
         List<BatchProductCountResDto> dto = new LinkedList<>();
         for(var key : collect.keySet()) {
             Long contractCount = collect.get(key).stream()
-                    .map(product -> Long.valueOf(product.getContractCount()))
+                    .map(product -> product.getContractCount())
                     .reduce(0L, Long::sum);
 
             BatchProductCountResDto temp = BatchProductCountResDto.builder()
@@ -37,7 +37,7 @@ class TeamMoneyRankServiceTest {
             BigInteger priceSum = BigInteger.ZERO;
             for (var member : memberList) {
                 priceSum = contractRepository.findBySalesMembers(member).stream()
-                        .map(x -> new BigInteger(x.getContractTotalPrice()))
+                        .map(x -> x.getContractTotalPrice().toBigInteger())
                         .reduce(BigInteger::add)
                         .orElse(BigInteger.ZERO);
             }
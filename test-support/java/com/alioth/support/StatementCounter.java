@@ -0,0 +1,36 @@
+package com.alioth.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 조회 한 번에 나가는 SQL 문 수를 센다 (Hibernate Statistics 의 prepared statement 수).
+ * 영속성 컨텍스트를 비우고 시작하므로 setUp 에서 저장한 엔티티가 1차 캐시에서 나와 개수가 줄어드는 일이 없다.
+ */
+public class StatementCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public <T> T assertStatements(long expected, String name, Supplier<T> action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        T result = action.get();
+
+        assertEquals(expected, statistics.getPrepareStatementCount(), name + " SQL 문 수");
+        return result;
+    }
+}